@@ -0,0 +1,30 @@
+// frontend/src/components/LoadMoreButton.tsx
+import React from 'react';
+
+interface LoadMoreButtonProps {
+    hasMore: boolean;
+    loading: boolean;
+    onClick: () => void;
+}
+
+/**
+ * Przycisk doładowania kolejnej strony listy stronicowanej kursorem
+ * Niewidoczny, gdy nie ma kolejnej strony
+ */
+const LoadMoreButton: React.FC<LoadMoreButtonProps> = ({ hasMore, loading, onClick }) => {
+    if (!hasMore) return null;
+
+    return (
+        <div className="flex justify-center pt-2">
+            <button
+                onClick={onClick}
+                disabled={loading}
+                className="px-4 py-2 bg-gray-800 text-gray-300 rounded-lg hover:bg-gray-700 transition-colors disabled:opacity-50"
+            >
+                {loading ? 'Ładowanie...' : 'Załaduj więcej'}
+            </button>
+        </div>
+    );
+};
+
+export default LoadMoreButton;
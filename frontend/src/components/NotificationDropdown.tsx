@@ -11,10 +11,15 @@ const NotificationDropdown: React.FC = () => {
     const [loading, setLoading] = useState(false);
     const dropdownRef = useRef<HTMLDivElement>(null);
 
+    // Unread count and new notifications pushed by the server (SSE) instead of polling
     useEffect(() => {
-        loadUnreadCount();
-        const interval = setInterval(loadUnreadCount, 30000); // Refresh every 30s
-        return () => clearInterval(interval);
+        return notificationService.subscribe({
+            onNotification: (notification) =>
+                setNotifications((current) =>
+                    [notification, ...current.filter((n) => n.id !== notification.id)].slice(0, 10)),
+            onUnreadCount: setUnreadCount,
+            onResync: loadUnreadCount,
+        });
     }, []);
 
     useEffect(() => {
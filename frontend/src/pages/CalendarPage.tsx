@@ -2,6 +2,7 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import MainLayout from '../components/MainLayout';
+import LoadMoreButton from '../components/LoadMoreButton';
 import taskService from '../services/taskService';
 import type {Task} from '../types';
 
@@ -17,16 +18,20 @@ const CalendarPage: React.FC = () => {
     const [selectedDay, setSelectedDay] = useState<Date | null>(new Date());
     const [tasks, setTasks] = useState<Task[]>([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     useEffect(() => {
         loadTasks();
     }, []);
 
+    // Terminy z pierwszej strony zadań - kolejne strony na żądanie (Załaduj więcej)
     const loadTasks = async () => {
         try {
             setLoading(true);
-            const allTasks = await taskService.getAllTasks();
-            setTasks(allTasks);
+            const page = await taskService.getAllTasks();
+            setTasks(page.items);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
         } catch (error) {
             console.error('Failed to load tasks:', error);
         } finally {
@@ -34,6 +39,20 @@ const CalendarPage: React.FC = () => {
         }
     };
 
+    const loadMoreTasks = async () => {
+        if (!nextCursor) return;
+        try {
+            setLoadingMore(true);
+            const page = await taskService.getAllTasks(undefined, nextCursor);
+            setTasks(prev => [...prev, ...page.items]);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
+        } catch (error) {
+            console.error('Failed to load more tasks:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const getCalendarDays = (): CalendarDay[] => {
         const year = currentDate.getFullYear();
         const month = currentDate.getMonth();
@@ -142,6 +161,12 @@ const CalendarPage: React.FC = () => {
                 <div className="bg-gray-900 rounded-lg p-6 mb-6">
                     <div className="flex items-center justify-between mb-4">
                         <h1 className="text-3xl font-bold text-white">📆 Kalendarz Zadań</h1>
+                        {nextCursor !== null && (
+                            <div className="flex items-center gap-3">
+                                <span className="text-gray-400 text-sm">Załadowano {tasks.length} zadań</span>
+                                <LoadMoreButton hasMore={true} loading={loadingMore} onClick={loadMoreTasks} />
+                            </div>
+                        )}
                     </div>
 
                     {/* Month Navigation */}
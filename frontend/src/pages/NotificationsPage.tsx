@@ -13,8 +13,13 @@ const NotificationsPage: React.FC = () => {
 
     useEffect(() => {
         loadNotifications();
-        const interval = setInterval(loadUnreadCount, 30000);
-        return () => clearInterval(interval);
+        // Unread count and new notifications pushed by the server (SSE) instead of polling
+        return notificationService.subscribe({
+            onNotification: (notification) =>
+                setNotifications((current) => [notification, ...current.filter((n) => n.id !== notification.id)]),
+            onUnreadCount: setUnreadCount,
+            onResync: loadNotifications,
+        });
     }, []);
 
     const loadNotifications = async () => {
@@ -32,15 +37,6 @@ const NotificationsPage: React.FC = () => {
         }
     };
 
-    const loadUnreadCount = async () => {
-        try {
-            const count = await notificationService.getUnreadCount();
-            setUnreadCount(count);
-        } catch (error) {
-            console.error('Failed to load unread count:', error);
-        }
-    };
-
     const handleMarkAsRead = async (id: number, e: React.MouseEvent) => {
         e.stopPropagation();
         try {
@@ -2,6 +2,7 @@
 import React, { useEffect, useState } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
 import MainLayout from '../components/MainLayout';
+import LoadMoreButton from '../components/LoadMoreButton';
 import TaskStatusManager from '../components/TaskStatusManager';
 import StatusRequestsPanel from '../components/StatusRequestsPanel';
 import projectService from '../services/projectService';
@@ -17,6 +18,9 @@ const ProjectDetailsPage: React.FC = () => {
     const [project, setProject] = useState<Project | null>(null);
     const [members, setMembers] = useState<ProjectMember[]>([]);
     const [tasks, setTasks] = useState<Task[]>([]);
+    const [taskCounts, setTaskCounts] = useState<Record<string, number>>({});
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [allUsers, setAllUsers] = useState<User[]>([]);
     const [loading, setLoading] = useState(true);
     const [currentUserRole, setCurrentUserRole] = useState<ProjectRole>('VIEWER');
@@ -77,16 +81,20 @@ const ProjectDetailsPage: React.FC = () => {
             setLoading(true);
             const projectId = parseInt(id!);
 
-            const [projectData, membersData, tasksData, usersData] = await Promise.all([
+            // Pierwsza strona zadań; liczniki w kartach z sum kolumn tablicy, nie z załadowanej strony
+            const [projectData, membersData, tasksPage, countsData, usersData] = await Promise.all([
                 projectService.getProjectById(projectId),
                 projectService.getProjectMembers(projectId),
                 taskService.getTasksByProject(projectId), // ✅ POPRAWIONE - właściwa nazwa metody
+                projectService.getTaskCounts(projectId),
                 userService.getAllUsers(),
             ]);
 
             setProject(projectData);
             setMembers(membersData);
-            setTasks(tasksData);
+            setTasks(tasksPage.items);
+            setNextCursor(tasksPage.hasMore ? tasksPage.nextCursor : null);
+            setTaskCounts(countsData);
             setAllUsers(usersData);
 
             // Determine current user's role
@@ -103,6 +111,20 @@ const ProjectDetailsPage: React.FC = () => {
         }
     };
 
+    const loadMoreTasks = async () => {
+        if (!nextCursor) return;
+        try {
+            setLoadingMore(true);
+            const page = await taskService.getTasksByProject(parseInt(id!), undefined, nextCursor);
+            setTasks(prev => [...prev, ...page.items]);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
+        } catch (err: any) {
+            setError(err.message || 'Failed to load tasks');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const handleCreateTask = async (e: React.FormEvent) => {
         e.preventDefault();
 
@@ -246,10 +268,11 @@ const ProjectDetailsPage: React.FC = () => {
     }
 
     const tasksByStatus = {
-        NEW: tasks.filter((t: Task) => t.status === 'NEW').length,
-        IN_PROGRESS: tasks.filter((t: Task) => t.status === 'IN_PROGRESS').length,
-        COMPLETED: tasks.filter((t: Task) => t.status === 'COMPLETED').length,
+        NEW: taskCounts.NEW || 0,
+        IN_PROGRESS: taskCounts.IN_PROGRESS || 0,
+        COMPLETED: taskCounts.COMPLETED || 0,
     };
+    const totalTasks = Object.values(taskCounts).reduce((sum, count) => sum + count, 0);
 
     const availableUsers = allUsers.filter(
         (user: User) => !members.some((member: ProjectMember) => member.user.id === user.id)
@@ -315,7 +338,7 @@ const ProjectDetailsPage: React.FC = () => {
                                 </svg>
                             </div>
                             <div>
-                                <p className="text-2xl font-bold text-white">{tasks.length}</p>
+                                <p className="text-2xl font-bold text-white">{totalTasks}</p>
                                 <p className="text-gray-400 text-sm">Wszystkich zadań</p>
                             </div>
                         </div>
@@ -375,7 +398,7 @@ const ProjectDetailsPage: React.FC = () => {
                                     : 'text-gray-400 hover:text-white'
                             }`}
                         >
-                            Zadania ({tasks.length})
+                            Zadania ({totalTasks})
                         </button>
                         <button
                             onClick={() => setActiveTab('members')}
@@ -488,6 +511,8 @@ const ProjectDetailsPage: React.FC = () => {
                                 ))}
                             </div>
                         )}
+
+                        <LoadMoreButton hasMore={nextCursor !== null} loading={loadingMore} onClick={loadMoreTasks} />
                     </div>
                 )}
 
@@ -1,6 +1,7 @@
 // src/pages/ReportsPage.tsx
 import React, { useEffect, useState } from 'react';
 import MainLayout from '../components/MainLayout';
+import LoadMoreButton from '../components/LoadMoreButton';
 import taskService from '../services/taskService';
 import projectService from '../services/projectService';
 import type { Task, Project } from '../types';
@@ -47,6 +48,8 @@ const ReportsPage: React.FC = () => {
     const [projectStats, setProjectStats] = useState<ProjectStats[]>([]);
     const [loading, setLoading] = useState(true);
     const [selectedPeriod, setSelectedPeriod] = useState<'all' | 'month' | 'week'>('all');
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     useEffect(() => {
         loadData();
@@ -59,11 +62,13 @@ const ReportsPage: React.FC = () => {
     const loadData = async () => {
         try {
             setLoading(true);
-            const [tasksData, projectsData] = await Promise.all([
+            // Statystyki z załadowanych stron zadań (najnowsze pierwsze) - kolejne na żądanie
+            const [tasksPage, projectsData] = await Promise.all([
                 taskService.getAllTasks(),
                 projectService.getAllProjects(),
             ]);
-            setTasks(tasksData);
+            setTasks(tasksPage.items);
+            setNextCursor(tasksPage.hasMore ? tasksPage.nextCursor : null);
             setProjects(projectsData);
         } catch (error) {
             console.error('Failed to load data:', error);
@@ -72,6 +77,20 @@ const ReportsPage: React.FC = () => {
         }
     };
 
+    const loadMoreTasks = async () => {
+        if (!nextCursor) return;
+        try {
+            setLoadingMore(true);
+            const page = await taskService.getAllTasks(undefined, nextCursor);
+            setTasks(prev => [...prev, ...page.items]);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
+        } catch (error) {
+            console.error('Failed to load more tasks:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const filterTasksByPeriod = (tasks: Task[]): Task[] => {
         if (selectedPeriod === 'all') return tasks;
 
@@ -215,6 +234,14 @@ const ReportsPage: React.FC = () => {
                             </button>
                         </div>
                     </div>
+                    {nextCursor !== null && (
+                        <div className="flex items-center justify-end gap-3 mt-3">
+                            <span className="text-gray-400 text-sm">
+                                Statystyki z {tasks.length} najnowszych zadań
+                            </span>
+                            <LoadMoreButton hasMore={true} loading={loadingMore} onClick={loadMoreTasks} />
+                        </div>
+                    )}
                 </div>
 
                 {/* Overview Cards */}
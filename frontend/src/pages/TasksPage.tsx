@@ -2,6 +2,7 @@
 import React, { useEffect, useState } from 'react';
 import { useNavigate, useSearchParams } from 'react-router-dom';
 import MainLayout from '../components/MainLayout';
+import LoadMoreButton from '../components/LoadMoreButton';
 import taskService from '../services/taskService';
 import projectService from '../services/projectService';
 import type { Task, Project, TaskStatus, TaskPriority } from '../types';
@@ -14,6 +15,8 @@ const TasksPage: React.FC = () => {
     const [projects, setProjects] = useState<Project[]>([]);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState<string | null>(null);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     // Filtry
     const [selectedProject, setSelectedProject] = useState<number | null>(
@@ -40,19 +43,24 @@ const TasksPage: React.FC = () => {
         }
     };
 
+    const getFilters = () => {
+        const filters: any = {};
+        if (selectedProject) filters.projectId = selectedProject;
+        if (selectedStatus) filters.status = selectedStatus;
+        if (selectedPriority) filters.priority = selectedPriority;
+        filters.assignedToMe = assignedToMe;
+        return filters;
+    };
+
+    // Pierwsza strona - kolejne doładowuje loadMoreTasks
     const loadTasks = async () => {
         try {
             setLoading(true);
             setError(null);
 
-            const filters: any = {};
-            if (selectedProject) filters.projectId = selectedProject;
-            if (selectedStatus) filters.status = selectedStatus;
-            if (selectedPriority) filters.priority = selectedPriority;
-            filters.assignedToMe = assignedToMe;
-
-            const data = await taskService.getAllTasks(filters);
-            setTasks(data);
+            const page = await taskService.getAllTasks(getFilters());
+            setTasks(page.items);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
         } catch (error: any) {
             console.error('Failed to load tasks:', error);
             setError(error.message || 'Nie udało się załadować zadań');
@@ -61,6 +69,21 @@ const TasksPage: React.FC = () => {
         }
     };
 
+    const loadMoreTasks = async () => {
+        if (!nextCursor) return;
+        try {
+            setLoadingMore(true);
+            const page = await taskService.getAllTasks(getFilters(), nextCursor);
+            setTasks(prev => [...prev, ...page.items]);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
+        } catch (error: any) {
+            console.error('Failed to load more tasks:', error);
+            setError(error.message || 'Nie udało się załadować zadań');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const getStatusColor = (status: TaskStatus | undefined): string => {
         switch (status) {
             case 'NEW': return 'bg-blue-500';
@@ -292,6 +315,8 @@ const TasksPage: React.FC = () => {
                         ))}
                     </div>
                 )}
+
+                <LoadMoreButton hasMore={nextCursor !== null} loading={loadingMore} onClick={loadMoreTasks} />
             </div>
         </MainLayout>
     );
@@ -2,6 +2,7 @@
 import React, { useEffect, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import MainLayout from '../../components/MainLayout';
+import LoadMoreButton from '../../components/LoadMoreButton';
 import adminService, {type TaskDto } from '../../services/adminService';
 import { useAuth } from '../../context/AuthContext';
 
@@ -13,6 +14,8 @@ const AdminTasksPage: React.FC = () => {
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState<string | null>(null);
     const [success, setSuccess] = useState<string | null>(null);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     const [searchTerm, setSearchTerm] = useState('');
     const [filterStatus, setFilterStatus] = useState<string>('all');
@@ -27,18 +30,25 @@ const AdminTasksPage: React.FC = () => {
             return;
         }
         loadTasks();
-    }, [user, navigate]);
+    }, [user, navigate, filterStatus, filterPriority]);
 
     useEffect(() => {
         filterTasks();
-    }, [tasks, searchTerm, filterStatus, filterPriority]);
+    }, [tasks, searchTerm]);
+
+    // Status i priorytet filtrowane w API, wyszukiwanie - w załadowanych stronach
+    const getFilters = () => ({
+        status: filterStatus !== 'all' ? filterStatus : undefined,
+        priority: filterPriority !== 'all' ? filterPriority : undefined,
+    });
 
     const loadTasks = async () => {
         try {
             setLoading(true);
             setError(null);
-            const data = await adminService.getAllTasks();
-            setTasks(data);
+            const page = await adminService.getAllTasks(getFilters());
+            setTasks(page.items);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
         } catch (err: any) {
             setError(err.message || 'Nie udało się załadować zadań');
         } finally {
@@ -46,6 +56,20 @@ const AdminTasksPage: React.FC = () => {
         }
     };
 
+    const loadMoreTasks = async () => {
+        if (!nextCursor) return;
+        try {
+            setLoadingMore(true);
+            const page = await adminService.getAllTasks(getFilters(), nextCursor);
+            setTasks(prev => [...prev, ...page.items]);
+            setNextCursor(page.hasMore ? page.nextCursor : null);
+        } catch (err: any) {
+            setError(err.message || 'Nie udało się załadować zadań');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const filterTasks = () => {
         let filtered = [...tasks];
 
@@ -60,14 +84,6 @@ const AdminTasksPage: React.FC = () => {
             );
         }
 
-        if (filterStatus !== 'all') {
-            filtered = filtered.filter((t) => t.status === filterStatus);
-        }
-
-        if (filterPriority !== 'all') {
-            filtered = filtered.filter((t) => t.priority === filterPriority);
-        }
-
         setFilteredTasks(filtered);
     };
 
@@ -80,7 +96,8 @@ const AdminTasksPage: React.FC = () => {
             setSuccess('Zadanie usunięte pomyślnie!');
             setShowDeleteConfirm(false);
             setSelectedTask(null);
-            loadTasks();
+            // Bez przeładowania - załadowane strony zostają
+            setTasks(prev => prev.filter((t) => t.id !== selectedTask.id));
             setTimeout(() => setSuccess(null), 3000);
         } catch (err: any) {
             setError(err.message || 'Nie udało się usunąć zadania');
@@ -288,6 +305,8 @@ const AdminTasksPage: React.FC = () => {
                         </tbody>
                     </table>
                 </div>
+
+                <LoadMoreButton hasMore={nextCursor !== null} loading={loadingMore} onClick={loadMoreTasks} />
             </div>
 
             {/* Delete Confirmation Modal */}
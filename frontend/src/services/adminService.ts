@@ -1,4 +1,5 @@
 // frontend/src/services/adminService.ts
+import type { CursorPage } from '../types';
 
 const API_BASE_URL = '/api/v1/admin';
 const PROJECT_API_URL = '/api/v1/projects';
@@ -238,17 +239,31 @@ const adminService = {
     // ========== TASK MANAGEMENT ==========
 
     // ✅ POPRAWIONA METODA - przekazuje assignedToMe=false dla admina, żeby widział WSZYSTKIE zadania
-    getAllTasks: async (): Promise<TaskDto[]> => {
+    // Jedna strona - kolejną pobiera się z nextCursor poprzedniej
+    getAllTasks: async (filters?: { status?: string; priority?: string },
+                        cursor?: string | null): Promise<CursorPage<TaskDto>> => {
         try {
             // KLUCZOWA ZMIANA: dodajemy parametr assignedToMe=false
             // To sprawi, że SUPER_ADMIN zobaczy wszystkie zadania z całego systemu
-            const response = await fetch(`${TASK_API_URL}?assignedToMe=false`, {
+            const params = new URLSearchParams({ assignedToMe: 'false', limit: '50' });
+            if (filters?.status) params.set('status', filters.status);
+            if (filters?.priority) params.set('priority', filters.priority);
+            if (cursor) params.set('cursor', cursor);
+            const response = await fetch(`${TASK_API_URL}?${params}`, {
                 method: 'GET',
                 headers: { 'Content-Type': 'application/json' },
                 credentials: 'include',
             });
-
-            return await handleResponse<TaskDto[]>(response);
+            if (!response.ok) {
+                const errorData = await response.json().catch(() => ({}));
+                throw new Error(errorData.error || errorData.message || 'Request failed');
+            }
+            const page = await response.json();
+            return {
+                items: page.data || [],
+                nextCursor: page.nextCursor ?? null,
+                hasMore: Boolean(page.hasMore),
+            };
         } catch (error) {
             console.error('Get all tasks error:', error);
             throw error;
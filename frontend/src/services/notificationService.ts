@@ -38,6 +38,13 @@ export interface NotificationsResponse {
     testUser?: string;
 }
 
+export interface NotificationStreamHandlers {
+    onNotification?: (notification: Notification) => void;
+    onUnreadCount?: (unreadCount: number) => void;
+    /** Reconnect gap too large to replay - reload the list */
+    onResync?: () => void;
+}
+
 const handleResponse = async <T>(response: Response): Promise<T> => {
     const data = await response.json();
     if (!response.ok || !data.success) {
@@ -46,6 +53,39 @@ const handleResponse = async <T>(response: Response): Promise<T> => {
     return data as T;
 };
 
+// One EventSource per tab shared by all subscribers (dropdown, notifications page) - the server limits
+// open streams per user, so every extra stream would count against the other tabs
+const subscribers = new Set<NotificationStreamHandlers>();
+let source: EventSource | null = null;
+// "unread-count" is pushed on connect only - replayed to subscribers joining an open stream
+let lastUnreadCount: number | null = null;
+
+const closeStream = () => {
+    source?.close();
+    source = null;
+    lastUnreadCount = null;
+};
+
+const openStream = () => {
+    source = new EventSource(`${API_BASE_URL}/stream`, { withCredentials: true });
+    source.addEventListener('notification', (event) => {
+        const notification = JSON.parse((event as MessageEvent).data) as Notification;
+        subscribers.forEach((handlers) => handlers.onNotification?.(notification));
+    });
+    source.addEventListener('unread-count', (event) => {
+        const unreadCount = JSON.parse((event as MessageEvent).data).unreadCount as number;
+        lastUnreadCount = unreadCount;
+        subscribers.forEach((handlers) => handlers.onUnreadCount?.(unreadCount));
+    });
+    source.addEventListener('resync', () => subscribers.forEach((handlers) => handlers.onResync?.()));
+    // Refused by the server (too many open streams for the user) - stop reconnecting and load the state once;
+    // a later subscribe() (next mount) tries again
+    source.addEventListener('closed', () => {
+        closeStream();
+        subscribers.forEach((handlers) => handlers.onResync?.());
+    });
+};
+
 const notificationService = {
     /**
      * Get all notifications for current user
@@ -58,6 +98,26 @@ const notificationService = {
         return handleResponse<NotificationsResponse>(response);
     },
 
+    /**
+     * Subscribe to pushed notifications (Server-Sent Events) over the tab's shared stream.
+     * The browser reconnects automatically and sends Last-Event-ID, so missed notifications are replayed.
+     * @returns function unsubscribing; the stream is closed when the last subscriber leaves
+     */
+    subscribe: (handlers: NotificationStreamHandlers): (() => void) => {
+        subscribers.add(handlers);
+        if (source === null) {
+            openStream();
+        } else if (lastUnreadCount !== null) {
+            handlers.onUnreadCount?.(lastUnreadCount);
+        }
+        return () => {
+            subscribers.delete(handlers);
+            if (subscribers.size === 0) {
+                closeStream();
+            }
+        };
+    },
+
     /**
      * Get unread notifications count
      */
@@ -170,6 +170,26 @@ const projectService = {
         }
     },
 
+    // Task counts per status - column totals of the project board (GET /{id}/board), no task list needed
+    getTaskCounts: async (id: number): Promise<Record<string, number>> => {
+        try {
+            const response = await fetch(`${API_BASE_URL}/${id}/board?perColumn=1`, {
+                method: 'GET',
+                credentials: 'include',
+            });
+
+            const data = await handleResponse<{ status: string; total: number }[]>(response);
+            const counts: Record<string, number> = {};
+            (data.data || []).forEach(column => {
+                counts[column.status] = column.total;
+            });
+            return counts;
+        } catch (error) {
+            console.error('Get project task counts error:', error);
+            throw error;
+        }
+    },
+
     // Add member to project
     addMemberToProject: async (projectId: number, userId: number, role: ProjectRole): Promise<void> => {
         try {
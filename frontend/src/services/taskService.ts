@@ -3,11 +3,20 @@ import type {
     Task,
     CreateTaskRequest,
     UpdateTaskRequest,
-    ApiResponse
+    ApiResponse,
+    CursorPage
 } from '../types';
 
 const API_BASE_URL = '/api/v1/tasks';
 
+// Page size of task lists - the next page is loaded on demand (nextCursor)
+const TASK_PAGE_SIZE = 50;
+
+interface CursorFields {
+    nextCursor?: string | null;
+    hasMore?: boolean;
+}
+
 const handleResponse = async <T>(response: Response): Promise<ApiResponse<T>> => {
     const data = await response.json();
 
@@ -21,14 +30,31 @@ const handleResponse = async <T>(response: Response): Promise<ApiResponse<T>> =>
     return data;
 };
 
+const fetchTaskPage = async (url: string, params: URLSearchParams, cursor?: string | null): Promise<CursorPage<Task>> => {
+    params.append('limit', String(TASK_PAGE_SIZE));
+    if (cursor) params.append('cursor', cursor);
+
+    const response = await fetch(`${url}?${params}`, {
+        method: 'GET',
+        credentials: 'include',
+    });
+
+    const data = await handleResponse<Task[]>(response) as ApiResponse<Task[]> & CursorFields;
+    return {
+        items: data.data || [],
+        nextCursor: data.nextCursor ?? null,
+        hasMore: Boolean(data.hasMore),
+    };
+};
+
 const taskService = {
-    // Get all tasks
+    // Get one page of tasks - pass nextCursor of the previous page to get the next one
     getAllTasks: async (filters?: {
         projectId?: number;
         status?: string;
         priority?: string;
         assignedToMe?: boolean;
-    }): Promise<Task[]> => {
+    }, cursor?: string | null): Promise<CursorPage<Task>> => {
         try {
             const params = new URLSearchParams();
             if (filters?.projectId) params.append('projectId', filters.projectId.toString());
@@ -36,14 +62,7 @@ const taskService = {
             if (filters?.priority) params.append('priority', filters.priority);
             if (filters?.assignedToMe) params.append('assignedToMe', 'true');
 
-            const url = params.toString() ? `${API_BASE_URL}?${params}` : API_BASE_URL;
-            const response = await fetch(url, {
-                method: 'GET',
-                credentials: 'include',
-            });
-
-            const data = await handleResponse<Task[]>(response);
-            return data.data || [];
+            return await fetchTaskPage(API_BASE_URL, params, cursor);
         } catch (error) {
             console.error('Get tasks error:', error);
             throw error;
@@ -67,40 +86,26 @@ const taskService = {
         }
     },
 
-    // Get tasks by project
-    getTasksByProject: async (projectId: number, status?: string): Promise<Task[]> => {
+    // Get one page of project tasks
+    getTasksByProject: async (projectId: number, status?: string, cursor?: string | null): Promise<CursorPage<Task>> => {
         try {
-            const url = status
-                ? `${API_BASE_URL}/project/${projectId}?status=${status}`
-                : `${API_BASE_URL}/project/${projectId}`;
-
-            const response = await fetch(url, {
-                method: 'GET',
-                credentials: 'include',
-            });
+            const params = new URLSearchParams();
+            if (status) params.append('status', status);
 
-            const data = await handleResponse<Task[]>(response);
-            return data.data || [];
+            return await fetchTaskPage(`${API_BASE_URL}/project/${projectId}`, params, cursor);
         } catch (error) {
             console.error('Get project tasks error:', error);
             throw error;
         }
     },
 
-    // Get my tasks
-    getMyTasks: async (status?: string): Promise<Task[]> => {
+    // Get one page of my tasks
+    getMyTasks: async (status?: string, cursor?: string | null): Promise<CursorPage<Task>> => {
         try {
-            const url = status
-                ? `${API_BASE_URL}/my?status=${status}`
-                : `${API_BASE_URL}/my`;
-
-            const response = await fetch(url, {
-                method: 'GET',
-                credentials: 'include',
-            });
+            const params = new URLSearchParams();
+            if (status) params.append('status', status);
 
-            const data = await handleResponse<Task[]>(response);
-            return data.data || [];
+            return await fetchTaskPage(`${API_BASE_URL}/my`, params, cursor);
         } catch (error) {
             console.error('Get my tasks error:', error);
             throw error;
@@ -191,6 +191,13 @@ export interface PaginatedResponse<T> {
     totalPages?: number;
 }
 
+// Strona listy stronicowanej kursorem - kolejna strona przez ?cursor=<nextCursor>
+export interface CursorPage<T> {
+    items: T[];
+    nextCursor: string | null;
+    hasMore: boolean;
+}
+
 // Status Change Request Types
 export type RequestStatus = 'PENDING' | 'APPROVED' | 'REJECTED';
 
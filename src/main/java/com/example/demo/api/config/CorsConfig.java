@@ -32,6 +32,9 @@ public class CorsConfig {
                 "GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"
         ));
 
+        // Expose ETag so the client can send it back in If-None-Match
+        configuration.setExposedHeaders(Arrays.asList("ETag"));
+
         // Allow credentials (for JWT tokens)
         configuration.setAllowCredentials(true);
 
@@ -0,0 +1,68 @@
+// src/main/java/com/example/demo/api/controller/AdminJobApiController.java
+package com.example.demo.api.controller;
+
+import com.example.demo.api.dto.response.ApiResponse;
+import com.example.demo.api.dto.response.JobDto;
+import com.example.demo.model.BackgroundJob;
+import com.example.demo.model.JobType;
+import com.example.demo.model.SystemRole;
+import com.example.demo.model.User;
+import com.example.demo.service.BackgroundJobService;
+import com.example.demo.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import javax.persistence.EntityNotFoundException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/admin/jobs")
+public class AdminJobApiController {
+
+    @Autowired
+    private BackgroundJobService backgroundJobService;
+
+    @Autowired
+    private UserService userService;
+
+    // GET /api/v1/admin/jobs/{id} - Get background job status and progress
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<JobDto>> getJob(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        requireSuperAdmin(userDetails, "Only super admin can view background jobs");
+
+        BackgroundJob job = backgroundJobService.getJob(id)
+                .orElseThrow(() -> new EntityNotFoundException("Job with ID " + id + " not found"));
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Job retrieved successfully", JobDto.from(job))
+        );
+    }
+
+    // POST /api/v1/admin/jobs/task-view-rebuild - Regenerate task_view from source tables
+    // Odbudowa w tle - 202 Accepted z zadaniem; postęp pod Location (/api/v1/admin/jobs/{jobId})
+    @PostMapping("/task-view-rebuild")
+    public ResponseEntity<ApiResponse<JobDto>> rebuildTaskView(@AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = requireSuperAdmin(userDetails, "Only super admin can rebuild the task view");
+
+        BackgroundJob job = backgroundJobService.submit(JobType.TASK_VIEW_REBUILD, null, currentUser.getId());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/jobs/" + job.getId()))
+                .body(ApiResponse.success("Task view rebuild started", JobDto.from(job)));
+    }
+
+    private User requireSuperAdmin(UserDetails userDetails, String message) {
+        User currentUser = userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + userDetails.getUsername()));
+
+        if (currentUser.getSystemRole() != SystemRole.SUPER_ADMIN) {
+            throw new SecurityException(message);
+        }
+        return currentUser;
+    }
+}
@@ -4,8 +4,10 @@ package com.example.demo.api.controller;
 import com.example.demo.api.dto.request.CreateUserRequest;
 import com.example.demo.api.dto.request.UpdateUserRequest;
 import com.example.demo.api.dto.response.ApiResponse;
+import com.example.demo.api.dto.response.JobDto;
 import com.example.demo.api.dto.response.UserDto;
 import com.example.demo.api.mapper.UserMapper;
+import com.example.demo.model.BackgroundJob;
 import com.example.demo.model.SystemRole;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
@@ -14,6 +16,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import javax.persistence.EntityNotFoundException;
@@ -144,8 +148,11 @@ public class AdminUserApiController {
     }
 
     // DELETE /api/v1/admin/users/{id} - Delete user
+    // Usuwanie w tle - 202 Accepted z zadaniem; postęp pod Location (/api/v1/admin/jobs/{jobId})
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<JobDto>> deleteUser(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
         Optional<User> userOpt = userService.getUserById(id);
 
         if (userOpt.isEmpty()) {
@@ -159,11 +166,14 @@ public class AdminUserApiController {
             throw new IllegalArgumentException("Cannot delete super admin user");
         }
 
-        userService.deleteUserByAdmin(id);
+        Long requestedById = userDetails != null
+                ? userService.getUserByUsername(userDetails.getUsername()).map(User::getId).orElse(null)
+                : null;
+        BackgroundJob job = userService.deleteUserByAdmin(id, requestedById);
 
-        return ResponseEntity.ok(
-                ApiResponse.success("User deleted successfully")
-        );
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/jobs/" + job.getId()))
+                .body(ApiResponse.success("User deletion started", JobDto.from(job)));
     }
 
     // GET /api/v1/admin/users/stats - Get user statistics
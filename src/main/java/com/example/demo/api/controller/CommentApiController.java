@@ -6,13 +6,16 @@ import com.example.demo.api.dto.request.UpdateCommentRequest;
 import com.example.demo.api.dto.response.CommentDto;
 import com.example.demo.api.mapper.CommentMapper;
 import com.example.demo.model.*;
+import com.example.demo.repository.projection.CommentVersion;
 import com.example.demo.service.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +46,8 @@ public class CommentApiController {
     @GetMapping("/tasks/{taskId}")
     public ResponseEntity<Map<String, Object>> getTaskComments(
             @PathVariable Long taskId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
         try {
             User currentUser = getUserFromDetails(userDetails);
@@ -54,6 +58,17 @@ public class CommentApiController {
             checkTaskAccess(task, currentUser);
             ProjectRole userRole = getUserRoleInProject(task.getProject(), currentUser);
 
+            // ETag listy z wersji komentarzy i autorów - lekkie zapytanie; 304 bez ładowania treści komentarzy
+            List<Object> parts = new ArrayList<>(List.of("comments", task.getId(), task.getVersion(),
+                    currentUser.getUsername(), String.valueOf(userRole)));
+            for (CommentVersion version : commentService.getCommentVersionsByTask(task)) {
+                parts.add(version.getId() + ":" + version.getVersion() + ":"
+                        + version.getAuthorId() + ":" + version.getAuthorVersion());
+            }
+            if (webRequest.checkNotModified(ETags.of(parts.toArray()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+            }
+
             List<Comment> comments = commentService.getCommentsByTask(task);
             List<CommentDto> commentDtos = commentMapper.toDtoWithPermissions(comments, currentUser, userRole);
 
@@ -64,7 +79,7 @@ public class CommentApiController {
             response.put("taskId", taskId);
             response.put("taskTitle", task.getTitle());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(response);
 
         } catch (IllegalArgumentException e) {
             return createErrorResponse(e.getMessage(), HttpStatus.FORBIDDEN);
@@ -126,7 +141,8 @@ public class CommentApiController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getComment(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
         try {
             User currentUser = getUserFromDetails(userDetails);
@@ -137,6 +153,14 @@ public class CommentApiController {
             checkTaskAccess(comment.getTask(), currentUser);
 
             ProjectRole userRole = getUserRoleInProject(comment.getTask().getProject(), currentUser);
+
+            String etag = ETags.of("comment", comment.getId(), comment.getVersion(),
+                    comment.getAuthor().getVersion(), comment.getTask().getVersion(),
+                    currentUser.getUsername(), userRole);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+            }
+
             CommentDto commentDto = commentMapper.toDtoWithPermissions(comment, currentUser, userRole);
 
             Map<String, Object> response = new HashMap<>();
@@ -144,7 +168,7 @@ public class CommentApiController {
             response.put("message", "Comment retrieved successfully");
             response.put("data", commentDto);
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(response);
 
         } catch (IllegalArgumentException e) {
             return createErrorResponse(e.getMessage(), HttpStatus.FORBIDDEN);
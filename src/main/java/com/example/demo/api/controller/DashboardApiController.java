@@ -2,6 +2,8 @@
 package com.example.demo.api.controller;
 
 import com.example.demo.api.dto.response.ActivityDto;
+import com.example.demo.api.dto.response.CursorPage;
+import com.example.demo.api.dto.response.DashboardOverviewDto;
 import com.example.demo.api.dto.response.StatsDto;
 import com.example.demo.model.SystemRole;
 import com.example.demo.model.User;
@@ -115,35 +117,36 @@ public class DashboardApiController {
     }
 
     // GET /api/v1/dashboard/recent-activity - Get recent activity
+    // Stronicowanie kursorem: kolejną stronę pobiera się przez ?cursor=<nextCursor>
     @GetMapping("/recent-activity")
     public ResponseEntity<Map<String, Object>> getRecentActivity(
-            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
 
         try {
             User currentUser = getTestUser();
 
-            // Limit max to 100
-            if (limit > 100) {
-                limit = 100;
-            }
-
-            List<ActivityDto> activities;
+            CursorPage<ActivityDto> page;
 
             // Super admin sees all activity, regular users see their own
             if (currentUser.getSystemRole() == SystemRole.SUPER_ADMIN) {
-                activities = dashboardService.getRecentActivity(limit);
+                page = dashboardService.getRecentActivity(cursor, limit);
             } else {
-                activities = dashboardService.getUserRecentActivity(currentUser, limit);
+                page = dashboardService.getUserRecentActivity(currentUser, cursor, limit);
             }
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Recent activity retrieved successfully");
-            response.put("data", activities);
-            response.put("count", activities.size());
+            response.put("data", page.getItems());
+            response.put("count", page.getItems().size());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.isHasMore());
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             e.printStackTrace();
             return createErrorResponse("Failed to retrieve recent activity: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -153,25 +156,26 @@ public class DashboardApiController {
     // GET /api/v1/dashboard/my-activity - Get current user's activity
     @GetMapping("/my-activity")
     public ResponseEntity<Map<String, Object>> getMyActivity(
-            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
 
         try {
             User currentUser = getTestUser();
 
-            if (limit > 100) {
-                limit = 100;
-            }
-
-            List<ActivityDto> activities = dashboardService.getUserRecentActivity(currentUser, limit);
+            CursorPage<ActivityDto> page = dashboardService.getUserRecentActivity(currentUser, cursor, limit);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Your activity retrieved successfully");
-            response.put("data", activities);
-            response.put("count", activities.size());
+            response.put("data", page.getItems());
+            response.put("count", page.getItems().size());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.isHasMore());
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             e.printStackTrace();
             return createErrorResponse("Failed to retrieve activity: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -185,12 +189,13 @@ public class DashboardApiController {
         try {
             User currentUser = getTestUser();
 
-            StatsDto userStats = dashboardService.getUserStats(currentUser);
-            List<ActivityDto> recentActivity = dashboardService.getUserRecentActivity(currentUser, 10);
+            // Statystyki i aktywność pobierane równolegle; degraded = część danych pominięta po timeoucie
+            DashboardOverviewDto overview = dashboardService.getDashboardOverview(currentUser, 10);
 
             Map<String, Object> dashboard = new HashMap<>();
-            dashboard.put("stats", userStats);
-            dashboard.put("recentActivity", recentActivity);
+            dashboard.put("stats", overview.getStats());
+            dashboard.put("recentActivity", overview.getRecentActivity());
+            dashboard.put("degraded", overview.isDegraded());
             dashboard.put("user", Map.of(
                     "id", currentUser.getId(),
                     "username", currentUser.getUsername(),
@@ -0,0 +1,39 @@
+// src/main/java/com/example/demo/api/controller/ETags.java
+package com.example.demo.api.controller;
+
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// Silne ETagi z wersji encji (@Version) i identyfikatorów - liczone przed mapowaniem na DTO,
+// więc przy zgodnym If-None-Match odpowiedź 304 nie ładuje liczników ani nie serializuje danych.
+// Składniki muszą obejmować wszystko, od czego zależy treść odpowiedzi (także bieżącego użytkownika).
+// Pole version (Task, Project, User, Comment) jest też optymistyczną blokadą - każdy zapis je podbija,
+// więc GET zwraca 304, dopóki encja się nie zmieni.
+final class ETags {
+
+    // Przeglądarka może przechować odpowiedź, ale przed użyciem zawsze ją rewaliduje (If-None-Match)
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {}
+
+    static String of(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (Object part : parts) {
+            raw.append(part).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder etag = new StringBuilder("\"");
+            for (int i = 0; i < 16; i++) {
+                etag.append(Character.forDigit((digest[i] >> 4) & 0xF, 16))
+                        .append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return etag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
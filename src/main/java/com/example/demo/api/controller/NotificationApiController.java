@@ -4,10 +4,15 @@ package com.example.demo.api.controller;
 import com.example.demo.model.Notification;
 import com.example.demo.model.User;
 import com.example.demo.service.NotificationService;
+import com.example.demo.service.NotificationStream;
 import com.example.demo.service.UserService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -20,20 +25,43 @@ public class NotificationApiController {
 
     private final NotificationService notificationService;
     private final UserService userService;
+    private final NotificationStream notificationStream;
 
     public NotificationApiController(NotificationService notificationService,
-                                     UserService userService) {
+                                     UserService userService,
+                                     NotificationStream notificationStream) {
         this.notificationService = notificationService;
         this.userService = userService;
+        this.notificationStream = notificationStream;
+    }
+
+    // GET /api/v1/notifications/stream - Server-Sent Events: "notification" (id = notification ID),
+    // "unread-count" on connect and after mark-read/delete, "resync" when the reconnect gap is too large to replay,
+    // "closed" when the user already has the maximum number of open streams (the client must not reconnect).
+    // EventSource reconnects with Last-Event-ID and receives the notifications it missed.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                             @AuthenticationPrincipal UserDetails userDetails) {
+        User currentUser = getCurrentUser(userDetails);
+        Long afterId = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                afterId = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                // Nieznany format - strumień od bieżącego stanu
+            }
+        }
+        return notificationStream.connect(currentUser.getId(), afterId);
     }
 
     // GET /api/v1/notifications - Get all notifications for current user
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllNotifications(
-            @RequestParam(value = "unreadOnly", defaultValue = "false") boolean unreadOnly) {
+            @RequestParam(value = "unreadOnly", defaultValue = "false") boolean unreadOnly,
+            @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getTestUser();
+            User currentUser = getCurrentUser(userDetails);
 
             List<Notification> notifications;
             if (unreadOnly) {
@@ -63,10 +91,11 @@ public class NotificationApiController {
 
     // GET /api/v1/notifications/{id} - Get specific notification
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getNotification(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> getNotification(@PathVariable Long id,
+                                                               @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getTestUser();
+            User currentUser = getCurrentUser(userDetails);
 
             Notification notification = notificationService.getUserNotifications(currentUser)
                     .stream()
@@ -92,10 +121,10 @@ public class NotificationApiController {
 
     // GET /api/v1/notifications/unread-count - Get count of unread notifications
     @GetMapping("/unread-count")
-    public ResponseEntity<Map<String, Object>> getUnreadCount() {
+    public ResponseEntity<Map<String, Object>> getUnreadCount(@AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getTestUser();
+            User currentUser = getCurrentUser(userDetails);
             long unreadCount = notificationService.getUnreadCount(currentUser);
 
             Map<String, Object> response = new HashMap<>();
@@ -113,10 +142,11 @@ public class NotificationApiController {
 
     // PUT /api/v1/notifications/{id}/mark-read - Mark notification as read
     @PutMapping("/{id}/mark-read")
-    public ResponseEntity<Map<String, Object>> markAsRead(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> markAsRead(@PathVariable Long id,
+                                                          @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getTestUser();
+            User currentUser = getCurrentUser(userDetails);
 
             // Verify notification belongs to current user
             Notification notification = notificationService.getUserNotifications(currentUser)
@@ -144,10 +174,10 @@ public class NotificationApiController {
 
     // PUT /api/v1/notifications/mark-all-read - Mark all notifications as read
     @PutMapping("/mark-all-read")
-    public ResponseEntity<Map<String, Object>> markAllAsRead() {
+    public ResponseEntity<Map<String, Object>> markAllAsRead(@AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getTestUser();
+            User currentUser = getCurrentUser(userDetails);
             notificationService.markAllAsRead(currentUser);
 
             long remainingUnread = notificationService.getUnreadCount(currentUser);
@@ -168,10 +198,11 @@ public class NotificationApiController {
 
     // DELETE /api/v1/notifications/{id} - Delete notification
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> deleteNotification(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> deleteNotification(@PathVariable Long id,
+                                                                  @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getTestUser();
+            User currentUser = getCurrentUser(userDetails);
 
             // Verify notification belongs to current user before deleting
             Notification notification = notificationService.getUserNotifications(currentUser)
@@ -200,10 +231,11 @@ public class NotificationApiController {
     // DELETE /api/v1/notifications - Delete all notifications for current user
     @DeleteMapping
     public ResponseEntity<Map<String, Object>> deleteAllNotifications(
-            @RequestParam(value = "readOnly", defaultValue = "false") boolean readOnly) {
+            @RequestParam(value = "readOnly", defaultValue = "false") boolean readOnly,
+            @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getTestUser();
+            User currentUser = getCurrentUser(userDetails);
 
             List<Notification> notificationsToDelete;
             if (readOnly) {
@@ -238,12 +270,10 @@ public class NotificationApiController {
     }
 
     // Helper methods
-    private User getTestUser() {
-        List<User> users = userService.getAllUsers();
-        if (users.isEmpty()) {
-            throw new RuntimeException("No users found in database");
-        }
-        return users.get(0); // Uses first user for testing
+    // Zalogowany użytkownik (wcześniej pierwszy użytkownik z bazy - ładowanie całej tabeli przy każdym żądaniu)
+    private User getCurrentUser(UserDetails userDetails) {
+        return userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found: " + userDetails.getUsername()));
     }
 
     private ResponseEntity<Map<String, Object>> createErrorResponse(String message, HttpStatus status) {
@@ -3,16 +3,20 @@ package com.example.demo.api.controller;
 
 import com.example.demo.api.dto.request.CreateProjectRequest;
 import com.example.demo.api.dto.request.UpdateProjectRequest;
+import com.example.demo.api.dto.response.CursorPage;
 import com.example.demo.api.dto.response.ProjectDto;
 import com.example.demo.api.dto.response.ProjectMemberDto;
 import com.example.demo.api.mapper.ProjectMapper;
+import com.example.demo.api.mapper.TaskViewMapper;
 import com.example.demo.model.*;
+import com.example.demo.repository.projection.ProjectTaskCounts;
 import com.example.demo.service.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,17 +31,26 @@ public class ProjectApiController {
     private final TaskService taskService;
     private final UserService userService;
     private final ProjectMapper projectMapper;
+    private final TaskViewService taskViewService;
+    private final TaskViewMapper taskViewMapper;
+    private final MessageService messageService;
 
     public ProjectApiController(ProjectService projectService,
                                 ProjectMemberService projectMemberService,
                                 TaskService taskService,
                                 UserService userService,
-                                ProjectMapper projectMapper) {
+                                ProjectMapper projectMapper,
+                                TaskViewService taskViewService,
+                                TaskViewMapper taskViewMapper,
+                                MessageService messageService) {
         this.projectService = projectService;
         this.projectMemberService = projectMemberService;
         this.taskService = taskService;
         this.userService = userService;
         this.projectMapper = projectMapper;
+        this.taskViewService = taskViewService;
+        this.taskViewMapper = taskViewMapper;
+        this.messageService = messageService;
     }
 
     // ✅ Używa prawdziwego zalogowanego użytkownika
@@ -59,6 +72,28 @@ public class ProjectApiController {
                 .orElse(false);
     }
 
+    // ETag szczegółów projektu: wersje projektu, twórcy i członków (z zespołami - pokazywane w DTO członka),
+    // role członków i liczniki zadań
+    private String projectETag(Project project, List<ProjectMember> members,
+                               int taskCount, int completedTasks, User currentUser) {
+        List<Object> parts = new ArrayList<>(List.of("project", project.getId(), project.getVersion(),
+                taskCount, completedTasks, currentUser.getUsername()));
+        parts.add(project.getCreatedBy() != null ? project.getCreatedBy().getVersion() : null);
+        members.stream()
+                .sorted(Comparator.comparing(ProjectMember::getId))
+                .forEach(member -> {
+                    parts.add(member.getId() + ":" + member.getRole());
+                    User user = member.getUser();
+                    if (user != null) {
+                        parts.add(user.getId() + ":" + user.getVersion());
+                        user.getTeams().stream()
+                                .sorted(Comparator.comparing(Team::getId))
+                                .forEach(team -> parts.add(team.getId() + ":" + team.getName()));
+                    }
+                });
+        return ETags.of(parts.toArray());
+    }
+
     private ResponseEntity<Map<String, Object>> createErrorResponse(String message, HttpStatus status) {
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
@@ -144,7 +179,8 @@ public class ProjectApiController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getProjectById(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
         try {
             User currentUser = getCurrentUser(userDetails);
@@ -157,18 +193,22 @@ public class ProjectApiController {
             // Pobierz członków projektu
             List<ProjectMember> members = projectMemberService.getProjectMembers(project);
 
+            // Statystyki jednym zapytaniem agregującym zamiast ładowania wszystkich zadań projektu
+            ProjectTaskCounts counts = taskService.getProjectTaskCounts(project);
+            int taskCount = counts.getTotal() != null ? counts.getTotal().intValue() : 0;
+            int completedTasks = counts.getCompleted() != null ? counts.getCompleted().intValue() : 0;
+
+            // If-None-Match zgodny - 304 bez mapowania członków i serializacji
+            if (webRequest.checkNotModified(projectETag(project, members, taskCount, completedTasks, currentUser))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+            }
+
             // Konwertuj na DTO z członkami
             ProjectDto projectDto = projectMapper.toDtoWithMembers(project, members);
 
-            // Dodaj statystyki
-            List<Task> tasks = taskService.getTasksByProject(project);
             projectDto.setMemberCount(members.size());
-            projectDto.setTaskCount(tasks.size());
-
-            long completedTasks = tasks.stream()
-                    .filter(t -> "COMPLETED".equals(t.getStatus()))
-                    .count();
-            projectDto.setCompletedTaskCount((int) completedTasks);
+            projectDto.setTaskCount(taskCount);
+            projectDto.setCompletedTaskCount(completedTasks);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -176,7 +216,7 @@ public class ProjectApiController {
             response.put("data", projectDto);
             response.put("currentUser", currentUser.getUsername());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(response);
 
         } catch (IllegalArgumentException e) {
             return createErrorResponse(e.getMessage(), HttpStatus.FORBIDDEN);
@@ -226,6 +266,168 @@ public class ProjectApiController {
         }
     }
 
+    // GET /api/v1/projects/{id}/board?perColumn=20 - Kanban board: per status column first cards + total count
+    @GetMapping("/{id}/board")
+    public ResponseEntity<Map<String, Object>> getProjectBoard(
+            @PathVariable Long id,
+            @RequestParam(value = "perColumn", defaultValue = "20") int perColumn,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            User currentUser = getCurrentUser(userDetails);
+
+            Project project = projectService.getProjectById(id)
+                    .orElseThrow(() -> new RuntimeException("Project with ID " + id + " not found"));
+
+            checkProjectAccess(project, currentUser);
+
+            TaskBoard board = taskViewService.getBoard(project, perColumn);
+
+            List<Map<String, Object>> columns = new ArrayList<>();
+            for (TaskBoard.Column column : board.getColumns()) {
+                Map<String, Object> columnData = new LinkedHashMap<>();
+                columnData.put("status", column.getStatus());
+                columnData.put("total", column.getTotal());
+                columnData.put("cards", taskViewMapper.toDto(column.getCards()));
+                columnData.put("nextCursor", column.getNextCursor());
+                columnData.put("hasMore", column.getNextCursor() != null);
+                columns.add(columnData);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Project board retrieved successfully");
+            response.put("data", columns);
+            response.put("projectId", id);
+            response.put("currentUser", currentUser.getUsername());
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.FORBIDDEN);
+        } catch (RuntimeException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return createErrorResponse("Failed to retrieve project board: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // GET /api/v1/projects/{id}/board/columns/{status}?cursor=<nextCursor>&limit=20 - Next cards of one column
+    @GetMapping("/{id}/board/columns/{status}")
+    public ResponseEntity<Map<String, Object>> getProjectBoardColumn(
+            @PathVariable Long id,
+            @PathVariable String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            User currentUser = getCurrentUser(userDetails);
+
+            Project project = projectService.getProjectById(id)
+                    .orElseThrow(() -> new RuntimeException("Project with ID " + id + " not found"));
+
+            checkProjectAccess(project, currentUser);
+
+            // Ta sama kolejność co w tablicy (createdAt DESC, taskId DESC) - kursor z kolumny tablicy pasuje
+            CursorPage<TaskView> page = taskViewService.findTasks(new TaskQuery()
+                    .project(project)
+                    .status(status), cursor, limit);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Board column retrieved successfully");
+            response.put("status", status);
+            response.put("data", taskViewMapper.toDto(page.getItems()));
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.isHasMore());
+            response.put("currentUser", currentUser.getUsername());
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.FORBIDDEN);
+        } catch (RuntimeException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return createErrorResponse("Failed to retrieve board column: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // GET /api/v1/projects/{id}/messages/search?q=deploy&cursor=<nextCursor>&limit=20 - Project chat search
+    // Ranked by relevance (MessageSearchIndex); snippet is HTML-escaped with matched words in <mark>
+    @GetMapping("/{id}/messages/search")
+    public ResponseEntity<Map<String, Object>> searchProjectMessages(
+            @PathVariable Long id,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            MessageSearchIndex.Cursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            User currentUser = getCurrentUser(userDetails);
+
+            Project project = projectService.getProjectById(id)
+                    .orElseThrow(() -> new RuntimeException("Project with ID " + id + " not found"));
+
+            checkProjectAccess(project, currentUser);
+
+            MessageSearchResult result = query == null || query.isBlank()
+                    ? new MessageSearchResult(List.of(), null)
+                    : messageService.searchMessages(project, query, cursor, Math.max(1, Math.min(limit, 100)));
+
+            List<Map<String, Object>> messages = new ArrayList<>();
+            for (MessageSearchResult.Hit hit : result.getHits()) {
+                Message message = hit.getMessage();
+                Map<String, Object> messageMap = new HashMap<>();
+                messageMap.put("id", message.getId());
+                messageMap.put("snippet", hit.getSnippet());
+                messageMap.put("score", hit.getScore());
+                messageMap.put("authorName", message.getAuthorName());
+                messageMap.put("authorId", message.getAuthor() != null ? message.getAuthor().getId() : null);
+                messageMap.put("type", message.getType());
+                messageMap.put("createdAt", message.getCreatedAt());
+                messageMap.put("edited", message.isEdited());
+                messages.add(messageMap);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Messages found: " + messages.size());
+            response.put("query", query != null ? query : "");
+            response.put("data", messages);
+            response.put("nextCursor", result.getNextCursor());
+            response.put("hasMore", result.getNextCursor() != null);
+            // false tuż po starcie, dopóki indeks się buduje - wyniki mogą być niepełne
+            response.put("indexReady", messageService.isSearchIndexReady());
+            response.put("projectId", id);
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.FORBIDDEN);
+        } catch (RuntimeException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return createErrorResponse("Failed to search messages: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     // ============================================================================
     // POST ENDPOINTS
     // ============================================================================
@@ -5,9 +5,12 @@ import com.example.demo.model.*;
 import com.example.demo.service.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -15,37 +18,52 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
 public class SearchApiController {
 
+    private static final int MAX_LIMIT = 50;
+
     private final UserService userService;
     private final TaskService taskService;
     private final ProjectService projectService;
-    private final ProjectMemberService projectMemberService;
+    private final ProjectVisibility projectVisibility;
+    private final CommentService commentService;
+    private final SearchIndex searchIndex;
+    private final SuggestIndex suggestIndex;
 
     public SearchApiController(UserService userService,
                                TaskService taskService,
                                ProjectService projectService,
-                               ProjectMemberService projectMemberService) {
+                               ProjectVisibility projectVisibility,
+                               CommentService commentService,
+                               SearchIndex searchIndex,
+                               SuggestIndex suggestIndex) {
         this.userService = userService;
         this.taskService = taskService;
         this.projectService = projectService;
-        this.projectMemberService = projectMemberService;
+        this.projectVisibility = projectVisibility;
+        this.commentService = commentService;
+        this.searchIndex = searchIndex;
+        this.suggestIndex = suggestIndex;
+    }
+
+    private User getCurrentUser(UserDetails userDetails) {
+        return userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found: " + userDetails.getUsername()));
     }
 
     /**
      * Global search endpoint
-     * GET /api/v1/search?q=query&limit=10
+     * GET /api/v1/search?q=query&limit=10&fuzzy=true
+     * Dopasowanie z indeksu w pamięci (SearchIndex) - z bazy ładowane są tylko zwrócone wyniki
+     * fuzzy=true - toleruje literówki (podobieństwo trigramów)
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> globalSearch(
             @RequestParam(value = "q", required = false) String query,
-            @RequestParam(value = "limit", defaultValue = "5") int limit) {
+            @RequestParam(value = "limit", defaultValue = "5") int limit,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+            @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            // Get current user (using first user for testing)
-            List<User> allUsers = userService.getAllUsers();
-            if (allUsers.isEmpty()) {
-                return createErrorResponse("No users found", HttpStatus.INTERNAL_SERVER_ERROR);
-            }
-            User currentUser = allUsers.get(0);
+            User currentUser = getCurrentUser(userDetails);
 
             // If query is empty, return empty results
             if (query == null || query.trim().isEmpty()) {
@@ -55,29 +73,41 @@ public class SearchApiController {
                 response.put("users", Collections.emptyList());
                 response.put("tasks", Collections.emptyList());
                 response.put("projects", Collections.emptyList());
+                response.put("comments", Collections.emptyList());
                 response.put("totalResults", 0);
                 return ResponseEntity.ok(response);
             }
 
-            String searchQuery = query.toLowerCase().trim();
+            int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+            String searchQuery = query.trim();
+
+            // Projekty, do których użytkownik ma dostęp - każde trafienie sprawdzane w O(1), bez zapytania o członkostwa
+            IdSet projectIds = projectVisibility.projectsOf(currentUser);
 
             // Search Users
-            List<Map<String, Object>> users = searchUsers(searchQuery, limit);
+            List<Map<String, Object>> users = searchUsers(searchQuery, size, fuzzy);
 
             // Search Tasks (only tasks in projects user has access to)
-            List<Map<String, Object>> tasks = searchTasks(currentUser, searchQuery, limit);
+            List<Map<String, Object>> tasks = searchTasks(projectIds, searchQuery, size, fuzzy);
 
             // Search Projects (only projects user has access to)
-            List<Map<String, Object>> projects = searchProjects(currentUser, searchQuery, limit);
+            List<Map<String, Object>> projects = searchProjects(projectIds, searchQuery, size, fuzzy);
+
+            // Search Comments (only comments on tasks in projects user has access to)
+            List<Map<String, Object>> comments = searchComments(projectIds, searchQuery, size, fuzzy);
 
             // Build response
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("query", query);
+            response.put("fuzzy", fuzzy);
             response.put("users", users);
             response.put("tasks", tasks);
             response.put("projects", projects);
-            response.put("totalResults", users.size() + tasks.size() + projects.size());
+            response.put("comments", comments);
+            response.put("totalResults", users.size() + tasks.size() + projects.size() + comments.size());
+            // false tuż po starcie, dopóki indeks się buduje - wyniki mogą być niepełne
+            response.put("indexReady", searchIndex.isReady());
 
             return ResponseEntity.ok(response);
 
@@ -88,15 +118,90 @@ public class SearchApiController {
     }
 
     /**
-     * Search users by username or email
+     * Typeahead suggestions
+     * GET /api/v1/search/suggest?q=que&limit=8
+     * Tylko z pamięci (SuggestIndex) - bez zapytań do bazy, także o bieżącego użytkownika
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, Object>> suggest(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "limit", defaultValue = "8") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            Long userId = suggestIndex.findUserId(userDetails.getUsername());
+            if (userId == null) {
+                // Indeks jeszcze się buduje albo użytkownik dopiero powstał
+                userId = getCurrentUser(userDetails).getId();
+            }
+
+            List<Map<String, Object>> suggestions = new ArrayList<>();
+            if (query != null && !query.isBlank()) {
+                for (SuggestIndex.Suggestion suggestion
+                        : suggestIndex.suggest(userId, query, Math.max(1, Math.min(limit, MAX_LIMIT)))) {
+                    suggestions.add(toSuggestionMap(suggestion));
+                }
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("query", query != null ? query : "");
+            response.put("suggestions", suggestions);
+            response.put("indexReady", searchIndex.isReady());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            return createErrorResponse("Suggest failed: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static Map<String, Object> toSuggestionMap(SuggestIndex.Suggestion suggestion) {
+        Map<String, Object> suggestionMap = new HashMap<>();
+        suggestionMap.put("id", suggestion.getId());
+        suggestionMap.put("label", suggestion.getLabel());
+        switch (suggestion.getType()) {
+            case USER:
+                suggestionMap.put("type", "user");
+                suggestionMap.put("url", "/users/" + suggestion.getId());
+                break;
+            case PROJECT:
+                suggestionMap.put("type", "project");
+                suggestionMap.put("url", "/projects/" + suggestion.getId());
+                break;
+            default:
+                suggestionMap.put("type", "task");
+                suggestionMap.put("projectId", suggestion.getProjectId());
+                suggestionMap.put("projectName", suggestion.getProjectName());
+                suggestionMap.put("url", "/projects/" + suggestion.getProjectId() + "/tasks/" + suggestion.getId());
+                break;
+        }
+        return suggestionMap;
+    }
+
+    // Encje w kolejności trafności z indeksu; usunięte od czasu indeksowania są pomijane
+    private static <T> List<T> inRankOrder(List<Long> ids, List<T> entities, Function<T, Long> idOf) {
+        Map<Long, T> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static String truncate(String text) {
+        if (text == null) {
+            return null;
+        }
+        return text.length() > 100 ? text.substring(0, 100) + "..." : text;
+    }
+
+    /**
+     * Search users by username, full name or email
      * ✅ NAPRAWIONE - Dodano avatarUrl i hasAvatar
      */
-    private List<Map<String, Object>> searchUsers(String query, int limit) {
-        return userService.getAllUsers().stream()
-                .filter(user -> user.isActive() &&
-                        (user.getUsername().toLowerCase().contains(query) ||
-                                (user.getEmail() != null && user.getEmail().toLowerCase().contains(query))))
-                .limit(limit)
+    private List<Map<String, Object>> searchUsers(String query, int limit, boolean fuzzy) {
+        List<Long> ids = searchIndex.search(query, SearchIndex.Type.USER, null, limit, fuzzy);
+        return inRankOrder(ids, userService.getUsersByIds(ids), User::getId).stream()
                 .map(user -> {
                     Map<String, Object> userMap = new HashMap<>();
                     userMap.put("id", user.getId());
@@ -127,28 +232,14 @@ public class SearchApiController {
     /**
      * Search tasks by title or description
      */
-    private List<Map<String, Object>> searchTasks(User currentUser, String query, int limit) {
-        // Get all projects user has access to
-        List<ProjectMember> userMemberships = projectMemberService.getUserProjects(currentUser);
-        List<Project> accessibleProjects = userMemberships.stream()
-                .map(ProjectMember::getProject)
-                .collect(Collectors.toList());
-
-        // Search tasks in accessible projects
-        return accessibleProjects.stream()
-                .flatMap(project -> taskService.getTasksByProject(project).stream())
-                .filter(task -> task.getTitle().toLowerCase().contains(query) ||
-                        (task.getDescription() != null && task.getDescription().toLowerCase().contains(query)))
-                .limit(limit)
+    private List<Map<String, Object>> searchTasks(IdSet projectIds, String query, int limit, boolean fuzzy) {
+        List<Long> ids = searchIndex.search(query, SearchIndex.Type.TASK, projectIds, limit, fuzzy);
+        return inRankOrder(ids, taskService.getTasksByIds(ids), Task::getId).stream()
                 .map(task -> {
                     Map<String, Object> taskMap = new HashMap<>();
                     taskMap.put("id", task.getId());
                     taskMap.put("title", task.getTitle());
-                    taskMap.put("description", task.getDescription() != null ?
-                            (task.getDescription().length() > 100 ?
-                                    task.getDescription().substring(0, 100) + "..." :
-                                    task.getDescription()) :
-                            null);
+                    taskMap.put("description", truncate(task.getDescription()));
                     taskMap.put("status", task.getStatus());
                     taskMap.put("priority", task.getPriority());
                     taskMap.put("projectName", task.getProject().getName());
@@ -163,24 +254,14 @@ public class SearchApiController {
     /**
      * Search projects by name or description
      */
-    private List<Map<String, Object>> searchProjects(User currentUser, String query, int limit) {
-        // Get all projects user has access to
-        List<ProjectMember> userMemberships = projectMemberService.getUserProjects(currentUser);
-
-        return userMemberships.stream()
-                .map(ProjectMember::getProject)
-                .filter(project -> project.getName().toLowerCase().contains(query) ||
-                        (project.getDescription() != null && project.getDescription().toLowerCase().contains(query)))
-                .limit(limit)
+    private List<Map<String, Object>> searchProjects(IdSet projectIds, String query, int limit, boolean fuzzy) {
+        List<Long> ids = searchIndex.search(query, SearchIndex.Type.PROJECT, projectIds, limit, fuzzy);
+        return inRankOrder(ids, projectService.getProjectsByIds(ids), Project::getId).stream()
                 .map(project -> {
                     Map<String, Object> projectMap = new HashMap<>();
                     projectMap.put("id", project.getId());
                     projectMap.put("name", project.getName());
-                    projectMap.put("description", project.getDescription() != null ?
-                            (project.getDescription().length() > 100 ?
-                                    project.getDescription().substring(0, 100) + "..." :
-                                    project.getDescription()) :
-                            null);
+                    projectMap.put("description", truncate(project.getDescription()));
                     projectMap.put("memberCount", project.getMembers() != null ? project.getMembers().size() : 0);
                     projectMap.put("type", "project");
                     projectMap.put("url", "/projects/" + project.getId());
@@ -189,10 +270,32 @@ public class SearchApiController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Search comments by text
+     */
+    private List<Map<String, Object>> searchComments(IdSet projectIds, String query, int limit, boolean fuzzy) {
+        List<Long> ids = searchIndex.search(query, SearchIndex.Type.COMMENT, projectIds, limit, fuzzy);
+        return inRankOrder(ids, commentService.getCommentsByIds(ids), Comment::getId).stream()
+                .map(comment -> {
+                    Task task = comment.getTask();
+                    Map<String, Object> commentMap = new HashMap<>();
+                    commentMap.put("id", comment.getId());
+                    commentMap.put("text", truncate(comment.getText()));
+                    commentMap.put("author", comment.getAuthor().getUsername());
+                    commentMap.put("taskId", task.getId());
+                    commentMap.put("taskTitle", task.getTitle());
+                    commentMap.put("projectId", task.getProject().getId());
+                    commentMap.put("type", "comment");
+                    commentMap.put("url", "/projects/" + task.getProject().getId() + "/tasks/" + task.getId());
+                    return commentMap;
+                })
+                .collect(Collectors.toList());
+    }
+
     private ResponseEntity<Map<String, Object>> createErrorResponse(String message, HttpStatus status) {
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
         response.put("error", message);
         return ResponseEntity.status(status).body(response);
     }
-}
\ No newline at end of file
+}
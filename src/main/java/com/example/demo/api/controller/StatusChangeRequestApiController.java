@@ -97,7 +97,7 @@ public class StatusChangeRequestApiController {
             // Admin can change directly
             if (userRole == ProjectRole.ADMIN) {
                 task.setStatus(newStatus);
-                taskService.saveTask(task);
+                taskService.saveTask(task, currentUser);
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", true);
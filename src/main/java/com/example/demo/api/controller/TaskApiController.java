@@ -1,10 +1,13 @@
 // src/main/java/com/example/demo/api/controller/TaskApiController.java
 package com.example.demo.api.controller;
 
+import com.example.demo.api.dto.request.BulkTaskUpdateRequest;
 import com.example.demo.api.dto.request.CreateTaskRequest;
 import com.example.demo.api.dto.request.UpdateTaskRequest;
+import com.example.demo.api.dto.response.CursorPage;
 import com.example.demo.api.dto.response.TaskDto;
 import com.example.demo.api.mapper.TaskMapper;
+import com.example.demo.api.mapper.TaskViewMapper;
 import com.example.demo.model.*;
 import com.example.demo.service.*;
 import org.springframework.http.HttpStatus;
@@ -12,12 +15,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -30,19 +39,31 @@ public class TaskApiController {
     private final UserService userService;
     private final NotificationService notificationService;
     private final TaskMapper taskMapper;
+    private final TaskViewService taskViewService;
+    private final TaskViewMapper taskViewMapper;
+    private final TaskSyncService taskSyncService;
+    private final TaskFacetIndex taskFacetIndex;
 
     public TaskApiController(TaskService taskService,
                              ProjectService projectService,
                              ProjectMemberService projectMemberService,
                              UserService userService,
                              NotificationService notificationService,
-                             TaskMapper taskMapper) {
+                             TaskMapper taskMapper,
+                             TaskViewService taskViewService,
+                             TaskViewMapper taskViewMapper,
+                             TaskSyncService taskSyncService,
+                             TaskFacetIndex taskFacetIndex) {
         this.taskService = taskService;
         this.projectService = projectService;
         this.projectMemberService = projectMemberService;
         this.userService = userService;
         this.notificationService = notificationService;
         this.taskMapper = taskMapper;
+        this.taskViewService = taskViewService;
+        this.taskViewMapper = taskViewMapper;
+        this.taskSyncService = taskSyncService;
+        this.taskFacetIndex = taskFacetIndex;
     }
 
     // ✅ POPRAWIONA METODA - używa prawdziwego zalogowanego użytkownika
@@ -68,6 +89,29 @@ public class TaskApiController {
                 .orElse(null);
     }
 
+    // ETag szczegółów zadania: wersje zadania i encji pokazywanych w odpowiedzi, change_seq wiersza task_view
+    // (liczniki komentarzy/plików), flaga overdue (UPDATE bez wersji) i pola terminu zależne od bieżącej chwili
+    private String taskETag(Task task, User currentUser) {
+        List<Object> parts = new ArrayList<>(List.of("task", task.getId(), task.getVersion(), task.isOverdue(),
+                taskViewService.getChangeSeq(task.getId()), currentUser.getUsername()));
+        if (task.getDeadline() != null) {
+            LocalDateTime now = LocalDateTime.now();
+            parts.add(ChronoUnit.DAYS.between(now, task.getDeadline()));
+            parts.add(task.getDeadline().isBefore(now));
+        }
+        Project project = task.getProject();
+        if (project != null) {
+            parts.add(project.getVersion());
+            parts.add(project.getCreatedBy() != null ? project.getCreatedBy().getVersion() : null);
+        }
+        parts.add(task.getAssignedTo() != null ? task.getAssignedTo().getVersion() : null);
+        parts.add(task.getCreatedBy() != null ? task.getCreatedBy().getVersion() : null);
+        task.getAssignedUsers().stream()
+                .sorted(Comparator.comparing(User::getId))
+                .forEach(user -> parts.add(user.getId() + ":" + user.getVersion()));
+        return ETags.of(parts.toArray());
+    }
+
     private ResponseEntity<Map<String, Object>> createErrorResponse(String message, HttpStatus status) {
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
@@ -83,7 +127,8 @@ public class TaskApiController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getTaskById(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
         try {
             User currentUser = getCurrentUser(userDetails);
@@ -93,6 +138,11 @@ public class TaskApiController {
 
             checkTaskAccess(task, currentUser);
 
+            // If-None-Match zgodny - 304 bez liczenia komentarzy/plików i bez mapowania
+            if (webRequest.checkNotModified(taskETag(task, currentUser))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+            }
+
             TaskDto taskDto = taskMapper.toDtoWithStats(task);
 
             Map<String, Object> response = new HashMap<>();
@@ -101,7 +151,7 @@ public class TaskApiController {
             response.put("data", taskDto);
             response.put("currentUser", currentUser.getUsername());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(response);
 
         } catch (IllegalArgumentException e) {
             return createErrorResponse(e.getMessage(), HttpStatus.FORBIDDEN);
@@ -115,80 +165,79 @@ public class TaskApiController {
 
     // GET /api/v1/tasks - Get all tasks (with optional filters)
     // ✅ POPRAWIONA LOGIKA: SUPER_ADMIN widzi WSZYSTKIE zadania z systemu
+    // Filtry wykonywane w SQL na task_view, stronicowanie kursorem: kolejna strona przez ?cursor=<nextCursor>
+    // ?facets=true - liczności status/priority/projectId/assignee w tym samym zakresie (TaskFacetIndex)
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllTasks(
             @RequestParam(value = "projectId", required = false) Long projectId,
             @RequestParam(value = "status", required = false) String status,
             @RequestParam(value = "priority", required = false) String priority,
             @RequestParam(value = "assignedToMe", required = false) Boolean assignedToMe,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "facets", defaultValue = "false") boolean facets,
             @AuthenticationPrincipal UserDetails userDetails) {
 
+        try {
+            KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+
         try {
             User currentUser = getCurrentUser(userDetails);
 
-            List<Task> tasks;
+            TaskQuery query = new TaskQuery()
+                    .status(status)
+                    .priority(priority);
 
             // ✅ NOWA LOGIKA DLA SUPER_ADMIN
             // Jeśli użytkownik jest SUPER_ADMIN i assignedToMe=false, zwróć WSZYSTKIE zadania z systemu
             if (currentUser.getSystemRole() == SystemRole.SUPER_ADMIN && Boolean.FALSE.equals(assignedToMe)) {
-                System.out.println("🔥 SUPER_ADMIN requesting ALL system tasks");
-
                 if (projectId != null) {
                     // SUPER_ADMIN + projectId: wszystkie zadania z konkretnego projektu
                     Project project = projectService.getProjectById(projectId)
                             .orElseThrow(() -> new RuntimeException("Project with ID " + projectId + " not found"));
-                    tasks = taskService.getTasksByProject(project);
-                    System.out.println("✅ Found " + tasks.size() + " tasks in project " + projectId);
-                } else {
-                    // SUPER_ADMIN bez projectId: WSZYSTKIE zadania z CAŁEGO systemu
-                    tasks = taskService.getAllTasks();
-                    System.out.println("✅ Found " + tasks.size() + " TOTAL tasks in system");
+                    query.project(project);
                 }
+                // SUPER_ADMIN bez projectId: WSZYSTKIE zadania z CAŁEGO systemu (bez warunku zakresu)
             }
             // ✅ ISTNIEJĄCA LOGIKA DLA ZWYKŁYCH UŻYTKOWNIKÓW (bez zmian)
             else if (assignedToMe == null || assignedToMe) {
                 // Domyślnie: pokaż TYLKO zadania gdzie użytkownik jest w assignedUsers
-                System.out.println("📋 Filtering tasks: ONLY assigned to user " + currentUser.getUsername());
-                tasks = taskService.getTasksByAssignedUser(currentUser);
-                System.out.println("✅ Found " + tasks.size() + " tasks assigned to user");
+                query.assignedTo(currentUser);
             } else if (projectId != null) {
                 // assignedToMe=false + projectId: wszystkie zadania z konkretnego projektu (tylko dla członków)
                 Project project = projectService.getProjectById(projectId)
                         .orElseThrow(() -> new RuntimeException("Project with ID " + projectId + " not found"));
                 checkProjectAccess(project, currentUser);
-                tasks = taskService.getTasksByProject(project);
+                query.project(project);
             } else {
                 // assignedToMe=false bez projectId: wszystkie zadania ze wszystkich projektów użytkownika
-                List<Project> userProjects = projectService.getProjectsByUser(currentUser);
-                tasks = userProjects.stream()
-                        .flatMap(p -> taskService.getTasksByProject(p).stream())
-                        .distinct()
-                        .toList();
-            }
-
-            // Apply additional filters
-            if (status != null && !status.isEmpty()) {
-                tasks = tasks.stream()
-                        .filter(t -> status.equals(t.getStatus()))
-                        .toList();
+                query.memberOf(currentUser);
             }
 
-            if (priority != null && !priority.isEmpty()) {
-                tasks = tasks.stream()
-                        .filter(t -> priority.equals(t.getPriority()))
-                        .toList();
-            }
+            CursorPage<TaskView> page = taskViewService.findTasks(query, cursor, limit);
 
-            List<TaskDto> taskDtos = tasks.stream()
-                    .map(taskMapper::toDtoWithStats)
-                    .toList();
+            List<TaskDto> taskDtos = taskViewMapper.toDto(page.getItems());
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Tasks retrieved successfully");
             response.put("data", taskDtos);
+            response.put("count", taskDtos.size());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.isHasMore());
             response.put("currentUser", currentUser.getUsername());
 
+            if (facets) {
+                // null tuż po starcie, dopóki indeks faset się buduje
+                TaskFacetIndex.Counts counts = taskFacetIndex.count(query);
+                response.put("facets", counts != null ? counts.getFacets() : null);
+                response.put("facetTotal", counts != null ? counts.getTotal() : null);
+                response.put("facetsReady", counts != null);
+            }
+
             return ResponseEntity.ok(response);
 
         } catch (IllegalArgumentException e) {
@@ -202,12 +251,21 @@ public class TaskApiController {
     }
 
     // GET /api/v1/tasks/project/{projectId} - Get tasks by project
+    // Stronicowanie kursorem jak w GET /api/v1/tasks
     @GetMapping("/project/{projectId}")
     public ResponseEntity<Map<String, Object>> getTasksByProject(
             @PathVariable Long projectId,
             @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal UserDetails userDetails) {
 
+        try {
+            KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+
         try {
             User currentUser = getCurrentUser(userDetails);
 
@@ -216,23 +274,19 @@ public class TaskApiController {
 
             checkProjectAccess(project, currentUser);
 
-            List<Task> tasks;
-            if (status != null && !status.isEmpty()) {
-                tasks = taskService.getTasksByProject(project).stream()
-                        .filter(t -> status.equals(t.getStatus()))
-                        .toList();
-            } else {
-                tasks = taskService.getTasksByProject(project);
-            }
+            CursorPage<TaskView> page = taskViewService.findTasks(new TaskQuery()
+                    .project(project)
+                    .status(status), cursor, limit);
 
-            List<TaskDto> taskDtos = tasks.stream()
-                    .map(taskMapper::toDtoWithStats)
-                    .toList();
+            List<TaskDto> taskDtos = taskViewMapper.toDto(page.getItems());
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Project tasks retrieved successfully");
             response.put("data", taskDtos);
+            response.put("count", taskDtos.size());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.isHasMore());
             response.put("projectId", projectId);
             response.put("currentUser", currentUser.getUsername());
 
@@ -249,30 +303,36 @@ public class TaskApiController {
     }
 
     // GET /api/v1/tasks/my - Get tasks assigned to current user
+    // Stronicowanie kursorem jak w GET /api/v1/tasks
     @GetMapping("/my")
     public ResponseEntity<Map<String, Object>> getMyTasks(
             @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
-            User currentUser = getCurrentUser(userDetails);
+            KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
 
-            List<Task> tasks = taskService.getTasksByAssignedUser(currentUser);
+        try {
+            User currentUser = getCurrentUser(userDetails);
 
-            if (status != null && !status.isEmpty()) {
-                tasks = tasks.stream()
-                        .filter(t -> status.equals(t.getStatus()))
-                        .toList();
-            }
+            CursorPage<TaskView> page = taskViewService.findTasks(new TaskQuery()
+                    .assignedTo(currentUser)
+                    .status(status), cursor, limit);
 
-            List<TaskDto> taskDtos = tasks.stream()
-                    .map(taskMapper::toDtoWithStats)
-                    .toList();
+            List<TaskDto> taskDtos = taskViewMapper.toDto(page.getItems());
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "User tasks retrieved successfully");
             response.put("data", taskDtos);
+            response.put("count", taskDtos.size());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.isHasMore());
             response.put("currentUser", currentUser.getUsername());
 
             return ResponseEntity.ok(response);
@@ -283,6 +343,55 @@ public class TaskApiController {
         }
     }
 
+    // GET /api/v1/tasks/changes?since=<token> - Incremental sync of tasks from user's projects
+    // Bez since: wszystkie zadania (stronami). Klient zapisuje nextToken i pyta dalej, dopóki hasMore.
+    // resyncRequired=true: token za stary lub sprzed zmiany członkostwa w projektach - przeładuj listę w całości i kontynuuj od zwróconego nextToken
+    @GetMapping("/changes")
+    public ResponseEntity<Map<String, Object>> getTaskChanges(
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "limit", defaultValue = "200") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            TaskSyncToken.decode(since);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            User currentUser = getCurrentUser(userDetails);
+
+            TaskChanges changes = taskSyncService.changesSince(currentUser, since, limit);
+
+            List<Map<String, Object>> deleted = changes.getDeleted().stream()
+                    .map(tombstone -> {
+                        Map<String, Object> entry = new HashMap<>();
+                        entry.put("id", tombstone.getTaskId());
+                        entry.put("projectId", tombstone.getProjectId());
+                        return entry;
+                    })
+                    .collect(Collectors.toList());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Task changes retrieved successfully");
+            response.put("changed", taskViewMapper.toDto(changes.getChanged()));
+            response.put("deleted", deleted);
+            response.put("nextToken", changes.getNextToken());
+            response.put("hasMore", changes.isHasMore());
+            response.put("resyncRequired", changes.isResyncRequired());
+            response.put("currentUser", currentUser.getUsername());
+
+            return ResponseEntity.ok(response);
+
+        } catch (RuntimeException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return createErrorResponse("Failed to retrieve task changes: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     // ============================================================================
     // POST ENDPOINT - Create task
     // ============================================================================
@@ -343,7 +452,7 @@ public class TaskApiController {
                 task.setAssignedUsers(assignedUsers);
             }
 
-            Task savedTask = taskService.saveTask(task);
+            Task savedTask = taskService.saveTask(task, creator);
             TaskDto taskDto = taskMapper.toDtoWithStats(savedTask);
 
             Map<String, Object> response = new HashMap<>();
@@ -363,6 +472,53 @@ public class TaskApiController {
         }
     }
 
+    // ============================================================================
+    // POST ENDPOINT - Bulk update (status, priority, deadline, assignees)
+    // ============================================================================
+
+    // Jedno żądanie zamiast N wywołań PUT /{id}; atomic=true (domyślnie) - wszystko albo nic
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> bulkUpdateTasks(
+            @RequestBody BulkTaskUpdateRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            User currentUser = getCurrentUser(userDetails);
+
+            String validationError = request.getValidationError();
+            if (validationError != null) {
+                return createErrorResponse(validationError, HttpStatus.BAD_REQUEST);
+            }
+
+            BulkTaskChanges changes = new BulkTaskChanges()
+                    .status(request.getStatus())
+                    .priority(request.getPriority())
+                    .deadline(request.getDeadline())
+                    .assignedTo(request.getAssignedToId())
+                    .assignedUsers(request.getAssignedUserIds());
+
+            BulkTaskResult result = taskService.bulkUpdate(request.getTaskIds(), changes, currentUser, request.isAtomic());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", result.isApplied());
+            response.put("message", result.isApplied()
+                    ? "Tasks updated successfully"
+                    : "Batch rejected - no tasks were updated");
+            response.put("updatedIds", result.getUpdatedIds());
+            response.put("updatedCount", result.getUpdatedIds().size());
+            response.put("failures", result.getFailures());
+            response.put("currentUser", currentUser.getUsername());
+
+            return ResponseEntity.status(result.isApplied() ? HttpStatus.OK : HttpStatus.CONFLICT).body(response);
+
+        } catch (RuntimeException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return createErrorResponse("Failed to update tasks: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     // ============================================================================
     // PUT ENDPOINT - Update task
     // ============================================================================
@@ -428,7 +584,7 @@ public class TaskApiController {
                 task.setAssignedUsers(assignedUsers);
             }
 
-            Task updatedTask = taskService.saveTask(task);
+            Task updatedTask = taskService.saveTask(task, currentUser);
             TaskDto taskDto = taskMapper.toDtoWithStats(updatedTask);
 
             Map<String, Object> response = new HashMap<>();
@@ -471,7 +627,7 @@ public class TaskApiController {
                 return createErrorResponse("Viewers cannot delete tasks", HttpStatus.FORBIDDEN);
             }
 
-            taskService.deleteTask(id);
+            taskService.deleteTask(id, currentUser);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
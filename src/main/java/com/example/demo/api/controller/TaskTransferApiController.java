@@ -0,0 +1,100 @@
+// src/main/java/com/example/demo/api/controller/TaskTransferApiController.java
+package com.example.demo.api.controller;
+
+import com.example.demo.api.dto.response.ApiResponse;
+import com.example.demo.model.Project;
+import com.example.demo.model.ProjectMember;
+import com.example.demo.model.ProjectRole;
+import com.example.demo.model.User;
+import com.example.demo.service.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Eksport / import zadań projektu strumieniowo (CSV lub NDJSON) - bez budowania całej listy w pamięci
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/tasks")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:5173"})
+public class TaskTransferApiController {
+
+    @Autowired
+    private TaskTransferService taskTransferService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMemberService projectMemberService;
+
+    @Autowired
+    private UserService userService;
+
+    private User getCurrentUser(UserDetails userDetails) {
+        return userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + userDetails.getUsername()));
+    }
+
+    private Project getProject(Long projectId) {
+        return projectService.getProjectById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project with ID " + projectId + " not found"));
+    }
+
+    private ProjectMember checkProjectAccess(Project project, User user) {
+        return projectMemberService.getProjectMember(project, user)
+                .orElseThrow(() -> new SecurityException("User is not a member of this project"));
+    }
+
+    // GET /api/v1/projects/{projectId}/tasks/export?format=csv|ndjson - Stream all project tasks
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable Long projectId,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        TaskTransferService.Format exportFormat = TaskTransferService.Format.fromParam(format);
+        Project project = getProject(projectId);
+        checkProjectAccess(project, getCurrentUser(userDetails));
+
+        // Zapis w wątku asynchronicznym MVC - odpowiedź leci do klienta w trakcie czytania kursora
+        StreamingResponseBody body = out -> taskTransferService.exportTasks(projectId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + projectId + "-tasks." + exportFormat.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
+    // POST /api/v1/projects/{projectId}/tasks/import?format=csv|ndjson - Import tasks from request body
+    // CSV: nagłówek z kolumną title (opcjonalnie description, status, priority, deadline, assignedTo, assignees)
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<TaskImportResult>> importTasks(
+            @PathVariable Long projectId,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            InputStream body,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        TaskTransferService.Format importFormat = TaskTransferService.Format.fromParam(format);
+        User currentUser = getCurrentUser(userDetails);
+        Project project = getProject(projectId);
+
+        if (checkProjectAccess(project, currentUser).getRole() == ProjectRole.VIEWER) {
+            throw new SecurityException("Viewers cannot create tasks");
+        }
+
+        TaskImportResult result = taskTransferService.importTasks(project, currentUser, importFormat, body);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Imported " + result.getImported() + " tasks, " + result.getFailed() + " rows failed", result)
+        );
+    }
+}
@@ -0,0 +1,81 @@
+// src/main/java/com/example/demo/api/dto/request/BulkTaskUpdateRequest.java
+package com.example.demo.api.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BulkTaskUpdateRequest {
+
+    public static final int MAX_TASKS = 500;
+
+    private List<Long> taskIds;
+    private String status; // NEW, IN_PROGRESS, COMPLETED, CANCELLED
+    private String priority; // LOW, MEDIUM, HIGH, URGENT
+    private LocalDateTime deadline;
+    private Long assignedToId; // Single assignee
+    private List<Long> assignedUserIds; // Multiple assignees (replaces current set)
+    private boolean atomic = true; // All-or-nothing: any failing task rejects the whole batch
+
+    // Constructors
+    public BulkTaskUpdateRequest() {}
+
+    // Validation methods
+    public String getValidationError() {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return "At least one task ID is required";
+        }
+        if (taskIds.size() > MAX_TASKS) {
+            return "Cannot update more than " + MAX_TASKS + " tasks at once";
+        }
+        if (!hasUpdates()) {
+            return "No changes provided";
+        }
+        if (status != null && !isValidStatus(status)) {
+            return "Status must be NEW, IN_PROGRESS, COMPLETED, or CANCELLED";
+        }
+        if (priority != null && !isValidPriority(priority)) {
+            return "Priority must be LOW, MEDIUM, HIGH, or URGENT";
+        }
+        if (deadline != null && deadline.isBefore(LocalDateTime.now())) {
+            return "Deadline cannot be in the past";
+        }
+        return null;
+    }
+
+    private boolean isValidStatus(String status) {
+        return "NEW".equals(status) || "IN_PROGRESS".equals(status) ||
+                "COMPLETED".equals(status) || "CANCELLED".equals(status);
+    }
+
+    private boolean isValidPriority(String priority) {
+        return "LOW".equals(priority) || "MEDIUM".equals(priority) ||
+                "HIGH".equals(priority) || "URGENT".equals(priority);
+    }
+
+    public boolean hasUpdates() {
+        return status != null || priority != null || deadline != null ||
+                assignedToId != null || assignedUserIds != null;
+    }
+
+    // Getters and setters
+    public List<Long> getTaskIds() { return taskIds; }
+    public void setTaskIds(List<Long> taskIds) { this.taskIds = taskIds; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public LocalDateTime getDeadline() { return deadline; }
+    public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
+
+    public Long getAssignedToId() { return assignedToId; }
+    public void setAssignedToId(Long assignedToId) { this.assignedToId = assignedToId; }
+
+    public List<Long> getAssignedUserIds() { return assignedUserIds; }
+    public void setAssignedUserIds(List<Long> assignedUserIds) { this.assignedUserIds = assignedUserIds; }
+
+    public boolean isAtomic() { return atomic; }
+    public void setAtomic(boolean atomic) { this.atomic = atomic; }
+}
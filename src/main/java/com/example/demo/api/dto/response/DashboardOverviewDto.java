@@ -0,0 +1,47 @@
+// src/main/java/com/example/demo/api/dto/response/DashboardOverviewDto.java
+package com.example.demo.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Statystyki + ostatnia aktywność; degraded = część danych pominięta po przekroczeniu timeoutu
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardOverviewDto {
+
+    private StatsDto stats;
+    private List<ActivityDto> recentActivity;
+    private boolean degraded;
+
+    public DashboardOverviewDto() {}
+
+    public DashboardOverviewDto(StatsDto stats, List<ActivityDto> recentActivity, boolean degraded) {
+        this.stats = stats;
+        this.recentActivity = recentActivity;
+        this.degraded = degraded;
+    }
+
+    public StatsDto getStats() {
+        return stats;
+    }
+
+    public void setStats(StatsDto stats) {
+        this.stats = stats;
+    }
+
+    public List<ActivityDto> getRecentActivity() {
+        return recentActivity;
+    }
+
+    public void setRecentActivity(List<ActivityDto> recentActivity) {
+        this.recentActivity = recentActivity;
+    }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    public void setDegraded(boolean degraded) {
+        this.degraded = degraded;
+    }
+}
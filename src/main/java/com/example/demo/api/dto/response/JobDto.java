@@ -0,0 +1,86 @@
+// src/main/java/com/example/demo/api/dto/response/JobDto.java
+package com.example.demo.api.dto.response;
+
+import com.example.demo.model.BackgroundJob;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobDto {
+
+    private Long id;
+    private String type;
+    private String status; // PENDING, RUNNING, COMPLETED, FAILED
+    private Long targetId;
+    private String currentStep;
+    private int stepsCompleted;
+    private int stepsTotal;
+    private int progressPercent;
+    private long itemsProcessed;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public JobDto() {}
+
+    public static JobDto from(BackgroundJob job) {
+        JobDto dto = new JobDto();
+        dto.id = job.getId();
+        dto.type = job.getType().name();
+        dto.status = job.getStatus().name();
+        dto.targetId = job.getTargetId();
+        dto.currentStep = job.getCurrentStep();
+        dto.stepsCompleted = job.getStepsCompleted();
+        dto.stepsTotal = job.getStepsTotal();
+        dto.progressPercent = job.getStepsTotal() > 0
+                ? (int) Math.min(100, job.getStepsCompleted() * 100L / job.getStepsTotal())
+                : 0;
+        dto.itemsProcessed = job.getItemsProcessed();
+        dto.error = job.getError();
+        dto.createdAt = job.getCreatedAt();
+        dto.startedAt = job.getStartedAt();
+        dto.finishedAt = job.getFinishedAt();
+        return dto;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Long getTargetId() { return targetId; }
+    public void setTargetId(Long targetId) { this.targetId = targetId; }
+
+    public String getCurrentStep() { return currentStep; }
+    public void setCurrentStep(String currentStep) { this.currentStep = currentStep; }
+
+    public int getStepsCompleted() { return stepsCompleted; }
+    public void setStepsCompleted(int stepsCompleted) { this.stepsCompleted = stepsCompleted; }
+
+    public int getStepsTotal() { return stepsTotal; }
+    public void setStepsTotal(int stepsTotal) { this.stepsTotal = stepsTotal; }
+
+    public int getProgressPercent() { return progressPercent; }
+    public void setProgressPercent(int progressPercent) { this.progressPercent = progressPercent; }
+
+    public long getItemsProcessed() { return itemsProcessed; }
+    public void setItemsProcessed(long itemsProcessed) { this.itemsProcessed = itemsProcessed; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -35,6 +35,9 @@ public class StatsDto {
     private Long tasksCompletedThisWeek;
     private Long tasksCompletedThisMonth;
 
+    // Set when some sub-queries timed out and their values are missing
+    private Boolean degraded;
+
     public StatsDto() {}
 
     // Getters and setters
@@ -205,4 +208,12 @@ public class StatsDto {
     public void setTasksCompletedThisMonth(Long tasksCompletedThisMonth) {
         this.tasksCompletedThisMonth = tasksCompletedThisMonth;
     }
-}
\ No newline at end of file
+
+    public Boolean getDegraded() {
+        return degraded;
+    }
+
+    public void setDegraded(Boolean degraded) {
+        this.degraded = degraded;
+    }
+}
@@ -25,6 +25,9 @@ public class TaskDto {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime completedAt;
 
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
     // Related entities
     private UserDto assignedTo; // Single assignee
     private List<UserDto> assignedUsers; // Multiple assignees
@@ -36,6 +39,7 @@ public class TaskDto {
     private int fileCount;
     private boolean hasDeadlinePassed;
     private int daysUntilDeadline;
+    private boolean overdue; // Termin minął, zadanie wciąż otwarte
 
     // Constructors
     public TaskDto() {}
@@ -72,6 +76,9 @@ public class TaskDto {
     public LocalDateTime getCompletedAt() { return completedAt; }
     public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
 
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
     public UserDto getAssignedTo() { return assignedTo; }
     public void setAssignedTo(UserDto assignedTo) { this.assignedTo = assignedTo; }
 
@@ -95,4 +102,7 @@ public class TaskDto {
 
     public int getDaysUntilDeadline() { return daysUntilDeadline; }
     public void setDaysUntilDeadline(int daysUntilDeadline) { this.daysUntilDeadline = daysUntilDeadline; }
+
+    public boolean isOverdue() { return overdue; }
+    public void setOverdue(boolean overdue) { this.overdue = overdue; }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@
 package com.example.demo.api.exception;
 
 import com.example.demo.api.dto.response.ErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -74,6 +75,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
+    // Równoległa zmiana tej samej encji (@Version) - klient powinien pobrać aktualną wersję i ponowić
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLocking(OptimisticLockingFailureException e, WebRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                "CONCURRENT_MODIFICATION",
+                "The resource was modified by another request, reload and try again",
+                HttpStatus.CONFLICT.value()
+        );
+        error.setPath(request.getDescription(false).replace("uri=", ""));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e, WebRequest request) {
         ErrorResponse error = new ErrorResponse(
@@ -29,7 +29,7 @@ public class CommentMapper {
 
         // Map author
         if (comment.getAuthor() != null) {
-            dto.setAuthor(userMapper.toDto(comment.getAuthor()));
+            dto.setAuthor(userMapper.toSummaryDto(comment.getAuthor()));
         }
 
         // Map task info
@@ -29,7 +29,7 @@ public class FileMapper {
 
         // Map uploader
         if (file.getUploadedBy() != null) {
-            dto.setUploadedBy(userMapper.toDto(file.getUploadedBy()));
+            dto.setUploadedBy(userMapper.toSummaryDto(file.getUploadedBy()));
         }
 
         // Map task info
@@ -31,7 +31,7 @@ public class ProjectMapper {
 
         // Map creator
         if (project.getCreatedBy() != null) {
-            dto.setCreatedBy(userMapper.toDto(project.getCreatedBy()));
+            dto.setCreatedBy(userMapper.toSummaryDto(project.getCreatedBy()));
         }
 
         return dto;
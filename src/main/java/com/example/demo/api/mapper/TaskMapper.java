@@ -14,7 +14,10 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -43,15 +46,16 @@ public class TaskMapper {
         dto.setCreatedAt(task.getCreatedAt());
         dto.setDeadline(task.getDeadline());
         dto.setCompletedAt(task.getCompletedAt());
+        dto.setUpdatedAt(task.getUpdatedAt());
 
         // Map related entities
         if (task.getAssignedTo() != null) {
-            dto.setAssignedTo(userMapper.toDto(task.getAssignedTo()));
+            dto.setAssignedTo(userMapper.toSummaryDto(task.getAssignedTo()));
         }
 
         if (task.getAssignedUsers() != null && !task.getAssignedUsers().isEmpty()) {
             List<UserDto> assignedUserDtos = task.getAssignedUsers().stream()
-                    .map(userMapper::toDto)
+                    .map(userMapper::toSummaryDto)
                     .collect(Collectors.toList());
             dto.setAssignedUsers(assignedUserDtos);
         }
@@ -61,7 +65,7 @@ public class TaskMapper {
         }
 
         if (task.getCreatedBy() != null) {
-            dto.setCreatedBy(userMapper.toDto(task.getCreatedBy()));
+            dto.setCreatedBy(userMapper.toSummaryDto(task.getCreatedBy()));
         }
 
         // Calculate deadline info
@@ -100,9 +104,25 @@ public class TaskMapper {
     }
 
     // Entity list to DTO list (with stats)
+    // Liczniki dla całej listy dwoma zapytaniami GROUP BY zamiast dwóch zapytań na zadanie
     public List<TaskDto> toDtoWithStats(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> taskIds = tasks.stream()
+                .map(Task::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Long> commentCounts = commentService.getCommentCountsByTaskIds(taskIds);
+        Map<Long, Long> fileCounts = fileService.getFileCountsByTaskIds(taskIds);
+
         return tasks.stream()
-                .map(this::toDtoWithStats)
+                .map(task -> {
+                    TaskDto dto = toDto(task);
+                    dto.setCommentCount(commentCounts.getOrDefault(task.getId(), 0L).intValue());
+                    dto.setFileCount(fileCounts.getOrDefault(task.getId(), 0L).intValue());
+                    return dto;
+                })
                 .collect(Collectors.toList());
     }
 
@@ -147,6 +167,7 @@ public class TaskMapper {
 
     // Helper method to calculate deadline info
     private void calculateDeadlineInfo(TaskDto dto, Task task) {
+        dto.setOverdue(task.isOverdue());
         if (task.getDeadline() != null) {
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime deadline = task.getDeadline();
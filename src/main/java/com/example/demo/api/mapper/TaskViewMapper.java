@@ -0,0 +1,78 @@
+// src/main/java/com/example/demo/api/mapper/TaskViewMapper.java
+package com.example.demo.api.mapper;
+
+import com.example.demo.api.dto.response.ProjectDto;
+import com.example.demo.api.dto.response.TaskDto;
+import com.example.demo.api.dto.response.UserDto;
+import com.example.demo.model.TaskView;
+import com.example.demo.model.TaskViewAssignee;
+import com.example.demo.service.TaskStatsService;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Wiersz task_view -> TaskDto dla list zadań. Powiązane obiekty w wersji skróconej
+// (projekt: id + nazwa, użytkownik: id + username + fullName) - pełne dane w GET /api/v1/tasks/{id}.
+@Component
+public class TaskViewMapper {
+
+    public TaskDto toDto(TaskView view) {
+        TaskDto dto = new TaskDto();
+        dto.setId(view.getTaskId());
+        dto.setTitle(view.getTitle());
+        dto.setDescription(view.getDescription());
+        dto.setStatus(view.getStatus());
+        dto.setPriority(view.getPriority());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setDeadline(view.getDeadline());
+        dto.setCompletedAt(view.getCompletedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+
+        if (view.getProjectId() != null) {
+            dto.setProject(new ProjectDto(view.getProjectId(), view.getProjectName(), null));
+        }
+        if (view.getAssignedToId() != null) {
+            dto.setAssignedTo(toUserDto(view.getAssignedToId(), view.getAssignedToUsername(), view.getAssignedToFullName()));
+        }
+        if (view.getCreatedById() != null) {
+            dto.setCreatedBy(toUserDto(view.getCreatedById(), view.getCreatedByUsername(), view.getCreatedByFullName()));
+        }
+        if (!view.getAssignees().isEmpty()) {
+            dto.setAssignedUsers(view.getAssignees().stream()
+                    .sorted(Comparator.comparing(TaskViewAssignee::getUserId))
+                    .map(assignee -> toUserDto(assignee.getUserId(), assignee.getUsername(), assignee.getFullName()))
+                    .collect(Collectors.toList()));
+        }
+
+        dto.setCommentCount(view.getCommentCount());
+        dto.setFileCount(view.getFileCount());
+
+        // Jak flaga overdue zadania (DeadlineScheduler): termin minął, zadanie wciąż otwarte
+        if (view.getDeadline() != null) {
+            LocalDateTime now = LocalDateTime.now();
+            dto.setHasDeadlinePassed(view.getDeadline().isBefore(now));
+            dto.setDaysUntilDeadline((int) ChronoUnit.DAYS.between(now, view.getDeadline()));
+            dto.setOverdue(dto.isHasDeadlinePassed() && !TaskStatsService.CLOSED_STATUSES.contains(view.getStatus()));
+        }
+
+        return dto;
+    }
+
+    public List<TaskDto> toDto(List<TaskView> views) {
+        return views.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private UserDto toUserDto(Long id, String username, String fullName) {
+        UserDto dto = new UserDto();
+        dto.setId(id);
+        dto.setUsername(username);
+        dto.setFullName(fullName);
+        return dto;
+    }
+}
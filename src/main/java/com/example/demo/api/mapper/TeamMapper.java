@@ -29,7 +29,7 @@ public class TeamMapper {
 
         // Map creator
         if (team.getCreatedBy() != null) {
-            dto.setCreatedBy(userMapper.toDto(team.getCreatedBy()));
+            dto.setCreatedBy(userMapper.toSummaryDto(team.getCreatedBy()));
         }
 
         // Basic member count
@@ -16,8 +16,32 @@ import java.util.stream.Collectors;
 @Component
 public class UserMapper {
 
-    // Entity to DTO
+    // Entity to DTO (z zespołami)
     public UserDto toDto(User user) {
+        UserDto dto = toSummaryDto(user);
+
+        // Map team names
+        if (user.getTeams() != null) {
+            List<String> teamNames = user.getTeams().stream()
+                    .map(Team::getName)
+                    .collect(Collectors.toList());
+            dto.setTeamNames(teamNames);
+        }
+
+        // Map na uproszczone obiekty zespołów
+        if (user.getTeams() != null) {
+            List<SimpleTeamDto> teams = user.getTeams().stream()
+                    .map(team -> new SimpleTeamDto(team.getId(), team.getName()))
+                    .collect(Collectors.toList());
+            dto.setTeams(teams);
+        }
+
+        return dto;
+    }
+
+    // Entity to DTO bez zespołów - dla użytkowników osadzonych w zadaniach, komentarzach, plikach itp.
+    // (nie dotyka leniwej kolekcji teams)
+    public UserDto toSummaryDto(User user) {
         UserDto dto = new UserDto();
         dto.setId(user.getId());
         dto.setUsername(user.getUsername());
@@ -36,22 +60,6 @@ public class UserMapper {
             dto.setHasAvatar(false);
         }
 
-        // Map team names
-        if (user.getTeams() != null) {
-            List<String> teamNames = user.getTeams().stream()
-                    .map(Team::getName)
-                    .collect(Collectors.toList());
-            dto.setTeamNames(teamNames);
-        }
-
-        // Map na uproszczone obiekty zespołów
-        if (user.getTeams() != null) {
-            List<SimpleTeamDto> teams = user.getTeams().stream()
-                    .map(team -> new SimpleTeamDto(team.getId(), team.getName()))
-                    .collect(Collectors.toList());
-            dto.setTeams(teams);
-        }
-
         return dto;
     }
 
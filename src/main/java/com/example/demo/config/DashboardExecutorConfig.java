@@ -0,0 +1,44 @@
+// src/main/java/com/example/demo/config/DashboardExecutorConfig.java
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Osobna, ograniczona pula wątków dla równoległych zapytań dashboardu.
+// Pełna kolejka = odrzucenie zadania (AbortPolicy) - wywołujący traktuje to jak timeout, a nie blokuje wątku żądania.
+// Metryki puli: executor.* z tagiem name=dashboard.query
+@Configuration
+public class DashboardExecutorConfig {
+
+    @Bean(name = "dashboardQueryExecutor", destroyMethod = "shutdown")
+    public ExecutorService dashboardQueryExecutor(MeterRegistry meterRegistry,
+                                                  @Value("${dashboard.query.pool-size:8}") int poolSize,
+                                                  @Value("${dashboard.query.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "dashboard.query");
+    }
+}
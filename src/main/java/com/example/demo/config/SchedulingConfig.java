@@ -0,0 +1,10 @@
+// src/main/java/com/example/demo/config/SchedulingConfig.java
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,10 @@
 package com.example.demo.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -15,4 +18,19 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
-}
\ No newline at end of file
+
+    // Open-in-view jak w domyślnej konfiguracji Spring Boot (zastępuje ją - własny bean wyłącza automatyczny),
+    // ale bez strumienia SSE: EntityManager i połączenie z puli byłyby trzymane przez cały czas życia
+    // SseEmitter (do 30 min). Strumień korzysta tylko z repozytoriów, każde zapytanie bierze połączenie na chwilę.
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .addPathPatterns("/**")
+                .excludePathPatterns("/api/v1/notifications/stream");
+    }
+}
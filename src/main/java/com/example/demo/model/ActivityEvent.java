@@ -0,0 +1,81 @@
+// src/main/java/com/example/demo/model/ActivityEvent.java
+package com.example.demo.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// Dziennik aktywności - tylko dopisywanie (append-only), odczyt stronicowany kursorem (createdAt, id)
+@Entity
+@Table(name = "activity_events", indexes = {
+        @Index(name = "idx_activity_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_activity_created", columnList = "created_at")
+})
+public class ActivityEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private ActivityType type;
+
+    @Column(length = 500)
+    private String description;
+
+    // Użytkownik, którego dotyczy aktywność (autor akcji lub dodany członek)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "entity_type", length = 40)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "entity_name")
+    private String entityName;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public ActivityEvent() {}
+
+    public ActivityEvent(ActivityType type, User user, String description) {
+        this.type = type;
+        this.user = user;
+        this.description = description;
+    }
+
+    // Gettery i settery
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public ActivityType getType() { return type; }
+    public void setType(ActivityType type) { this.type = type; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+
+    public String getEntityName() { return entityName; }
+    public void setEntityName(String entityName) { this.entityName = entityName; }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,16 @@
+// src/main/java/com/example/demo/model/ActivityType.java
+package com.example.demo.model;
+
+public enum ActivityType {
+    TASK_CREATED,               // Utworzenie zadania
+    TASK_COMPLETED,             // Ukończenie zadania
+    TASK_DELETED,               // Usunięcie zadania
+    COMMENT_ADDED,              // Nowy komentarz
+    FILE_UPLOADED,              // Nowy plik
+    MEMBER_ADDED,               // Dołączenie do projektu
+    MEMBER_REMOVED,             // Opuszczenie projektu
+    MEMBER_ROLE_CHANGED,        // Zmiana roli w projekcie
+    STATUS_CHANGE_REQUESTED,    // Prośba o zmianę statusu
+    STATUS_CHANGE_APPROVED,     // Prośba zatwierdzona
+    STATUS_CHANGE_REJECTED      // Prośba odrzucona
+}
@@ -0,0 +1,92 @@
+// src/main/java/com/example/demo/model/BackgroundJob.java
+package com.example.demo.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// Zadanie w tle (np. usuwanie użytkownika) z postępem odczytywanym przez /api/v1/admin/jobs/{id}
+@Entity
+@Table(name = "background_jobs", indexes = @Index(name = "idx_job_status", columnList = "status"))
+public class BackgroundJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private JobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JobStatus status = JobStatus.PENDING;
+
+    // ID obiektu, którego dotyczy zadanie
+    private Long targetId;
+
+    // Samo ID - zlecający admin może zostać później usunięty
+    private Long requestedById;
+
+    private int stepsTotal;
+    private int stepsCompleted;
+
+    @Column(length = 64)
+    private String currentStep;
+
+    // Łączna liczba usuniętych/zmienionych wierszy
+    private long itemsProcessed;
+
+    @Column(length = 1000)
+    private String error;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public BackgroundJob() {}
+
+    public BackgroundJob(JobType type, Long targetId, Long requestedById) {
+        this.type = type;
+        this.targetId = targetId;
+        this.requestedById = requestedById;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public JobType getType() { return type; }
+    public void setType(JobType type) { this.type = type; }
+
+    public JobStatus getStatus() { return status; }
+    public void setStatus(JobStatus status) { this.status = status; }
+
+    public Long getTargetId() { return targetId; }
+    public void setTargetId(Long targetId) { this.targetId = targetId; }
+
+    public Long getRequestedById() { return requestedById; }
+    public void setRequestedById(Long requestedById) { this.requestedById = requestedById; }
+
+    public int getStepsTotal() { return stepsTotal; }
+    public void setStepsTotal(int stepsTotal) { this.stepsTotal = stepsTotal; }
+
+    public int getStepsCompleted() { return stepsCompleted; }
+    public void setStepsCompleted(int stepsCompleted) { this.stepsCompleted = stepsCompleted; }
+
+    public String getCurrentStep() { return currentStep; }
+    public void setCurrentStep(String currentStep) { this.currentStep = currentStep; }
+
+    public long getItemsProcessed() { return itemsProcessed; }
+    public void setItemsProcessed(long itemsProcessed) { this.itemsProcessed = itemsProcessed; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/example/demo/model/ChangeSequence.java
+package com.example.demo.model;
+
+import javax.persistence.*;
+
+// Nazwane liczniki zmian (synchronizacja przyrostowa). Zapis wyłącznie przez TaskChangeSequence (JDBC) -
+// encja istnieje, żeby schemat tabeli utrzymywał Hibernate (ddl-auto).
+@Entity
+@Table(name = "change_sequences")
+public class ChangeSequence {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "seq_value", nullable = false)
+    private long value;
+
+    public ChangeSequence() {}
+
+    public String getName() { return name; }
+
+    public long getValue() { return value; }
+}
@@ -12,6 +12,10 @@ public class Comment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+
     @Column(nullable = false, length = 1000)
     private String text;
 
@@ -50,6 +54,10 @@ public class Comment {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public String getText() {
         return text;
     }
@@ -0,0 +1,9 @@
+// src/main/java/com/example/demo/model/JobStatus.java
+package com.example.demo.model;
+
+public enum JobStatus {
+    PENDING,    // Utworzone, czeka na wątek
+    RUNNING,    // W trakcie
+    COMPLETED,  // Zakończone
+    FAILED      // Przerwane błędem (error)
+}
@@ -0,0 +1,7 @@
+// src/main/java/com/example/demo/model/JobType.java
+package com.example.demo.model;
+
+public enum JobType {
+    USER_DELETION,      // Usunięcie użytkownika z jego danymi (targetId = ID użytkownika)
+    TASK_VIEW_REBUILD   // Odbudowa task_view z tabel źródłowych (bez targetId)
+}
@@ -17,5 +17,7 @@ public enum NotificationType {
     NEW_MESSAGE,                // Nowa wiadomość w czacie projektu
     PROJECT_MEMBER_ADDED,       // Dodano Cię do projektu
     TASK_COMMENT_ADDED,         // Nowy komentarz w zadaniu
-    TASK_FILE_UPLOADED          // Nowy plik w zadaniu
+    TASK_FILE_UPLOADED,         // Nowy plik w zadaniu
+    TASK_DEADLINE_APPROACHING,  // Zbliża się termin zadania
+    TASK_OVERDUE                // Termin zadania minął
 }
\ No newline at end of file
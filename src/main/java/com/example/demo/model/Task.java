@@ -1,19 +1,47 @@
 // src/main/java/com/example/demo/model/Task.java
 package com.example.demo.model;
 
+import com.example.demo.service.TaskEntityListener;
+import org.hibernate.annotations.BatchSize;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import org.springframework.format.annotation.DateTimeFormat;
 import java.util.Set;
 import java.util.HashSet;
 
+// Plany pobierania (fetch graphs) dla repozytoriów:
+// task-list   - relacje ManyToOne w jednym zapytaniu; assignedUsers dociągane paczkami (@BatchSize),
+//               bo fetch join kolekcji psuje LIMIT przy stronicowaniu
+// task-detail - jak task-list + assignedUsers w tym samym zapytaniu
 @Entity
+@NamedEntityGraph(name = "task-list", attributeNodes = {
+        @NamedAttributeNode(value = "project", subgraph = "project-summary"),
+        @NamedAttributeNode("assignedTo"),
+        @NamedAttributeNode("createdBy")
+}, subgraphs = @NamedSubgraph(name = "project-summary", attributeNodes = @NamedAttributeNode("createdBy")))
+@NamedEntityGraph(name = "task-detail", attributeNodes = {
+        @NamedAttributeNode(value = "project", subgraph = "project-summary"),
+        @NamedAttributeNode("assignedTo"),
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("assignedUsers")
+}, subgraphs = @NamedSubgraph(name = "project-summary", attributeNodes = @NamedAttributeNode("createdBy")))
+@Table(indexes = {
+        @Index(name = "idx_task_deadline", columnList = "deadline"),
+        @Index(name = "idx_task_overdue", columnList = "overdue"),
+        @Index(name = "idx_task_created", columnList = "created_at, id"),
+        @Index(name = "idx_task_change_seq", columnList = "change_seq")
+})
+@EntityListeners(TaskEntityListener.class)
 public class Task {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+
     private String title;
 
     @Column(length = 1000)
@@ -21,6 +49,8 @@ public class Task {
 
     private String status = "TODO";
 
+    // Jawna nazwa - @Index(columnList) odwołuje się do nazw logicznych kolumn
+    @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
@@ -34,8 +64,10 @@ public class Task {
     @JoinColumn(name = "assigned_to")
     private User assignedTo;
 
-    // ✅ KRYTYCZNE: EAGER fetch żeby zawsze ładować użytkowników
-    @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    // LAZY - repozytoria deklarują potrzebę przez task-list / task-detail;
+    // @BatchSize ładuje przypisanych dla wielu zadań jednym zapytaniem IN
+    @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 100)
     @JoinTable(
             name = "task_users",
             joinColumns = @JoinColumn(name = "task_id"),
@@ -50,6 +82,32 @@ public class Task {
     @JoinColumn(name = "created_by_id")
     private User createdBy;
 
+    // Ostatnia zmiana - ustawiane przez TaskEntityListener przy każdym zapisie encji
+    private LocalDateTime updatedAt;
+
+    @Column(name = "change_seq", nullable = false, columnDefinition = "bigint not null default 0")
+    private long changeSeq;
+
+    // Flagi utrzymywane przez DeadlineScheduler wyłącznie zapytaniami UPDATE -
+    // encja ich nie zapisuje, więc nieaktualna kopia zadania nie nadpisze stanu z bazy
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "boolean not null default false")
+    private boolean overdue;
+
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "boolean not null default false")
+    private boolean deadlineReminderSent;
+
+    // Stan z bazy danych (po odczycie/zapisie) - pozwala wyliczyć różnice przy aktualizacji
+    @Transient
+    private String persistedStatus;
+
+    @Transient
+    private LocalDateTime persistedDeadline;
+
+    @Transient
+    private LocalDateTime persistedCompletedAt;
+
     // Konstruktory
     public Task() {
         this.assignedUsers = new HashSet<>(); // ✅ Zawsze inicjalizuj!
@@ -66,6 +124,8 @@ public class Task {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersion() { return version; }
+
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
@@ -108,6 +168,32 @@ public class Task {
     public User getCreatedBy() { return createdBy; }
     public void setCreatedBy(User createdBy) { this.createdBy = createdBy; }
 
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public long getChangeSeq() { return changeSeq; }
+
+    public void touch(long changeSeq) {
+        this.changeSeq = changeSeq;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isOverdue() { return overdue; }
+
+    public boolean isDeadlineReminderSent() { return deadlineReminderSent; }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedState() {
+        this.persistedStatus = status;
+        this.persistedDeadline = deadline;
+        this.persistedCompletedAt = completedAt;
+    }
+
+    public String persistedStatus() { return persistedStatus; }
+    public LocalDateTime persistedDeadline() { return persistedDeadline; }
+    public LocalDateTime persistedCompletedAt() { return persistedCompletedAt; }
+
     // Metody pomocnicze
     public boolean isAssignedToUser(String username) {
         if (assignedTo != null && assignedTo.getUsername().equals(username)) {
@@ -0,0 +1,44 @@
+// src/main/java/com/example/demo/model/TaskStatCounter.java
+package com.example.demo.model;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "task_stat_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_stat_metric_bucket", columnNames = {"metric", "bucket"}))
+public class TaskStatCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private TaskStatMetric metric;
+
+    @Column(nullable = false, length = 64)
+    private String bucket;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    public TaskStatCounter() {}
+
+    public TaskStatCounter(TaskStatMetric metric, String bucket, long value) {
+        this.metric = metric;
+        this.bucket = bucket;
+        this.value = value;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public TaskStatMetric getMetric() { return metric; }
+    public void setMetric(TaskStatMetric metric) { this.metric = metric; }
+
+    public String getBucket() { return bucket; }
+    public void setBucket(String bucket) { this.bucket = bucket; }
+
+    public long getValue() { return value; }
+    public void setValue(long value) { this.value = value; }
+}
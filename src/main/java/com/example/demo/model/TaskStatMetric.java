@@ -0,0 +1,8 @@
+// src/main/java/com/example/demo/model/TaskStatMetric.java
+package com.example.demo.model;
+
+public enum TaskStatMetric {
+    STATUS,             // Liczba zadań w danym statusie (bucket = status)
+    COMPLETED_DAY,      // Zadania ukończone danego dnia (bucket = yyyy-MM-dd)
+    OPEN_DEADLINE_DAY   // Otwarte zadania z terminem danego dnia (bucket = yyyy-MM-dd)
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/example/demo/model/TaskTombstone.java
+package com.example.demo.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// Ślad po usuniętym zadaniu dla GET /api/v1/tasks/changes - klient usuwa zadanie z lokalnej kopii.
+// Zapisywany razem z usunięciem zadania (BulkDeletionService.deleteTaskDependants), czyszczony po okresie retencji.
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstone_project_seq", columnList = "project_id, change_seq"),
+        @Index(name = "idx_task_tombstone_deleted", columnList = "deleted_at")
+})
+public class TaskTombstone {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TaskTombstone() {}
+
+    public Long getTaskId() { return taskId; }
+
+    public Long getProjectId() { return projectId; }
+
+    public long getChangeSeq() { return changeSeq; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+}
@@ -0,0 +1,149 @@
+// src/main/java/com/example/demo/model/TaskView.java
+package com.example.demo.model;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+// Zdenormalizowany model odczytu listy zadań (task_view) - jeden wiersz na zadanie, bez złączeń
+// z projects/users/comments/uploaded_files. Utrzymywany przez TaskViewService w transakcjach zapisu,
+// odtwarzany w całości zadaniem TASK_VIEW_REBUILD.
+// @DynamicUpdate - liczniki aktualizowane są zapytaniami UPDATE, więc zapis encji nie może ich nadpisać
+@Entity
+@DynamicUpdate
+// Wiersz tablicy Kanban: encja + liczba kart w kolumnie (COUNT(*) OVER) z tego samego zapytania
+@SqlResultSetMapping(name = TaskView.BOARD_CARD_MAPPING,
+        entities = @EntityResult(entityClass = TaskView.class),
+        columns = @ColumnResult(name = "column_total", type = Long.class))
+@Table(name = "task_view", indexes = {
+        @Index(name = "idx_task_view_created", columnList = "created_at, task_id"),
+        @Index(name = "idx_task_view_project", columnList = "project_id, created_at"),
+        @Index(name = "idx_task_view_project_seq", columnList = "project_id, change_seq, task_id"),
+        @Index(name = "idx_task_view_board", columnList = "project_id, status, created_at, task_id")
+})
+public class TaskView {
+
+    public static final String BOARD_CARD_MAPPING = "TaskViewBoardCard";
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    private String status;
+    private String priority;
+
+    // Jawne nazwy kolumn używanych w indeksach - @Index(columnList) odwołuje się do nazw logicznych
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    private LocalDateTime deadline;
+    private LocalDateTime completedAt;
+
+    @Column(name = "project_id")
+    private Long projectId;
+    private String projectName;
+
+    private Long assignedToId;
+    private String assignedToUsername;
+    private String assignedToFullName;
+
+    private Long createdById;
+    private String createdByUsername;
+    private String createdByFullName;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @CollectionTable(name = "task_view_assignees",
+            joinColumns = @JoinColumn(name = "task_id"),
+            indexes = @Index(name = "idx_task_view_assignee_user", columnList = "user_id"))
+    private Set<TaskViewAssignee> assignees = new HashSet<>();
+
+    @Column(nullable = false)
+    private int commentCount;
+
+    @Column(nullable = false)
+    private int fileCount;
+
+    private LocalDateTime updatedAt;
+
+    // Numer zmian (TaskChangeSequence) - podbijany także przez zmiany liczników i nazw, nie tylko zapis zadania
+    @Column(name = "change_seq", nullable = false, columnDefinition = "bigint not null default 0")
+    private long changeSeq;
+
+    public TaskView() {}
+
+    public TaskView(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getTaskId() { return taskId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getDeadline() { return deadline; }
+    public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public String getProjectName() { return projectName; }
+    public void setProjectName(String projectName) { this.projectName = projectName; }
+
+    public Long getAssignedToId() { return assignedToId; }
+    public void setAssignedToId(Long assignedToId) { this.assignedToId = assignedToId; }
+
+    public String getAssignedToUsername() { return assignedToUsername; }
+    public void setAssignedToUsername(String assignedToUsername) { this.assignedToUsername = assignedToUsername; }
+
+    public String getAssignedToFullName() { return assignedToFullName; }
+    public void setAssignedToFullName(String assignedToFullName) { this.assignedToFullName = assignedToFullName; }
+
+    public Long getCreatedById() { return createdById; }
+    public void setCreatedById(Long createdById) { this.createdById = createdById; }
+
+    public String getCreatedByUsername() { return createdByUsername; }
+    public void setCreatedByUsername(String createdByUsername) { this.createdByUsername = createdByUsername; }
+
+    public String getCreatedByFullName() { return createdByFullName; }
+    public void setCreatedByFullName(String createdByFullName) { this.createdByFullName = createdByFullName; }
+
+    public Set<TaskViewAssignee> getAssignees() { return assignees; }
+    public void setAssignees(Set<TaskViewAssignee> assignees) { this.assignees = assignees; }
+
+    public int getCommentCount() { return commentCount; }
+    public void setCommentCount(int commentCount) { this.commentCount = commentCount; }
+
+    public int getFileCount() { return fileCount; }
+    public void setFileCount(int fileCount) { this.fileCount = fileCount; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public long getChangeSeq() { return changeSeq; }
+    public void setChangeSeq(long changeSeq) { this.changeSeq = changeSeq; }
+}
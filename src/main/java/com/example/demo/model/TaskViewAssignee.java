@@ -0,0 +1,45 @@
+// src/main/java/com/example/demo/model/TaskViewAssignee.java
+package com.example.demo.model;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.util.Objects;
+
+// Przypisany użytkownik skopiowany do task_view_assignees (ID + nazwy, bez złączenia z users)
+@Embeddable
+public class TaskViewAssignee {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String username;
+
+    private String fullName;
+
+    public TaskViewAssignee() {}
+
+    public TaskViewAssignee(Long userId, String username, String fullName) {
+        this.userId = userId;
+        this.username = username;
+        this.fullName = fullName;
+    }
+
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public String getFullName() { return fullName; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaskViewAssignee)) return false;
+        TaskViewAssignee that = (TaskViewAssignee) o;
+        return Objects.equals(userId, that.userId)
+                && Objects.equals(username, that.username)
+                && Objects.equals(fullName, that.fullName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, username, fullName);
+    }
+}
@@ -2,12 +2,14 @@
 package com.example.demo.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.BatchSize;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = "user-with-teams", attributeNodes = @NamedAttributeNode("teams"))
 @Table(name = "users")
 @JsonIgnoreProperties({"password", "teams", "tasks", "hibernateLazyInitializer", "handler"})
 public class User {
@@ -16,6 +18,10 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+
     @Column(unique = true)
     private String username;
 
@@ -39,7 +45,10 @@ public class User {
     private LocalDateTime lastLogin;
     private boolean isActive = true;
 
-    @ManyToMany(mappedBy = "members", fetch = FetchType.EAGER)
+    // LAZY - zespoły potrzebne tylko w pełnym UserDto (graf user-with-teams);
+    // użytkownicy osadzeni w zadaniach/komentarzach mapowani są bez zespołów (UserMapper.toSummaryDto)
+    @ManyToMany(mappedBy = "members", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private Set<Team> teams = new HashSet<>();
 
     @ManyToMany(mappedBy = "assignedUsers", cascade = CascadeType.DETACH, fetch = FetchType.LAZY)
@@ -84,6 +93,8 @@ public class User {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersion() { return version; }
+
     public String getUsername() { return username; }
     public void setUsername(String username) { this.username = username; }
 
@@ -0,0 +1,59 @@
+// src/main/java/com/example/demo/repository/ActivityEventRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.ActivityEvent;
+import com.example.demo.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+
+    // Cały system - pierwsza strona i kolejne strony (keyset po createdAt, id)
+    @Query("SELECT a FROM ActivityEvent a LEFT JOIN FETCH a.user ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityEvent> findLatest(Pageable pageable);
+
+    @Query("SELECT a FROM ActivityEvent a LEFT JOIN FETCH a.user " +
+            "WHERE a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityEvent> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // Aktywność użytkownika (indeks user_id, created_at)
+    @Query("SELECT a FROM ActivityEvent a LEFT JOIN FETCH a.user WHERE a.user = :user " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityEvent> findLatestByUser(@Param("user") User user, Pageable pageable);
+
+    @Query("SELECT a FROM ActivityEvent a LEFT JOIN FETCH a.user WHERE a.user = :user " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityEvent> findLatestByUserBefore(@Param("user") User user,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ActivityEvent a WHERE a.user = :user")
+    void deleteByUser(@Param("user") User user);
+
+    // Jednorazowe uzupełnienie historii z istniejących zadań i komentarzy (pusta tabela po wdrożeniu)
+    @Modifying
+    @Query(value = "INSERT INTO activity_events (type, description, user_id, entity_type, entity_id, entity_name, project_id, created_at) " +
+            "SELECT 'TASK_CREATED', LEFT(CONCAT('Utworzono zadanie: ', t.title), 500), t.created_by_id, 'Task', t.id, t.title, t.project_id, t.created_at " +
+            "FROM task t WHERE t.created_at IS NOT NULL", nativeQuery = true)
+    int backfillTaskCreated();
+
+    @Modifying
+    @Query(value = "INSERT INTO activity_events (type, description, user_id, entity_type, entity_id, entity_name, project_id, created_at) " +
+            "SELECT 'COMMENT_ADDED', LEFT(CONCAT('Dodano komentarz do zadania: ', t.title), 500), c.author_id, 'Task', t.id, t.title, t.project_id, c.created_at " +
+            "FROM comments c JOIN task t ON t.id = c.task_id", nativeQuery = true)
+    int backfillCommentsAdded();
+}
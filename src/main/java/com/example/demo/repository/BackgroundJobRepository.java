@@ -0,0 +1,29 @@
+// src/main/java/com/example/demo/repository/BackgroundJobRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.BackgroundJob;
+import com.example.demo.model.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, Long> {
+
+    // Zadania przerwane restartem aplikacji
+    List<BackgroundJob> findByStatusIn(Collection<JobStatus> statuses);
+
+    // Postęp zapisywany bez ładowania encji
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.currentStep = :step, j.stepsCompleted = :stepsCompleted, " +
+            "j.itemsProcessed = :itemsProcessed WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id,
+                       @Param("step") String step,
+                       @Param("stepsCompleted") int stepsCompleted,
+                       @Param("itemsProcessed") long itemsProcessed);
+}
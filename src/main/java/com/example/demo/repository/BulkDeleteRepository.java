@@ -0,0 +1,65 @@
+// src/main/java/com/example/demo/repository/BulkDeleteRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.Project;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+// Usuwanie zbiorowe (SQL) dla projektów i zadań - stała liczba zapytań na paczkę zadań,
+// bez ładowania encji. Omija callbacki JPA (TaskEntityListener) - wywołujący odpowiada za efekty uboczne.
+@Repository
+public interface BulkDeleteRepository extends org.springframework.data.repository.Repository<Project, Long> {
+
+    // Kolejna paczka zadań projektu (usunięte znikają, więc zawsze od początku)
+    @Query(value = "SELECT id FROM task WHERE project_id = :projectId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findTaskIdsByProject(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    // ========== DANE ZALEŻNE OD ZADAŃ ==========
+
+    @Modifying
+    @Query(value = "DELETE FROM status_change_requests WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteStatusChangeRequestsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteCommentsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM uploaded_files WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteFilesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_users WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteAssignmentsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM task WHERE id IN (:taskIds)", nativeQuery = true)
+    int deleteTasksByIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // ========== DANE PROJEKTU ==========
+
+    @Modifying
+    @Query(value = "DELETE FROM messages WHERE project_id = :projectId", nativeQuery = true)
+    int deleteMessagesByProject(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_members WHERE project_id = :projectId", nativeQuery = true)
+    int deleteMembersByProject(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_proposals WHERE project_id = :projectId", nativeQuery = true)
+    int deleteProposalsByProject(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE related_id = :projectId", nativeQuery = true)
+    int deleteNotificationsByRelatedId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :projectId", nativeQuery = true)
+    int deleteProjectById(@Param("projectId") Long projectId);
+}
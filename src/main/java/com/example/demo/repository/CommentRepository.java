@@ -4,12 +4,17 @@ package com.example.demo.repository;
 import com.example.demo.model.Comment;
 import com.example.demo.model.Task;
 import com.example.demo.model.User;
+import com.example.demo.repository.projection.CommentSearchRow;
+import com.example.demo.repository.projection.CommentVersion;
+import com.example.demo.repository.projection.TaskCount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -24,9 +29,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // Podstawowa metoda znajdowania po zadaniu
     List<Comment> findByTask(Task task);
 
+    // Wersje komentarzy zadania i ich autorów (ETag listy)
+    @Query("SELECT c.id AS id, c.version AS version, a.id AS authorId, a.version AS authorVersion " +
+            "FROM Comment c JOIN c.author a WHERE c.task = :task ORDER BY c.id")
+    List<CommentVersion> findVersionsByTask(@Param("task") Task task);
+
     // Policz komentarze dla zadania
     long countByTask(Task task);
 
+    // Liczba komentarzy dla wielu zadań naraz (zadania bez komentarzy nie występują w wyniku)
+    @Query("SELECT c.task.id AS taskId, COUNT(c) AS total FROM Comment c WHERE c.task.id IN :taskIds GROUP BY c.task.id")
+    List<TaskCount> countGroupedByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
     // Usuń wszystkie komentarze dla zadania
     @Modifying
     @Query("DELETE FROM Comment c WHERE c.task = :task")
@@ -39,7 +53,20 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // Podstawowa metoda znajdowania po autorze
     List<Comment> findByAuthor(User author);
 
+    // Policz komentarze użytkownika
+    long countByAuthor(User author);
+
     // Znajdź ostatnie komentarze dla zadania (z limitem)
     @Query("SELECT c FROM Comment c WHERE c.task = :task ORDER BY c.createdAt DESC")
     List<Comment> findRecentByTask(@Param("task") Task task);
-}
\ No newline at end of file
+
+    // Wyniki wyszukiwania - z zadaniem i autorem w jednym zapytaniu
+    @Query("SELECT c FROM Comment c JOIN FETCH c.task JOIN FETCH c.author WHERE c.id IN :ids")
+    List<Comment> findWithTaskAndAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Odbudowa indeksu wyszukiwania - stronicowanie po ID, z projektem zadania (kontrola dostępu)
+    @Query("SELECT c.id AS id, c.version AS version, t.id AS taskId, t.project.id AS projectId, " +
+            "c.author.id AS authorId, c.text AS text FROM Comment c JOIN c.task t " +
+            "WHERE c.id > :afterId ORDER BY c.id")
+    List<CommentSearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+}
@@ -3,6 +3,7 @@ package com.example.demo.repository;
 import com.example.demo.model.Message;
 import com.example.demo.model.Project;
 import com.example.demo.model.User;
+import com.example.demo.repository.projection.MessageSearchRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -29,8 +31,13 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Query("SELECT COUNT(m) FROM Message m WHERE m.project = :project AND m.createdAt > :lastRead")
     long countUnreadMessages(@Param("project") Project project, @Param("lastRead") LocalDateTime lastRead);
 
-    @Query("SELECT m FROM Message m WHERE m.project = :project AND LOWER(m.content) LIKE LOWER(CONCAT('%', :searchTerm, '%')) ORDER BY m.createdAt DESC")
-    List<Message> findByProjectAndContentContainingIgnoreCase(@Param("project") Project project, @Param("searchTerm") String searchTerm);
+    // Odbudowa MessageSearchIndex - strony po ID
+    @Query("SELECT m.id AS id, m.project.id AS projectId, m.content AS content FROM Message m " +
+            "WHERE m.id > :afterId ORDER BY m.id")
+    List<MessageSearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT m FROM Message m LEFT JOIN FETCH m.author WHERE m.id IN :ids")
+    List<Message> findWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
 
     // NOWA METODA dla usuwania projektów
     @Modifying
@@ -4,6 +4,7 @@ package com.example.demo.repository;
 import com.example.demo.model.Notification;
 import com.example.demo.model.User;
 import com.example.demo.model.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -24,6 +25,12 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user = :user AND n.isRead = false")
     long countUnreadByUser(@Param("user") User user);
 
+    // Strumień powiadomień: odtworzenie po Last-Event-ID i licznik nieprzeczytanych bez ładowania użytkownika
+    List<Notification> findByUser_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
     // Metoda dla usuwania projektów
     @Modifying
     @Query("DELETE FROM Notification n WHERE n.relatedId = :relatedId")
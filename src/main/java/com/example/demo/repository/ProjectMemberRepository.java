@@ -4,12 +4,15 @@ import com.example.demo.model.Project;
 import com.example.demo.model.ProjectMember;
 import com.example.demo.model.ProjectRole;
 import com.example.demo.model.User;
+import com.example.demo.repository.projection.MembershipRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,18 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     Optional<ProjectMember> findByProjectAndUser(Project project, User user);
     List<ProjectMember> findByProjectAndRole(Project project, ProjectRole role);
 
+    // Członkostwa użytkownika w wielu projektach naraz (operacje zbiorcze)
+    List<ProjectMember> findByUserAndProjectIn(User user, Collection<Project> projects);
+
+    // Same ID projektów użytkownika - filtr dostępu, zanim ProjectVisibility załaduje członkostwa
+    @Query("SELECT pm.project.id FROM ProjectMember pm WHERE pm.user.id = :userId")
+    List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
+
+    // Ładowanie członkostw do ProjectVisibility - stronicowanie po ID
+    @Query("SELECT pm.id AS id, pm.project.id AS projectId, pm.user.id AS userId FROM ProjectMember pm " +
+            "WHERE pm.id > :afterId ORDER BY pm.id")
+    List<MembershipRow> findMembershipRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
     // NOWE METODY dla usuwania projektów
     @Modifying
     @Query("DELETE FROM ProjectMember pm WHERE pm.project = :project")
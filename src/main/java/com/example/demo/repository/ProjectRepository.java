@@ -2,7 +2,11 @@ package com.example.demo.repository;
 
 import com.example.demo.model.Project;
 import com.example.demo.model.User;
+import com.example.demo.repository.projection.ProjectSearchRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +19,8 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByCreatedBy(User createdBy);
     Optional<Project> findByName(String name);
 
-}
\ No newline at end of file
+    // Odbudowa indeksu wyszukiwania - stronicowanie po ID
+    @Query("SELECT p.id AS id, p.version AS version, p.name AS name, p.description AS description, " +
+            "p.createdAt AS createdAt FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<ProjectSearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+}
@@ -0,0 +1,53 @@
+// src/main/java/com/example/demo/repository/StatsAggregateRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.TaskStatCounter;
+import com.example.demo.repository.projection.StatRow;
+import com.example.demo.repository.projection.SystemCounts;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Zapytania agregujące dla panelu admina - całe StatsDto w dwóch zapytaniach
+@Repository
+public interface StatsAggregateRepository extends org.springframework.data.repository.Repository<TaskStatCounter, Long> {
+
+    @Query(value = "SELECT " +
+            "(SELECT COUNT(*) FROM users) AS totalUsers, " +
+            "(SELECT COUNT(*) FROM users WHERE is_active = 1) AS activeUsers, " +
+            "(SELECT COUNT(*) FROM projects) AS totalProjects, " +
+            "(SELECT COUNT(*) FROM teams) AS totalTeams, " +
+            "(SELECT COUNT(*) FROM comments) AS totalComments, " +
+            "(SELECT COUNT(*) FROM uploaded_files) AS totalFiles",
+            nativeQuery = true)
+    SystemCounts loadSystemCounts();
+
+    // Liczniki statusów + przeterminowane (kubełki z poprzednich dni i dzisiejsze terminy) + ukończone w okresach.
+    // Statusy czytane z task_stat_counters (TaskStatsService), a nie GROUP BY status po task: koszt stały (kilka
+    // wierszy) zamiast skanu indeksu status przy każdym odświeżeniu panelu. Cena: liczby są tak dokładne jak
+    // liczniki - zapis omijający TaskEntityListener (ręczny SQL na bazie) jest widoczny dopiero po reconcile()
+    // (stats.reconcile.interval-ms), który sam wykonuje GROUP BY status.
+    @Query(value = "SELECT 'STATUS' AS kind, bucket AS bucket, counter_value AS total " +
+            "FROM task_stat_counters WHERE metric = 'STATUS' " +
+            "UNION ALL " +
+            "SELECT 'OVERDUE', NULL, CAST(COALESCE(SUM(counter_value), 0) AS SIGNED) " +
+            "FROM task_stat_counters WHERE metric = 'OPEN_DEADLINE_DAY' AND bucket < :today " +
+            "UNION ALL " +
+            "SELECT 'OVERDUE', NULL, COUNT(*) FROM task " +
+            "WHERE deadline >= :todayStart AND deadline < :now AND status NOT IN ('COMPLETED', 'DONE', 'CANCELLED') " +
+            "UNION ALL " +
+            "SELECT 'COMPLETED_WEEK', NULL, CAST(COALESCE(SUM(counter_value), 0) AS SIGNED) " +
+            "FROM task_stat_counters WHERE metric = 'COMPLETED_DAY' AND bucket >= :weekStart " +
+            "UNION ALL " +
+            "SELECT 'COMPLETED_MONTH', NULL, CAST(COALESCE(SUM(counter_value), 0) AS SIGNED) " +
+            "FROM task_stat_counters WHERE metric = 'COMPLETED_DAY' AND bucket >= :monthStart",
+            nativeQuery = true)
+    List<StatRow> loadTaskStats(@Param("today") String today,
+                                @Param("todayStart") LocalDateTime todayStart,
+                                @Param("now") LocalDateTime now,
+                                @Param("weekStart") String weekStart,
+                                @Param("monthStart") String monthStart);
+}
@@ -4,27 +4,53 @@ package com.example.demo.repository;
 import com.example.demo.model.Project;
 import com.example.demo.model.Task;
 import com.example.demo.model.User;
+import com.example.demo.repository.projection.AssignedTaskCounts;
+import com.example.demo.repository.projection.BucketCount;
+import com.example.demo.repository.projection.ProjectTaskCounts;
+import com.example.demo.repository.projection.TaskAssigneeRow;
+import com.example.demo.repository.projection.TaskFacetRow;
+import com.example.demo.repository.projection.TaskSearchRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    // Szczegóły zadania - z przypisanymi użytkownikami w jednym zapytaniu
+    @Override
+    @EntityGraph("task-detail")
+    Optional<Task> findById(Long id);
+
     // Znajdź zadania po projekcie
+    @EntityGraph("task-list")
     List<Task> findByProject(Project project);
 
+    // Partia zadań po ID (operacje zbiorcze)
+    @EntityGraph("task-list")
+    List<Task> findByIdIn(Collection<Long> ids);
+
     // Znajdź zadania przypisane do użytkownika (single assignment)
+    @EntityGraph("task-list")
     List<Task> findByAssignedTo(User user);
 
     // Znajdź zadania przypisane do użytkownika (many-to-many)
+    @EntityGraph("task-list")
     List<Task> findByAssignedUsersContaining(User user);
 
     // Znajdź zadania utworzone przez użytkownika
+    @EntityGraph("task-list")
     List<Task> findByCreatedBy(User user);
 
     // Policz zadania po statusie
@@ -37,6 +63,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByPriority(String priority);
 
     // Znajdź zadania po projekcie i statusie
+    @EntityGraph("task-list")
     List<Task> findByProjectAndStatus(Project project, String status);
 
     // Znajdź przeterminowane zadania
@@ -51,9 +78,78 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t WHERE t.deadline BETWEEN :start AND :end")
     List<Task> findByDeadlineBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    // ========== FLAGI TERMINÓW (DeadlineScheduler) ==========
+
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = :overdue WHERE t.id IN :ids")
+    int updateOverdue(@Param("ids") Collection<Long> ids, @Param("overdue") boolean overdue);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.deadlineReminderSent = :sent WHERE t.id IN :ids")
+    int updateDeadlineReminderSent(@Param("ids") Collection<Long> ids, @Param("sent") boolean sent);
+
+    // Rekoncyliacja flagi overdue z terminów i statusów (korzysta z idx_task_deadline / idx_task_overdue)
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true WHERE t.overdue = false AND t.deadline < :now " +
+            "AND t.status NOT IN ('COMPLETED', 'DONE', 'CANCELLED')")
+    int markOverdueBefore(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = false WHERE t.overdue = true AND (t.deadline IS NULL OR t.deadline >= :now " +
+            "OR t.status IN ('COMPLETED', 'DONE', 'CANCELLED'))")
+    int clearOverdueNotBefore(@Param("now") LocalDateTime now);
+
     // Policz zadania w projekcie
     long countByProject(Project project);
 
     // Policz zadania przypisane do użytkownika
     long countByAssignedUsersContaining(User user);
-}
\ No newline at end of file
+
+    // ID użytkowników przypisanych do zadania (stan w bazie)
+    // Bez auto-flush - w transakcji zapisu musimy odczytać stan sprzed zmian w encji
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    @Query("SELECT u.id FROM Task t JOIN t.assignedUsers u WHERE t.id = :taskId")
+    List<Long> findAssignedUserIds(@Param("taskId") Long taskId);
+
+    // Policz zadania utworzone przez użytkownika
+    long countByCreatedBy(User user);
+
+    // Przypisane / ukończone / przeterminowane / liczba projektów - dla statystyk użytkownika
+    @Query("SELECT COUNT(t) AS assigned, " +
+            "SUM(CASE WHEN t.status IN ('COMPLETED', 'DONE') THEN 1 ELSE 0 END) AS completed, " +
+            "SUM(CASE WHEN t.overdue = true THEN 1 ELSE 0 END) AS overdue, " +
+            "COUNT(DISTINCT t.project.id) AS projects " +
+            "FROM Task t JOIN t.assignedUsers u WHERE u = :user")
+    AssignedTaskCounts countAssignedTaskStats(@Param("user") User user);
+
+    @Query("SELECT COUNT(t) AS total, " +
+            "SUM(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed " +
+            "FROM Task t WHERE t.project = :project")
+    ProjectTaskCounts countProjectTaskStats(@Param("project") Project project);
+
+    // Zapytania agregujące dla rekoncyliacji liczników statystyk
+    @Query("SELECT t.status AS bucket, COUNT(t) AS total FROM Task t GROUP BY t.status")
+    List<BucketCount> countGroupedByStatus();
+
+    @Query(value = "SELECT DATE_FORMAT(completed_at, '%Y-%m-%d') AS bucket, COUNT(*) AS total FROM task " +
+            "WHERE status IN ('COMPLETED', 'DONE') AND completed_at IS NOT NULL GROUP BY bucket", nativeQuery = true)
+    List<BucketCount> countCompletedGroupedByDay();
+
+    @Query(value = "SELECT DATE_FORMAT(deadline, '%Y-%m-%d') AS bucket, COUNT(*) AS total FROM task " +
+            "WHERE deadline IS NOT NULL AND status NOT IN ('COMPLETED', 'DONE', 'CANCELLED') GROUP BY bucket", nativeQuery = true)
+    List<BucketCount> countOpenGroupedByDeadlineDay();
+
+    // Odbudowa indeksu wyszukiwania - stronicowanie po ID
+    @Query("SELECT t.id AS id, t.version AS version, t.project.id AS projectId, t.title AS title, " +
+            "t.description AS description, t.createdAt AS createdAt, t.updatedAt AS updatedAt " +
+            "FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskSearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    // Odbudowa indeksu faset: pola zadań stronami po ID i przypisani użytkownicy zadań ze strony
+    @Query("SELECT t.id AS id, t.version AS version, t.status AS status, t.priority AS priority, " +
+            "t.project.id AS projectId FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskFacetRow> findFacetRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT t.id AS taskId, u.id AS userId FROM Task t JOIN t.assignedUsers u WHERE t.id IN :taskIds")
+    List<TaskAssigneeRow> findAssigneeRows(@Param("taskIds") Collection<Long> taskIds);
+}
@@ -0,0 +1,19 @@
+// src/main/java/com/example/demo/repository/TaskStatCounterRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.TaskStatCounter;
+import com.example.demo.model.TaskStatMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskStatCounterRepository extends JpaRepository<TaskStatCounter, Long> {
+
+    // Atomowa zmiana licznika - zwraca 0 jeśli kubełek jeszcze nie istnieje
+    @Modifying
+    @Query("UPDATE TaskStatCounter c SET c.value = c.value + :delta WHERE c.metric = :metric AND c.bucket = :bucket")
+    int increment(@Param("metric") TaskStatMetric metric, @Param("bucket") String bucket, @Param("delta") long delta);
+}
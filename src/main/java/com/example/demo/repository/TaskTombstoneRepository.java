@@ -0,0 +1,41 @@
+// src/main/java/com/example/demo/repository/TaskTombstoneRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.TaskTombstone;
+import com.example.demo.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    // Ślady dla zadań, które jeszcze istnieją - przed DELETE FROM task w tej samej transakcji
+    @Modifying
+    @Query(value = "INSERT INTO task_tombstones (task_id, project_id, change_seq, deleted_at) " +
+            "SELECT t.id, t.project_id, :seq, NOW() FROM task t WHERE t.id IN (:taskIds)", nativeQuery = true)
+    int insertForTasks(@Param("taskIds") Collection<Long> taskIds, @Param("seq") long seq);
+
+    @Query("SELECT t FROM TaskTombstone t WHERE t.projectId IN " +
+            "(SELECT m.project.id FROM ProjectMember m WHERE m.user = :user) " +
+            "AND (t.changeSeq > :seq OR (t.changeSeq = :seq AND t.taskId > :taskId)) " +
+            "ORDER BY t.changeSeq, t.taskId")
+    List<TaskTombstone> findDeletedSince(@Param("user") User user,
+                                         @Param("seq") long seq,
+                                         @Param("taskId") long taskId,
+                                         Pageable pageable);
+
+    @Query("SELECT MAX(t.changeSeq) FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    Long findMaxChangeSeqDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.changeSeq <= :seq")
+    int deleteUpToChangeSeq(@Param("seq") long seq);
+}
@@ -0,0 +1,31 @@
+// src/main/java/com/example/demo/repository/TaskViewQueryRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.TaskView;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Fragment TaskViewRepository - strona zadań bez zapytania COUNT (findAll(spec, pageable) zawsze liczy całość)
+public interface TaskViewQueryRepository {
+
+    // Najnowsze zadania spełniające warunek, kolejność (createdAt DESC, taskId DESC), najwyżej limit wierszy
+    List<TaskView> findLatest(Specification<TaskView> spec, int limit);
+
+    // Tablica Kanban projektu: w każdej kolumnie (status) najwyżej perColumn najnowszych kart
+    // wraz z liczbą wszystkich kart kolumny - jedno zapytanie z funkcjami okna
+    List<BoardCard> findBoardCards(Long projectId, int perColumn);
+
+    class BoardCard {
+        private final TaskView view;
+        private final long columnTotal;
+
+        public BoardCard(TaskView view, long columnTotal) {
+            this.view = view;
+            this.columnTotal = columnTotal;
+        }
+
+        public TaskView getView() { return view; }
+        public long getColumnTotal() { return columnTotal; }
+    }
+}
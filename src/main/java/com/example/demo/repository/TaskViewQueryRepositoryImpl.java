@@ -0,0 +1,60 @@
+// src/main/java/com/example/demo/repository/TaskViewQueryRepositoryImpl.java
+package com.example.demo.repository;
+
+import com.example.demo.model.TaskView;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TaskViewQueryRepositoryImpl implements TaskViewQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findLatest(Specification<TaskView> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<TaskView> root = query.from(TaskView.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("taskId")));
+
+        // Jedna tabela - LIMIT w SQL; assignees dociągane paczkami przez @BatchSize
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // ROW_NUMBER w kolejności listy zadań (createdAt DESC, taskId DESC) - kursor kolumny to zwykły KeysetCursor
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BoardCard> findBoardCards(Long projectId, int perColumn) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT ranked.* FROM (" +
+                                "SELECT v.*, " +
+                                "ROW_NUMBER() OVER (PARTITION BY v.status ORDER BY v.created_at DESC, v.task_id DESC) AS column_rank, " +
+                                "COUNT(*) OVER (PARTITION BY v.status) AS column_total " +
+                                "FROM task_view v WHERE v.project_id = :projectId" +
+                                ") ranked WHERE ranked.column_rank <= :perColumn " +
+                                "ORDER BY ranked.status, ranked.column_rank",
+                        TaskView.BOARD_CARD_MAPPING)
+                .setParameter("projectId", projectId)
+                .setParameter("perColumn", perColumn)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new BoardCard((TaskView) row[0], ((Number) row[1]).longValue()))
+                .collect(Collectors.toList());
+    }
+}
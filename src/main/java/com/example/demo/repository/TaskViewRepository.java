@@ -0,0 +1,154 @@
+// src/main/java/com/example/demo/repository/TaskViewRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.TaskView;
+import com.example.demo.model.User;
+import com.example.demo.repository.projection.TaskExportRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface TaskViewRepository extends JpaRepository<TaskView, Long>,
+        JpaSpecificationExecutor<TaskView>, TaskViewQueryRepository {
+
+    // Eksport zadań projektu - wiersze czytane strumieniowo (fetch size MIN_VALUE = streaming w MySQL Connector/J),
+    // projekcja bez encji, więc kontekst persystencji nie rośnie. Wymaga otwartej transakcji.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query(value = "SELECT v.task_id AS taskId, v.title AS title, v.description AS description, " +
+            "v.status AS status, v.priority AS priority, v.created_at AS createdAt, v.deadline AS deadline, " +
+            "v.completed_at AS completedAt, v.assigned_to_username AS assignedTo, " +
+            "(SELECT GROUP_CONCAT(a.username ORDER BY a.username SEPARATOR ';') " +
+            "FROM task_view_assignees a WHERE a.task_id = v.task_id) AS assignees, " +
+            "v.comment_count AS commentCount, v.file_count AS fileCount " +
+            "FROM task_view v WHERE v.project_id = :projectId ORDER BY v.task_id", nativeQuery = true)
+    Stream<TaskExportRow> streamExportRows(@Param("projectId") Long projectId);
+
+    // Synchronizacja przyrostowa: wiersze z projektów użytkownika zmienione po pozycji (seq, taskId)
+    @Query("SELECT v FROM TaskView v WHERE v.projectId IN " +
+            "(SELECT m.project.id FROM ProjectMember m WHERE m.user = :user) " +
+            "AND (v.changeSeq > :seq OR (v.changeSeq = :seq AND v.taskId > :taskId)) " +
+            "ORDER BY v.changeSeq, v.taskId")
+    List<TaskView> findChangedSince(@Param("user") User user,
+                                    @Param("seq") long seq,
+                                    @Param("taskId") long taskId,
+                                    Pageable pageable);
+
+    @Query("SELECT v.changeSeq FROM TaskView v WHERE v.taskId = :taskId")
+    Long findChangeSeq(@Param("taskId") Long taskId);
+
+    // ========== UTRZYMANIE W TRANSAKCJACH ZAPISU ==========
+
+    // Liczniki przeliczane w SQL - flush, żeby policzyć także niezapisane jeszcze komentarze/pliki
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE task_view v SET " +
+            "v.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.task_id = v.task_id), " +
+            "v.file_count = (SELECT COUNT(*) FROM uploaded_files f WHERE f.task_id = v.task_id), " +
+            "v.change_seq = :seq " +
+            "WHERE v.task_id IN (:taskIds)", nativeQuery = true)
+    int refreshCounts(@Param("taskIds") Collection<Long> taskIds, @Param("seq") long seq);
+
+    @Modifying
+    @Query("UPDATE TaskView v SET v.projectName = :name, v.changeSeq = :seq WHERE v.projectId = :projectId")
+    int updateProjectName(@Param("projectId") Long projectId, @Param("name") String name, @Param("seq") long seq);
+
+    @Modifying
+    @Query("UPDATE TaskView v SET v.assignedToUsername = :username, v.assignedToFullName = :fullName, " +
+            "v.changeSeq = :seq WHERE v.assignedToId = :userId")
+    int updateAssignedToNames(@Param("userId") Long userId,
+                              @Param("username") String username,
+                              @Param("fullName") String fullName,
+                              @Param("seq") long seq);
+
+    @Modifying
+    @Query("UPDATE TaskView v SET v.createdByUsername = :username, v.createdByFullName = :fullName, " +
+            "v.changeSeq = :seq WHERE v.createdById = :userId")
+    int updateCreatedByNames(@Param("userId") Long userId,
+                             @Param("username") String username,
+                             @Param("fullName") String fullName,
+                             @Param("seq") long seq);
+
+    // Wiersze z użytkownikiem na liście przypisanych - nazwy zmieniane są w task_view_assignees
+    @Modifying
+    @Query(value = "UPDATE task_view SET change_seq = :seq WHERE task_id IN " +
+            "(SELECT a.task_id FROM task_view_assignees a WHERE a.user_id = :userId)", nativeQuery = true)
+    int touchByAssignee(@Param("userId") Long userId, @Param("seq") long seq);
+
+    @Modifying
+    @Query(value = "UPDATE task_view SET change_seq = :seq WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int touch(@Param("taskIds") Collection<Long> taskIds, @Param("seq") long seq);
+
+    @Modifying
+    @Query(value = "UPDATE task_view_assignees SET username = :username, full_name = :fullName " +
+            "WHERE user_id = :userId", nativeQuery = true)
+    int updateAssigneeNames(@Param("userId") Long userId,
+                            @Param("username") String username,
+                            @Param("fullName") String fullName);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_view_assignees WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteAssigneesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_view WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // ========== ODBUDOWA Z TABEL ŹRÓDŁOWYCH (zakresami ID zadań) ==========
+
+    @Query(value = "SELECT MIN(id) FROM task", nativeQuery = true)
+    Long findMinTaskId();
+
+    @Query(value = "SELECT MAX(id) FROM task", nativeQuery = true)
+    Long findMaxTaskId();
+
+    @Modifying
+    @Query(value = "DELETE FROM task_view_assignees WHERE task_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int deleteAssigneesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_view WHERE task_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int deleteInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_view (task_id, title, description, status, priority, created_at, deadline, " +
+            "completed_at, project_id, project_name, assigned_to_id, assigned_to_username, assigned_to_full_name, " +
+            "created_by_id, created_by_username, created_by_full_name, comment_count, file_count, " +
+            "updated_at, change_seq) " +
+            "SELECT t.id, t.title, t.description, t.status, t.priority, t.created_at, t.deadline, t.completed_at, " +
+            "p.id, p.name, a.id, a.username, a.full_name, cb.id, cb.username, cb.full_name, " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.task_id = t.id), " +
+            "(SELECT COUNT(*) FROM uploaded_files f WHERE f.task_id = t.id), " +
+            "t.updated_at, t.change_seq " +
+            "FROM task t " +
+            "LEFT JOIN projects p ON p.id = t.project_id " +
+            "LEFT JOIN users a ON a.id = t.assigned_to " +
+            "LEFT JOIN users cb ON cb.id = t.created_by_id " +
+            "WHERE t.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int insertRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_view_assignees (task_id, user_id, username, full_name) " +
+            "SELECT tu.task_id, u.id, u.username, u.full_name FROM task_users tu " +
+            "JOIN users u ON u.id = tu.user_id " +
+            "WHERE tu.task_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int insertAssigneesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Wiersze poza zakresem ID istniejących zadań (zadania usunięte od ostatniej odbudowy)
+    @Modifying
+    @Query(value = "DELETE FROM task_view_assignees WHERE task_id < :minId OR task_id > :maxId", nativeQuery = true)
+    int deleteAssigneesOutsideRange(@Param("minId") Long minId, @Param("maxId") Long maxId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_view WHERE task_id < :minId OR task_id > :maxId", nativeQuery = true)
+    int deleteOutsideRange(@Param("minId") Long minId, @Param("maxId") Long maxId);
+}
@@ -0,0 +1,58 @@
+// src/main/java/com/example/demo/repository/TaskViewSpecifications.java
+package com.example.demo.repository;
+
+import com.example.demo.model.ProjectMember;
+import com.example.demo.model.TaskView;
+import com.example.demo.model.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+
+// Warunki listy zadań na task_view składane w jedno zapytanie SQL (filtrowanie po stronie bazy)
+public final class TaskViewSpecifications {
+
+    private TaskViewSpecifications() {}
+
+    public static Specification<TaskView> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("projectId"), projectId);
+    }
+
+    // Podzapytanie po task_view_assignees (indeks user_id), bez duplikatów wierszy
+    public static Specification<TaskView> assignedTo(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> assigned = query.subquery(Long.class);
+            Root<TaskView> view = assigned.from(TaskView.class);
+            assigned.select(view.get("taskId"))
+                    .where(cb.equal(view.join("assignees").get("userId"), userId));
+            return root.get("taskId").in(assigned);
+        };
+    }
+
+    // Zadania ze wszystkich projektów, których użytkownik jest członkiem
+    public static Specification<TaskView> inProjectsOf(User user) {
+        return (root, query, cb) -> {
+            Subquery<Long> memberProjects = query.subquery(Long.class);
+            Root<ProjectMember> member = memberProjects.from(ProjectMember.class);
+            memberProjects.select(member.get("project").get("id"))
+                    .where(cb.equal(member.get("user"), user));
+            return root.get("projectId").in(memberProjects);
+        };
+    }
+
+    public static Specification<TaskView> hasStatus(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<TaskView> hasPriority(String priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    // Keyset: wiersze za kursorem w kolejności (createdAt DESC, taskId DESC)
+    public static Specification<TaskView> createdBefore(LocalDateTime createdAt, Long taskId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("taskId"), taskId)));
+    }
+}
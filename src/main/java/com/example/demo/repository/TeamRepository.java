@@ -16,6 +16,9 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     // bo w modelu Team pole nazywa się "members"
     List<Team> findByMembersContaining(User user);
 
+    // Policz zespoły użytkownika
+    long countByMembersContaining(User user);
+
     // Znajdź zespoły utworzone przez użytkownika
     List<Team> findByCreatedBy(User user);
 
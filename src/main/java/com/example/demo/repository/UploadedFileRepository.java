@@ -4,12 +4,14 @@ package com.example.demo.repository;
 import com.example.demo.model.Task;
 import com.example.demo.model.UploadedFile;
 import com.example.demo.model.User;
+import com.example.demo.repository.projection.TaskCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -27,6 +29,10 @@ public interface UploadedFileRepository extends JpaRepository<UploadedFile, Long
     // Policz pliki dla zadania
     long countByTask(Task task);
 
+    // Liczba plików dla wielu zadań naraz (zadania bez plików nie występują w wyniku)
+    @Query("SELECT f.task.id AS taskId, COUNT(f) AS total FROM UploadedFile f WHERE f.task.id IN :taskIds GROUP BY f.task.id")
+    List<TaskCount> countGroupedByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
     // Usuń wszystkie pliki dla zadania
     @Modifying
     @Query("DELETE FROM UploadedFile f WHERE f.task = :task")
@@ -0,0 +1,112 @@
+// src/main/java/com/example/demo/repository/UserCleanupRepository.java
+package com.example.demo.repository;
+
+import com.example.demo.model.User;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Sprzątanie danych usuwanego użytkownika - zbiorowe DELETE/UPDATE ograniczone LIMIT,
+// wołane w pętli aż do wyniku < limit (krótkie transakcje, koszt zależny od danych użytkownika).
+// Omijają callbacki JPA - UserDeletionJob odpowiada za liczniki i cache.
+@Repository
+public interface UserCleanupRepository extends org.springframework.data.repository.Repository<User, Long> {
+
+    // Zadania z komentarzami lub plikami użytkownika - ich liczniki w task_view do przeliczenia po usunięciu
+    @Query(value = "SELECT task_id FROM comments WHERE author_id = :userId AND task_id IS NOT NULL " +
+            "UNION SELECT task_id FROM uploaded_files WHERE uploaded_by = :userId AND task_id IS NOT NULL",
+            nativeQuery = true)
+    List<Long> findTaskIdsWithContentBy(@Param("userId") Long userId);
+
+    // Zadania wskazujące użytkownika (przypisanie, autor) - ich wiersze task_view zmieniają się w kroku TASKS
+    @Query(value = "SELECT task_id FROM task_users WHERE user_id = :userId " +
+            "UNION SELECT id FROM task WHERE assigned_to = :userId " +
+            "UNION SELECT id FROM task WHERE created_by_id = :userId",
+            nativeQuery = true)
+    List<Long> findTaskIdsReferencing(@Param("userId") Long userId);
+
+    // ========== USUWANIE ==========
+
+    @Modifying
+    @Query(value = "DELETE FROM task_users WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteTaskAssignments(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_view_assignees WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteTaskViewAssignees(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE author_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteComments(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM uploaded_files WHERE uploaded_by = :userId LIMIT :limit", nativeQuery = true)
+    int deleteFiles(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteNotifications(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM activity_events WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteActivityEvents(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM team_members WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteTeamMemberships(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_members WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteProjectMemberships(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM status_change_requests WHERE requested_by_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteStatusChangeRequests(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_proposals WHERE proposed_by_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteTaskProposals(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // ========== ODPINANIE REFERENCJI (dane innych użytkowników zostają) ==========
+
+    @Modifying
+    @Query(value = "UPDATE task SET assigned_to = NULL, version = version + 1 WHERE assigned_to = :userId LIMIT :limit", nativeQuery = true)
+    int clearTaskAssignee(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE task SET created_by_id = NULL, version = version + 1 WHERE created_by_id = :userId LIMIT :limit", nativeQuery = true)
+    int clearTaskCreator(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE task_view SET assigned_to_id = NULL, assigned_to_username = NULL, assigned_to_full_name = NULL " +
+            "WHERE assigned_to_id = :userId LIMIT :limit", nativeQuery = true)
+    int clearTaskViewAssignee(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE task_view SET created_by_id = NULL, created_by_username = NULL, created_by_full_name = NULL " +
+            "WHERE created_by_id = :userId LIMIT :limit", nativeQuery = true)
+    int clearTaskViewCreator(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE messages SET author_id = NULL WHERE author_id = :userId LIMIT :limit", nativeQuery = true)
+    int clearMessageAuthor(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE teams SET created_by = NULL WHERE created_by = :userId LIMIT :limit", nativeQuery = true)
+    int clearTeamCreator(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE status_change_requests SET reviewed_by_id = NULL WHERE reviewed_by_id = :userId LIMIT :limit", nativeQuery = true)
+    int clearStatusChangeReviewer(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE task_proposals SET reviewed_by_id = NULL WHERE reviewed_by_id = :userId LIMIT :limit", nativeQuery = true)
+    int clearTaskProposalReviewer(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id = :userId", nativeQuery = true)
+    int deleteUser(@Param("userId") Long userId);
+}
@@ -3,18 +3,32 @@ package com.example.demo.repository;
 
 import com.example.demo.model.SystemRole;
 import com.example.demo.model.User;
+import com.example.demo.repository.projection.UserSearchRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Listy użytkowników mapowane do pełnego UserDto (z zespołami)
+    @Override
+    @EntityGraph("user-with-teams")
+    List<User> findAll();
+
     // Istniejące metody
     Optional<User> findByUsername(String username);
 
+    // Wielu użytkowników po nazwie jednym zapytaniem (import zadań)
+    List<User> findByUsernameIn(Collection<String> usernames);
+
     // POPRAWIONE NAZWY - pasują do pola 'isActive' w modelu User
     List<User> findByIsActiveTrue();
     List<User> findByIsActiveFalse();
@@ -23,4 +37,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByIsActiveTrue();
     boolean existsByUsername(String username);
     long countBySystemRole(SystemRole systemRole);
-}
\ No newline at end of file
+
+    // Odbudowa indeksu wyszukiwania - stronicowanie po ID, bez ładowania awatarów
+    @Query("SELECT u.id AS id, u.version AS version, u.username AS username, u.email AS email, " +
+            "u.fullName AS fullName, u.isActive AS active, u.lastLogin AS lastLogin, u.createdAt AS createdAt " +
+            "FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserSearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/example/demo/repository/projection/AssignedTaskCounts.java
+package com.example.demo.repository.projection;
+
+// Agregaty zadań przypisanych do użytkownika (jedno zapytanie zamiast ładowania listy zadań)
+public interface AssignedTaskCounts {
+    Long getAssigned();
+    Long getCompleted();
+    Long getOverdue();
+    Long getProjects();
+}
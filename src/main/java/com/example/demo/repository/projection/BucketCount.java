@@ -0,0 +1,8 @@
+// src/main/java/com/example/demo/repository/projection/BucketCount.java
+package com.example.demo.repository.projection;
+
+// Wynik zapytań GROUP BY: klucz grupy + liczba wierszy
+public interface BucketCount {
+    String getBucket();
+    Long getTotal();
+}
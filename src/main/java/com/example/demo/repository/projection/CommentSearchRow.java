@@ -0,0 +1,12 @@
+// src/main/java/com/example/demo/repository/projection/CommentSearchRow.java
+package com.example.demo.repository.projection;
+
+// Pola komentarza indeksowane przez SearchIndex - projekt zadania potrzebny do kontroli dostępu
+public interface CommentSearchRow {
+    Long getId();
+    Long getVersion();
+    Long getTaskId();
+    Long getProjectId();
+    Long getAuthorId();
+    String getText();
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/example/demo/repository/projection/CommentVersion.java
+package com.example.demo.repository.projection;
+
+// Wersja komentarza i jego autora - składniki ETag listy komentarzy (bez ładowania treści)
+public interface CommentVersion {
+    Long getId();
+    Long getVersion();
+    Long getAuthorId();
+    Long getAuthorVersion();
+}
@@ -0,0 +1,9 @@
+// src/main/java/com/example/demo/repository/projection/MembershipRow.java
+package com.example.demo.repository.projection;
+
+// Członkostwo w projekcie jako para ID - ładowanie członkostw do ProjectVisibility
+public interface MembershipRow {
+    Long getId();
+    Long getProjectId();
+    Long getUserId();
+}
@@ -0,0 +1,9 @@
+// src/main/java/com/example/demo/repository/projection/MessageSearchRow.java
+package com.example.demo.repository.projection;
+
+// Pola wiadomości indeksowane przez MessageSearchIndex
+public interface MessageSearchRow {
+    Long getId();
+    Long getProjectId();
+    String getContent();
+}
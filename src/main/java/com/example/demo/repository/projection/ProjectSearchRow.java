@@ -0,0 +1,13 @@
+// src/main/java/com/example/demo/repository/projection/ProjectSearchRow.java
+package com.example.demo.repository.projection;
+
+import java.time.LocalDateTime;
+
+// Pola projektu indeksowane przez SearchIndex i SuggestIndex
+public interface ProjectSearchRow {
+    Long getId();
+    Long getVersion();
+    String getName();
+    String getDescription();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/example/demo/repository/projection/ProjectTaskCounts.java
+package com.example.demo.repository.projection;
+
+// Liczba zadań projektu i ukończonych (status COMPLETED) - jedno zapytanie zamiast ładowania zadań
+public interface ProjectTaskCounts {
+    Long getTotal();
+    Long getCompleted();
+}
@@ -0,0 +1,9 @@
+// src/main/java/com/example/demo/repository/projection/StatRow.java
+package com.example.demo.repository.projection;
+
+// Wiersz zapytania UNION ze statystykami zadań: rodzaj statystyki, opcjonalny klucz (np. status) i wartość
+public interface StatRow {
+    String getKind();
+    String getBucket();
+    Long getTotal();
+}
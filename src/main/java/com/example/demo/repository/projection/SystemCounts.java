@@ -0,0 +1,12 @@
+// src/main/java/com/example/demo/repository/projection/SystemCounts.java
+package com.example.demo.repository.projection;
+
+// Jeden wiersz z licznościami tabel systemu
+public interface SystemCounts {
+    Long getTotalUsers();
+    Long getActiveUsers();
+    Long getTotalProjects();
+    Long getTotalTeams();
+    Long getTotalComments();
+    Long getTotalFiles();
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/example/demo/repository/projection/TaskAssigneeRow.java
+package com.example.demo.repository.projection;
+
+// Para zadanie - przypisany użytkownik (assignedUsers)
+public interface TaskAssigneeRow {
+    Long getTaskId();
+    Long getUserId();
+}
@@ -0,0 +1,8 @@
+// src/main/java/com/example/demo/repository/projection/TaskCount.java
+package com.example.demo.repository.projection;
+
+// Wynik zapytań GROUP BY task_id: ID zadania + liczba wierszy
+public interface TaskCount {
+    Long getTaskId();
+    Long getTotal();
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/example/demo/repository/projection/TaskExportRow.java
+package com.example.demo.repository.projection;
+
+import java.time.LocalDateTime;
+
+// Wiersz eksportu zadań z task_view; assignees = nazwy użytkowników rozdzielone ';'
+public interface TaskExportRow {
+    Long getTaskId();
+    String getTitle();
+    String getDescription();
+    String getStatus();
+    String getPriority();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getDeadline();
+    LocalDateTime getCompletedAt();
+    String getAssignedTo();
+    String getAssignees();
+    Integer getCommentCount();
+    Integer getFileCount();
+}
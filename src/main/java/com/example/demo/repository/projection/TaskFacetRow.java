@@ -0,0 +1,11 @@
+// src/main/java/com/example/demo/repository/projection/TaskFacetRow.java
+package com.example.demo.repository.projection;
+
+// Pola zadania indeksowane przez TaskFacetIndex
+public interface TaskFacetRow {
+    Long getId();
+    Long getVersion();
+    String getStatus();
+    String getPriority();
+    Long getProjectId();
+}
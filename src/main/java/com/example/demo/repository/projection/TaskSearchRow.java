@@ -0,0 +1,15 @@
+// src/main/java/com/example/demo/repository/projection/TaskSearchRow.java
+package com.example.demo.repository.projection;
+
+import java.time.LocalDateTime;
+
+// Pola zadania indeksowane przez SearchIndex i SuggestIndex
+public interface TaskSearchRow {
+    Long getId();
+    Long getVersion();
+    Long getProjectId();
+    String getTitle();
+    String getDescription();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
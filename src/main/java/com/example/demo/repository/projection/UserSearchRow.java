@@ -0,0 +1,16 @@
+// src/main/java/com/example/demo/repository/projection/UserSearchRow.java
+package com.example.demo.repository.projection;
+
+import java.time.LocalDateTime;
+
+// Pola użytkownika indeksowane przez SearchIndex i SuggestIndex (bez awatara i hasła)
+public interface UserSearchRow {
+    Long getId();
+    Long getVersion();
+    String getUsername();
+    String getEmail();
+    String getFullName();
+    Boolean getActive();
+    LocalDateTime getLastLogin();
+    LocalDateTime getCreatedAt();
+}
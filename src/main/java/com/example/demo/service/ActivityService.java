@@ -0,0 +1,163 @@
+// src/main/java/com/example/demo/service/ActivityService.java
+package com.example.demo.service;
+
+import com.example.demo.api.dto.response.ActivityDto;
+import com.example.demo.api.dto.response.CursorPage;
+import com.example.demo.api.mapper.UserMapper;
+import com.example.demo.model.*;
+import com.example.demo.repository.ActivityEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class ActivityService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ActivityService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Zapis zdarzenia w bieżącej transakcji
+    public ActivityEvent record(ActivityType type, User user, String description,
+                                String entityType, Long entityId, String entityName, Long projectId) {
+        ActivityEvent event = new ActivityEvent(type, user, truncate(description, 500));
+        event.setEntityType(entityType);
+        event.setEntityId(entityId);
+        event.setEntityName(truncate(entityName, 255));
+        event.setProjectId(projectId);
+        return activityEventRepository.save(event);
+    }
+
+    // Zdarzenia z serwisów: zapis po commicie wywołującego, w osobnej transakcji. Błąd dziennika nie oznacza
+    // transakcji głównej operacji jako rollback-only, a wycofana operacja nie zostawia wpisu w dzienniku.
+    public void recordTaskEvent(ActivityType type, Task task, User actor, String description) {
+        Long taskId = task.getId();
+        String title = task.getTitle();
+        Long projectId = task.getProject() != null ? task.getProject().getId() : null;
+        recordAfterCommit(type, () -> record(type, actor, description, "Task", taskId, title, projectId));
+    }
+
+    public void recordProjectEvent(ActivityType type, Project project, User user, String description) {
+        Long projectId = project.getId();
+        String name = project.getName();
+        recordAfterCommit(type, () -> record(type, user, description, "Project", projectId, name, projectId));
+    }
+
+    private void recordAfterCommit(ActivityType type, Runnable action) {
+        Runnable guarded = () -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> action.run());
+            } catch (Exception e) {
+                // Dziennik aktywności nie może blokować głównej operacji
+                System.err.println("❌ Błąd zapisu aktywności " + type + ": " + e.getMessage());
+            }
+        };
+        AfterCommit.run(guarded);
+    }
+
+    // Strona aktywności całego systemu (kursor null = pierwsza strona)
+    @Transactional(readOnly = true)
+    public CursorPage<ActivityDto> getRecentActivity(String cursor, int limit) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int size = clampLimit(limit);
+        PageRequest page = PageRequest.of(0, size + 1);
+
+        List<ActivityEvent> events = position == null
+                ? activityEventRepository.findLatest(page)
+                : activityEventRepository.findLatestBefore(position.getCreatedAt(), position.getId(), page);
+        return toPage(events, size);
+    }
+
+    // Strona aktywności jednego użytkownika
+    @Transactional(readOnly = true)
+    public CursorPage<ActivityDto> getUserActivity(User user, String cursor, int limit) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int size = clampLimit(limit);
+        PageRequest page = PageRequest.of(0, size + 1);
+
+        List<ActivityEvent> events = position == null
+                ? activityEventRepository.findLatestByUser(user, page)
+                : activityEventRepository.findLatestByUserBefore(user, position.getCreatedAt(), position.getId(), page);
+        return toPage(events, size);
+    }
+
+    @Transactional
+    public void deleteByUser(User user) {
+        activityEventRepository.deleteByUser(user);
+    }
+
+    // Po wdrożeniu tabela jest pusta - uzupełnij historię z zadań i komentarzy
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        try {
+            if (activityEventRepository.count() > 0) {
+                return;
+            }
+            int tasks = activityEventRepository.backfillTaskCreated();
+            int comments = activityEventRepository.backfillCommentsAdded();
+            System.out.println("✅ Uzupełniono dziennik aktywności: " + tasks + " zadań, " + comments + " komentarzy");
+        } catch (Exception e) {
+            System.err.println("❌ Błąd uzupełniania dziennika aktywności: " + e.getMessage());
+        }
+    }
+
+    private CursorPage<ActivityDto> toPage(List<ActivityEvent> events, int size) {
+        // Pobieramy size + 1 wierszy - nadmiarowy oznacza, że istnieje kolejna strona
+        boolean hasMore = events.size() > size;
+        List<ActivityEvent> pageEvents = hasMore ? events.subList(0, size) : events;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ActivityEvent last = pageEvents.get(pageEvents.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<ActivityDto> items = pageEvents.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private ActivityDto toDto(ActivityEvent event) {
+        ActivityDto dto = new ActivityDto();
+        dto.setType(event.getType().name());
+        dto.setDescription(event.getDescription());
+        dto.setTimestamp(event.getCreatedAt());
+        dto.setEntityType(event.getEntityType());
+        dto.setEntityId(event.getEntityId());
+        dto.setEntityName(event.getEntityName());
+        if (event.getUser() != null) {
+            dto.setUser(userMapper.toSummaryDto(event.getUser()));
+        }
+        return dto;
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
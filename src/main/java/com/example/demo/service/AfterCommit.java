@@ -0,0 +1,25 @@
+// src/main/java/com/example/demo/service/AfterCommit.java
+package com.example.demo.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Akcja po commicie bieżącej transakcji (indeksy w pamięci, powiadomienia, dziennik aktywności) -
+// wycofana transakcja nic nie zmienia. Bez transakcji akcja wykonuje się od razu.
+final class AfterCommit {
+
+    private AfterCommit() {}
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
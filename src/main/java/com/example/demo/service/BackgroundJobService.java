@@ -0,0 +1,172 @@
+// src/main/java/com/example/demo/service/BackgroundJobService.java
+package com.example.demo.service;
+
+import com.example.demo.model.BackgroundJob;
+import com.example.demo.model.JobStatus;
+import com.example.demo.model.JobType;
+import com.example.demo.repository.BackgroundJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Zadania w tle zapisane w tabeli background_jobs, wykonywane po jednym na osobnym wątku.
+// Żądanie HTTP tylko tworzy wpis; postęp i wynik odczytuje się przez GET /api/v1/admin/jobs/{id}.
+@Service
+public class BackgroundJobService {
+
+    @Autowired
+    private BackgroundJobRepository jobRepository;
+
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BackgroundJobService(PlatformTransactionManager transactionManager, List<JobHandler> jobHandlers) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        jobHandlers.forEach(handler -> handlers.put(handler.getType(), handler));
+    }
+
+    // Wywołane w transakcji (np. deleteUserByAdmin): wpis zapisywany w niej, a zadanie startuje dopiero po jej
+    // commicie - wycofana transakcja nie zostawia ani wpisu, ani uruchomionego zadania, a wątek zadania widzi
+    // zmiany wywołującego. Poza transakcją wpis zapisywany w osobnej i zadanie startuje od razu.
+    public BackgroundJob submit(JobType type, Long targetId, Long requestedById) {
+        JobHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalArgumentException("No handler for job type " + type);
+        }
+
+        BackgroundJob job = new BackgroundJob(type, targetId, requestedById);
+        job.setStepsTotal(handler.getStepsTotal());
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            BackgroundJob saved = jobRepository.save(job);
+            Long jobId = saved.getId();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.submit(() -> execute(jobId));
+                }
+            });
+            return saved;
+        }
+
+        BackgroundJob saved = transactionTemplate.execute(status -> jobRepository.save(job));
+        Long jobId = saved.getId();
+        executor.submit(() -> execute(jobId));
+        return saved;
+    }
+
+    public Optional<BackgroundJob> getJob(Long jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    // Zadania przerwane restartem aplikacji uruchamiane są ponownie
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        try {
+            for (BackgroundJob job : jobRepository.findByStatusIn(EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING))) {
+                System.out.println("🔄 Wznawianie zadania w tle " + job.getType() + " #" + job.getId());
+                Long jobId = job.getId();
+                executor.submit(() -> execute(jobId));
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Błąd wznawiania zadań w tle: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void execute(Long jobId) {
+        BackgroundJob job = transactionTemplate.execute(status -> {
+            BackgroundJob current = jobRepository.findById(jobId).orElse(null);
+            if (current == null || current.getStatus() == JobStatus.COMPLETED || current.getStatus() == JobStatus.FAILED) {
+                return null;
+            }
+            current.setStatus(JobStatus.RUNNING);
+            current.setStartedAt(LocalDateTime.now());
+            current.setStepsCompleted(0);
+            current.setItemsProcessed(0);
+            current.setError(null);
+            return jobRepository.save(current);
+        });
+        if (job == null) {
+            return;
+        }
+
+        JobHandler handler = handlers.get(job.getType());
+        Progress progress = new Progress(jobId);
+        try {
+            handler.run(job, progress);
+            finish(jobId, JobStatus.COMPLETED, progress, null);
+        } catch (Exception e) {
+            System.err.println("❌ Zadanie w tle #" + jobId + " nie powiodło się: " + e.getMessage());
+            e.printStackTrace();
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finish(jobId, JobStatus.FAILED, progress, message.length() > 1000 ? message.substring(0, 1000) : message);
+        }
+    }
+
+    private void finish(Long jobId, JobStatus status, Progress progress, String error) {
+        transactionTemplate.executeWithoutResult(tx -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setError(error);
+            job.setItemsProcessed(progress.items);
+            if (status == JobStatus.COMPLETED) {
+                job.setStepsCompleted(job.getStepsTotal());
+                job.setCurrentStep(null);
+            }
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+        }));
+    }
+
+    private final class Progress implements JobProgress {
+        private final Long jobId;
+        private String step;
+        private int stepsCompleted = -1;
+        private long items;
+
+        private Progress(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void step(String name) {
+            step = name;
+            stepsCompleted++;
+            save();
+        }
+
+        @Override
+        public void add(long count) {
+            if (count > 0) {
+                items += count;
+                save();
+            }
+        }
+
+        private void save() {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobRepository.updateProgress(jobId, step, Math.max(stepsCompleted, 0), items));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+// src/main/java/com/example/demo/service/BulkDeletionService.java
+package com.example.demo.service;
+
+import com.example.demo.repository.BulkDeleteRepository;
+import com.example.demo.repository.TaskTombstoneRepository;
+import com.example.demo.repository.TaskViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+// Kaskadowe usuwanie projektów zbiorowymi DELETE zamiast pętli po encjach.
+// Zadania usuwane są paczkami (deletion.chunk-size), każda w osobnej krótkiej transakcji -
+// duży projekt nie trzyma blokad przez cały czas usuwania. Przerwane usuwanie można ponowić.
+@Service
+public class BulkDeletionService {
+
+    @Autowired
+    private BulkDeleteRepository bulkDeleteRepository;
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskChangeSequence changeSequence;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @Autowired
+    private TaskFacetIndex taskFacetIndex;
+
+    @Autowired
+    private ProjectVisibility projectVisibility;
+
+    @Autowired
+    private MessageSearchIndex messageSearchIndex;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkDeletionService(PlatformTransactionManager transactionManager,
+                               @Value("${deletion.chunk-size:500}") int chunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    // Zwraca liczbę usuniętych zadań
+    public int deleteProject(Long projectId) {
+        int deletedTasks = 0;
+        int deleted;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> {
+                List<Long> taskIds = bulkDeleteRepository.findTaskIdsByProject(projectId, chunkSize);
+                if (!taskIds.isEmpty()) {
+                    deleteTaskDependants(taskIds);
+                    bulkDeleteRepository.deleteAssignmentsByTaskIds(taskIds);
+                    bulkDeleteRepository.deleteTasksByIds(taskIds);
+                }
+                return taskIds.size();
+            });
+            deleted = chunk != null ? chunk : 0;
+            deletedTasks += deleted;
+        } while (deleted == chunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bulkDeleteRepository.deleteMessagesByProject(projectId);
+            messageSearchIndex.removeProject(projectId);
+            bulkDeleteRepository.deleteProposalsByProject(projectId);
+            changeSequence.markProjectMembershipChanged(projectId);
+            bulkDeleteRepository.deleteMembersByProject(projectId);
+            projectVisibility.projectRemoved(projectId);
+            bulkDeleteRepository.deleteNotificationsByRelatedId(projectId);
+            bulkDeleteRepository.deleteProjectById(projectId);
+        });
+
+        searchIndexer.removeProject(projectId);
+
+        // Zbiorowe DELETE omijają TaskEntityListener - liczniki i cache statystyk przeliczamy od nowa
+        if (deletedTasks > 0) {
+            taskStatsService.reconcile();
+            dashboardStatsCache.evictAll();
+        }
+        return deletedTasks;
+    }
+
+    // Komentarze, pliki, prośby o zmianę statusu, wiersze task_view i fasety zadań - w bieżącej transakcji.
+    // Ślady usunięcia (task_tombstones) zapisywane tutaj, póki wiersze task jeszcze istnieją.
+    public void deleteTaskDependants(Collection<Long> taskIds) {
+        taskTombstoneRepository.insertForTasks(taskIds, changeSequence.current());
+        bulkDeleteRepository.deleteStatusChangeRequestsByTaskIds(taskIds);
+        bulkDeleteRepository.deleteCommentsByTaskIds(taskIds);
+        bulkDeleteRepository.deleteFilesByTaskIds(taskIds);
+        taskViewRepository.deleteAssigneesByTaskIds(taskIds);
+        taskViewRepository.deleteByTaskIds(taskIds);
+        taskFacetIndex.remove(taskIds);
+    }
+}
@@ -0,0 +1,58 @@
+// src/main/java/com/example/demo/service/BulkTaskChanges.java
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Zmiany nakładane na wszystkie zadania partii (POST /api/v1/tasks/bulk); null = pole bez zmian
+public class BulkTaskChanges {
+
+    private String status;
+    private String priority;
+    private LocalDateTime deadline;
+    private Long assignedToId;
+    private List<Long> assignedUserIds;
+
+    public BulkTaskChanges status(String status) {
+        this.status = status;
+        return this;
+    }
+
+    public BulkTaskChanges priority(String priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public BulkTaskChanges deadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    public BulkTaskChanges assignedTo(Long userId) {
+        this.assignedToId = userId;
+        return this;
+    }
+
+    // Zastępuje dotychczasowy zbiór przypisanych
+    public BulkTaskChanges assignedUsers(List<Long> userIds) {
+        this.assignedUserIds = userIds;
+        return this;
+    }
+
+    public String getStatus() { return status; }
+    public String getPriority() { return priority; }
+    public LocalDateTime getDeadline() { return deadline; }
+    public Long getAssignedToId() { return assignedToId; }
+    public List<Long> getAssignedUserIds() { return assignedUserIds; }
+
+    // Opis zmian do wiadomości systemowej projektu
+    public String describe() {
+        List<String> parts = new ArrayList<>();
+        if (status != null) parts.add("status: " + status);
+        if (priority != null) parts.add("priorytet: " + priority);
+        if (deadline != null) parts.add("termin: " + deadline.toLocalDate());
+        if (assignedToId != null || assignedUserIds != null) parts.add("przypisani");
+        return String.join(", ", parts);
+    }
+}
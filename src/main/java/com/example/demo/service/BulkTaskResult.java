@@ -0,0 +1,24 @@
+// src/main/java/com/example/demo/service/BulkTaskResult.java
+package com.example.demo.service;
+
+import java.util.List;
+import java.util.Map;
+
+// Wynik zbiorczej zmiany zadań: zmienione ID i powody odrzucenia pozostałych.
+// applied = false - partia "wszystko albo nic" odrzucona w całości, nic nie zapisano.
+public class BulkTaskResult {
+
+    private final List<Long> updatedIds;
+    private final Map<Long, String> failures;
+    private final boolean applied;
+
+    public BulkTaskResult(List<Long> updatedIds, Map<Long, String> failures, boolean applied) {
+        this.updatedIds = updatedIds;
+        this.failures = failures;
+        this.applied = applied;
+    }
+
+    public List<Long> getUpdatedIds() { return updatedIds; }
+    public Map<Long, String> getFailures() { return failures; }
+    public boolean isApplied() { return applied; }
+}
@@ -1,20 +1,27 @@
 // src/main/java/com/example/demo/service/CommentService.java
 package com.example.demo.service;
 
+import com.example.demo.model.ActivityType;
 import com.example.demo.model.Comment;
 import com.example.demo.model.Notification;
 import com.example.demo.model.NotificationType;
 import com.example.demo.model.Task;
 import com.example.demo.model.User;
 import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.projection.CommentVersion;
+import com.example.demo.repository.projection.TaskCount;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class CommentService {
@@ -25,21 +32,52 @@ public class CommentService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private TaskViewService taskViewService;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
     public List<Comment> getCommentsByTask(Task task) {
         return commentRepository.findByTask(task);
     }
 
+    public List<CommentVersion> getCommentVersionsByTask(Task task) {
+        return commentRepository.findVersionsByTask(task);
+    }
+
     public List<Comment> getCommentsByTaskSorted(Task task) {
         return commentRepository.findByTaskOrderByCreatedAtDesc(task);
     }
 
+    @Transactional
     public Comment saveComment(Comment comment) {
-        if (comment.getId() == null) {
+        boolean isNew = comment.getId() == null;
+        if (isNew) {
             comment.setCreatedAt(LocalDateTime.now());
         } else {
             comment.setUpdatedAt(LocalDateTime.now());
         }
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        if (isNew && saved.getTask() != null) {
+            taskViewService.refreshCounts(saved.getTask().getId());
+        }
+        searchIndexer.indexComment(saved);
+        return saved;
+    }
+
+    // Partia komentarzy po ID (wyniki wyszukiwania) - z zadaniem i autorem
+    public List<Comment> getCommentsByIds(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return commentRepository.findWithTaskAndAuthorByIdIn(commentIds);
     }
 
     public Optional<Comment> getCommentById(Long commentId) {
@@ -55,11 +93,18 @@ public class CommentService {
     public void deleteComment(Long commentId) {
         Comment comment = findById(commentId);
         commentRepository.delete(comment);
+        searchIndexer.removeComment(commentId);
+        if (comment.getTask() != null) {
+            taskViewService.refreshCounts(comment.getTask().getId());
+        }
+        dashboardStatsCache.evict(comment.getAuthor());
     }
 
     @Transactional
     public void deleteByTask(Task task) {
         commentRepository.deleteByTask(task);
+        taskViewService.refreshCounts(task.getId());
+        searchIndexer.removeCommentsOfTask(task);
     }
 
     public List<Comment> getCommentsForTask(Task task) {
@@ -82,6 +127,11 @@ public class CommentService {
 
         Comment saved = commentRepository.save(comment);
         System.out.println("✅ Komentarz zapisany (ID: " + saved.getId() + ")");
+        taskViewService.refreshCounts(task.getId());
+        searchIndexer.indexComment(saved);
+        dashboardStatsCache.evict(author);
+        activityService.recordTaskEvent(ActivityType.COMMENT_ADDED, task, author,
+                "Dodano komentarz do zadania: " + task.getTitle());
 
         // WYSYŁANIE POWIADOMIEŃ
         try {
@@ -140,6 +190,15 @@ public class CommentService {
         return commentRepository.countByTask(task);
     }
 
+    // ID zadania -> liczba komentarzy, jednym zapytaniem GROUP BY (brak wpisu = 0)
+    public Map<Long, Long> getCommentCountsByTaskIds(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return commentRepository.countGroupedByTaskIds(taskIds).stream()
+                .collect(Collectors.toMap(TaskCount::getTaskId, TaskCount::getTotal));
+    }
+
     public List<Comment> getRecentCommentsByTask(Task task, int limit) {
         return commentRepository.findByTaskOrderByCreatedAtDesc(task)
                 .stream()
@@ -0,0 +1,122 @@
+// src/main/java/com/example/demo/service/DashboardQueryExecutor.java
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Równoległe uruchamianie niezależnych zapytań dashboardu na puli dashboardQueryExecutor.
+// Każde zapytanie ma własny timeout; po jego przekroczeniu (lub odrzuceniu przez pełną pulę)
+// używana jest wartość zastępcza, a wynik oznaczany jest jako degraded.
+// Samo orTimeout tylko porzuca future - dlatego każde zapytanie działa w transakcji tylko do odczytu z timeoutem
+// (zaokrąglonym w górę do sekund). Spring przekazuje go do zapytań JPA (javax.persistence.query.timeout),
+// więc sterownik JDBC przerywa zapytanie w bazie i zwalnia wątek puli oraz połączenie.
+// Metryki: dashboard.query{query=...,outcome=success|timeout|rejected|error}
+@Component
+public class DashboardQueryExecutor {
+
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+    private final TransactionTemplate transactionTemplate;
+
+    public DashboardQueryExecutor(@Qualifier("dashboardQueryExecutor") ExecutorService executor,
+                                  MeterRegistry meterRegistry,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${dashboard.query.timeout-ms:2000}") long timeoutMillis) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+    }
+
+    public Batch batch() {
+        return new Batch();
+    }
+
+    // Jedna grupa zapytań (np. jedno wywołanie getUserStats) - zbiera informację o degradacji
+    public final class Batch {
+
+        private volatile boolean degraded;
+
+        private Batch() {}
+
+        public <T> CompletableFuture<T> submit(String name, Supplier<T> query) {
+            long start = System.nanoTime();
+            CompletableFuture<T> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> query.get()), executor);
+            } catch (RejectedExecutionException e) {
+                record(name, "rejected", start);
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+                return future;
+            }
+
+            return future
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .whenComplete((result, error) -> record(name, outcome(error), start));
+        }
+
+        // Wynik zapytania albo wartość zastępcza, jeśli zapytanie nie zmieściło się w czasie.
+        // Błędy samego zapytania (np. SQL) są propagowane dalej.
+        public <T> T join(CompletableFuture<T> future, T fallback) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (isTimeout(cause) || cause instanceof RejectedExecutionException) {
+                    degraded = true;
+                    return fallback;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw e;
+            }
+        }
+
+        public boolean isDegraded() {
+            return degraded;
+        }
+    }
+
+    private void record(String name, String outcome, long start) {
+        Timer.builder("dashboard.query")
+                .tag("query", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return isTimeout(cause) ? "timeout" : "error";
+    }
+
+    // Przekroczenie czasu po stronie future albo przerwanie zapytania przez timeout transakcji (JDBC)
+    private static boolean isTimeout(Throwable cause) {
+        return cause instanceof TimeoutException
+                || cause instanceof QueryTimeoutException
+                || cause instanceof TransactionTimedOutException;
+    }
+}
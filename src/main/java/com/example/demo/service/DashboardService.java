@@ -2,30 +2,28 @@
 package com.example.demo.service;
 
 import com.example.demo.api.dto.response.ActivityDto;
+import com.example.demo.api.dto.response.CursorPage;
+import com.example.demo.api.dto.response.DashboardOverviewDto;
 import com.example.demo.api.dto.response.StatsDto;
-import com.example.demo.api.mapper.UserMapper;
 import com.example.demo.model.*;
 import com.example.demo.repository.*;
+import com.example.demo.repository.projection.AssignedTaskCounts;
+import com.example.demo.repository.projection.StatRow;
+import com.example.demo.repository.projection.SystemCounts;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class DashboardService {
 
-    @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private ProjectRepository projectRepository;
-
     @Autowired
     private TeamRepository teamRepository;
 
@@ -39,200 +37,163 @@ public class DashboardService {
     private UploadedFileRepository fileRepository;
 
     @Autowired
-    private ProjectMemberService projectMemberService;
+    private StatsAggregateRepository statsAggregateRepository;
+
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
 
     @Autowired
-    private TaskService taskService;
+    private ActivityService activityService;
 
     @Autowired
-    private UserMapper userMapper;
+    private DashboardQueryExecutor dashboardQueryExecutor;
 
     // Ogólne statystyki systemu (dla admina)
+    // Dwa zapytania: liczności tabel (jeden wiersz) + statystyki zadań z liczników TaskStatsService (UNION),
+    // uruchamiane równolegle na puli dashboardQueryExecutor
     public StatsDto getSystemStats() {
         StatsDto stats = new StatsDto();
 
-        stats.setTotalUsers(userRepository.count());
-        stats.setActiveUsers(userRepository.countByIsActiveTrue());
-        stats.setTotalProjects(projectRepository.count());
-        stats.setTotalTeams(teamRepository.count());
-        stats.setTotalTasks(taskRepository.count());
-        stats.setTasksNew(taskRepository.countByStatus("NEW"));
-        stats.setTasksInProgress(taskRepository.countByStatus("IN_PROGRESS"));
-        stats.setTasksCompleted(taskRepository.countByStatus("COMPLETED"));
-        stats.setTasksCancelled(taskRepository.countByStatus("CANCELLED"));
-        stats.setTotalComments(commentRepository.count());
-        stats.setTotalFiles(fileRepository.count());
-
-        long totalTasks = stats.getTotalTasks();
-        if (totalTasks > 0) {
-            double completionRate = (stats.getTasksCompleted() * 100.0) / totalTasks;
-            stats.setTaskCompletionRate(completionRate);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        DashboardQueryExecutor.Batch batch = dashboardQueryExecutor.batch();
+        CompletableFuture<SystemCounts> countsQuery = batch.submit("systemCounts",
+                statsAggregateRepository::loadSystemCounts);
+        CompletableFuture<List<StatRow>> taskStatsQuery = batch.submit("taskStats",
+                () -> statsAggregateRepository.loadTaskStats(
+                        today.toString(),
+                        today.atStartOfDay(),
+                        now,
+                        today.minusDays(7).toString(),
+                        today.minusDays(30).toString()));
+
+        SystemCounts counts = batch.join(countsQuery, null);
+        if (counts != null) {
+            stats.setTotalUsers(counts.getTotalUsers());
+            stats.setActiveUsers(counts.getActiveUsers());
+            stats.setTotalProjects(counts.getTotalProjects());
+            stats.setTotalTeams(counts.getTotalTeams());
+            stats.setTotalComments(counts.getTotalComments());
+            stats.setTotalFiles(counts.getTotalFiles());
         }
 
-        stats.setOverdueTasks(countOverdueTasks());
-        stats.setTasksCompletedThisWeek(countTasksCompletedInPeriod(7));
-        stats.setTasksCompletedThisMonth(countTasksCompletedInPeriod(30));
+        List<StatRow> rows = batch.join(taskStatsQuery, null);
+        if (rows != null) {
+            applyTaskStats(stats, rows);
+        }
 
+        if (batch.isDegraded()) {
+            stats.setDegraded(true);
+        }
         return stats;
     }
 
-    // Statystyki użytkownika - DOKŁADNIE TA SAMA LOGIKA CO W TaskApiController!
-    public StatsDto getUserStats(User user) {
-        System.out.println("\n========================================");
-        System.out.println("🔍 DASHBOARD getUserStats dla: " + user.getUsername());
-
-        StatsDto stats = new StatsDto();
-
-        // KROK 1: Zadania przypisane - używamy DOKŁADNIE tej samej metody co TaskApiController
-        // TaskApiController robi: tasks = taskService.getTasksByAssignedUser(currentUser);
-        List<Task> assignedTasks = taskService.getTasksByAssignedUser(user);
-        System.out.println("📋 Zadania przypisane (z taskService.getTasksByAssignedUser): " + assignedTasks.size());
-
-        assignedTasks.forEach(task -> System.out.println("  - [" + task.getId() + "] " + task.getTitle() +
-                " | Status: " + task.getStatus() +
-                " | Projekt: " + (task.getProject() != null ? task.getProject().getName() : "BRAK")));
-
-        stats.setUserTasksAssigned((long) assignedTasks.size());
-
-        // KROK 2: Projekty - tylko unikalne projekty z przypisanych zadań
-        Set<Project> projectsWithAssignedTasks = assignedTasks.stream()
-                .map(Task::getProject)
-                .filter(project -> project != null)
-                .collect(Collectors.toSet());
-
-        System.out.println("📁 Projekty z przypisanymi zadaniami: " + projectsWithAssignedTasks.size());
-        projectsWithAssignedTasks.forEach(p -> System.out.println("  - [" + p.getId() + "] " + p.getName()));
-
-        stats.setUserProjects((long) projectsWithAssignedTasks.size());
-
-        // KROK 3: Zespoły użytkownika
-        List<Team> userTeams = teamRepository.findByMembersContaining(user);
-        System.out.println("👥 Zespoły użytkownika: " + userTeams.size());
-        stats.setUserTeams((long) userTeams.size());
-
-        // KROK 4: Zadania utworzone przez użytkownika
-        List<Task> createdTasks = taskRepository.findByCreatedBy(user);
-        System.out.println("✏️ Zadania utworzone: " + createdTasks.size());
-        stats.setUserTasksCreated((long) createdTasks.size());
-
-        // KROK 5: Komentarze
-        List<Comment> userComments = commentRepository.findByAuthor(user);
-        System.out.println("💬 Komentarze: " + userComments.size());
-        stats.setUserComments((long) userComments.size());
-
-        // KROK 6: Pliki
-        List<UploadedFile> userFiles = fileRepository.findByUploadedBy(user);
-        System.out.println("📎 Pliki: " + userFiles.size());
-        stats.setUserFilesUploaded((long) userFiles.size());
-
-        // KROK 7: Completion rate
-        long completedTasks = assignedTasks.stream()
-                .filter(task -> "COMPLETED".equals(task.getStatus()) || "DONE".equals(task.getStatus()))
-                .count();
+    private void applyTaskStats(StatsDto stats, List<StatRow> rows) {
+        Map<String, Long> statusCounts = new HashMap<>();
+        long overdue = 0;
+        long completedThisWeek = 0;
+        long completedThisMonth = 0;
+        for (StatRow row : rows) {
+            long value = row.getTotal() != null ? row.getTotal() : 0L;
+            switch (row.getKind()) {
+                case "STATUS": statusCounts.put(row.getBucket(), value); break;
+                case "OVERDUE": overdue += value; break;
+                case "COMPLETED_WEEK": completedThisWeek = value; break;
+                case "COMPLETED_MONTH": completedThisMonth = value; break;
+                default: break;
+            }
+        }
 
-        System.out.println("✅ Ukończone: " + completedTasks + " / " + assignedTasks.size());
+        stats.setTotalTasks(statusCounts.values().stream().mapToLong(Long::longValue).sum());
+        stats.setTasksNew(statusCounts.getOrDefault("NEW", 0L));
+        stats.setTasksInProgress(statusCounts.getOrDefault("IN_PROGRESS", 0L));
+        stats.setTasksCompleted(statusCounts.getOrDefault("COMPLETED", 0L));
+        stats.setTasksCancelled(statusCounts.getOrDefault("CANCELLED", 0L));
 
-        if (!assignedTasks.isEmpty()) {
-            double completionRate = (completedTasks * 100.0) / assignedTasks.size();
+        long totalTasks = stats.getTotalTasks();
+        if (totalTasks > 0) {
+            double completionRate = (stats.getTasksCompleted() * 100.0) / totalTasks;
             stats.setTaskCompletionRate(completionRate);
-            System.out.println("📊 Completion rate: " + String.format("%.1f%%", completionRate));
         }
 
-        // KROK 8: Przeterminowane
-        long overdueCount = countOverdueTasksForUser(user);
-        stats.setOverdueTasks(overdueCount);
-        System.out.println("⚠️ Przeterminowane: " + overdueCount);
-
-        System.out.println("========================================\n");
+        stats.setOverdueTasks(overdue);
+        stats.setTasksCompletedThisWeek(completedThisWeek);
+        stats.setTasksCompletedThisMonth(completedThisMonth);
+    }
 
-        return stats;
+    // Statystyki użytkownika - z cache (TTL + unieważnianie przez serwisy zapisujące)
+    public StatsDto getUserStats(User user) {
+        return dashboardStatsCache.get(user.getId(), () -> computeUserStats(user));
     }
 
-    public List<ActivityDto> getRecentActivity(int limit) {
-        List<ActivityDto> activities = new ArrayList<>();
-
-        List<Task> recentTasks = taskRepository.findAll().stream()
-                .sorted(Comparator.comparing(Task::getCreatedAt).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        for (Task task : recentTasks) {
-            ActivityDto activity = new ActivityDto();
-            activity.setType("TASK_CREATED");
-            activity.setDescription("Zadanie utworzone: " + task.getTitle());
-            activity.setTimestamp(task.getCreatedAt());
-            activity.setUser(userMapper.toDto(task.getCreatedBy()));
-            activities.add(activity);
-        }
+    // Statystyki i aktywność pobierane równolegle; statystyki liczone na wątku żądania,
+    // bo same rozkładają zapytania na pulę (zagnieżdżone czekanie w puli mogłoby ją zablokować)
+    public DashboardOverviewDto getDashboardOverview(User user, int activityLimit) {
+        DashboardQueryExecutor.Batch batch = dashboardQueryExecutor.batch();
+        CompletableFuture<List<ActivityDto>> activityQuery = batch.submit("recentActivity",
+                () -> activityService.getUserActivity(user, null, activityLimit).getItems());
 
-        activities.sort(Comparator.comparing(ActivityDto::getTimestamp).reversed());
-        return activities.stream().limit(limit).collect(Collectors.toList());
+        StatsDto stats = getUserStats(user);
+        List<ActivityDto> activity = batch.join(activityQuery, Collections.emptyList());
+
+        boolean degraded = batch.isDegraded() || Boolean.TRUE.equals(stats.getDegraded());
+        return new DashboardOverviewDto(stats, activity, degraded);
     }
 
-    public List<ActivityDto> getUserRecentActivity(User user, int limit) {
-        List<ActivityDto> activities = new ArrayList<>();
-
-        List<Task> userTasks = taskRepository.findByCreatedBy(user).stream()
-                .sorted(Comparator.comparing(Task::getCreatedAt).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        for (Task task : userTasks) {
-            ActivityDto activity = new ActivityDto();
-            activity.setType("TASK_CREATED");
-            activity.setDescription("Utworzyłeś zadanie: " + task.getTitle());
-            activity.setTimestamp(task.getCreatedAt());
-            activity.setUser(userMapper.toDto(user));
-            activities.add(activity);
-        }
+    // Wyłącznie zapytania COUNT/agregujące, bez ładowania encji, uruchamiane równolegle
+    // (zadania przypisane liczone tak samo jak w TaskApiController: przez assignedUsers;
+    // przeterminowane z flagi overdue utrzymywanej przez DeadlineScheduler).
+    // Zapytanie, które przekroczy timeout, jest pomijane w wyniku (pole null, degraded = true).
+    private StatsDto computeUserStats(User user) {
+        StatsDto stats = new StatsDto();
 
-        List<Comment> userComments = commentRepository.findByAuthor(user).stream()
-                .sorted(Comparator.comparing(Comment::getCreatedAt).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        for (Comment comment : userComments) {
-            ActivityDto activity = new ActivityDto();
-            activity.setType("COMMENT_ADDED");
-            activity.setDescription("Dodałeś komentarz do zadania: " + comment.getTask().getTitle());
-            activity.setTimestamp(comment.getCreatedAt());
-            activity.setUser(userMapper.toDto(user));
-            activities.add(activity);
+        DashboardQueryExecutor.Batch batch = dashboardQueryExecutor.batch();
+        CompletableFuture<AssignedTaskCounts> assignedQuery = batch.submit("userAssignedTasks",
+                () -> taskRepository.countAssignedTaskStats(user));
+        CompletableFuture<Long> teamsQuery = batch.submit("userTeams",
+                () -> teamRepository.countByMembersContaining(user));
+        CompletableFuture<Long> createdQuery = batch.submit("userTasksCreated",
+                () -> taskRepository.countByCreatedBy(user));
+        CompletableFuture<Long> commentsQuery = batch.submit("userComments",
+                () -> commentRepository.countByAuthor(user));
+        CompletableFuture<Long> filesQuery = batch.submit("userFiles",
+                () -> fileRepository.countByUploadedBy(user));
+
+        AssignedTaskCounts assigned = batch.join(assignedQuery, null);
+        if (assigned != null) {
+            long assignedCount = valueOrZero(assigned.getAssigned());
+            long completedCount = valueOrZero(assigned.getCompleted());
+
+            stats.setUserTasksAssigned(assignedCount);
+            stats.setUserProjects(valueOrZero(assigned.getProjects()));
+            stats.setOverdueTasks(valueOrZero(assigned.getOverdue()));
+            if (assignedCount > 0) {
+                stats.setTaskCompletionRate((completedCount * 100.0) / assignedCount);
+            }
         }
 
-        activities.sort(Comparator.comparing(ActivityDto::getTimestamp).reversed());
-        return activities.stream().limit(limit).collect(Collectors.toList());
+        stats.setUserTeams(batch.join(teamsQuery, null));
+        stats.setUserTasksCreated(batch.join(createdQuery, null));
+        stats.setUserComments(batch.join(commentsQuery, null));
+        stats.setUserFilesUploaded(batch.join(filesQuery, null));
+
+        if (batch.isDegraded()) {
+            stats.setDegraded(true);
+        }
+        return stats;
     }
 
-    private long countOverdueTasks() {
-        LocalDateTime now = LocalDateTime.now();
-        return taskRepository.findAll().stream()
-                .filter(task -> task.getDeadline() != null)
-                .filter(task -> task.getDeadline().isBefore(now))
-                .filter(task -> !"COMPLETED".equals(task.getStatus()))
-                .filter(task -> !"DONE".equals(task.getStatus()))
-                .filter(task -> !"CANCELLED".equals(task.getStatus()))
-                .count();
+    // Aktywność z dziennika activity_events (keyset po createdAt, id)
+    public CursorPage<ActivityDto> getRecentActivity(String cursor, int limit) {
+        return activityService.getRecentActivity(cursor, limit);
     }
 
-    private long countOverdueTasksForUser(User user) {
-        LocalDateTime now = LocalDateTime.now();
-        // Używamy tej samej metody co w getUserStats
-        return taskService.getTasksByAssignedUser(user).stream()
-                .filter(task -> task.getDeadline() != null)
-                .filter(task -> task.getDeadline().isBefore(now))
-                .filter(task -> !"COMPLETED".equals(task.getStatus()))
-                .filter(task -> !"DONE".equals(task.getStatus()))
-                .filter(task -> !"CANCELLED".equals(task.getStatus()))
-                .count();
+    public CursorPage<ActivityDto> getUserRecentActivity(User user, String cursor, int limit) {
+        return activityService.getUserActivity(user, cursor, limit);
     }
 
-    private long countTasksCompletedInPeriod(int days) {
-        LocalDateTime startDate = LocalDateTime.now().minus(days, ChronoUnit.DAYS);
-        return taskRepository.findAll().stream()
-                .filter(task -> "COMPLETED".equals(task.getStatus()) || "DONE".equals(task.getStatus()))
-                .filter(task -> task.getCompletedAt() != null)
-                .filter(task -> task.getCompletedAt().isAfter(startDate))
-                .count();
+    private static long valueOrZero(Long value) {
+        return value != null ? value : 0L;
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+// src/main/java/com/example/demo/service/DashboardStatsCache.java
+package com.example.demo.service;
+
+import com.example.demo.api.dto.response.StatsDto;
+import com.example.demo.model.Task;
+import com.example.demo.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Cache statystyk użytkownika (StatsDto) z TTL i limitem rozmiaru (LRU).
+// Wpisy są unieważniane przez serwisy zmieniające dane wejściowe statystyk.
+// Metryki: dashboard.stats.cache{result=hit|miss}, dashboard.stats.cache.size, dashboard.stats.cache.hit.ratio
+@Component
+public class DashboardStatsCache {
+
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    // Liczniki unieważnień: per użytkownik (evict) i globalny (evictAll). Ładowanie zapisuje wynik tylko,
+    // jeśli żaden z jego liczników się nie zmienił - zapis innego użytkownika nie odrzuca cudzych wyników.
+    // Jeden AtomicLong na użytkownika, który miał kiedykolwiek unieważnienie (nie więcej niż wierszy users).
+    private final Map<Long, AtomicLong> userEpochs = new ConcurrentHashMap<>();
+    private final AtomicLong globalEpoch = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public DashboardStatsCache(MeterRegistry meterRegistry,
+                               @Value("${dashboard.stats-cache.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${dashboard.stats-cache.max-size:1000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hits = meterRegistry.counter("dashboard.stats.cache", "result", "hit");
+        this.misses = meterRegistry.counter("dashboard.stats.cache", "result", "miss");
+        this.evictions = meterRegistry.counter("dashboard.stats.cache.evictions");
+        Gauge.builder("dashboard.stats.cache.size", this, DashboardStatsCache::size)
+                .register(meterRegistry);
+        Gauge.builder("dashboard.stats.cache.hit.ratio", this, DashboardStatsCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    public StatsDto get(Long userId, Supplier<StatsDto> loader) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return entry.stats;
+            }
+        }
+
+        misses.increment();
+        AtomicLong userEpoch = userEpochs.computeIfAbsent(userId, id -> new AtomicLong());
+        long epoch = userEpoch.get();
+        long global = globalEpoch.get();
+        StatsDto stats = loader.get();
+
+        // Jeśli w trakcie liczenia przyszło unieważnienie, nie zapisujemy potencjalnie nieaktualnego wyniku.
+        // Niepełnych wyników (degraded - część zapytań przekroczyła timeout) też nie zapisujemy.
+        if (Boolean.TRUE.equals(stats.getDegraded())) {
+            return stats;
+        }
+        synchronized (entries) {
+            if (userEpoch.get() == epoch && globalEpoch.get() == global) {
+                entries.put(userId, new Entry(stats, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return stats;
+    }
+
+    // ========== UNIEWAŻNIANIE ==========
+
+    public void evict(Collection<Long> userIds) {
+        Set<Long> ids = new HashSet<>(userIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return;
+        }
+        evictNow(ids);
+
+        // W transakcji unieważnij ponownie po commicie - wcześniejszy odczyt mógł zapisać stare dane
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(ids);
+                }
+            });
+        }
+    }
+
+    public void evict(User... users) {
+        List<Long> ids = new ArrayList<>();
+        for (User user : users) {
+            if (user != null) {
+                ids.add(user.getId());
+            }
+        }
+        evict(ids);
+    }
+
+    // Użytkownicy, których statystyki zależą od zadania: przypisani (obecni i poprzedni) oraz twórca
+    public void evictForTask(Task task, Collection<Long> previousAssigneeIds) {
+        List<Long> ids = new ArrayList<>(previousAssigneeIds);
+        task.getAssignedUsers().forEach(user -> ids.add(user.getId()));
+        if (task.getCreatedBy() != null) {
+            ids.add(task.getCreatedBy().getId());
+        }
+        evict(ids);
+    }
+
+    // Po zbiorowych operacjach, których użytkowników nie śledzimy (np. usunięcie projektu)
+    public void evictAll() {
+        globalEpoch.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void evictNow(Set<Long> ids) {
+        for (Long id : ids) {
+            userEpochs.computeIfAbsent(id, key -> new AtomicLong()).incrementAndGet();
+        }
+        synchronized (entries) {
+            entries.keySet().removeAll(ids);
+        }
+    }
+
+    // ========== METRYKI ==========
+
+    private double size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total > 0 ? hits.count() / total : 0.0;
+    }
+
+    private static final class Entry {
+        private final StatsDto stats;
+        private final long expiresAt;
+
+        private Entry(StatsDto stats, long expiresAt) {
+            this.stats = stats;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+// src/main/java/com/example/demo/service/DeadlineScheduler.java
+package com.example.demo.service;
+
+import com.example.demo.model.NotificationType;
+import com.example.demo.model.Task;
+import com.example.demo.model.User;
+import com.example.demo.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+// Terminy zadań w hashed timing wheel: ustawia flagę overdue i wysyła powiadomienia
+// o zbliżającym się (deadline.reminder-lead-hours) i minionym terminie.
+// Koło trzyma tylko terminy z okna deadline.window-hours, doładowywanego przez findByDeadlineBetween;
+// zmiany zadań odświeżają je przyrostowo przez TaskChangedEvent.
+@Service
+public class DeadlineScheduler {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
+    private final TransactionTemplate transactionTemplate;
+    private final DeadlineTimingWheel wheel;
+    private final Duration reminderLead;
+    private final Duration window;
+
+    // Koniec okna terminów załadowanych do koła; null = koło jeszcze niezaładowane
+    private LocalDateTime loadedUntil;
+
+    public DeadlineScheduler(PlatformTransactionManager transactionManager,
+                             @Value("${deadline.wheel.tick-ms:60000}") long tickMillis,
+                             @Value("${deadline.wheel.slots:512}") int slots,
+                             @Value("${deadline.reminder-lead-hours:24}") long reminderLeadHours,
+                             @Value("${deadline.window-hours:48}") long windowHours) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.wheel = new DeadlineTimingWheel(slots, tickMillis, System.currentTimeMillis());
+        this.reminderLead = Duration.ofHours(reminderLeadHours);
+        this.window = Duration.ofHours(Math.max(windowHours, reminderLeadHours + 1));
+    }
+
+    // ========== ŁADOWANIE ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            // Terminy minione podczas przestoju - flaga bez powiadomień
+            transactionTemplate.executeWithoutResult(status -> {
+                taskRepository.markOverdueBefore(now);
+                taskRepository.clearOverdueNotBefore(now);
+            });
+        } catch (Exception e) {
+            System.err.println("❌ Błąd rekoncyliacji flag overdue: " + e.getMessage());
+        }
+
+        synchronized (wheel) {
+            loadedUntil = now;
+        }
+        loadWindow(now, now.plus(window));
+    }
+
+    // Okno doładowywane, gdy do jego końca zostaje mniej niż połowa
+    private void extendWindowIfNeeded(LocalDateTime now) {
+        LocalDateTime from;
+        synchronized (wheel) {
+            if (loadedUntil == null || loadedUntil.isAfter(now.plus(window.dividedBy(2)))) {
+                return;
+            }
+            from = loadedUntil;
+        }
+        loadWindow(from, now.plus(window));
+    }
+
+    private void loadWindow(LocalDateTime from, LocalDateTime to) {
+        try {
+            List<Task> tasks = taskRepository.findByDeadlineBetween(from, to);
+            synchronized (wheel) {
+                tasks.forEach(task -> reschedule(task, task.isDeadlineReminderSent()));
+                loadedUntil = to;
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Błąd ładowania terminów zadań: " + e.getMessage());
+        }
+    }
+
+    // ========== ODŚWIEŻANIE PRZYROSTOWE ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskEntityListener.TaskChangedEvent event) {
+        Task task = event.getTask();
+        if (task.getId() == null) {
+            return;
+        }
+        if (event.getType() == TaskEntityListener.ChangeType.DELETED) {
+            synchronized (wheel) {
+                wheel.cancel(task.getId());
+            }
+            return;
+        }
+
+        boolean deadlineChanged = !Objects.equals(event.getPreviousDeadline(), task.getDeadline());
+        boolean statusChanged = !Objects.equals(event.getPreviousStatus(), task.getStatus());
+        if (event.getType() == TaskEntityListener.ChangeType.UPDATED && !deadlineChanged && !statusChanged) {
+            return;
+        }
+
+        boolean overdue = isOpen(task) && task.getDeadline() != null && !task.getDeadline().isAfter(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = List.of(task.getId());
+                taskRepository.updateOverdue(ids, overdue);
+                if (deadlineChanged && event.getType() == TaskEntityListener.ChangeType.UPDATED) {
+                    taskRepository.updateDeadlineReminderSent(ids, false);
+                }
+            });
+        } catch (Exception e) {
+            System.err.println("❌ Błąd aktualizacji flagi overdue: " + e.getMessage());
+        }
+
+        synchronized (wheel) {
+            if (loadedUntil != null && task.getDeadline() != null && !task.getDeadline().isAfter(loadedUntil)) {
+                // Nowy termin = nowe przypomnienie; flaga w encji jest sprzed wyzerowania w bazie
+                reschedule(task, task.isDeadlineReminderSent() && !deadlineChanged);
+            } else {
+                wheel.cancel(task.getId());
+            }
+        }
+    }
+
+    // Wywoływane pod synchronized (wheel)
+    private void reschedule(Task task, boolean reminderSent) {
+        wheel.cancel(task.getId());
+        if (!isOpen(task) || task.getDeadline() == null) {
+            return;
+        }
+        LocalDateTime deadline = task.getDeadline();
+        if (!reminderSent) {
+            wheel.schedule(task.getId(), DeadlineTimingWheel.Kind.REMINDER, toMillis(deadline.minus(reminderLead)));
+        }
+        wheel.schedule(task.getId(), DeadlineTimingWheel.Kind.OVERDUE, toMillis(deadline));
+    }
+
+    // ========== TIK KOŁA ==========
+
+    @Scheduled(fixedDelayString = "${deadline.wheel.tick-ms:60000}", initialDelayString = "${deadline.wheel.tick-ms:60000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DeadlineTimingWheel.Entry> expired;
+        synchronized (wheel) {
+            if (loadedUntil == null) {
+                return;
+            }
+            expired = wheel.advanceTo(toMillis(now));
+        }
+
+        if (!expired.isEmpty()) {
+            Set<Long> reminderIds = new HashSet<>();
+            Set<Long> overdueIds = new HashSet<>();
+            for (DeadlineTimingWheel.Entry entry : expired) {
+                if (entry.getKind() == DeadlineTimingWheel.Kind.OVERDUE) {
+                    overdueIds.add(entry.getTaskId());
+                } else {
+                    reminderIds.add(entry.getTaskId());
+                }
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> fire(reminderIds, overdueIds, now));
+            } catch (Exception e) {
+                System.err.println("❌ Błąd obsługi terminów zadań: " + e.getMessage());
+            }
+        }
+
+        extendWindowIfNeeded(now);
+    }
+
+    // Stan zadań sprawdzany ponownie z bazy - wpis w kole mógł się zestarzeć
+    private void fire(Set<Long> reminderIds, Set<Long> overdueIds, LocalDateTime now) {
+        Set<Long> ids = new HashSet<>(reminderIds);
+        ids.addAll(overdueIds);
+
+        List<Long> reminded = new ArrayList<>();
+        List<Long> flipped = new ArrayList<>();
+        List<Long> affectedUsers = new ArrayList<>();
+        for (Task task : taskRepository.findAllById(ids)) {
+            if (!isOpen(task) || task.getDeadline() == null) {
+                continue;
+            }
+            boolean passed = !task.getDeadline().isAfter(now);
+
+            if (overdueIds.contains(task.getId()) && passed && !task.isOverdue()) {
+                flipped.add(task.getId());
+                task.getAssignedUsers().forEach(user -> affectedUsers.add(user.getId()));
+                notifyAssignees(task, "Termin zadania minął",
+                        "Termin zadania '" + task.getTitle() + "' minął", NotificationType.TASK_OVERDUE);
+            } else if (reminderIds.contains(task.getId()) && !passed && !task.isDeadlineReminderSent()) {
+                reminded.add(task.getId());
+                notifyAssignees(task, "Zbliża się termin zadania",
+                        "Termin zadania '" + task.getTitle() + "' upływa " + task.getDeadline(),
+                        NotificationType.TASK_DEADLINE_APPROACHING);
+            }
+        }
+
+        if (!flipped.isEmpty()) {
+            taskRepository.updateOverdue(flipped, true);
+            dashboardStatsCache.evict(affectedUsers);
+        }
+        if (!reminded.isEmpty()) {
+            taskRepository.updateDeadlineReminderSent(reminded, true);
+        }
+    }
+
+    private void notifyAssignees(Task task, String title, String message, NotificationType type) {
+        for (User user : task.getAssignedUsers()) {
+            notificationService.createNotification(user, title, message, type, task.getId(),
+                    "/tasks/view/" + task.getId());
+        }
+    }
+
+    private static boolean isOpen(Task task) {
+        return task.getStatus() != null && !TaskStatsService.CLOSED_STATUSES.contains(task.getStatus());
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,98 @@
+// src/main/java/com/example/demo/service/DeadlineTimingWheel.java
+package com.example.demo.service;
+
+import java.util.*;
+
+// Hashed timing wheel dla terminów zadań: slotCount slotów po tickMillis.
+// Wpis trafia do slotu (tick % slotCount) i odpala się, gdy wskazówka dojdzie do jego ticku -
+// terminy dalsze niż jeden obrót czekają w slocie kolejne obroty.
+// Nie jest bezpieczny wątkowo - synchronizuje go DeadlineScheduler.
+class DeadlineTimingWheel {
+
+    enum Kind {
+        REMINDER, OVERDUE
+    }
+
+    private final long tickMillis;
+    private final List<Set<Entry>> slots;
+    private final Map<Long, List<Entry>> entriesByTask = new HashMap<>();
+    private long currentTick;
+
+    DeadlineTimingWheel(int slotCount, long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new HashSet<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // Terminy z przeszłości lądują w bieżącym ticku - odpalą się przy najbliższym advanceTo
+    void schedule(long taskId, Kind kind, long fireAtMillis) {
+        long tick = Math.max(fireAtMillis / tickMillis, currentTick);
+        Entry entry = new Entry(taskId, kind, tick);
+        slot(tick).add(entry);
+        entriesByTask.computeIfAbsent(taskId, id -> new ArrayList<>(2)).add(entry);
+    }
+
+    void cancel(long taskId) {
+        List<Entry> entries = entriesByTask.remove(taskId);
+        if (entries != null) {
+            entries.forEach(entry -> slot(entry.tick).remove(entry));
+        }
+    }
+
+    // Przesuwa wskazówkę do nowMillis i zwraca wpisy, których tick minął.
+    // Po dłuższej przerwie przechodzi każdy slot najwyżej raz.
+    List<Entry> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick < currentTick) {
+            return Collections.emptyList();
+        }
+
+        List<Entry> expired = new ArrayList<>();
+        long steps = Math.min(targetTick - currentTick + 1, slots.size());
+        for (long i = 0; i < steps; i++) {
+            Iterator<Entry> it = slot(currentTick + i).iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.tick <= targetTick) {
+                    it.remove();
+                    expired.add(entry);
+                    detach(entry);
+                }
+            }
+        }
+        currentTick = targetTick + 1;
+        return expired;
+    }
+
+    private Set<Entry> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+
+    private void detach(Entry entry) {
+        List<Entry> entries = entriesByTask.get(entry.taskId);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                entriesByTask.remove(entry.taskId);
+            }
+        }
+    }
+
+    static final class Entry {
+        private final long taskId;
+        private final Kind kind;
+        private final long tick;
+
+        private Entry(long taskId, Kind kind, long tick) {
+            this.taskId = taskId;
+            this.kind = kind;
+            this.tick = tick;
+        }
+
+        long getTaskId() { return taskId; }
+        Kind getKind() { return kind; }
+    }
+}
@@ -1,12 +1,14 @@
 // src/main/java/com/example/demo/service/FileService.java
 package com.example.demo.service;
 
+import com.example.demo.model.ActivityType;
 import com.example.demo.model.Notification;
 import com.example.demo.model.NotificationType;
 import com.example.demo.model.Task;
 import com.example.demo.model.UploadedFile;
 import com.example.demo.model.User;
 import com.example.demo.repository.UploadedFileRepository;
+import com.example.demo.repository.projection.TaskCount;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +16,13 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class FileService {
@@ -33,6 +39,15 @@ public class FileService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private TaskViewService taskViewService;
+
     public Optional<UploadedFile> getFileById(Long fileId) {
         return fileRepository.findById(fileId);
     }
@@ -45,6 +60,15 @@ public class FileService {
         return fileRepository.countByTask(task);
     }
 
+    // ID zadania -> liczba plików, jednym zapytaniem GROUP BY (brak wpisu = 0)
+    public Map<Long, Long> getFileCountsByTaskIds(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return fileRepository.countGroupedByTaskIds(taskIds).stream()
+                .collect(Collectors.toMap(TaskCount::getTaskId, TaskCount::getTotal));
+    }
+
     @Transactional
     public UploadedFile storeFile(Task task, MultipartFile file, User uploader) {
         try {
@@ -65,6 +89,10 @@ public class FileService {
 
             UploadedFile saved = fileRepository.save(uploadedFile);
             System.out.println("✅ Plik zapisany (ID: " + saved.getId() + ")");
+            taskViewService.refreshCounts(task.getId());
+            dashboardStatsCache.evict(uploader);
+            activityService.recordTaskEvent(ActivityType.FILE_UPLOADED, task, uploader,
+                    "Dodano plik " + saved.getOriginalName() + " do zadania: " + task.getTitle());
 
             // WYSYŁANIE POWIADOMIEŃ
             try {
@@ -135,12 +163,17 @@ public class FileService {
         UploadedFile file = fileRepository.findById(fileId)
                 .orElseThrow(() -> new RuntimeException("File with ID " + fileId + " not found"));
         fileRepository.delete(file);
+        if (file.getTask() != null) {
+            taskViewService.refreshCounts(file.getTask().getId());
+        }
+        dashboardStatsCache.evict(file.getUploadedBy());
     }
 
     @Transactional
     public void deleteFilesByTask(Task task) {
         List<UploadedFile> files = getFilesByTask(task);
         fileRepository.deleteAll(files);
+        taskViewService.refreshCounts(task.getId());
     }
 
     public List<UploadedFile> getFilesByUser(User user) {
@@ -150,6 +183,7 @@ public class FileService {
     /**
      * Zapisz plik z Azure Blob URL
      */
+    @Transactional
     public UploadedFile saveFile(Task task, MultipartFile file, User user, String blobUrl) throws IOException {
 
         UploadedFile uploadedFile = new UploadedFile();
@@ -162,6 +196,11 @@ public class FileService {
         uploadedFile.setUploadedBy(user);
         uploadedFile.setUploadedAt(java.time.LocalDateTime.now());
 
-        return fileRepository.save(uploadedFile); // ✅ POPRAWIONE
+        UploadedFile saved = fileRepository.save(uploadedFile); // ✅ POPRAWIONE
+        taskViewService.refreshCounts(task.getId());
+        dashboardStatsCache.evict(user);
+        activityService.recordTaskEvent(ActivityType.FILE_UPLOADED, task, user,
+                "Dodano plik " + saved.getOriginalName() + " do zadania: " + task.getTitle());
+        return saved;
     }
 }
\ No newline at end of file
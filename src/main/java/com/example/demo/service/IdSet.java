@@ -0,0 +1,104 @@
+// src/main/java/com/example/demo/service/IdSet.java
+package com.example.demo.service;
+
+import java.util.Arrays;
+
+// Niezmienny zbiór ID (long) z adresowaniem otwartym - contains w O(1) bez boxingu.
+// Zmiana tworzy nowy zbiór (with/without), więc czytelnicy nie potrzebują blokad.
+public final class IdSet {
+
+    public static final IdSet EMPTY = new IdSet(new long[0]);
+
+    // 0 = wolny slot; ID encji są dodatnie
+    private final long[] table;
+    private final long[] ids;
+
+    private IdSet(long[] ids) {
+        this.ids = ids;
+        int capacity = Integer.highestOneBit(Math.max(4, ids.length * 2 + 1)) << 1;
+        this.table = new long[capacity];
+        for (long id : ids) {
+            int slot = slot(id);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (table.length - 1);
+            }
+            table[slot] = id;
+        }
+    }
+
+    static IdSet of(long... ids) {
+        long[] distinct = Arrays.stream(ids).filter(id -> id > 0).distinct().sorted().toArray();
+        return distinct.length == 0 ? EMPTY : new IdSet(distinct);
+    }
+
+    public boolean contains(long id) {
+        if (id <= 0) {
+            return false;
+        }
+        for (int slot = slot(id); table[slot] != 0; slot = (slot + 1) & (table.length - 1)) {
+            if (table[slot] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Dla null (np. zadanie bez projektu) - false
+    public boolean contains(Long id) {
+        return id != null && contains(id.longValue());
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    // Posortowana kopia
+    public long[] toArray() {
+        return ids.clone();
+    }
+
+    IdSet with(long id) {
+        if (contains(id)) {
+            return this;
+        }
+        long[] added = Arrays.copyOf(ids, ids.length + 1);
+        added[ids.length] = id;
+        Arrays.sort(added);
+        return new IdSet(added);
+    }
+
+    IdSet without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        long[] removed = new long[ids.length - 1];
+        System.arraycopy(ids, 0, removed, 0, index);
+        System.arraycopy(ids, index + 1, removed, index, ids.length - index - 1);
+        return new IdSet(removed);
+    }
+
+    // Czy zbiory mają wspólny element - przegląd mniejszego
+    boolean intersects(IdSet other) {
+        IdSet smaller = size() <= other.size() ? this : other;
+        IdSet larger = smaller == this ? other : this;
+        for (long id : smaller.ids) {
+            if (larger.contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (table.length - 1);
+    }
+}
@@ -0,0 +1,16 @@
+// src/main/java/com/example/demo/service/JobHandler.java
+package com.example.demo.service;
+
+import com.example.demo.model.BackgroundJob;
+import com.example.demo.model.JobType;
+
+// Wykonawca jednego typu zadania w tle. run() musi dać się bezpiecznie powtórzyć -
+// zadania przerwane restartem są uruchamiane ponownie od początku.
+public interface JobHandler {
+
+    JobType getType();
+
+    int getStepsTotal();
+
+    void run(BackgroundJob job, JobProgress progress);
+}
@@ -0,0 +1,12 @@
+// src/main/java/com/example/demo/service/JobProgress.java
+package com.example.demo.service;
+
+// Raportowanie postępu z wnętrza JobHandler - każda zmiana od razu trafia do background_jobs
+public interface JobProgress {
+
+    // Rozpoczęcie kolejnego kroku (poprzedni liczony jako ukończony)
+    void step(String name);
+
+    // Kolejne przetworzone wiersze w bieżącym kroku
+    void add(long items);
+}
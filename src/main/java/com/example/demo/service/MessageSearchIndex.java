@@ -0,0 +1,454 @@
+// src/main/java/com/example/demo/service/MessageSearchIndex.java
+package com.example.demo.service;
+
+import com.example.demo.model.Message;
+import com.example.demo.repository.MessageRepository;
+import com.example.demo.repository.projection.MessageSearchRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Odwrócony indeks wiadomości czatu w pamięci, osobny słownik dla każdego projektu (wyszukiwanie zawsze w jednym czacie).
+// Tokeny jak w SearchIndex (SearchTokenizer, dopasowanie prefiksowe przez subMap, AND między tokenami zapytania),
+// ranking BM25: rzadkie w projekcie tokeny ważą więcej, krótka wiadomość z trafieniem wyżej niż długa.
+// Równe wyniki - nowsza wiadomość (większe ID) pierwsza. Strony kursorem (wynik, ID) zamiast OFFSET.
+// Zmiany z MessageService i BulkDeletionService stosowane po commicie. Po starcie indeks budowany od zera
+// w tle; do końca odbudowy wyniki mogą być niepełne (isReady).
+@Service
+public class MessageSearchIndex {
+
+    private static final int PAGE_SIZE = 1000;
+    // Parametry BM25
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Token pasujący tylko prefiksem ("wdroz" -> "wdrozenie") waży połowę dokładnego
+    private static final double PREFIX_WEIGHT = 0.5;
+    // Długość fragmentu z podświetleniem (znaki)
+    private static final int SNIPPET_LENGTH = 160;
+    private static final Pattern WORDS = Pattern.compile("[\\p{L}\\p{N}\\p{M}]+");
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, ProjectTerms> projects = new HashMap<>();
+
+    // Wiadomości zmienione lub usunięte w trakcie odbudowy - odbudowa mogła odczytać starszą treść
+    // (Message nie ma @Version, więc nowszego wpisu nie da się rozpoznać po wersji)
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    // Wiadomość w indeksie: tokeny z liczbą wystąpień i długość (liczba tokenów) do normalizacji BM25
+    private static final class Entry {
+        final long projectId;
+        final Map<String, Integer> terms;
+        final int length;
+
+        Entry(long projectId, Map<String, Integer> terms, int length) {
+            this.projectId = projectId;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    // Słownik jednego projektu: token -> (ID wiadomości -> liczba wystąpień)
+    private static final class ProjectTerms {
+        final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        final Set<Long> messageIds = new HashSet<>();
+        long totalLength;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== WYSZUKIWANIE ==========
+
+    // Strona wyników od najlepiej pasującego; after = kursor z poprzedniej strony (null = pierwsza strona).
+    // Kursor to (wynik, ID) ostatniego trafienia, a wyniki każdej strony liczone są od nowa ze statystyk BM25
+    // z chwili zapytania. Przy niezmienionym indeksie strony są rozłączne i kompletne; zmiana w projekcie między
+    // stronami (nowa, edytowana lub usunięta wiadomość) przesuwa wyniki, więc wiadomość może się powtórzyć
+    // albo zostać pominięta.
+    public Page search(long projectId, String query, Cursor after, int limit) {
+        List<String> tokens = new ArrayList<>(SearchTokenizer.tokenize(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return Page.EMPTY;
+        }
+        // Najdłuższy prefiks zwykle ma najmniej dopasowań - od niego zaczyna się przecięcie
+        tokens.sort(Comparator.comparingInt(String::length).reversed());
+
+        lock.readLock().lock();
+        try {
+            ProjectTerms project = projects.get(projectId);
+            if (project == null) {
+                return Page.EMPTY;
+            }
+            Map<Long, Double> scores = null;
+            for (String token : tokens) {
+                scores = match(project, token, scores);
+                if (scores.isEmpty()) {
+                    return Page.EMPTY;
+                }
+            }
+
+            // Top-k kopcem (limit + 1 - czy jest następna strona): najgorszy z zachowanych na szczycie
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::getScore).thenComparingLong(Hit::getId);
+            PriorityQueue<Hit> top = new PriorityQueue<>(ranking);
+            for (Map.Entry<Long, Double> candidate : scores.entrySet()) {
+                Hit hit = new Hit(candidate.getKey(), candidate.getValue());
+                if (after != null && !after.isBefore(hit)) {
+                    continue;
+                }
+                top.add(hit);
+                if (top.size() > limit + 1) {
+                    top.poll();
+                }
+            }
+
+            boolean hasMore = top.size() > limit;
+            if (hasMore) {
+                top.poll();
+            }
+            LinkedList<Hit> hits = new LinkedList<>();
+            while (!top.isEmpty()) {
+                hits.addFirst(top.poll());
+            }
+            Cursor next = hasMore ? new Cursor(hits.getLast().getScore(), hits.getLast().getId()) : null;
+            return new Page(hits, next);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Wiadomości z tokenem zaczynającym się od prefiksu (najlepszy pasujący token wiadomości);
+    // przy kolejnych tokenach tylko spośród dotychczasowych kandydatów
+    private Map<Long, Double> match(ProjectTerms project, String prefix, Map<Long, Double> candidates) {
+        int messageCount = project.messageIds.size();
+        double averageLength = Math.max(1.0, (double) project.totalLength / Math.max(1, messageCount));
+        Map<Long, Double> best = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> term
+                : project.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            Map<Long, Integer> termPostings = term.getValue();
+            double weight = term.getKey().length() == prefix.length() ? 1.0 : PREFIX_WEIGHT;
+            int frequency = termPostings.size();
+            double idf = Math.log(1 + (messageCount - frequency + 0.5) / (frequency + 0.5));
+            for (Map.Entry<Long, Integer> posting : termPostings.entrySet()) {
+                Long messageId = posting.getKey();
+                if (candidates != null && !candidates.containsKey(messageId)) {
+                    continue;
+                }
+                int occurrences = posting.getValue();
+                double lengthRatio = entries.get(messageId).length / averageLength;
+                double score = weight * idf * occurrences * (K1 + 1)
+                        / (occurrences + K1 * (1 - B + B * lengthRatio));
+                best.merge(messageId, score, Math::max);
+            }
+        }
+        if (candidates != null) {
+            best.replaceAll((messageId, score) -> score + candidates.get(messageId));
+        }
+        return best;
+    }
+
+    // ========== FRAGMENTY Z PODŚWIETLENIEM ==========
+
+    // Fragment treści wokół pierwszego trafienia; słowa pasujące do tokenów zapytania w <mark>, reszta escapowana (HTML)
+    public static String snippet(String content, String query) {
+        if (content == null) {
+            return "";
+        }
+        Set<String> tokens = SearchTokenizer.tokenize(query);
+        List<int[]> matches = new ArrayList<>();
+        Matcher words = WORDS.matcher(content);
+        while (words.find()) {
+            String word = SearchTokenizer.normalize(words.group());
+            for (String token : tokens) {
+                if (word.startsWith(token)) {
+                    matches.add(new int[] {words.start(), words.end()});
+                    break;
+                }
+            }
+        }
+
+        int start = 0;
+        int end = content.length();
+        if (end > SNIPPET_LENGTH) {
+            int first = matches.isEmpty() ? 0 : matches.get(0)[0];
+            start = Math.max(0, Math.min(first - SNIPPET_LENGTH / 4, content.length() - SNIPPET_LENGTH));
+            end = start + SNIPPET_LENGTH;
+            // Bez ucinania słów na brzegach fragmentu
+            while (start > 0 && Character.isLetterOrDigit(content.charAt(start - 1))) {
+                start--;
+            }
+            while (end < content.length() && Character.isLetterOrDigit(content.charAt(end))) {
+                end++;
+            }
+        }
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("…");
+        }
+        int position = start;
+        for (int[] match : matches) {
+            if (match[1] <= start || match[0] >= end) {
+                continue;
+            }
+            int matchStart = Math.max(match[0], start);
+            int matchEnd = Math.min(match[1], end);
+            escape(content, position, matchStart, snippet);
+            snippet.append("<mark>");
+            escape(content, matchStart, matchEnd, snippet);
+            snippet.append("</mark>");
+            position = matchEnd;
+        }
+        escape(content, position, end, snippet);
+        if (end < content.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder out) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<': out.append("&lt;"); break;
+                case '>': out.append("&gt;"); break;
+                case '&': out.append("&amp;"); break;
+                case '"': out.append("&quot;"); break;
+                case '\'': out.append("&#39;"); break;
+                default: out.append(c);
+            }
+        }
+    }
+
+    // ========== HOOKI ZAPISU (w transakcji wywołującego) ==========
+
+    // Nowa lub edytowana wiadomość; projekt i treść odczytane w transakcji
+    public void indexMessage(Message message) {
+        if (message.getId() == null || message.getProject() == null) {
+            return;
+        }
+        long messageId = message.getId();
+        long projectId = message.getProject().getId();
+        String content = message.getContent();
+        AfterCommit.run(() -> upsert(messageId, projectId, content, false));
+    }
+
+    public void removeMessage(Long messageId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding) {
+                    changedDuringRebuild.add(messageId);
+                }
+                unlink(messageId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Zbiorowy DELETE wiadomości projektu
+    public void removeProject(Long projectId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                ProjectTerms project = projects.remove(projectId);
+                if (project == null) {
+                    return;
+                }
+                for (Long messageId : project.messageIds) {
+                    entries.remove(messageId);
+                    if (rebuilding) {
+                        changedDuringRebuild.add(messageId);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void upsert(long messageId, long projectId, String content, boolean fromRebuild) {
+        Map<String, Integer> terms = new HashMap<>();
+        int length = 0;
+        Matcher words = WORDS.matcher(content != null ? content : "");
+        while (words.find()) {
+            for (String token : SearchTokenizer.tokenize(words.group())) {
+                terms.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (fromRebuild) {
+                if (changedDuringRebuild.contains(messageId)) {
+                    return;
+                }
+            } else if (rebuilding) {
+                changedDuringRebuild.add(messageId);
+            }
+            unlink(messageId);
+            if (terms.isEmpty()) {
+                return;
+            }
+            ProjectTerms project = projects.computeIfAbsent(projectId, p -> new ProjectTerms());
+            entries.put(messageId, new Entry(projectId, terms, length));
+            project.messageIds.add(messageId);
+            project.totalLength += length;
+            terms.forEach((term, occurrences) ->
+                    project.postings.computeIfAbsent(term, t -> new HashMap<>(4)).put(messageId, occurrences));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlink(long messageId) {
+        Entry entry = entries.remove(messageId);
+        if (entry == null) {
+            return;
+        }
+        ProjectTerms project = projects.get(entry.projectId);
+        if (project == null) {
+            return;
+        }
+        for (String term : entry.terms.keySet()) {
+            Map<Long, Integer> termPostings = project.postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(messageId);
+                if (termPostings.isEmpty()) {
+                    project.postings.remove(term);
+                }
+            }
+        }
+        project.messageIds.remove(messageId);
+        project.totalLength -= entry.length;
+        if (project.messageIds.isEmpty()) {
+            projects.remove(entry.projectId);
+        }
+    }
+
+    // ========== ODBUDOWA PO STARCIE ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Thread thread = new Thread(this::rebuild, "message-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Strony po ID - każde zapytanie w osobnej krótkiej transakcji repozytorium; gotowy dopiero po wszystkich
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        if (!PagedRebuild.load("indeksu wiadomości czatu", this::loadPage)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("✅ Zbudowano indeks wiadomości czatu w " + (System.currentTimeMillis() - started) + " ms");
+    }
+
+    private long loadPage(long afterId) {
+        List<MessageSearchRow> rows = messageRepository.findSearchRowsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+        for (MessageSearchRow row : rows) {
+            upsert(row.getId(), row.getProjectId(), row.getContent(), true);
+        }
+        return rows.size() == PAGE_SIZE ? rows.get(rows.size() - 1).getId() : PagedRebuild.DONE;
+    }
+
+    // ========== WYNIKI ==========
+
+    public static final class Hit {
+        private final long id;
+        private final double score;
+
+        Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() { return id; }
+        public double getScore() { return score; }
+    }
+
+    public static final class Page {
+        static final Page EMPTY = new Page(List.of(), null);
+
+        private final List<Hit> hits;
+        private final Cursor next;
+
+        Page(List<Hit> hits, Cursor next) {
+            this.hits = hits;
+            this.next = next;
+        }
+
+        public List<Hit> getHits() { return hits; }
+        // null na ostatniej stronie
+        public Cursor getNext() { return next; }
+    }
+
+    // Kursor po (wynik, ID) - nieprzezroczysty token base64 dla klienta, jak KeysetCursor.
+    // Wynik zapisany bitowo, żeby porównanie z kolejną stroną było dokładne.
+    public static final class Cursor {
+        private final double score;
+        private final long id;
+
+        public Cursor(double score, long id) {
+            this.score = score;
+            this.id = id;
+        }
+
+        // Czy trafienie jest w rankingu za kursorem (należy do kolejnej strony)
+        boolean isBefore(Hit hit) {
+            return hit.getScore() < score || (hit.getScore() == score && hit.getId() < id);
+        }
+
+        public String encode() {
+            String raw = Long.toHexString(Double.doubleToLongBits(score)) + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Zwraca null dla pustego kursora (pierwsza strona)
+        public static Cursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(
+                        Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, separator), 16)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/example/demo/service/MessageSearchResult.java
+package com.example.demo.service;
+
+import com.example.demo.model.Message;
+
+import java.util.List;
+
+// Strona wyników wyszukiwania w czacie projektu - wiadomości w kolejności trafności z fragmentem treści
+// (dopasowane słowa w <mark>). nextCursor (MessageSearchIndex.Cursor) pobiera kolejną stronę, null na ostatniej.
+public class MessageSearchResult {
+
+    private final List<Hit> hits;
+    private final String nextCursor;
+
+    public MessageSearchResult(List<Hit> hits, String nextCursor) {
+        this.hits = hits;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Hit> getHits() { return hits; }
+    public String getNextCursor() { return nextCursor; }
+
+    public static class Hit {
+        private final Message message;
+        private final String snippet;
+        private final double score;
+
+        public Hit(Message message, String snippet, double score) {
+            this.message = message;
+            this.snippet = snippet;
+            this.score = score;
+        }
+
+        public Message getMessage() { return message; }
+        public String getSnippet() { return snippet; }
+        public double getScore() { return score; }
+    }
+}
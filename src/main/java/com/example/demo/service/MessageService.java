@@ -9,9 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MessageService {
@@ -22,6 +22,9 @@ public class MessageService {
     @Autowired
     private ProjectMemberRepository projectMemberRepository;
 
+    @Autowired
+    private MessageSearchIndex messageSearchIndex;
+
     // Wysłanie zwykłej wiadomości
     @Transactional
     public Message sendMessage(Project project, User author, String content) {
@@ -37,8 +40,9 @@ public class MessageService {
             throw new RuntimeException("Viewerzy nie mogą wysyłać wiadomości");
         }
 
-        Message message = new Message(content, project, author);
-        return messageRepository.save(message);
+        Message message = messageRepository.save(new Message(content, project, author));
+        messageSearchIndex.indexMessage(message);
+        return message;
     }
 
     // Wysłanie wiadomości systemowej - NAPRAWIONE
@@ -46,7 +50,7 @@ public class MessageService {
     public void sendSystemMessage(Project project, String content) {
         try {
             Message systemMessage = new Message(content, project); // Bez autora
-            messageRepository.save(systemMessage);
+            messageSearchIndex.indexMessage(messageRepository.save(systemMessage));
             System.out.println("✅ Zapisano wiadomość systemową: " + content);
         } catch (Exception e) {
             System.err.println("❌ Błąd zapisywania wiadomości systemowej: " + e.getMessage());
@@ -83,7 +87,9 @@ public class MessageService {
         message.setEdited(true);
         message.setEditedAt(LocalDateTime.now());
 
-        return messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        messageSearchIndex.indexMessage(saved);
+        return saved;
     }
 
     // Usuwanie wiadomości
@@ -97,11 +103,35 @@ public class MessageService {
         }
 
         messageRepository.delete(message);
+        messageSearchIndex.removeMessage(messageId);
+    }
+
+    // Wyszukiwanie wiadomości - ranking i dopasowanie z MessageSearchIndex, z bazy tylko wiadomości z bieżącej strony.
+    // cursor = nextCursor poprzedniej strony (null = pierwsza strona)
+    public MessageSearchResult searchMessages(Project project, String searchTerm, String cursor, int limit) {
+        MessageSearchIndex.Page page = messageSearchIndex.search(project.getId(), searchTerm,
+                MessageSearchIndex.Cursor.decode(cursor), limit);
+        if (page.getHits().isEmpty()) {
+            return new MessageSearchResult(List.of(), null);
+        }
+
+        List<Long> ids = page.getHits().stream().map(MessageSearchIndex.Hit::getId).collect(Collectors.toList());
+        Map<Long, Message> messages = messageRepository.findWithAuthorByIdIn(ids).stream()
+                .collect(Collectors.toMap(Message::getId, Function.identity()));
+        List<MessageSearchResult.Hit> hits = new ArrayList<>();
+        for (MessageSearchIndex.Hit hit : page.getHits()) {
+            Message message = messages.get(hit.getId());
+            // Usunięta od czasu odczytu indeksu
+            if (message != null) {
+                hits.add(new MessageSearchResult.Hit(message,
+                        MessageSearchIndex.snippet(message.getContent(), searchTerm), hit.getScore()));
+            }
+        }
+        return new MessageSearchResult(hits, page.getNext() != null ? page.getNext().encode() : null);
     }
 
-    // Wyszukiwanie wiadomości
-    public List<Message> searchMessages(Project project, String searchTerm) {
-        return messageRepository.findByProjectAndContentContainingIgnoreCase(project, searchTerm);
+    public boolean isSearchIndexReady() {
+        return messageSearchIndex.isReady();
     }
 
     // Usunięcie wszystkich wiadomości projektu
@@ -111,6 +141,7 @@ public class MessageService {
             List<Message> messages = messageRepository.findByProjectOrderByCreatedAtAsc(project);
             if (!messages.isEmpty()) {
                 messageRepository.deleteAll(messages);
+                messageSearchIndex.removeProject(project.getId());
                 System.out.println("✅ Usunięto " + messages.size() + " wiadomości z projektu: " + project.getName());
             }
         } catch (Exception e) {
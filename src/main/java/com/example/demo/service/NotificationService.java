@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class NotificationService {
@@ -16,6 +17,9 @@ public class NotificationService {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private NotificationStream notificationStream;
+
     public Notification createNotification(User user, String title, String message,
                                            NotificationType type, Long relatedId, String actionUrl) {
         Notification notification = new Notification();
@@ -26,7 +30,12 @@ public class NotificationService {
         notification.setRelatedId(relatedId);
         notification.setActionUrl(actionUrl);
 
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        // Payload budowany w transakcji; do strumienia trafia dopiero zapisane powiadomienie
+        Long userId = user.getId();
+        Map<String, Object> payload = NotificationStream.toPayload(saved);
+        AfterCommit.run(() -> notificationStream.publish(userId, saved.getId(), payload));
+        return saved;
     }
 
     public List<Notification> getUserNotifications(User user) {
@@ -46,6 +55,7 @@ public class NotificationService {
         notificationRepository.findById(notificationId).ifPresent(notification -> {
             notification.setRead(true);
             notificationRepository.save(notification);
+            publishUnreadCount(notification.getUser());
         });
     }
 
@@ -53,9 +63,23 @@ public class NotificationService {
         List<Notification> unread = getUnreadNotifications(user);
         unread.forEach(notification -> notification.setRead(true));
         notificationRepository.saveAll(unread);
+        publishUnreadCount(user);
     }
 
     public void deleteNotification(Long notificationId) {
-        notificationRepository.deleteById(notificationId);
+        notificationRepository.findById(notificationId).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            if (!notification.isRead()) {
+                publishUnreadCount(notification.getUser());
+            }
+        });
+    }
+
+    // Licznik w pozostałych kartach użytkownika (strumień SSE) po oznaczeniu lub usunięciu
+    private void publishUnreadCount(User user) {
+        if (user != null) {
+            Long userId = user.getId();
+            AfterCommit.run(() -> notificationStream.publishUnreadCount(userId));
+        }
     }
 }
\ No newline at end of file
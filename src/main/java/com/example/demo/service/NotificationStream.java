@@ -0,0 +1,295 @@
+// src/main/java/com/example/demo/service/NotificationStream.java
+package com.example.demo.service;
+
+import com.example.demo.model.Notification;
+import com.example.demo.repository.NotificationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Powiadomienia wypychane przez SSE (GET /api/v1/notifications/stream) zamiast odpytywania unread-count.
+// Rejestr połączeń per użytkownik; NotificationService publikuje po commicie. Wysyłka przez osobną pulę wątków -
+// commitujący wątek tylko dokłada zdarzenie do bufora połączenia. Bufor jest ograniczony
+// (notifications.stream.buffer-size): wolny lub zerwany klient po przepełnieniu jest rozłączany, a po ponownym
+// połączeniu EventSource przesyła Last-Event-ID (ID ostatniego powiadomienia) i brakujące powiadomienia
+// są doczytywane z bazy. Heartbeat (komentarz SSE) co notifications.stream.heartbeat-ms utrzymuje połączenie
+// przez proxy i wykrywa martwych klientów. Ponad notifications.stream.max-connections-per-user nowe połączenie
+// dostaje zdarzenie "closed" i jest kończone.
+// Metryki: notifications.stream.connections
+@Service
+public class NotificationStream {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String UNREAD_COUNT_EVENT = "unread-count";
+    // Luka większa niż replay-limit - klient ładuje listę od nowa zamiast odtwarzać zdarzenia
+    static final String RESYNC_EVENT = "resync";
+    // Zdarzenie końcowe - klient zamyka EventSource i nie łączy się ponownie
+    static final String CLOSED_EVENT = "closed";
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int replayLimit;
+    private final int maxConnectionsPerUser;
+
+    public NotificationStream(@Value("${notifications.stream.timeout-ms:1800000}") long timeoutMs,
+                              @Value("${notifications.stream.buffer-size:64}") int bufferSize,
+                              @Value("${notifications.stream.replay-limit:100}") int replayLimit,
+                              @Value("${notifications.stream.max-connections-per-user:10}") int maxConnectionsPerUser,
+                              @Value("${notifications.stream.sender-threads:2}") int senderThreads,
+                              MeterRegistry meterRegistry) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.replayLimit = replayLimit;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("notifications.stream.connections", this, NotificationStream::connectionCount)
+                .register(meterRegistry);
+    }
+
+    // ========== POŁĄCZENIA ==========
+
+    // lastEventId = nagłówek Last-Event-ID przy ponownym połączeniu (null przy pierwszym)
+    public SseEmitter connect(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> connection.close());
+        emitter.onError(error -> unregister(connection));
+
+        // Rejestracja przed odczytem z bazy - powiadomienie zapisane w trakcie odtwarzania nie zginie,
+        // a do końca odtwarzania czeka w połączeniu (kolejność po ID)
+        List<Connection> userConnections = connections.compute(userId, (id, current) -> {
+            List<Connection> list = current != null ? current : new CopyOnWriteArrayList<>();
+            if (list.size() < maxConnectionsPerUser) {
+                list.add(connection);
+            }
+            return list;
+        });
+        if (!userConnections.contains(connection)) {
+            // Ponad limit odrzucane jest nowe połączenie, nie najstarsze - wypierana karta łączyłaby się
+            // ponownie i wypierała kolejną, w kółko
+            reject(emitter, "too-many-connections");
+            return emitter;
+        }
+
+        try {
+            if (lastEventId != null) {
+                List<Notification> missed = notificationRepository.findByUser_IdAndIdGreaterThanOrderByIdAsc(
+                        userId, lastEventId, PageRequest.of(0, replayLimit + 1));
+                if (missed.size() > replayLimit) {
+                    connection.enqueue(SseEmitter.event().name(RESYNC_EVENT).data(Map.of("reason", "gap")));
+                    connection.finishReplay(lastEventId);
+                } else {
+                    long lastReplayed = lastEventId;
+                    for (Notification notification : missed) {
+                        connection.enqueue(notificationEvent(notification.getId(), toPayload(notification)));
+                        lastReplayed = notification.getId();
+                    }
+                    connection.finishReplay(lastReplayed);
+                }
+            } else {
+                connection.finishReplay(0);
+            }
+            connection.enqueue(unreadCountEvent(notificationRepository.countUnreadByUserId(userId)));
+        } catch (Exception e) {
+            System.err.println("❌ Błąd otwierania strumienia powiadomień: " + e.getMessage());
+            connection.close();
+        }
+        return emitter;
+    }
+
+    private static void reject(SseEmitter emitter, String reason) {
+        try {
+            emitter.send(SseEmitter.event().name(CLOSED_EVENT).data(Map.of("reason", reason)));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private int connectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void unregister(Connection connection) {
+        connection.closed = true;
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    // ========== PUBLIKACJA (po commicie) ==========
+
+    void publish(Long userId, long notificationId, Map<String, Object> payload) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            connection.publish(notificationId, payload);
+        }
+    }
+
+    void publishUnreadCount(Long userId) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        long unreadCount = notificationRepository.countUnreadByUserId(userId);
+        for (Connection connection : userConnections) {
+            connection.enqueue(unreadCountEvent(unreadCount));
+        }
+    }
+
+    static Map<String, Object> toPayload(Notification notification) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("id", notification.getId());
+        payload.put("title", notification.getTitle());
+        payload.put("message", notification.getMessage());
+        payload.put("type", notification.getType());
+        payload.put("isRead", notification.isRead());
+        payload.put("createdAt", notification.getCreatedAt());
+        payload.put("relatedId", notification.getRelatedId());
+        payload.put("actionUrl", notification.getActionUrl());
+        return payload;
+    }
+
+    private static SseEmitter.SseEventBuilder notificationEvent(long notificationId, Map<String, Object> payload) {
+        return SseEmitter.event().id(String.valueOf(notificationId)).name(NOTIFICATION_EVENT).data(payload);
+    }
+
+    // Bez id - nie przesuwa Last-Event-ID klienta
+    private static SseEmitter.SseEventBuilder unreadCountEvent(long unreadCount) {
+        return SseEmitter.event().name(UNREAD_COUNT_EVENT).data(Map.of("unreadCount", unreadCount));
+    }
+
+    // ========== HEARTBEAT ==========
+
+    @Scheduled(fixedDelayString = "${notifications.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(Connection::close));
+        sender.shutdownNow();
+    }
+
+    // ========== POŁĄCZENIE ==========
+
+    // Bufor zdarzeń jednego połączenia; najwyżej jedno zadanie wysyłki naraz (drainScheduled)
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Deque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+        // Powiadomienia opublikowane w trakcie odtwarzania - wysyłane po nim, jeśli nie były w odtworzonych
+        private final Map<Long, Map<String, Object>> heldDuringReplay = new TreeMap<>();
+        private boolean replaying = true;
+        private long lastReplayedId;
+        private boolean drainScheduled;
+        private volatile boolean closed;
+
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        synchronized void publish(long notificationId, Map<String, Object> payload) {
+            if (replaying) {
+                heldDuringReplay.put(notificationId, payload);
+            } else if (notificationId > lastReplayedId) {
+                enqueue(notificationEvent(notificationId, payload));
+            }
+        }
+
+        synchronized void finishReplay(long lastReplayedId) {
+            this.lastReplayedId = lastReplayedId;
+            replaying = false;
+            heldDuringReplay.forEach(this::publish);
+            heldDuringReplay.clear();
+        }
+
+        synchronized void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() >= bufferSize) {
+                // Klient nie nadąża - rozłączenie; po ponownym połączeniu Last-Event-ID uzupełni braki
+                close();
+                return;
+            }
+            buffer.add(event);
+            if (!drainScheduled) {
+                drainScheduled = true;
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = closed ? null : buffer.poll();
+                    if (event == null) {
+                        drainScheduled = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (Exception e) {
+                    // Klient się rozłączył
+                    synchronized (this) {
+                        closed = true;
+                        buffer.clear();
+                        drainScheduled = false;
+                    }
+                    emitter.completeWithError(e);
+                    unregister(this);
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (!closed) {
+                    closed = true;
+                    buffer.clear();
+                    emitter.complete();
+                }
+            }
+            unregister(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+// src/main/java/com/example/demo/service/PagedRebuild.java
+package com.example.demo.service;
+
+import java.util.function.LongUnaryOperator;
+
+// Budowa indeksu w pamięci stronami po ID (SearchIndexer, TaskFacetIndex, MessageSearchIndex).
+// Nieudana strona jest ponawiana po przerwie od tego samego ID - indeks zgłasza gotowość dopiero
+// po wczytaniu wszystkich stron, więc niepełne dane nigdy nie są podawane jako kompletne.
+final class PagedRebuild {
+
+    // Zwracane przez stronę, gdy była ostatnia
+    static final long DONE = -1;
+    static final long RETRY_DELAY_MS = 30_000;
+
+    private PagedRebuild() {}
+
+    // page: afterId -> ID ostatniego wczytanego wiersza albo DONE. false - wątek przerwany przed końcem.
+    static boolean load(String name, LongUnaryOperator page) {
+        long afterId = 0;
+        while (afterId != DONE) {
+            try {
+                afterId = page.applyAsLong(afterId);
+            } catch (RuntimeException e) {
+                System.err.println("❌ Błąd budowania " + name + " (ponowienie za " + RETRY_DELAY_MS / 1000 + " s): "
+                        + e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
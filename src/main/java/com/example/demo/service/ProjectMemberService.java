@@ -23,6 +23,15 @@ public class ProjectMemberService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private ProjectVisibility projectVisibility;
+
+    @Autowired
+    private TaskChangeSequence changeSequence;
+
     // ✅ ZAKTUALIZOWANA METODA - z powiadomieniami
     @Transactional
     public ProjectMember addMemberToProject(Project project, User user, ProjectRole role) {
@@ -38,10 +47,14 @@ public class ProjectMemberService {
         member.setRole(role);
 
         ProjectMember saved = projectMemberRepository.save(member);
+        projectVisibility.memberAdded(project.getId(), user.getId());
+        changeSequence.markMembershipChanged(user.getId());
 
         // Wyślij wiadomość systemową w czacie projektu
         String systemMessage = "👤 " + user.getUsername() + " dołączył do projektu jako " + getRoleDisplayName(role);
         messageService.sendSystemMessage(project, systemMessage);
+        activityService.recordProjectEvent(ActivityType.MEMBER_ADDED, project, user,
+                user.getUsername() + " dołączył do projektu " + project.getName());
 
         // ✅ WYSYŁANIE POWIADOMIENIA
         try {
@@ -68,9 +81,13 @@ public class ProjectMemberService {
         Optional<ProjectMember> memberOpt = projectMemberRepository.findByProjectAndUser(project, user);
         if (memberOpt.isPresent()) {
             projectMemberRepository.delete(memberOpt.get());
+            projectVisibility.memberRemoved(project.getId(), user.getId());
+            changeSequence.markMembershipChanged(user.getId());
 
             String systemMessage = "👤 " + user.getUsername() + " opuścił projekt";
             messageService.sendSystemMessage(project, systemMessage);
+            activityService.recordProjectEvent(ActivityType.MEMBER_REMOVED, project, user,
+                    user.getUsername() + " opuścił projekt " + project.getName());
         }
     }
 // Zmień rolę członka po ID członkostwa
@@ -95,6 +112,9 @@ public class ProjectMemberService {
                 " została zmieniona z " + getRoleDisplayName(oldRole) +
                 " na " + getRoleDisplayName(newRole);
         messageService.sendSystemMessage(project, systemMessage);
+        activityService.recordProjectEvent(ActivityType.MEMBER_ROLE_CHANGED, project, user,
+                "Zmieniono rolę " + user.getUsername() + " w projekcie " + project.getName() +
+                        " na " + getRoleDisplayName(newRole));
 
         return updated;
     }
@@ -114,9 +134,13 @@ public class ProjectMemberService {
         }
 
         projectMemberRepository.delete(member);
+        projectVisibility.memberRemoved(project.getId(), user.getId());
+        changeSequence.markMembershipChanged(user.getId());
 
         String systemMessage = "👤 " + user.getUsername() + " opuścił projekt";
         messageService.sendSystemMessage(project, systemMessage);
+        activityService.recordProjectEvent(ActivityType.MEMBER_REMOVED, project, user,
+                user.getUsername() + " opuścił projekt " + project.getName());
     }
 
     // Usuń użytkownika ze wszystkich projektów
@@ -133,6 +157,8 @@ public class ProjectMemberService {
 
                     // Usuń członkostwo
                     projectMemberRepository.delete(membership);
+                    projectVisibility.memberRemoved(project.getId(), user.getId());
+                    changeSequence.markMembershipChanged(user.getId());
 
                     // Wyślij wiadomość systemową (jeśli się nie uda, kontynuuj)
                     String systemMessage = "👤 Użytkownik " + user.getUsername() + " został usunięty z projektu";
@@ -205,6 +231,9 @@ public class ProjectMemberService {
                     " została zmieniona z " + getRoleDisplayName(oldRole) +
                     " na " + getRoleDisplayName(newRole);
             messageService.sendSystemMessage(project, systemMessage);
+            activityService.recordProjectEvent(ActivityType.MEMBER_ROLE_CHANGED, project, user,
+                    "Zmieniono rolę " + user.getUsername() + " w projekcie " + project.getName() +
+                            " na " + getRoleDisplayName(newRole));
         }
     }
 
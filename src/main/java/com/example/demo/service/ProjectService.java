@@ -3,7 +3,6 @@ package com.example.demo.service;
 
 import com.example.demo.model.Project;
 import com.example.demo.model.ProjectMember;
-import com.example.demo.model.Task;
 import com.example.demo.model.User;
 import com.example.demo.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -21,23 +21,17 @@ public class ProjectService {
     @Autowired
     private ProjectRepository projectRepository;
 
-    @Autowired
-    private TaskRepository taskRepository;
-
     @Autowired
     private ProjectMemberRepository projectMemberRepository;
 
     @Autowired
-    private MessageRepository messageRepository;
-
-    @Autowired
-    private CommentRepository commentRepository;
+    private BulkDeletionService bulkDeletionService;
 
     @Autowired
-    private UploadedFileRepository uploadedFileRepository;
+    private TaskViewService taskViewService;
 
     @Autowired
-    private NotificationRepository notificationRepository;
+    private SearchIndexer searchIndexer;
 
     // Existing methods
     public List<Project> getAllProjects() {
@@ -48,8 +42,18 @@ public class ProjectService {
         return projectRepository.findById(id);
     }
 
+    // Partia projektów po ID (wyniki wyszukiwania)
+    public List<Project> getProjectsByIds(Collection<Long> ids) {
+        return projectRepository.findAllById(ids);
+    }
+
+    // Nazwa projektu jest skopiowana do task_view - aktualizowana w tej samej transakcji
+    @Transactional
     public Project saveProject(Project project) {
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        taskViewService.projectRenamed(saved);
+        searchIndexer.indexProject(saved);
+        return saved;
     }
 
     public List<Project> getProjectsByCreator(User creator) {
@@ -67,7 +71,9 @@ public class ProjectService {
         project.setDescription(description);
         project.setCreatedBy(createdBy);
         project.setCreatedAt(LocalDateTime.now());
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        searchIndexer.indexProject(saved);
+        return saved;
     }
 // Dodaj te metody do src/main/java/com/example/demo/service/ProjectService.java
 
@@ -82,6 +88,7 @@ public class ProjectService {
     }
 
     // BRAKUJĄCA METODA - Aktualizacja projektu
+    @Transactional
     public Project updateProject(Long projectId, String name, String description) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Projekt o ID " + projectId + " nie istnieje"));
@@ -89,19 +96,25 @@ public class ProjectService {
         project.setName(name);
         project.setDescription(description);
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        taskViewService.projectRenamed(saved);
+        searchIndexer.indexProject(saved);
+        return saved;
     }
 
     // BRAKUJĄCA METODA - Usuwanie projektu (proste)
-    @Transactional
     public void deleteProject(Long projectId) {
         deleteProjectByAdmin(projectId); // Używa istniejącej rozszerzonej metody
     }
+    @Transactional
     public Project updateProject(Project project) {
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        taskViewService.projectRenamed(saved);
+        searchIndexer.indexProject(saved);
+        return saved;
     }
     // NOWA METODA - Usuwanie projektu przez administratora
-    @Transactional
+    // Bez jednej dużej transakcji - BulkDeletionService usuwa zadania paczkami w krótkich transakcjach
     public void deleteProjectByAdmin(Long projectId) {
         try {
             Optional<Project> projectOpt = projectRepository.findById(projectId);
@@ -114,45 +127,12 @@ public class ProjectService {
 
             System.out.println("🗑️ Admin usuwa projekt: " + project.getName() + " (ID: " + projectId + ")");
 
-            // 1. Usuń wszystkie zadania związane z projektem i ich dane
-            List<Task> projectTasks = taskRepository.findByProject(project);
-            for (Task task : projectTasks) {
-                // Usuń komentarze do zadań
-                commentRepository.deleteByTask(task);
-
-                // Usuń pliki związane z zadaniami
-                uploadedFileRepository.deleteByTask(task);
-
-                // Wyczyść relacje many-to-many z użytkownikami
-                task.getAssignedUsers().clear();
-                taskRepository.save(task);
-
-                // Usuń samo zadanie
-                taskRepository.delete(task);
-
-                System.out.println("  🗑️ Usunięto zadanie: " + task.getTitle());
-            }
-
-            // 2. Usuń wszystkie wiadomości w czacie projektu
-            messageRepository.deleteByProject(project);
-            System.out.println("  🗑️ Usunięto wiadomości czatu");
-
-            // 3. Usuń wszystkich członków projektu
-            projectMemberRepository.deleteByProject(project);
-            System.out.println("  🗑️ Usunięto członków projektu");
-
-            // 4. Usuń powiadomienia związane z projektem (jeśli istnieją)
-            try {
-                notificationRepository.deleteByRelatedEntityId(projectId);
-                System.out.println("  🗑️ Usunięto powiadomienia");
-            } catch (Exception e) {
-                System.out.println("  ⚠️ Błąd usuwania powiadomień (może nie istnieć metoda): " + e.getMessage());
-            }
-
-            // 5. Na końcu usuń sam projekt
-            projectRepository.delete(project);
+            // Zadania (z komentarzami, plikami, przypisaniami), czat, propozycje, członkowie,
+            // powiadomienia i sam projekt - stała liczba zapytań DELETE na paczkę zadań
+            int deletedTasks = bulkDeletionService.deleteProject(projectId);
 
-            System.out.println("✅ Pomyślnie usunięto projekt " + project.getName() + " wraz z wszystkimi danymi");
+            System.out.println("✅ Pomyślnie usunięto projekt " + project.getName() +
+                    " wraz z wszystkimi danymi (" + deletedTasks + " zadań)");
 
         } catch (Exception e) {
             System.err.println("❌ Błąd podczas usuwania projektu: " + e.getMessage());
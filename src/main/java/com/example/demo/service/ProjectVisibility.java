@@ -0,0 +1,158 @@
+// src/main/java/com/example/demo/service/ProjectVisibility.java
+package com.example.demo.service;
+
+import com.example.demo.model.User;
+import com.example.demo.repository.ProjectMemberRepository;
+import com.example.demo.repository.projection.MembershipRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Projekty widoczne dla użytkownika (członkostwa) trzymane w pamięci: użytkownik -> IdSet projektów
+// i projekt -> IdSet członków. Filtr dostępu w wyszukiwaniu to contains w O(1) na trafienie, bez zapytania o członkostwa.
+// Zmiany członkostw (ProjectMemberService, usunięcie projektu lub użytkownika) stosowane są po commicie,
+// więc zbiór nigdy nie wyprzedza bazy. Po starcie ładowany od zera; do końca ładowania projectsOf(User)
+// odpytuje bazę - niepełny zbiór mógłby ukryć projekty, a odebrane członkostwo nie może wrócić.
+@Service
+public class ProjectVisibility {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private final Map<Long, IdSet> projectsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, IdSet> usersByProject = new ConcurrentHashMap<>();
+
+    // Stan ładowania - chroniony przez synchronized
+    private final Set<String> removedDuringLoad = new HashSet<>();
+    private boolean loading;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== ODCZYT ==========
+
+    // Projekty, których członkiem jest użytkownik
+    public IdSet projectsOf(User user) {
+        if (!ready) {
+            return IdSet.of(projectMemberRepository.findProjectIdsByUserId(user.getId()).stream()
+                    .mapToLong(Long::longValue)
+                    .toArray());
+        }
+        return projectsOf(user.getId());
+    }
+
+    // Tylko z pamięci (np. podpowiedzi przy każdym naciśnięciu klawisza) - w trakcie ładowania może być niepełny
+    public IdSet projectsOf(long userId) {
+        return projectsByUser.getOrDefault(userId, IdSet.EMPTY);
+    }
+
+    public IdSet membersOf(long projectId) {
+        return usersByProject.getOrDefault(projectId, IdSet.EMPTY);
+    }
+
+    // Czy użytkownicy są razem w którymś projekcie
+    public boolean shareProject(long userId, long otherUserId) {
+        return projectsOf(userId).intersects(projectsOf(otherUserId));
+    }
+
+    // ========== HOOKI ZAPISU (w transakcji wywołującego) ==========
+
+    public void memberAdded(Long projectId, Long userId) {
+        AfterCommit.run(() -> add(projectId, userId, false));
+    }
+
+    public void memberRemoved(Long projectId, Long userId) {
+        AfterCommit.run(() -> remove(projectId, userId));
+    }
+
+    // Zbiorowy DELETE członkostw projektu
+    public void projectRemoved(Long projectId) {
+        AfterCommit.run(() -> {
+            for (long userId : membersOf(projectId).toArray()) {
+                remove(projectId, userId);
+            }
+        });
+    }
+
+    // Zbiorowy DELETE członkostw użytkownika
+    public void userRemoved(Long userId) {
+        AfterCommit.run(() -> {
+            for (long projectId : projectsOf(userId).toArray()) {
+                remove(projectId, userId);
+            }
+        });
+    }
+
+    private synchronized void add(long projectId, long userId, boolean fromLoad) {
+        if (fromLoad && removedDuringLoad.contains(projectId + ":" + userId)) {
+            return;
+        }
+        projectsByUser.merge(userId, IdSet.of(projectId), (current, added) -> current.with(projectId));
+        usersByProject.merge(projectId, IdSet.of(userId), (current, added) -> current.with(userId));
+    }
+
+    private synchronized void remove(long projectId, long userId) {
+        if (loading) {
+            removedDuringLoad.add(projectId + ":" + userId);
+        }
+        projectsByUser.computeIfPresent(userId, (u, ids) -> emptyToNull(ids.without(projectId)));
+        usersByProject.computeIfPresent(projectId, (p, ids) -> emptyToNull(ids.without(userId)));
+    }
+
+    private static IdSet emptyToNull(IdSet ids) {
+        return ids.isEmpty() ? null : ids;
+    }
+
+    // ========== ŁADOWANIE PO STARCIE ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        synchronized (this) {
+            loading = true;
+            removedDuringLoad.clear();
+        }
+        Thread thread = new Thread(this::load, "project-visibility-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Strony po ID - każde zapytanie w osobnej krótkiej transakcji repozytorium
+    private void load() {
+        long started = System.currentTimeMillis();
+        try {
+            long afterId = 0;
+            List<MembershipRow> rows;
+            do {
+                rows = projectMemberRepository.findMembershipRowsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                for (MembershipRow row : rows) {
+                    add(row.getProjectId(), row.getUserId(), true);
+                    afterId = row.getId();
+                }
+            } while (rows.size() == PAGE_SIZE);
+            synchronized (this) {
+                ready = true;
+            }
+            System.out.println("✅ Załadowano członkostwa projektów w " + (System.currentTimeMillis() - started) + " ms");
+        } catch (Exception e) {
+            // Bez ready projectsOf(User) dalej odpytuje bazę - dostęp pozostaje poprawny
+            System.err.println("❌ Błąd ładowania członkostw projektów: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                loading = false;
+                removedDuringLoad.clear();
+            }
+        }
+    }
+}
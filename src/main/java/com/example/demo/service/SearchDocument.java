@@ -0,0 +1,80 @@
+// src/main/java/com/example/demo/service/SearchDocument.java
+package com.example.demo.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Dokument indeksu wyszukiwania: tokeny z wagami i atrybuty potrzebne do filtrowania wyników.
+// Treść do wyświetlenia nie jest przechowywana - kontroler doczytuje z bazy tylko zwrócone wyniki.
+final class SearchDocument {
+
+    // Waga tokenu z pola głównego (nazwa użytkownika, tytuł, nazwa projektu) względem pozostałych pól
+    static final int PRIMARY_WEIGHT = 3;
+    static final int SECONDARY_WEIGHT = 1;
+
+    private final SearchIndex.Type type;
+    private final long id;
+    private final long version;
+    // Projekt decydujący o dostępie (dla projektu - on sam); null dla użytkowników
+    private final Long projectId;
+    private final boolean visible;
+    // Dokumenty, z którymi ten jest usuwany (projekt i zadanie komentarza, autor komentarza...)
+    private final long[] owners;
+    private final Map<String, Integer> terms = new HashMap<>();
+
+    private SearchDocument(SearchIndex.Type type, long id, long version, Long projectId, boolean visible, long[] owners) {
+        this.type = type;
+        this.id = id;
+        this.version = version;
+        this.projectId = projectId;
+        this.visible = visible;
+        this.owners = owners;
+    }
+
+    static SearchDocument user(long id, long version, String username, String email, String fullName, boolean active) {
+        return new SearchDocument(SearchIndex.Type.USER, id, version, null, active, new long[0])
+                .add(username, PRIMARY_WEIGHT)
+                .add(fullName, PRIMARY_WEIGHT)
+                .add(email, SECONDARY_WEIGHT);
+    }
+
+    static SearchDocument project(long id, long version, String name, String description) {
+        return new SearchDocument(SearchIndex.Type.PROJECT, id, version, id, true, new long[0])
+                .add(name, PRIMARY_WEIGHT)
+                .add(description, SECONDARY_WEIGHT);
+    }
+
+    static SearchDocument task(long id, long version, long projectId, String title, String description) {
+        return new SearchDocument(SearchIndex.Type.TASK, id, version, projectId, true,
+                new long[] {SearchIndex.key(SearchIndex.Type.PROJECT, projectId)})
+                .add(title, PRIMARY_WEIGHT)
+                .add(description, SECONDARY_WEIGHT);
+    }
+
+    static SearchDocument comment(long id, long version, long taskId, long projectId, long authorId, String text) {
+        return new SearchDocument(SearchIndex.Type.COMMENT, id, version, projectId, true, new long[] {
+                SearchIndex.key(SearchIndex.Type.PROJECT, projectId),
+                SearchIndex.key(SearchIndex.Type.TASK, taskId),
+                SearchIndex.key(SearchIndex.Type.USER, authorId)})
+                .add(text, PRIMARY_WEIGHT);
+    }
+
+    private SearchDocument add(String text, int weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Math::max);
+        }
+        return this;
+    }
+
+    long key() {
+        return SearchIndex.key(type, id);
+    }
+
+    SearchIndex.Type getType() { return type; }
+    long getId() { return id; }
+    long getVersion() { return version; }
+    Long getProjectId() { return projectId; }
+    boolean isVisible() { return visible; }
+    long[] getOwners() { return owners; }
+    Map<String, Integer> getTerms() { return terms; }
+}
@@ -0,0 +1,314 @@
+// src/main/java/com/example/demo/service/SearchIndex.java
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Odwrócony indeks wyszukiwania globalnego (użytkownicy, projekty, zadania, komentarze) w pamięci.
+// Słownik tokenów jest posortowany, więc każdy token zapytania dopasowuje się jako prefiks ("zad" -> "zadanie")
+// przez subMap - koszt zapytania zależy od liczby pasujących tokenów i dokumentów, nie od rozmiaru tabel.
+// Tokeny zapytania łączone są przez AND; wynik = suma wag pól (dokładne dopasowanie tokenu liczy się podwójnie).
+// W trybie fuzzy token zapytania pasuje też do podobnych tokenów słownika (TrigramIndex), z wagą
+// pomnożoną przez podobieństwo - literówki i brakujące litery nie zerują wyników.
+// Aktualizacje przychodzą z SearchIndexer po commicie; wersja encji (@Version) chroni przed nadpisaniem
+// nowszego dokumentu starszym, gdy commity kończą się w innej kolejności.
+// Metryki: search.index.documents, search.index.terms
+@Component
+public class SearchIndex {
+
+    // Mnożniki wag w trybie fuzzy (w procentach, żeby zostać przy int): dokładny token, prefiks,
+    // a dla podobnych tokenów - podobieństwo * FUZZY_PREFIX
+    private static final int FUZZY_EXACT = 200;
+    private static final int FUZZY_PREFIX = 100;
+    // Najwięcej podobnych tokenów słownika na token zapytania
+    private static final int MAX_FUZZY_TERMS = 64;
+
+    public enum Type {
+        USER, PROJECT, TASK, COMMENT
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, SearchDocument> documents = new HashMap<>();
+    // token -> (klucz dokumentu -> waga)
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // klucz dokumentu -> dokumenty usuwane razem z nim (zadania projektu, komentarze zadania i autora)
+    private final Map<Long, Set<Long>> dependants = new HashMap<>();
+    // Trigramy tokenów słownika (kluczy postings)
+    private final TrigramIndex trigrams = new TrigramIndex();
+    private final double similarityThreshold;
+
+    // Dokumenty usunięte w trakcie odbudowy - odbudowa mogła je odczytać przed usunięciem
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public SearchIndex(MeterRegistry meterRegistry,
+                       @Value("${search.fuzzy.similarity-threshold:0.3}") double similarityThreshold) {
+        this.similarityThreshold = similarityThreshold;
+        Gauge.builder("search.index.documents", this, SearchIndex::documentCount).register(meterRegistry);
+        Gauge.builder("search.index.terms", this, SearchIndex::termCount).register(meterRegistry);
+    }
+
+    // Klucz dokumentu: ID z typem w dwóch najniższych bitach
+    static long key(Type type, long id) {
+        return (id << 2) | type.ordinal();
+    }
+
+    private static long idOf(long key) {
+        return key >>> 2;
+    }
+
+    private static boolean isType(long key, Type type) {
+        return (key & 3) == type.ordinal();
+    }
+
+    // false do zakończenia odbudowy po starcie - wyniki mogą być wtedy niepełne
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== WYSZUKIWANIE ==========
+
+    // ID dokumentów danego typu od najlepiej pasującego; projectIds = projekty dostępne dla użytkownika
+    // (ProjectVisibility; null = bez filtra projektów, np. dla użytkowników). Użytkownicy nieaktywni są pomijani.
+    public List<Long> search(String query, Type type, IdSet projectIds, int limit) {
+        return search(query, type, projectIds, limit, false);
+    }
+
+    // fuzzy = dopasowania prefiksowe jak wyżej plus tokeny podobne (search.fuzzy.similarity-threshold)
+    public List<Long> search(String query, Type type, IdSet projectIds, int limit, boolean fuzzy) {
+        List<String> tokens = new ArrayList<>(SearchTokenizer.tokenize(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // Najdłuższy prefiks zwykle ma najmniej dopasowań - od niego zaczyna się przecięcie
+        tokens.sort(Comparator.comparingInt(String::length).reversed());
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String token : tokens) {
+                scores = fuzzy ? matchFuzzy(token, type, scores) : match(token, type, scores);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            // Top-k kopcem: najgorszy z zachowanych wyników na szczycie
+            Comparator<Map.Entry<Long, Integer>> ranking = Map.Entry.<Long, Integer>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(ranking);
+            for (Map.Entry<Long, Integer> candidate : scores.entrySet()) {
+                SearchDocument document = documents.get(candidate.getKey());
+                if (document == null || !document.isVisible()
+                        || (projectIds != null && !projectIds.contains(document.getProjectId()))) {
+                    continue;
+                }
+                top.add(candidate);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            LinkedList<Long> ids = new LinkedList<>();
+            while (!top.isEmpty()) {
+                ids.addFirst(idOf(top.poll().getKey()));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Dokumenty z tokenem zaczynającym się od prefiksu; przy kolejnych tokenach tylko spośród dotychczasowych kandydatów
+    private Map<Long, Integer> match(String prefix, Type type, Map<Long, Integer> candidates) {
+        Map<Long, Integer> best = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> term
+                : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            int multiplier = term.getKey().length() == prefix.length() ? 2 : 1;
+            accumulate(term.getValue(), multiplier, type, candidates, best);
+        }
+        if (candidates != null) {
+            best.replaceAll((key, score) -> score + candidates.get(key));
+        }
+        return best;
+    }
+
+    private Map<Long, Integer> matchFuzzy(String token, Type type, Map<Long, Integer> candidates) {
+        Map<String, Integer> multipliers = new HashMap<>();
+        for (String term : postings.subMap(token, true, token + Character.MAX_VALUE, false).keySet()) {
+            multipliers.put(term, term.length() == token.length() ? FUZZY_EXACT : FUZZY_PREFIX);
+        }
+        trigrams.similar(token, similarityThreshold, MAX_FUZZY_TERMS).forEach((term, similarity) ->
+                multipliers.merge(term, (int) Math.round(similarity * FUZZY_PREFIX), Math::max));
+
+        Map<Long, Integer> best = new HashMap<>();
+        multipliers.forEach((term, multiplier) -> accumulate(postings.get(term), multiplier, type, candidates, best));
+        if (candidates != null) {
+            best.replaceAll((key, score) -> score + candidates.get(key));
+        }
+        return best;
+    }
+
+    private static void accumulate(Map<Long, Integer> termPostings, int multiplier, Type type,
+                                   Map<Long, Integer> candidates, Map<Long, Integer> best) {
+        for (Map.Entry<Long, Integer> posting : termPostings.entrySet()) {
+            long key = posting.getKey();
+            if (isType(key, type) && (candidates == null || candidates.containsKey(key))) {
+                best.merge(key, posting.getValue() * multiplier, Math::max);
+            }
+        }
+    }
+
+    // ========== AKTUALIZACJA ==========
+
+    void upsert(SearchDocument document) {
+        upsert(document, false);
+    }
+
+    void upsert(SearchDocument document, boolean fromRebuild) {
+        long key = document.key();
+        lock.writeLock().lock();
+        try {
+            if (fromRebuild && removedDuringRebuild.contains(key)) {
+                return;
+            }
+            SearchDocument existing = documents.get(key);
+            if (existing != null) {
+                if (existing.getVersion() > document.getVersion()) {
+                    return;
+                }
+                unlink(existing);
+            }
+            link(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Usuwa dokument razem z zależnymi (projekt -> zadania i komentarze, zadanie -> komentarze, autor -> komentarze)
+    void remove(Type type, long id) {
+        lock.writeLock().lock();
+        try {
+            removeCascading(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Usuwa zależne dokumenty danego typu, zostawiając właściciela (np. komentarze zadania)
+    void removeDependants(Type ownerType, long ownerId, Type type) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> children = dependants.get(key(ownerType, ownerId));
+            if (children != null) {
+                for (Long child : new ArrayList<>(children)) {
+                    if (isType(child, type)) {
+                        removeCascading(child);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeCascading(long key) {
+        if (rebuilding) {
+            removedDuringRebuild.add(key);
+        }
+        SearchDocument document = documents.get(key);
+        if (document != null) {
+            unlink(document);
+        }
+        Set<Long> children = dependants.remove(key);
+        if (children != null) {
+            for (Long child : new ArrayList<>(children)) {
+                removeCascading(child);
+            }
+        }
+    }
+
+    private void link(SearchDocument document) {
+        long key = document.key();
+        documents.put(key, document);
+        document.getTerms().forEach((term, weight) -> postings.computeIfAbsent(term, t -> {
+            trigrams.add(t);
+            return new HashMap<>(4);
+        }).put(key, weight));
+        for (long owner : document.getOwners()) {
+            dependants.computeIfAbsent(owner, o -> new HashSet<>()).add(key);
+        }
+    }
+
+    private void unlink(SearchDocument document) {
+        long key = document.key();
+        documents.remove(key);
+        for (String term : document.getTerms().keySet()) {
+            Map<Long, Integer> keys = postings.get(term);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    postings.remove(term);
+                    trigrams.remove(term);
+                }
+            }
+        }
+        for (long owner : document.getOwners()) {
+            Set<Long> children = dependants.get(owner);
+            if (children != null) {
+                children.remove(key);
+                if (children.isEmpty()) {
+                    dependants.remove(owner);
+                }
+            }
+        }
+    }
+
+    // ========== ODBUDOWA ==========
+
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            removedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            removedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
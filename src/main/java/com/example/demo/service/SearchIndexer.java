@@ -0,0 +1,233 @@
+// src/main/java/com/example/demo/service/SearchIndexer.java
+package com.example.demo.service;
+
+import com.example.demo.model.Comment;
+import com.example.demo.model.Project;
+import com.example.demo.model.Task;
+import com.example.demo.model.User;
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+// Utrzymanie SearchIndex i SuggestIndex: serwisy zapisujące wywołują index*/remove* w swojej transakcji,
+// zmiana trafia do indeksu dopiero po commicie (wycofana transakcja nie zostawia śladu w indeksie).
+// Zadania - przez TaskChangedEvent, więc obejmuje każdy zapis encji niezależnie od serwisu.
+// Po starcie indeksy budowane są od zera: tabele równolegle (search.index.rebuild-threads),
+// stronami po ID (search.index.rebuild-page-size) - aplikacja obsługuje żądania w trakcie odbudowy.
+@Service
+public class SearchIndexer {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private SuggestIndex suggestIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final int threads;
+    private final int pageSize;
+
+    public SearchIndexer(@Value("${search.index.rebuild-threads:4}") int threads,
+                         @Value("${search.index.rebuild-page-size:1000}") int pageSize) {
+        this.threads = threads;
+        this.pageSize = pageSize;
+    }
+
+    // ========== HOOKI ZAPISU ==========
+
+    public void indexUser(User user) {
+        AfterCommit.run(() -> {
+            searchIndex.upsert(SearchDocument.user(user.getId(), user.getVersion(),
+                    user.getUsername(), user.getEmail(), user.getFullName(), user.isActive()));
+            suggestIndex.upsert(SuggestIndex.Entry.user(user.getId(), user.getVersion(), user.getUsername(),
+                    user.getLastLogin(), user.getCreatedAt(), user.isActive()), false);
+        });
+    }
+
+    public void indexProject(Project project) {
+        AfterCommit.run(() -> {
+            searchIndex.upsert(SearchDocument.project(project.getId(), project.getVersion(),
+                    project.getName(), project.getDescription()));
+            suggestIndex.upsert(SuggestIndex.Entry.project(project.getId(), project.getVersion(),
+                    project.getName(), project.getCreatedAt()), false);
+        });
+    }
+
+    public void indexComment(Comment comment) {
+        if (comment.getTask() == null) {
+            return;
+        }
+        // Zadanie i projekt odczytane w transakcji - po commicie leniwe relacje mogą być niedostępne
+        Long taskId = comment.getTask().getId();
+        Project project = comment.getTask().getProject();
+        Long projectId = project != null ? project.getId() : null;
+        Long authorId = comment.getAuthor().getId();
+        AfterCommit.run(() -> upsert(commentDocument(comment.getId(), comment.getVersion(), taskId, projectId, authorId,
+                comment.getText()), false));
+    }
+
+    public void removeComment(Long commentId) {
+        AfterCommit.run(() -> searchIndex.remove(SearchIndex.Type.COMMENT, commentId));
+    }
+
+    // Zbiorowe DELETE komentarzy zadania (samo zadanie zostaje)
+    public void removeCommentsOfTask(Task task) {
+        Long taskId = task.getId();
+        AfterCommit.run(() -> searchIndex.removeDependants(SearchIndex.Type.TASK, taskId, SearchIndex.Type.COMMENT));
+    }
+
+    // Projekt razem z zadaniami i komentarzami (zbiorowe DELETE omija TaskEntityListener)
+    public void removeProject(Long projectId) {
+        AfterCommit.run(() -> {
+            searchIndex.remove(SearchIndex.Type.PROJECT, projectId);
+            suggestIndex.remove(SearchIndex.Type.PROJECT, projectId);
+        });
+    }
+
+    // Użytkownik razem z napisanymi komentarzami
+    public void removeUser(Long userId) {
+        AfterCommit.run(() -> {
+            searchIndex.remove(SearchIndex.Type.USER, userId);
+            suggestIndex.remove(SearchIndex.Type.USER, userId);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskEntityListener.TaskChangedEvent event) {
+        Task task = event.getTask();
+        if (task.getId() == null) {
+            return;
+        }
+        if (event.getType() == TaskEntityListener.ChangeType.DELETED) {
+            searchIndex.remove(SearchIndex.Type.TASK, task.getId());
+            suggestIndex.remove(SearchIndex.Type.TASK, task.getId());
+            return;
+        }
+        Long projectId = task.getProject() != null ? task.getProject().getId() : null;
+        upsert(taskDocument(task.getId(), task.getVersion(), projectId, task.getTitle(), task.getDescription()), false);
+        if (projectId != null) {
+            suggestIndex.upsert(SuggestIndex.Entry.task(task.getId(), task.getVersion(), projectId, task.getTitle(),
+                    task.getUpdatedAt(), task.getCreatedAt()), false);
+        }
+    }
+
+    // Zadania i komentarze bez projektu nie są dostępne dla nikogo - nie trafiają do indeksu
+    private static SearchDocument taskDocument(Long id, long version, Long projectId, String title, String description) {
+        return projectId != null ? SearchDocument.task(id, version, projectId, title, description) : null;
+    }
+
+    private static SearchDocument commentDocument(Long id, long version, Long taskId, Long projectId, Long authorId,
+                                                  String text) {
+        return projectId != null ? SearchDocument.comment(id, version, taskId, projectId, authorId, text) : null;
+    }
+
+    private void upsert(SearchDocument document, boolean fromRebuild) {
+        if (document != null) {
+            searchIndex.upsert(document, fromRebuild);
+        }
+    }
+
+    // ========== ODBUDOWA ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        searchIndex.beginRebuild();
+        suggestIndex.beginRebuild();
+        long started = System.currentTimeMillis();
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "search-index-rebuild-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<?>[] loaders = {
+                CompletableFuture.runAsync(() -> load(userRepository::findSearchRowsAfter, row -> row.getId(), row -> {
+                    boolean active = Boolean.TRUE.equals(row.getActive());
+                    upsert(SearchDocument.user(row.getId(), row.getVersion(), row.getUsername(),
+                            row.getEmail(), row.getFullName(), active), true);
+                    suggestIndex.upsert(SuggestIndex.Entry.user(row.getId(), row.getVersion(), row.getUsername(),
+                            row.getLastLogin(), row.getCreatedAt(), active), true);
+                }), pool),
+                CompletableFuture.runAsync(() -> load(projectRepository::findSearchRowsAfter, row -> row.getId(), row -> {
+                    upsert(SearchDocument.project(row.getId(), row.getVersion(), row.getName(),
+                            row.getDescription()), true);
+                    suggestIndex.upsert(SuggestIndex.Entry.project(row.getId(), row.getVersion(), row.getName(),
+                            row.getCreatedAt()), true);
+                }), pool),
+                CompletableFuture.runAsync(() -> load(taskRepository::findSearchRowsAfter, row -> row.getId(), row -> {
+                    if (row.getProjectId() == null) {
+                        return;
+                    }
+                    upsert(taskDocument(row.getId(), row.getVersion(), row.getProjectId(),
+                            row.getTitle(), row.getDescription()), true);
+                    suggestIndex.upsert(SuggestIndex.Entry.task(row.getId(), row.getVersion(), row.getProjectId(),
+                            row.getTitle(), row.getUpdatedAt(), row.getCreatedAt()), true);
+                }), pool),
+                CompletableFuture.runAsync(() -> load(commentRepository::findSearchRowsAfter, row -> row.getId(),
+                        row -> upsert(commentDocument(row.getId(), row.getVersion(), row.getTaskId(),
+                                row.getProjectId(), row.getAuthorId(), row.getText()), true)), pool)
+        };
+
+        // Gotowość tylko po wczytaniu wszystkich stron (nieudane strony są ponawiane); przerwana odbudowa
+        // zostawia isReady() = false
+        CompletableFuture.allOf(loaders).whenComplete((result, error) -> {
+            pool.shutdown();
+            if (error != null) {
+                System.err.println("❌ Budowanie indeksu wyszukiwania przerwane: " + error.getMessage());
+                return;
+            }
+            searchIndex.finishRebuild();
+            suggestIndex.finishRebuild();
+            System.out.println("✅ Zbudowano indeks wyszukiwania w " + (System.currentTimeMillis() - started) + " ms");
+        });
+    }
+
+    // Strony po ID - każde zapytanie w osobnej krótkiej transakcji repozytorium
+    private <R> void load(PageLoader<R> loader, ToLongFunction<R> idOf, Consumer<R> index) {
+        boolean completed = PagedRebuild.load("indeksu wyszukiwania", afterId -> {
+            List<R> rows = loader.load(afterId, PageRequest.of(0, pageSize));
+            for (R row : rows) {
+                index.accept(row);
+            }
+            return rows.size() == pageSize ? idOf.applyAsLong(rows.get(rows.size() - 1)) : PagedRebuild.DONE;
+        });
+        if (!completed) {
+            throw new IllegalStateException("Search index rebuild interrupted");
+        }
+    }
+
+    @FunctionalInterface
+    private interface PageLoader<R> {
+        List<R> load(long afterId, PageRequest page);
+    }
+}
@@ -0,0 +1,42 @@
+// src/main/java/com/example/demo/service/SearchTokenizer.java
+package com.example.demo.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Podział tekstu na tokeny indeksu wyszukiwania: małe litery, bez znaków diakrytycznych
+// ("Żółć" -> "zolc"), podział na wszystkim, co nie jest literą ani cyfrą.
+// Ta sama normalizacja dla dokumentów i zapytań - zapytanie "lodz" znajduje "Łódź" i odwrotnie.
+final class SearchTokenizer {
+
+    // Dłuższe ciągi (np. wklejone linki, hashe) tylko powiększałyby słownik
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {}
+
+    static String normalize(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        // NFD rozkłada ą, ę, ó, ś, ź, ż, ć, ń na literę + znak łączący; ł nie ma rozkładu
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").replace('ł', 'l');
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(normalize(text))) {
+            if (!token.isEmpty() && token.length() <= MAX_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
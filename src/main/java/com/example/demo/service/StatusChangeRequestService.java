@@ -28,6 +28,15 @@ public class StatusChangeRequestService {
     @Autowired
     private ProjectMemberService memberService;
 
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private TaskViewService taskViewService;
+
     public StatusChangeRequest requestStatusChange(Task task, String newStatus, User requestedBy) {
         StatusChangeRequest request = new StatusChangeRequest();
         request.setTask(task);
@@ -36,6 +45,8 @@ public class StatusChangeRequestService {
         request.setRequestedBy(requestedBy);
 
         StatusChangeRequest saved = requestRepository.save(request);
+        activityService.recordTaskEvent(ActivityType.STATUS_CHANGE_REQUESTED, task, requestedBy,
+                "Prośba o zmianę statusu zadania " + task.getTitle() + " na " + newStatus);
 
         // Powiadomienia dla adminów projektu
         List<ProjectMember> admins = memberService.getProjectMembers(task.getProject()).stream()
@@ -57,6 +68,7 @@ public class StatusChangeRequestService {
         return saved;
     }
 
+    @Transactional
     public void approveStatusChange(Long requestId, User reviewedBy) {
         StatusChangeRequest request = requestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Prośba nie istnieje"));
@@ -65,12 +77,22 @@ public class StatusChangeRequestService {
         Task task = request.getTask();
         task.setStatus(request.getRequestedStatus());
         taskRepository.save(task);
+        taskViewService.refresh(task);
+        dashboardStatsCache.evictForTask(task, List.of());
 
         // Zaktualizuj prośbę
         request.setStatus(RequestStatus.APPROVED);
         request.setReviewedBy(reviewedBy);
         request.setReviewedAt(LocalDateTime.now());
         requestRepository.save(request);
+        activityService.recordTaskEvent(ActivityType.STATUS_CHANGE_APPROVED, task, reviewedBy,
+                "Zatwierdzono zmianę statusu zadania " + task.getTitle() + " na " + request.getRequestedStatus());
+        if (TaskStatsService.COMPLETED_STATUSES.contains(request.getRequestedStatus())
+                && (request.getCurrentStatus() == null
+                || !TaskStatsService.COMPLETED_STATUSES.contains(request.getCurrentStatus()))) {
+            activityService.recordTaskEvent(ActivityType.TASK_COMPLETED, task, request.getRequestedBy(),
+                    "Ukończono zadanie: " + task.getTitle());
+        }
 
         // Powiadomienie dla autora prośby
         notificationService.createNotification(
@@ -92,6 +114,8 @@ public class StatusChangeRequestService {
         request.setReviewedAt(LocalDateTime.now());
         request.setRejectionReason(reason);
         requestRepository.save(request);
+        activityService.recordTaskEvent(ActivityType.STATUS_CHANGE_REJECTED, request.getTask(), reviewedBy,
+                "Odrzucono zmianę statusu zadania " + request.getTask().getTitle());
 
         // Powiadomienie dla autora prośby
         notificationService.createNotification(
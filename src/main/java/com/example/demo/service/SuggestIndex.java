@@ -0,0 +1,531 @@
+// src/main/java/com/example/demo/service/SuggestIndex.java
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Podpowiedzi w trakcie pisania (GET /api/v1/search/suggest): nazwy użytkowników, nazwy projektów i tytuły zadań.
+// Zadania są podzielone na partycje per projekt, użytkownicy tworzą jedną partycję. Partycja to posortowane
+// tablice: tokeny, przesunięcia i odwołania do wpisów, a w obrębie tokenu wpisy od najnowszego. Prefiks zapytania
+// wyznacza ciągły zakres tokenów (wyszukiwanie binarne), a scalanie k list kończy się po `limit` trafieniach.
+// Zapytanie nie dotyka bazy ani blokad: wpisy i partycje są niezmienne i podmieniane referencją,
+// członkostwa w projektach (dostęp i ranking) pochodzą z ProjectVisibility.
+// Zmiany wpisów są widoczne od razu, nowe tokeny - po przebudowie partycji (search.suggest.refresh-ms).
+@Component
+public class SuggestIndex {
+
+    // Partycja użytkowników; partycje zadań mają klucz = ID projektu
+    private static final long USERS = -1L;
+    // Górna granica przejrzanych kandydatów na partycję (zapytania wielowyrazowe odrzucają część z nich)
+    private static final int MAX_SCANNED = 512;
+
+    @Autowired
+    private ProjectVisibility projectVisibility;
+
+    // Wpis podpowiedzi - niezmienny, zmiana encji podmienia cały wpis w tym samym slocie
+    static final class Entry {
+        final SearchIndex.Type type;
+        final long id;
+        final long version;
+        final String label;
+        final long projectId;
+        final long recency;
+        final boolean active;
+        final String[] tokens;
+
+        Entry(SearchIndex.Type type, long id, long version, String label, long projectId, long recency, boolean active) {
+            this.type = type;
+            this.id = id;
+            this.version = version;
+            this.label = label;
+            this.projectId = projectId;
+            this.recency = recency;
+            this.active = active;
+            this.tokens = SearchTokenizer.tokenize(label).toArray(new String[0]);
+        }
+
+        static Entry user(long id, long version, String username, LocalDateTime lastLogin, LocalDateTime createdAt,
+                          boolean active) {
+            return new Entry(SearchIndex.Type.USER, id, version, username, 0L,
+                    recency(lastLogin != null ? lastLogin : createdAt), active);
+        }
+
+        static Entry project(long id, long version, String name, LocalDateTime createdAt) {
+            return new Entry(SearchIndex.Type.PROJECT, id, version, name, id, recency(createdAt), true);
+        }
+
+        static Entry task(long id, long version, long projectId, String title, LocalDateTime updatedAt,
+                          LocalDateTime createdAt) {
+            return new Entry(SearchIndex.Type.TASK, id, version, title, projectId,
+                    recency(updatedAt != null ? updatedAt : createdAt), true);
+        }
+
+        long partition() {
+            return type == SearchIndex.Type.TASK ? projectId : USERS;
+        }
+
+        // Każdy token zapytania musi być prefiksem któregoś tokenu wpisu
+        boolean matchesAll(String[] queryTokens) {
+            for (String queryToken : queryTokens) {
+                boolean found = false;
+                for (String token : tokens) {
+                    if (token.startsWith(queryToken)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Posortowane tablice partycji; refs[offsets[i]..offsets[i+1]) = sloty wpisów z tokenem terms[i], od najnowszego
+    private static final class Partition {
+        final String[] terms;
+        final int[] offsets;
+        final int[] refs;
+        final long[] recency;
+
+        Partition(String[] terms, int[] offsets, int[] refs, long[] recency) {
+            this.terms = terms;
+            this.offsets = offsets;
+            this.refs = refs;
+            this.recency = recency;
+        }
+    }
+
+    public static final class Suggestion {
+        private final SearchIndex.Type type;
+        private final long id;
+        private final String label;
+        private final Long projectId;
+        private final String projectName;
+
+        Suggestion(SearchIndex.Type type, long id, String label, Long projectId, String projectName) {
+            this.type = type;
+            this.id = id;
+            this.label = label;
+            this.projectId = projectId;
+            this.projectName = projectName;
+        }
+
+        public SearchIndex.Type getType() { return type; }
+        public long getId() { return id; }
+        public String getLabel() { return label; }
+        public Long getProjectId() { return projectId; }
+        public String getProjectName() { return projectName; }
+    }
+
+    // Sloty wpisów - tablica publikowana przez volatile, odczyt bez blokad. Sloty nie są używane ponownie,
+    // więc nieprzebudowana partycja nigdy nie wskaże innej encji niż ta, z której powstała.
+    private volatile Entry[] slots = new Entry[1024];
+    private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> projects = new ConcurrentHashMap<>();
+    private final Map<String, Long> userIdsByUsername = new ConcurrentHashMap<>();
+
+    // Stan zapisu - chroniony przez synchronized
+    private int slotCount;
+    private final Map<Long, Integer> slotByKey = new HashMap<>();
+    private final Map<Long, Set<Integer>> partitionSlots = new HashMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+
+    static long recency(LocalDateTime time) {
+        return time != null ? time.toEpochSecond(ZoneOffset.UTC) : 0L;
+    }
+
+    public Long findUserId(String username) {
+        return userIdsByUsername.get(username);
+    }
+
+    // ========== PODPOWIEDZI ==========
+
+    // Ranking: najpierw wyniki związane z członkostwem użytkownika (jego projekty, zadania w nich,
+    // współczłonkowie), w obrębie grupy od najnowszego. Zadania i projekty spoza członkostwa są niedostępne.
+    public List<Suggestion> suggest(long userId, String query, int limit) {
+        String[] queryTokens = SearchTokenizer.tokenize(query).toArray(new String[0]);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String lead = queryTokens[0];
+        for (String token : queryTokens) {
+            if (token.length() > lead.length()) {
+                lead = token;
+            }
+        }
+
+        IdSet memberOf = projectVisibility.projectsOf(userId);
+        Ranking ranking = new Ranking(limit);
+
+        for (long projectId : memberOf.toArray()) {
+            Entry project = projects.get(projectId);
+            if (project != null && project.matchesAll(queryTokens)) {
+                ranking.offer(project, 1);
+            }
+            collect(partitions.get(projectId), lead, queryTokens, limit, ranking, null);
+        }
+        collect(partitions.get(USERS), lead, queryTokens, limit, ranking, memberOf);
+
+        List<Suggestion> suggestions = new ArrayList<>(ranking.size);
+        for (int i = 0; i < ranking.size; i++) {
+            Entry entry = ranking.entries[i];
+            if (entry.type == SearchIndex.Type.TASK) {
+                Entry project = projects.get(entry.projectId);
+                suggestions.add(new Suggestion(entry.type, entry.id, entry.label, entry.projectId,
+                        project != null ? project.label : null));
+            } else {
+                suggestions.add(new Suggestion(entry.type, entry.id, entry.label,
+                        entry.type == SearchIndex.Type.PROJECT ? entry.id : null, null));
+            }
+        }
+        return suggestions;
+    }
+
+    // Scalanie list tokenów z zakresu prefiksu od najnowszego wpisu. memberOf != null - partycja użytkowników:
+    // współczłonkowie trafiają do wyższej grupy, przegląd kończy się po `limit` współczłonkach.
+    private void collect(Partition partition, String lead, String[] queryTokens, int limit,
+                         Ranking ranking, IdSet memberOf) {
+        if (partition == null) {
+            return;
+        }
+        // Odczyt tablicy slotów po partycji - partycja może wskazywać sloty dodane po początku zapytania
+        Entry[] entries = slots;
+        int from = lowerBound(partition.terms, lead);
+        int to = lowerBound(partition.terms, lead + Character.MAX_VALUE);
+        if (from >= to) {
+            return;
+        }
+
+        // Kopiec list (indeksy tokenów) po wieku bieżącej głowy listy
+        int[] heap = new int[to - from];
+        int[] position = new int[to - from];
+        int heapSize = 0;
+        for (int term = from; term < to; term++) {
+            position[term - from] = partition.offsets[term];
+            heap[heapSize] = term;
+            siftUp(heap, heapSize++, partition, position, from);
+        }
+
+        int found = 0;
+        int scanned = 0;
+        int previousSlot = -1;
+        while (heapSize > 0 && found < limit && scanned < MAX_SCANNED) {
+            int term = heap[0];
+            int slot = partition.refs[position[term - from]++];
+            if (position[term - from] == partition.offsets[term + 1]) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, partition, position, from);
+            scanned++;
+
+            // Ten sam wpis z kilku tokenów zakresu wychodzi ze scalania kolejno (ten sam wiek)
+            if (slot == previousSlot || ranking.contains(entries[slot])) {
+                continue;
+            }
+            previousSlot = slot;
+            Entry entry = entries[slot];
+            if (entry == null || !entry.active || !entry.matchesAll(queryTokens)) {
+                continue;
+            }
+            if (memberOf == null) {
+                ranking.offer(entry, 1);
+                found++;
+            } else if (memberOf.intersects(projectVisibility.projectsOf(entry.id))) {
+                ranking.offer(entry, 1);
+                found++;
+            } else {
+                ranking.offer(entry, 0);
+            }
+        }
+    }
+
+    private static int lowerBound(String[] terms, String key) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long head(int term, Partition partition, int[] position, int from) {
+        return partition.recency[position[term - from]];
+    }
+
+    private static void siftUp(int[] heap, int index, Partition partition, int[] position, int from) {
+        int term = heap[index];
+        long recency = head(term, partition, position, from);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (head(heap[parent], partition, position, from) >= recency) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = term;
+    }
+
+    private static void siftDown(int[] heap, int size, Partition partition, int[] position, int from) {
+        if (size == 0) {
+            return;
+        }
+        int index = 0;
+        int term = heap[0];
+        long recency = head(term, partition, position, from);
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && head(heap[child + 1], partition, position, from)
+                    > head(heap[child], partition, position, from)) {
+                child++;
+            }
+            if (head(heap[child], partition, position, from) <= recency) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = term;
+    }
+
+    // Najlepsze `limit` wpisów po (grupa, wiek, ID) - tablica posortowana przez wstawianie, limit jest mały
+    private static final class Ranking {
+        final Entry[] entries;
+        final int[] tiers;
+        int size;
+
+        Ranking(int limit) {
+            entries = new Entry[limit];
+            tiers = new int[limit];
+        }
+
+        boolean contains(Entry entry) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i] == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void offer(Entry entry, int tier) {
+            int index = size;
+            while (index > 0 && better(entry, tier, entries[index - 1], tiers[index - 1])) {
+                index--;
+            }
+            if (index >= entries.length) {
+                return;
+            }
+            int last = Math.min(size, entries.length - 1);
+            System.arraycopy(entries, index, entries, index + 1, last - index);
+            System.arraycopy(tiers, index, tiers, index + 1, last - index);
+            entries[index] = entry;
+            tiers[index] = tier;
+            size = Math.min(size + 1, entries.length);
+        }
+
+        private static boolean better(Entry entry, int tier, Entry other, int otherTier) {
+            if (tier != otherTier) {
+                return tier > otherTier;
+            }
+            if (entry.recency != other.recency) {
+                return entry.recency > other.recency;
+            }
+            return entry.id > other.id;
+        }
+    }
+
+    // ========== AKTUALIZACJA ==========
+
+    synchronized void upsert(Entry entry, boolean fromRebuild) {
+        long key = SearchIndex.key(entry.type, entry.id);
+        if (fromRebuild && removedDuringRebuild.contains(key)) {
+            return;
+        }
+        if (entry.type == SearchIndex.Type.PROJECT) {
+            projects.merge(entry.id, entry, (current, updated) -> current.version > updated.version ? current : updated);
+            return;
+        }
+
+        Integer slot = slotByKey.get(key);
+        Entry existing = slot != null ? slots[slot] : null;
+        if (existing != null && existing.version > entry.version) {
+            return;
+        }
+        if (slot == null) {
+            slot = allocate(entry);
+            slotByKey.put(key, slot);
+        } else {
+            Entry[] current = slots;
+            current[slot] = entry;
+            // Zapis volatile publikuje nowy wpis czytelnikom tablicy
+            slots = current;
+        }
+        if (existing != null && existing.partition() != entry.partition()) {
+            detach(existing.partition(), slot);
+        }
+        partitionSlots.computeIfAbsent(entry.partition(), p -> new HashSet<>()).add(slot);
+        // Wiek i tokeny mogły się zmienić - kolejność w partycji zmieni przebudowa
+        dirty.add(entry.partition());
+
+        if (entry.type == SearchIndex.Type.USER) {
+            if (existing != null && !existing.label.equals(entry.label)) {
+                userIdsByUsername.remove(existing.label, existing.id);
+            }
+            userIdsByUsername.put(entry.label, entry.id);
+        }
+    }
+
+    synchronized void remove(SearchIndex.Type type, long id) {
+        long key = SearchIndex.key(type, id);
+        if (rebuilding) {
+            removedDuringRebuild.add(key);
+        }
+        if (type == SearchIndex.Type.PROJECT) {
+            projects.remove(id);
+            // Zadania projektu usuwane razem z nim (zbiorowy DELETE)
+            Set<Integer> taskSlots = partitionSlots.remove(id);
+            if (taskSlots != null) {
+                for (int slot : taskSlots) {
+                    Entry task = slots[slot];
+                    if (task != null) {
+                        slotByKey.remove(SearchIndex.key(task.type, task.id));
+                        slots[slot] = null;
+                    }
+                }
+            }
+            partitions.remove(id);
+            dirty.remove(id);
+            return;
+        }
+
+        Integer slot = slotByKey.remove(key);
+        if (slot == null) {
+            return;
+        }
+        Entry existing = slots[slot];
+        slots[slot] = null;
+        if (existing != null) {
+            detach(existing.partition(), slot);
+            if (type == SearchIndex.Type.USER) {
+                userIdsByUsername.remove(existing.label, existing.id);
+            }
+        }
+    }
+
+    private int allocate(Entry entry) {
+        Entry[] current = slots;
+        if (slotCount == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[slotCount] = entry;
+        slots = current;
+        return slotCount++;
+    }
+
+    private void detach(long partition, int slot) {
+        Set<Integer> members = partitionSlots.get(partition);
+        if (members != null) {
+            members.remove(slot);
+            if (members.isEmpty()) {
+                partitionSlots.remove(partition);
+            }
+        }
+        dirty.add(partition);
+    }
+
+    // ========== PRZEBUDOWA PARTYCJI ==========
+
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-ms:250}")
+    public void refreshPartitions() {
+        Map<Long, int[]> pending = new HashMap<>();
+        Entry[] entries;
+        synchronized (this) {
+            for (Long partition : dirty) {
+                Set<Integer> members = partitionSlots.get(partition);
+                pending.put(partition, members != null
+                        ? members.stream().mapToInt(Integer::intValue).toArray() : new int[0]);
+            }
+            dirty.clear();
+            entries = slots;
+        }
+        // Budowa poza blokadą - zapis w trakcie ponownie oznaczy partycję do przebudowy
+        pending.forEach((partition, members) -> {
+            if (members.length == 0) {
+                partitions.remove(partition);
+            } else {
+                partitions.put(partition, build(entries, members));
+            }
+        });
+    }
+
+    private static Partition build(Entry[] entries, int[] members) {
+        List<long[]> postings = new ArrayList<>();
+        List<String> postingTerms = new ArrayList<>();
+        for (int slot : members) {
+            Entry entry = entries[slot];
+            if (entry == null) {
+                continue;
+            }
+            for (String token : entry.tokens) {
+                postingTerms.add(token);
+                postings.add(new long[] {slot, entry.recency});
+            }
+        }
+
+        Integer[] order = new Integer[postings.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byTerm = postingTerms.get(a).compareTo(postingTerms.get(b));
+            return byTerm != 0 ? byTerm : Long.compare(postings.get(b)[1], postings.get(a)[1]);
+        });
+
+        List<String> terms = new ArrayList<>();
+        int[] offsets = new int[order.length + 1];
+        int[] refs = new int[order.length];
+        long[] recency = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            String term = postingTerms.get(order[i]);
+            if (terms.isEmpty() || !terms.get(terms.size() - 1).equals(term)) {
+                offsets[terms.size()] = i;
+                terms.add(term);
+            }
+            refs[i] = (int) postings.get(order[i])[0];
+            recency[i] = postings.get(order[i])[1];
+        }
+        offsets[terms.size()] = order.length;
+        return new Partition(terms.toArray(new String[0]), Arrays.copyOf(offsets, terms.size() + 1), refs, recency);
+    }
+
+    // ========== ODBUDOWA PO STARCIE ==========
+
+    synchronized void beginRebuild() {
+        rebuilding = true;
+        removedDuringRebuild.clear();
+    }
+
+    synchronized void finishRebuild() {
+        rebuilding = false;
+        removedDuringRebuild.clear();
+    }
+}
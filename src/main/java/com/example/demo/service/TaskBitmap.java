@@ -0,0 +1,411 @@
+// src/main/java/com/example/demo/service/TaskBitmap.java
+package com.example.demo.service;
+
+import java.util.Arrays;
+
+// Skompresowany zbiór ID zadań w stylu Roaring: starsze bity ID wybierają kontener, młodsze 16 bitów
+// leży w kontenerze. Kontener rzadki to posortowana tablica char (do 4096 wartości, 8 kB), gęsty -
+// 1024 long (65536 bitów, też 8 kB). Przecięcia liczone kontener po kontenerze, bez rozpakowywania ID.
+// Bez własnej synchronizacji - używany pod blokadą TaskFacetIndex.
+final class TaskBitmap {
+
+    // Próg, powyżej którego tablica zajmowałaby więcej niż bitmapa
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    // Posortowane klucze kontenerów; kontener i to arrays[i] albo bits[i] (drugi null)
+    private int[] keys = new int[4];
+    private char[][] arrays = new char[4][];
+    private long[][] bits = new long[4][];
+    private int[] cardinalities = new int[4];
+    private int size;
+
+    boolean add(long id) {
+        int key = (int) (id >>> 16);
+        char low = (char) id;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new char[4], null, 0);
+        }
+
+        if (bits[index] != null) {
+            long[] words = bits[index];
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) != 0) {
+                return false;
+            }
+            words[low >>> 6] |= mask;
+        } else {
+            char[] array = arrays[index];
+            int cardinality = cardinalities[index];
+            int position = Arrays.binarySearch(array, 0, cardinality, low);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+            if (cardinality == ARRAY_MAX) {
+                long[] words = toBits(array, cardinality);
+                words[low >>> 6] |= 1L << low;
+                bits[index] = words;
+                arrays[index] = null;
+            } else {
+                if (cardinality == array.length) {
+                    array = Arrays.copyOf(array, Math.min(ARRAY_MAX, cardinality * 2));
+                    arrays[index] = array;
+                }
+                System.arraycopy(array, position, array, position + 1, cardinality - position);
+                array[position] = low;
+            }
+        }
+        cardinalities[index]++;
+        return true;
+    }
+
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(keys, 0, size, (int) (id >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        char low = (char) id;
+
+        if (bits[index] != null) {
+            long[] words = bits[index];
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                return false;
+            }
+            words[low >>> 6] &= ~mask;
+            if (--cardinalities[index] <= ARRAY_MAX) {
+                arrays[index] = toArray(words, cardinalities[index]);
+                bits[index] = null;
+            }
+        } else {
+            char[] array = arrays[index];
+            int cardinality = cardinalities[index];
+            int position = Arrays.binarySearch(array, 0, cardinality, low);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(array, position + 1, array, position, cardinality - position - 1);
+            cardinalities[index]--;
+        }
+
+        if (cardinalities[index] == 0) {
+            removeContainer(index);
+        }
+        return true;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += cardinalities[i];
+        }
+        return total;
+    }
+
+    // Wszystkie ID rosnąco
+    long[] toArray() {
+        long[] ids = new long[cardinality()];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            long high = (long) keys[i] << 16;
+            if (bits[i] != null) {
+                for (int w = 0; w < WORDS; w++) {
+                    for (long word = bits[i][w]; word != 0; word &= word - 1) {
+                        ids[n++] = high | (w << 6) | Long.numberOfTrailingZeros(word);
+                    }
+                }
+            } else {
+                for (int k = 0; k < cardinalities[i]; k++) {
+                    ids[n++] = high | arrays[i][k];
+                }
+            }
+        }
+        return ids;
+    }
+
+    // ========== OPERACJE NA ZBIORACH ==========
+
+    // |a ∩ b| bez budowania wyniku
+    static int andCardinality(TaskBitmap a, TaskBitmap b) {
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                total += andCardinality(a, i++, b, j++);
+            }
+        }
+        return total;
+    }
+
+    static TaskBitmap and(TaskBitmap a, TaskBitmap b) {
+        TaskBitmap result = new TaskBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.andContainer(a, i++, b, j++);
+            }
+        }
+        return result;
+    }
+
+    static TaskBitmap or(TaskBitmap a, TaskBitmap b) {
+        TaskBitmap result = new TaskBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.copyContainer(a, i++);
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.copyContainer(b, j++);
+            } else {
+                result.orContainer(a, i++, b, j++);
+            }
+        }
+        return result;
+    }
+
+    private static int andCardinality(TaskBitmap a, int i, TaskBitmap b, int j) {
+        long[] aBits = a.bits[i];
+        long[] bBits = b.bits[j];
+        if (aBits != null && bBits != null) {
+            int total = 0;
+            for (int w = 0; w < WORDS; w++) {
+                total += Long.bitCount(aBits[w] & bBits[w]);
+            }
+            return total;
+        }
+        if (aBits != null) {
+            return countIn(b.arrays[j], b.cardinalities[j], aBits);
+        }
+        if (bBits != null) {
+            return countIn(a.arrays[i], a.cardinalities[i], bBits);
+        }
+        return intersect(a.arrays[i], a.cardinalities[i], b.arrays[j], b.cardinalities[j], null);
+    }
+
+    private void andContainer(TaskBitmap a, int i, TaskBitmap b, int j) {
+        int key = a.keys[i];
+        long[] aBits = a.bits[i];
+        long[] bBits = b.bits[j];
+        if (aBits != null && bBits != null) {
+            long[] words = new long[WORDS];
+            int cardinality = 0;
+            for (int w = 0; w < WORDS; w++) {
+                words[w] = aBits[w] & bBits[w];
+                cardinality += Long.bitCount(words[w]);
+            }
+            if (cardinality > ARRAY_MAX) {
+                appendContainer(key, null, words, cardinality);
+            } else if (cardinality > 0) {
+                appendContainer(key, toArray(words, cardinality), null, cardinality);
+            }
+            return;
+        }
+
+        char[] array;
+        int cardinality;
+        if (aBits != null || bBits != null) {
+            char[] sparse = aBits != null ? b.arrays[j] : a.arrays[i];
+            int sparseCardinality = aBits != null ? b.cardinalities[j] : a.cardinalities[i];
+            long[] dense = aBits != null ? aBits : bBits;
+            array = new char[sparseCardinality];
+            cardinality = 0;
+            for (int k = 0; k < sparseCardinality; k++) {
+                char low = sparse[k];
+                if ((dense[low >>> 6] & (1L << low)) != 0) {
+                    array[cardinality++] = low;
+                }
+            }
+        } else {
+            array = new char[Math.min(a.cardinalities[i], b.cardinalities[j])];
+            cardinality = intersect(a.arrays[i], a.cardinalities[i], b.arrays[j], b.cardinalities[j], array);
+        }
+        if (cardinality > 0) {
+            appendContainer(key, array, null, cardinality);
+        }
+    }
+
+    private void orContainer(TaskBitmap a, int i, TaskBitmap b, int j) {
+        int key = a.keys[i];
+        if (a.bits[i] == null && b.bits[j] == null
+                && a.cardinalities[i] + b.cardinalities[j] <= ARRAY_MAX) {
+            char[] array = new char[a.cardinalities[i] + b.cardinalities[j]];
+            int cardinality = union(a.arrays[i], a.cardinalities[i], b.arrays[j], b.cardinalities[j], array);
+            appendContainer(key, array, null, cardinality);
+            return;
+        }
+
+        long[] words = a.bits[i] != null ? a.bits[i].clone() : toBits(a.arrays[i], a.cardinalities[i]);
+        if (b.bits[j] != null) {
+            for (int w = 0; w < WORDS; w++) {
+                words[w] |= b.bits[j][w];
+            }
+        } else {
+            for (int k = 0; k < b.cardinalities[j]; k++) {
+                char low = b.arrays[j][k];
+                words[low >>> 6] |= 1L << low;
+            }
+        }
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        if (cardinality > ARRAY_MAX) {
+            appendContainer(key, null, words, cardinality);
+        } else {
+            appendContainer(key, toArray(words, cardinality), null, cardinality);
+        }
+    }
+
+    private void copyContainer(TaskBitmap source, int index) {
+        appendContainer(source.keys[index],
+                source.arrays[index] != null ? Arrays.copyOf(source.arrays[index], source.cardinalities[index]) : null,
+                source.bits[index] != null ? source.bits[index].clone() : null,
+                source.cardinalities[index]);
+    }
+
+    // ========== KONTENERY ==========
+
+    private static int countIn(char[] array, int cardinality, long[] words) {
+        int total = 0;
+        for (int k = 0; k < cardinality; k++) {
+            char low = array[k];
+            if ((words[low >>> 6] & (1L << low)) != 0) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    // Liczność części wspólnej dwóch posortowanych tablic; out != null - zapisuje też jej elementy
+    private static int intersect(char[] a, int aLength, char[] b, int bLength, char[] out) {
+        // Mała tablica (np. zadania jednej osoby) wobec dużej - wyszukiwanie binarne zamiast scalania
+        if (aLength * 16 < bLength || bLength * 16 < aLength) {
+            return aLength < bLength ? search(a, aLength, b, bLength, out) : search(b, bLength, a, aLength, out);
+        }
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < aLength && j < bLength) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                if (out != null) {
+                    out[total] = a[i];
+                }
+                total++;
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    private static int search(char[] small, int smallLength, char[] large, int largeLength, char[] out) {
+        int total = 0;
+        int from = 0;
+        for (int i = 0; i < smallLength && from < largeLength; i++) {
+            int position = Arrays.binarySearch(large, from, largeLength, small[i]);
+            if (position >= 0) {
+                if (out != null) {
+                    out[total] = small[i];
+                }
+                total++;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return total;
+    }
+
+    private static int union(char[] a, int aLength, char[] b, int bLength, char[] out) {
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < aLength || j < bLength) {
+            if (j == bLength || (i < aLength && a[i] < b[j])) {
+                out[total++] = a[i++];
+            } else if (i == aLength || a[i] > b[j]) {
+                out[total++] = b[j++];
+            } else {
+                out[total++] = a[i++];
+                j++;
+            }
+        }
+        return total;
+    }
+
+    private static long[] toBits(char[] array, int cardinality) {
+        long[] words = new long[WORDS];
+        for (int k = 0; k < cardinality; k++) {
+            words[array[k] >>> 6] |= 1L << array[k];
+        }
+        return words;
+    }
+
+    private static char[] toArray(long[] words, int cardinality) {
+        char[] array = new char[Math.max(cardinality, 4)];
+        int position = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                array[position++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return array;
+    }
+
+    private void appendContainer(int key, char[] array, long[] words, int cardinality) {
+        insertContainer(size, key, array, words, cardinality);
+    }
+
+    private void insertContainer(int index, int key, char[] array, long[] words, int cardinality) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            arrays = Arrays.copyOf(arrays, capacity);
+            bits = Arrays.copyOf(bits, capacity);
+            cardinalities = Arrays.copyOf(cardinalities, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(arrays, index, arrays, index + 1, size - index);
+        System.arraycopy(bits, index, bits, index + 1, size - index);
+        System.arraycopy(cardinalities, index, cardinalities, index + 1, size - index);
+        keys[index] = key;
+        arrays[index] = array;
+        bits[index] = words;
+        cardinalities[index] = cardinality;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(arrays, index + 1, arrays, index, size - index - 1);
+        System.arraycopy(bits, index + 1, bits, index, size - index - 1);
+        System.arraycopy(cardinalities, index + 1, cardinalities, index, size - index - 1);
+        size--;
+        arrays[size] = null;
+        bits[size] = null;
+    }
+}
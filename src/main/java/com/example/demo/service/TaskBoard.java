@@ -0,0 +1,38 @@
+// src/main/java/com/example/demo/service/TaskBoard.java
+package com.example.demo.service;
+
+import com.example.demo.model.TaskView;
+
+import java.util.List;
+
+// Tablica Kanban projektu - kolumny wg statusu, w każdej pierwsze karty i liczba wszystkich kart.
+// nextCursor kolumny (KeysetCursor) pobiera kolejne karty przez TaskViewService.findTasks z filtrem statusu.
+public class TaskBoard {
+
+    private final List<Column> columns;
+
+    public TaskBoard(List<Column> columns) {
+        this.columns = columns;
+    }
+
+    public List<Column> getColumns() { return columns; }
+
+    public static class Column {
+        private final String status;
+        private final long total;
+        private final List<TaskView> cards;
+        private final String nextCursor;
+
+        public Column(String status, long total, List<TaskView> cards, String nextCursor) {
+            this.status = status;
+            this.total = total;
+            this.cards = cards;
+            this.nextCursor = nextCursor;
+        }
+
+        public String getStatus() { return status; }
+        public long getTotal() { return total; }
+        public List<TaskView> getCards() { return cards; }
+        public String getNextCursor() { return nextCursor; }
+    }
+}
@@ -0,0 +1,106 @@
+// src/main/java/com/example/demo/service/TaskChangeSequence.java
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Rosnący numer zmian zadań (change_seq) dla synchronizacji przyrostowej.
+// Jedna wartość na transakcję: pierwsze wywołanie podbija licznik w change_sequences i trzyma blokadę
+// wiersza do końca transakcji, więc transakcje zatwierdzają się w kolejności numerów - klient z tokenem N
+// nie przegapi zmiany z numerem <= N zatwierdzonej później. Kosztem jest serializacja zapisów zadań
+// od pierwszej zmiany do commitu.
+// JDBC zamiast JPA - wywoływane także z callbacków encji w trakcie flush.
+@Component
+public class TaskChangeSequence {
+
+    static final String TASKS = "tasks";
+    static final String TOMBSTONES_PURGED = "task_tombstones_purged";
+    static final String MEMBERSHIP_PREFIX = "membership:";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Numer zmian bieżącej transakcji (przydzielany przy pierwszym wywołaniu)
+    public long current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change sequence requires an active transaction");
+        }
+        // Synchronizacje są zawieszane razem z transakcją (REQUIRES_NEW dostaje własny numer)
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Allocated) {
+                return ((Allocated) synchronization).value;
+            }
+        }
+        long value = increment(TASKS);
+        TransactionSynchronizationManager.registerSynchronization(new Allocated(value));
+        return value;
+    }
+
+    // Ostatni przydzielony numer (bez blokady) - token startowy po pełnym przeładowaniu listy
+    public long latest() {
+        return read(TASKS);
+    }
+
+    // Najwyższy numer usuniętych śladów - starsze tokeny wymagają pełnego przeładowania
+    public long purgedUpTo() {
+        return read(TOMBSTONES_PURGED);
+    }
+
+    void markPurged(long changeSeq) {
+        ensureRow(TOMBSTONES_PURGED);
+        jdbcTemplate.update("UPDATE change_sequences SET seq_value = GREATEST(seq_value, ?) WHERE name = ?",
+                changeSeq, TOMBSTONES_PURGED);
+    }
+
+    // Zmiana członkostwa w bieżącej transakcji: zadania projektu pojawiają się lub znikają dla użytkownika bez
+    // zmiany wierszy task_view, więc jego tokeny sprzed tego numeru wymagają pełnego przeładowania
+    public void markMembershipChanged(Long userId) {
+        long changeSeq = current();
+        jdbcTemplate.update("INSERT INTO change_sequences (name, seq_value) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE seq_value = GREATEST(seq_value, VALUES(seq_value))",
+                MEMBERSHIP_PREFIX + userId, changeSeq);
+    }
+
+    // Wszyscy członkowie projektu - przed usunięciem projektu (ślady usunięć jego zadań przestają być dla nich widoczne)
+    public void markProjectMembershipChanged(Long projectId) {
+        long changeSeq = current();
+        jdbcTemplate.update("INSERT INTO change_sequences (name, seq_value) " +
+                "SELECT CONCAT(?, user_id), ? FROM project_members WHERE project_id = ? " +
+                "ON DUPLICATE KEY UPDATE seq_value = GREATEST(seq_value, VALUES(seq_value))",
+                MEMBERSHIP_PREFIX, changeSeq, projectId);
+    }
+
+    // Numer ostatniej zmiany członkostwa użytkownika (0 - brak)
+    public long membershipChangedAt(Long userId) {
+        return read(MEMBERSHIP_PREFIX + userId);
+    }
+
+    private long increment(String name) {
+        if (jdbcTemplate.update("UPDATE change_sequences SET seq_value = seq_value + 1 WHERE name = ?", name) == 0) {
+            ensureRow(name);
+            jdbcTemplate.update("UPDATE change_sequences SET seq_value = seq_value + 1 WHERE name = ?", name);
+        }
+        Long value = jdbcTemplate.queryForObject("SELECT seq_value FROM change_sequences WHERE name = ?", Long.class, name);
+        return value != null ? value : 0L;
+    }
+
+    private long read(String name) {
+        return jdbcTemplate.query("SELECT seq_value FROM change_sequences WHERE name = ?",
+                rs -> rs.next() ? rs.getLong(1) : 0L, name);
+    }
+
+    private void ensureRow(String name) {
+        jdbcTemplate.update("INSERT IGNORE INTO change_sequences (name, seq_value) VALUES (?, 0)", name);
+    }
+
+    private static final class Allocated implements TransactionSynchronization {
+        private final long value;
+
+        private Allocated(long value) {
+            this.value = value;
+        }
+    }
+}
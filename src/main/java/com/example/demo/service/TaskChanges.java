@@ -0,0 +1,34 @@
+// src/main/java/com/example/demo/service/TaskChanges.java
+package com.example.demo.service;
+
+import com.example.demo.model.TaskTombstone;
+import com.example.demo.model.TaskView;
+
+import java.util.List;
+
+// Wynik synchronizacji przyrostowej: zmienione/nowe zadania, usunięte zadania i token kolejnego wywołania.
+// resyncRequired - token starszy niż przechowywane ślady usunięć lub sprzed zmiany członkostwa w projektach,
+// klient musi przeładować listę w całości.
+public class TaskChanges {
+
+    private final List<TaskView> changed;
+    private final List<TaskTombstone> deleted;
+    private final String nextToken;
+    private final boolean hasMore;
+    private final boolean resyncRequired;
+
+    public TaskChanges(List<TaskView> changed, List<TaskTombstone> deleted,
+                       String nextToken, boolean hasMore, boolean resyncRequired) {
+        this.changed = changed;
+        this.deleted = deleted;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+        this.resyncRequired = resyncRequired;
+    }
+
+    public List<TaskView> getChanged() { return changed; }
+    public List<TaskTombstone> getDeleted() { return deleted; }
+    public String getNextToken() { return nextToken; }
+    public boolean isHasMore() { return hasMore; }
+    public boolean isResyncRequired() { return resyncRequired; }
+}
@@ -0,0 +1,73 @@
+// src/main/java/com/example/demo/service/TaskEntityListener.java
+package com.example.demo.service;
+
+import com.example.demo.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import java.time.LocalDateTime;
+
+// Listener JPA dla Task - każdy zapis zadania (niezależnie od serwisu) publikuje TaskChangedEvent.
+// Callbacki listenera wykonują się przed Task.rememberPersistedState(), więc widzimy jeszcze poprzedni stan.
+public class TaskEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskChangeSequence changeSequence;
+
+    // updatedAt i numer zmian transakcji - wartości z callbacku trafiają do tego samego INSERT/UPDATE
+    @PrePersist
+    @PreUpdate
+    public void beforeWrite(Task task) {
+        task.touch(changeSequence.current());
+    }
+
+    @PostPersist
+    public void afterInsert(Task task) {
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.CREATED, task));
+    }
+
+    @PostUpdate
+    public void afterUpdate(Task task) {
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.UPDATED, task));
+    }
+
+    @PostRemove
+    public void afterDelete(Task task) {
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.DELETED, task));
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    // Klasa eventu
+    public static class TaskChangedEvent {
+        private final ChangeType type;
+        private final Task task;
+        private final String previousStatus;
+        private final LocalDateTime previousDeadline;
+        private final LocalDateTime previousCompletedAt;
+
+        public TaskChangedEvent(ChangeType type, Task task) {
+            this.type = type;
+            this.task = task;
+            this.previousStatus = task.persistedStatus();
+            this.previousDeadline = task.persistedDeadline();
+            this.previousCompletedAt = task.persistedCompletedAt();
+        }
+
+        public ChangeType getType() { return type; }
+        public Task getTask() { return task; }
+        public String getPreviousStatus() { return previousStatus; }
+        public LocalDateTime getPreviousDeadline() { return previousDeadline; }
+        public LocalDateTime getPreviousCompletedAt() { return previousCompletedAt; }
+    }
+}
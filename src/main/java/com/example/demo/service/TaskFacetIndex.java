@@ -0,0 +1,322 @@
+// src/main/java/com/example/demo/service/TaskFacetIndex.java
+package com.example.demo.service;
+
+import com.example.demo.model.Task;
+import com.example.demo.model.User;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.projection.TaskAssigneeRow;
+import com.example.demo.repository.projection.TaskFacetRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Liczności faset listy zadań (status, priorytet, projekt, przypisany) z bitmap ID zadań w pamięci.
+// Każda wartość fasety ma swoją bitmapę (TaskBitmap); liczność = |zakres ∩ filtry ∩ bitmapa wartości|,
+// bez zapytań do bazy. Faseta nie jest zawężana własnym filtrem (status=TODO nadal pokazuje liczności
+// pozostałych statusów), tylko pozostałymi.
+// Zapisy trafiają tu razem z odświeżeniem task_view (TaskViewService.refresh) i usuwaniem zadań
+// (BulkDeletionService.deleteTaskDependants) - stan z transakcji zapisu, zastosowany po commicie.
+// Po starcie indeks budowany jest od zera w tle; do tego czasu liczności nie są zwracane.
+@Service
+public class TaskFacetIndex {
+
+    public static final String STATUS = "status";
+    public static final String PRIORITY = "priority";
+    public static final String PROJECT = "projectId";
+    public static final String ASSIGNEE = "assignee";
+
+    // Najwięcej wartości na fasetę w odpowiedzi (od najliczniejszej) - projektów i osób może być dużo
+    private static final int MAX_VALUES = 50;
+    private static final int PAGE_SIZE = 1000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectVisibility projectVisibility;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TaskBitmap all = new TaskBitmap();
+    private final Map<String, TaskBitmap> byStatus = new HashMap<>();
+    private final Map<String, TaskBitmap> byPriority = new HashMap<>();
+    private final Map<Long, TaskBitmap> byProject = new HashMap<>();
+    private final Map<Long, TaskBitmap> byAssignee = new HashMap<>();
+    // Bieżące wartości faset zadania - do zdjęcia go ze starych bitmap przy zmianie
+    private final Map<Long, Values> tasks = new HashMap<>();
+
+    // Zadania usunięte w trakcie odbudowy - odbudowa mogła je odczytać przed usunięciem
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    private static final class Values {
+        final long version;
+        final String status;
+        final String priority;
+        final Long projectId;
+        final long[] assigneeIds;
+
+        Values(long version, String status, String priority, Long projectId, long[] assigneeIds) {
+            this.version = version;
+            this.status = status;
+            this.priority = priority;
+            this.projectId = projectId;
+            this.assigneeIds = assigneeIds;
+        }
+    }
+
+    public static final class Counts {
+        private final int total;
+        private final Map<String, Map<String, Integer>> facets;
+
+        Counts(int total, Map<String, Map<String, Integer>> facets) {
+            this.total = total;
+            this.facets = facets;
+        }
+
+        // Zadania spełniające wszystkie filtry
+        public int getTotal() { return total; }
+        // faseta -> wartość -> liczba zadań (bez zer)
+        public Map<String, Map<String, Integer>> getFacets() { return facets; }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== LICZNOŚCI ==========
+
+    // Zakres jak w liście zadań: projekt, przypisane do użytkownika, projekty użytkownika albo wszystkie.
+    // null, dopóki indeks się buduje.
+    public Counts count(TaskQuery query) {
+        if (!ready) {
+            return null;
+        }
+        IdSet memberProjectIds = query.getMemberOf() != null
+                ? projectVisibility.projectsOf(query.getMemberOf())
+                : null;
+
+        lock.readLock().lock();
+        try {
+            TaskBitmap scope = scope(query, memberProjectIds);
+            TaskBitmap statusFilter = query.getStatus() != null ? bitmap(byStatus, query.getStatus()) : null;
+            TaskBitmap priorityFilter = query.getPriority() != null ? bitmap(byPriority, query.getPriority()) : null;
+
+            TaskBitmap byOtherThanStatus = narrow(scope, priorityFilter);
+            TaskBitmap byOtherThanPriority = narrow(scope, statusFilter);
+            TaskBitmap filtered = narrow(byOtherThanStatus, statusFilter);
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(STATUS, counts(byStatus, byOtherThanStatus, Function.identity()));
+            facets.put(PRIORITY, counts(byPriority, byOtherThanPriority, Function.identity()));
+            facets.put(PROJECT, counts(byProject, filtered, String::valueOf));
+            facets.put(ASSIGNEE, counts(byAssignee, filtered, String::valueOf));
+            return new Counts(filtered.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TaskBitmap scope(TaskQuery query, IdSet memberProjectIds) {
+        if (query.getProject() != null) {
+            return bitmap(byProject, query.getProject().getId());
+        }
+        if (query.getAssignedTo() != null) {
+            return bitmap(byAssignee, query.getAssignedTo().getId());
+        }
+        if (memberProjectIds != null) {
+            TaskBitmap union = new TaskBitmap();
+            for (long projectId : memberProjectIds.toArray()) {
+                TaskBitmap project = byProject.get(projectId);
+                if (project != null) {
+                    union = TaskBitmap.or(union, project);
+                }
+            }
+            return union;
+        }
+        return all;
+    }
+
+    private static <K> TaskBitmap bitmap(Map<K, TaskBitmap> facet, K value) {
+        TaskBitmap bitmap = facet.get(value);
+        return bitmap != null ? bitmap : new TaskBitmap();
+    }
+
+    private static TaskBitmap narrow(TaskBitmap bitmap, TaskBitmap filter) {
+        return filter != null ? TaskBitmap.and(bitmap, filter) : bitmap;
+    }
+
+    private static <K> Map<String, Integer> counts(Map<K, TaskBitmap> facet, TaskBitmap within,
+                                                   Function<K, String> label) {
+        List<Map.Entry<K, Integer>> nonZero = new ArrayList<>();
+        if (!within.isEmpty()) {
+            facet.forEach((value, bitmap) -> {
+                int count = TaskBitmap.andCardinality(within, bitmap);
+                if (count > 0) {
+                    nonZero.add(Map.entry(value, count));
+                }
+            });
+        }
+        nonZero.sort(Map.Entry.<K, Integer>comparingByValue().reversed());
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<K, Integer> entry : nonZero.subList(0, Math.min(MAX_VALUES, nonZero.size()))) {
+            counts.put(label.apply(entry.getKey()), entry.getValue());
+        }
+        return counts;
+    }
+
+    // ========== HOOKI ZAPISU (w transakcji wywołującego) ==========
+
+    // Wartości odczytane teraz (leniwe relacje są jeszcze dostępne), zastosowane po commicie
+    public void update(Collection<Task> changed) {
+        Map<Long, Values> snapshot = new LinkedHashMap<>();
+        for (Task task : changed) {
+            if (task.getId() != null) {
+                snapshot.put(task.getId(), new Values(task.getVersion(), task.getStatus(), task.getPriority(),
+                        task.getProject() != null ? task.getProject().getId() : null,
+                        task.getAssignedUsers().stream().mapToLong(User::getId).distinct().sorted().toArray()));
+            }
+        }
+        if (!snapshot.isEmpty()) {
+            AfterCommit.run(() -> write(() -> snapshot.forEach((taskId, values) -> put(taskId, values, false))));
+        }
+    }
+
+    public void remove(Collection<Long> taskIds) {
+        List<Long> ids = new ArrayList<>(taskIds);
+        AfterCommit.run(() -> write(() -> ids.forEach(this::removeTask)));
+    }
+
+    // Usunięty użytkownik znika z przypisań wszystkich zadań (zbiorowy DELETE)
+    public void removeAssignee(Long userId) {
+        AfterCommit.run(() -> write(() -> {
+            TaskBitmap assigned = byAssignee.remove(userId);
+            if (assigned == null) {
+                return;
+            }
+            tasks.replaceAll((taskId, values) -> Arrays.binarySearch(values.assigneeIds, userId) < 0 ? values
+                    : new Values(values.version, values.status, values.priority, values.projectId,
+                            Arrays.stream(values.assigneeIds).filter(id -> id != userId).toArray()));
+        }));
+    }
+
+    private void put(long taskId, Values values, boolean fromRebuild) {
+        Values existing = tasks.get(taskId);
+        if (fromRebuild && (existing != null || removedDuringRebuild.contains(taskId))) {
+            return;
+        }
+        if (existing != null) {
+            if (existing.version > values.version) {
+                return;
+            }
+            unlink(taskId, existing);
+        }
+        tasks.put(taskId, values);
+        all.add(taskId);
+        link(byStatus, values.status, taskId);
+        link(byPriority, values.priority, taskId);
+        link(byProject, values.projectId, taskId);
+        for (long assigneeId : values.assigneeIds) {
+            link(byAssignee, assigneeId, taskId);
+        }
+    }
+
+    private void removeTask(long taskId) {
+        if (rebuilding) {
+            removedDuringRebuild.add(taskId);
+        }
+        Values existing = tasks.remove(taskId);
+        if (existing != null) {
+            unlink(taskId, existing);
+            all.remove(taskId);
+        }
+    }
+
+    private void unlink(long taskId, Values values) {
+        unlink(byStatus, values.status, taskId);
+        unlink(byPriority, values.priority, taskId);
+        unlink(byProject, values.projectId, taskId);
+        for (long assigneeId : values.assigneeIds) {
+            unlink(byAssignee, assigneeId, taskId);
+        }
+    }
+
+    private static <K> void link(Map<K, TaskBitmap> facet, K value, long taskId) {
+        if (value != null) {
+            facet.computeIfAbsent(value, v -> new TaskBitmap()).add(taskId);
+        }
+    }
+
+    private static <K> void unlink(Map<K, TaskBitmap> facet, K value, long taskId) {
+        TaskBitmap bitmap = value != null ? facet.get(value) : null;
+        if (bitmap != null && bitmap.remove(taskId) && bitmap.isEmpty()) {
+            facet.remove(value);
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== ODBUDOWA ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        write(() -> {
+            rebuilding = true;
+            removedDuringRebuild.clear();
+        });
+        Thread thread = new Thread(this::rebuild, "task-facet-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Strony po ID - każde zapytanie w osobnej krótkiej transakcji repozytorium; gotowy dopiero po wszystkich
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        if (!PagedRebuild.load("indeksu faset zadań", this::loadPage)) {
+            return;
+        }
+        write(() -> {
+            rebuilding = false;
+            removedDuringRebuild.clear();
+            ready = true;
+        });
+        System.out.println("✅ Zbudowano indeks faset zadań w " + (System.currentTimeMillis() - started) + " ms");
+    }
+
+    private long loadPage(long afterId) {
+        List<TaskFacetRow> rows = taskRepository.findFacetRowsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+        if (rows.isEmpty()) {
+            return PagedRebuild.DONE;
+        }
+        Map<Long, long[]> assignees = taskRepository.findAssigneeRows(rows.stream()
+                        .map(TaskFacetRow::getId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.groupingBy(TaskAssigneeRow::getTaskId, Collectors.collectingAndThen(
+                        Collectors.toList(),
+                        pairs -> pairs.stream().mapToLong(TaskAssigneeRow::getUserId).distinct().sorted().toArray())));
+
+        write(() -> {
+            for (TaskFacetRow row : rows) {
+                put(row.getId(), new Values(row.getVersion(), row.getStatus(), row.getPriority(),
+                        row.getProjectId(), assignees.getOrDefault(row.getId(), new long[0])), true);
+            }
+        });
+        return rows.size() == PAGE_SIZE ? rows.get(rows.size() - 1).getId() : PagedRebuild.DONE;
+    }
+}
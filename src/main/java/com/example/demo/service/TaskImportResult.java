@@ -0,0 +1,43 @@
+// src/main/java/com/example/demo/service/TaskImportResult.java
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Wynik importu zadań: liczba zapisanych i odrzuconych wierszy + błędy (najwyżej MAX_ERRORS szczegółów)
+public class TaskImportResult {
+
+    public static final int MAX_ERRORS = 1000;
+
+    private int imported;
+    private int failed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void addImported(int count) {
+        imported += count;
+    }
+
+    void fail(int row, String error) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(row, error));
+        }
+    }
+
+    public int getImported() { return imported; }
+    public int getFailed() { return failed; }
+    public List<RowError> getErrors() { return errors; }
+
+    public static class RowError {
+        private final int row;
+        private final String error;
+
+        public RowError(int row, String error) {
+            this.row = row;
+            this.error = error;
+        }
+
+        public int getRow() { return row; }
+        public String getError() { return error; }
+    }
+}
@@ -28,6 +28,9 @@ public class TaskProposalService {
     @Autowired
     private ProjectMemberService memberService;
 
+    @Autowired
+    private TaskViewService taskViewService;
+
     public TaskProposal createProposal(Project project, User proposedBy,
                                        String title, String description, LocalDateTime deadline) {
         TaskProposal proposal = new TaskProposal();
@@ -58,6 +61,7 @@ public class TaskProposalService {
         return saved;
     }
 
+    @Transactional
     public void approveProposal(Long proposalId, User reviewedBy) {
         TaskProposal proposal = proposalRepository.findById(proposalId)
                 .orElseThrow(() -> new RuntimeException("Propozycja nie istnieje"));
@@ -71,6 +75,7 @@ public class TaskProposalService {
 
         // ZMIANA: Użyj TaskRepository zamiast TaskService
         Task savedTask = taskRepository.save(task);
+        taskViewService.refresh(savedTask);
 
         // Zaktualizuj propozycję
         proposal.setStatus(ProposalStatus.APPROVED);
@@ -0,0 +1,50 @@
+// src/main/java/com/example/demo/service/TaskQuery.java
+package com.example.demo.service;
+
+import com.example.demo.model.Project;
+import com.example.demo.model.User;
+
+// Zakres i filtry listy zadań - TaskService zamienia je na warunki SQL (TaskSpecifications)
+public class TaskQuery {
+
+    private Project project;
+    private User assignedTo;
+    private User memberOf;
+    private String status;
+    private String priority;
+
+    // Zadania jednego projektu
+    public TaskQuery project(Project project) {
+        this.project = project;
+        return this;
+    }
+
+    // Zadania, w których użytkownik jest w assignedUsers
+    public TaskQuery assignedTo(User user) {
+        this.assignedTo = user;
+        return this;
+    }
+
+    // Zadania ze wszystkich projektów, w których użytkownik jest członkiem
+    public TaskQuery memberOf(User user) {
+        this.memberOf = user;
+        return this;
+    }
+
+    // Puste wartości = brak filtra
+    public TaskQuery status(String status) {
+        this.status = status != null && !status.isEmpty() ? status : null;
+        return this;
+    }
+
+    public TaskQuery priority(String priority) {
+        this.priority = priority != null && !priority.isEmpty() ? priority : null;
+        return this;
+    }
+
+    public Project getProject() { return project; }
+    public User getAssignedTo() { return assignedTo; }
+    public User getMemberOf() { return memberOf; }
+    public String getStatus() { return status; }
+    public String getPriority() { return priority; }
+}
@@ -1,18 +1,24 @@
 // src/main/java/com/example/demo/service/TaskService.java
 package com.example.demo.service;
 
+import com.example.demo.model.ActivityType;
 import com.example.demo.model.Project;
+import com.example.demo.model.ProjectMember;
+import com.example.demo.model.ProjectRole;
 import com.example.demo.model.Task;
 import com.example.demo.model.User;
 import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.ProjectMemberRepository;
 import com.example.demo.repository.TaskRepository;
-import com.example.demo.repository.UploadedFileRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.projection.ProjectTaskCounts;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
@@ -24,7 +30,28 @@ public class TaskService {
     private CommentRepository commentRepository;
 
     @Autowired
-    private UploadedFileRepository uploadedFileRepository;
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private BulkDeletionService bulkDeletionService;
+
+    @Autowired
+    private TaskViewService taskViewService;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
 
     public Task findById(Long taskId) {
         return taskRepository.findById(taskId)
@@ -35,10 +62,22 @@ public class TaskService {
         return taskRepository.findById(taskId);
     }
 
+    // Partia zadań po ID (wyniki wyszukiwania)
+    public List<Task> getTasksByIds(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findByIdIn(taskIds);
+    }
+
     public List<Task> getTasksByProject(Project project) {
         return taskRepository.findByProject(project);
     }
 
+    public ProjectTaskCounts getProjectTaskCounts(Project project) {
+        return taskRepository.countProjectTaskStats(project);
+    }
+
     public List<Task> getTasksByAssignedUser(User user) {
         return taskRepository.findByAssignedUsersContaining(user);
     }
@@ -48,27 +87,165 @@ public class TaskService {
         return taskRepository.findAll();
     }
 
+    @Transactional
     public Task saveTask(Task task) {
-        return taskRepository.save(task);
+        return saveTask(task, task.getCreatedBy());
+    }
+
+    // Zapis z autorem zmiany - trafia do dziennika aktywności
+    @Transactional
+    public Task saveTask(Task task, User actor) {
+        boolean isNew = task.getId() == null;
+        String previousStatus = task.persistedStatus();
+
+        // Poprzedni przypisani też tracą aktualność statystyk (np. po odpięciu od zadania)
+        List<Long> previousAssigneeIds = task.getId() != null
+                ? taskRepository.findAssignedUserIds(task.getId())
+                : List.of();
+
+        Task saved = taskRepository.save(task);
+        taskViewService.refresh(saved);
+        dashboardStatsCache.evictForTask(saved, previousAssigneeIds);
+
+        if (isNew) {
+            activityService.recordTaskEvent(ActivityType.TASK_CREATED, saved, actor,
+                    "Utworzono zadanie: " + saved.getTitle());
+        } else if (TaskStatsService.COMPLETED_STATUSES.contains(saved.getStatus())
+                && (previousStatus == null || !TaskStatsService.COMPLETED_STATUSES.contains(previousStatus))) {
+            activityService.recordTaskEvent(ActivityType.TASK_COMPLETED, saved, actor,
+                    "Ukończono zadanie: " + saved.getTitle());
+        }
+        return saved;
+    }
+
+    // Zbiorcza zmiana zadań: uprawnienia sprawdzane raz na projekt (jedno zapytanie o członkostwa),
+    // zmiany zapisywane jednym flush na końcu transakcji (hibernate.jdbc.batch_size),
+    // jedna wiadomość systemowa na projekt zamiast jednej na zadanie.
+    // atomic = true - jakikolwiek błąd odrzuca całą partię przed wprowadzeniem zmian
+    @Transactional
+    public BulkTaskResult bulkUpdate(Collection<Long> taskIds, BulkTaskChanges changes, User actor, boolean atomic) {
+        Set<Long> ids = new LinkedHashSet<>(taskIds);
+        Map<Long, Task> tasks = taskRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Map<Long, String> failures = new LinkedHashMap<>();
+        ids.stream()
+                .filter(id -> !tasks.containsKey(id))
+                .forEach(id -> failures.put(id, "Task with ID " + id + " not found"));
+
+        Set<Project> projects = tasks.values().stream()
+                .map(Task::getProject)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ProjectRole> roles = projects.isEmpty()
+                ? Map.of()
+                : projectMemberRepository.findByUserAndProjectIn(actor, projects).stream()
+                        .collect(Collectors.toMap(member -> member.getProject().getId(), ProjectMember::getRole));
+
+        for (Task task : tasks.values()) {
+            ProjectRole role = task.getProject() != null ? roles.get(task.getProject().getId()) : null;
+            if (role == null) {
+                failures.put(task.getId(), "User is not a member of this project");
+            } else if (role == ProjectRole.VIEWER && changes.getStatus() != null
+                    && !changes.getStatus().equals(task.getStatus())) {
+                failures.put(task.getId(), "Viewers cannot change task status");
+            }
+        }
+
+        // Użytkownicy do przypisania - jedno zapytanie dla całej partii
+        Set<Long> userIds = new HashSet<>();
+        if (changes.getAssignedToId() != null) {
+            userIds.add(changes.getAssignedToId());
+        }
+        if (changes.getAssignedUserIds() != null) {
+            userIds.addAll(changes.getAssignedUserIds());
+        }
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Long userId : userIds) {
+            if (!users.containsKey(userId)) {
+                throw new RuntimeException("User with ID " + userId + " not found");
+            }
+        }
+
+        if (atomic && !failures.isEmpty()) {
+            return new BulkTaskResult(List.of(), failures, false);
+        }
+
+        List<Task> updated = new ArrayList<>();
+        for (Long id : ids) {
+            Task task = tasks.get(id);
+            if (task == null || failures.containsKey(id)) {
+                continue;
+            }
+            String previousStatus = task.getStatus();
+            List<Long> previousAssigneeIds = task.getAssignedUsers().stream()
+                    .map(User::getId)
+                    .collect(Collectors.toList());
+
+            if (changes.getStatus() != null) {
+                task.setStatus(changes.getStatus());
+            }
+            if (changes.getPriority() != null) {
+                task.setPriority(changes.getPriority());
+            }
+            if (changes.getDeadline() != null) {
+                task.setDeadline(changes.getDeadline());
+            }
+            if (changes.getAssignedToId() != null) {
+                task.setAssignedTo(users.get(changes.getAssignedToId()));
+            }
+            if (changes.getAssignedUserIds() != null) {
+                task.setAssignedUsers(changes.getAssignedUserIds().stream()
+                        .map(users::get)
+                        .collect(Collectors.toCollection(HashSet::new)));
+            }
+
+            dashboardStatsCache.evictForTask(task, previousAssigneeIds);
+            if (TaskStatsService.COMPLETED_STATUSES.contains(task.getStatus())
+                    && !TaskStatsService.COMPLETED_STATUSES.contains(previousStatus)) {
+                activityService.recordTaskEvent(ActivityType.TASK_COMPLETED, task, actor,
+                        "Ukończono zadanie: " + task.getTitle());
+            }
+            updated.add(task);
+        }
+
+        taskViewService.refresh(updated);
+
+        updated.stream()
+                .filter(task -> task.getProject() != null)
+                .collect(Collectors.groupingBy(Task::getProject, LinkedHashMap::new, Collectors.counting()))
+                .forEach((project, count) -> messageService.sendSystemMessage(project,
+                        "🔄 " + actor.getUsername() + " zmienił(a) " + count + " zadań: " + changes.describe()));
+
+        return new BulkTaskResult(updated.stream().map(Task::getId).collect(Collectors.toList()), failures, true);
     }
 
     @Transactional
     public void deleteTask(Long taskId) {
-        Task task = findById(taskId);
+        deleteTask(taskId, null);
+    }
 
-        // Usuń komentarze
-        commentRepository.deleteByTask(task);
+    @Transactional
+    public void deleteTask(Long taskId, User actor) {
+        Task task = findById(taskId);
 
-        // Usuń pliki
-        uploadedFileRepository.deleteByTask(task);
+        // Komentarze, pliki, prośby o zmianę statusu i wiersz task_view - zbiorowe DELETE
+        bulkDeletionService.deleteTaskDependants(List.of(taskId));
 
-        // Usuń zadanie
+        // Samo zadanie przez encję - TaskEntityListener aktualizuje liczniki i koło terminów
         taskRepository.delete(task);
+
+        dashboardStatsCache.evictForTask(task, List.of());
+        activityService.recordTaskEvent(ActivityType.TASK_DELETED, task, actor,
+                "Usunięto zadanie: " + task.getTitle());
     }
 
     @Transactional
     public void deleteCommentsForTask(Task task) {
         commentRepository.deleteByTask(task);
+        taskViewService.refreshCounts(task.getId());
+        searchIndexer.removeCommentsOfTask(task);
     }
 
     public List<Task> findAllByProject(Project project) {
@@ -0,0 +1,152 @@
+// src/main/java/com/example/demo/service/TaskStatsService.java
+package com.example.demo.service;
+
+import com.example.demo.model.TaskStatCounter;
+import com.example.demo.model.TaskStatMetric;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.TaskStatCounterRepository;
+import com.example.demo.repository.projection.BucketCount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Liczniki statystyk zadań utrzymywane przyrostowo przy każdym zapisie zadania.
+// Okresowa rekoncyliacja przelicza je od nowa z tabeli task i koryguje ewentualny dryf.
+@Service
+public class TaskStatsService {
+
+    public static final Set<String> COMPLETED_STATUSES = Set.of("COMPLETED", "DONE");
+    public static final Set<String> CLOSED_STATUSES = Set.of("COMPLETED", "DONE", "CANCELLED");
+
+    @Autowired
+    private TaskStatCounterRepository counterRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskStatsService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ========== AKTUALIZACJA PRZYROSTOWA ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskEntityListener.TaskChangedEvent event) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+
+        if (event.getType() != TaskEntityListener.ChangeType.CREATED) {
+            collect(deltas, event.getPreviousStatus(), event.getPreviousDeadline(), event.getPreviousCompletedAt(), -1);
+        }
+        if (event.getType() != TaskEntityListener.ChangeType.DELETED) {
+            collect(deltas, event.getTask().getStatus(), event.getTask().getDeadline(), event.getTask().getCompletedAt(), 1);
+        }
+
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach(this::applyDelta));
+        } catch (Exception e) {
+            // Nie przerywamy żądania - dryf naprawi rekoncyliacja
+            System.err.println("❌ Błąd aktualizacji liczników statystyk: " + e.getMessage());
+        }
+    }
+
+    private void collect(Map<CounterKey, Long> deltas, String status, LocalDateTime deadline,
+                         LocalDateTime completedAt, long sign) {
+        if (status == null) {
+            return;
+        }
+        deltas.merge(new CounterKey(TaskStatMetric.STATUS, status), sign, Long::sum);
+
+        if (COMPLETED_STATUSES.contains(status) && completedAt != null) {
+            deltas.merge(new CounterKey(TaskStatMetric.COMPLETED_DAY, dayBucket(completedAt.toLocalDate())), sign, Long::sum);
+        }
+        if (!CLOSED_STATUSES.contains(status) && deadline != null) {
+            deltas.merge(new CounterKey(TaskStatMetric.OPEN_DEADLINE_DAY, dayBucket(deadline.toLocalDate())), sign, Long::sum);
+        }
+    }
+
+    private void applyDelta(CounterKey key, long delta) {
+        int updated = counterRepository.increment(key.metric, key.bucket, delta);
+        if (updated == 0) {
+            counterRepository.save(new TaskStatCounter(key.metric, key.bucket, delta));
+        }
+    }
+
+    // ========== REKONCYLIACJA ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${stats.reconcile.interval-ms:900000}",
+            initialDelayString = "${stats.reconcile.interval-ms:900000}")
+    public void reconcile() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<TaskStatCounter> counters = new ArrayList<>();
+                addAll(counters, TaskStatMetric.STATUS, taskRepository.countGroupedByStatus());
+                addAll(counters, TaskStatMetric.COMPLETED_DAY, taskRepository.countCompletedGroupedByDay());
+                addAll(counters, TaskStatMetric.OPEN_DEADLINE_DAY, taskRepository.countOpenGroupedByDeadlineDay());
+
+                counterRepository.deleteAllInBatch();
+                counterRepository.saveAll(counters);
+            });
+        } catch (Exception e) {
+            System.err.println("❌ Błąd rekoncyliacji liczników statystyk: " + e.getMessage());
+        }
+    }
+
+    private void addAll(List<TaskStatCounter> counters, TaskStatMetric metric, List<BucketCount> rows) {
+        for (BucketCount row : rows) {
+            if (row.getBucket() != null) {
+                counters.add(new TaskStatCounter(metric, row.getBucket(), row.getTotal()));
+            }
+        }
+    }
+
+    private static String dayBucket(LocalDate day) {
+        return day.toString(); // ISO yyyy-MM-dd
+    }
+
+    private static final class CounterKey {
+        private final TaskStatMetric metric;
+        private final String bucket;
+
+        private CounterKey(TaskStatMetric metric, String bucket) {
+            this.metric = metric;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CounterKey)) return false;
+            CounterKey other = (CounterKey) o;
+            return metric == other.metric && bucket.equals(other.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metric, bucket);
+        }
+    }
+}
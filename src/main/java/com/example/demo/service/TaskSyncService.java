@@ -0,0 +1,121 @@
+// src/main/java/com/example/demo/service/TaskSyncService.java
+package com.example.demo.service;
+
+import com.example.demo.model.TaskTombstone;
+import com.example.demo.model.TaskView;
+import com.example.demo.model.User;
+import com.example.demo.repository.TaskTombstoneRepository;
+import com.example.demo.repository.TaskViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Synchronizacja przyrostowa listy zadań: klient trzyma lokalną kopię i pobiera tylko wiersze task_view
+// oraz ślady usunięć z numerem zmian za swoim tokenem, w zakresie projektów, których jest członkiem.
+// Ślady usunięć przechowywane są przez task-sync.tombstone-retention-days; starszy token = pełne przeładowanie.
+// Tak samo token sprzed dodania do projektu lub usunięcia z niego (TaskChangeSequence.markMembershipChanged).
+@Service
+public class TaskSyncService {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskChangeSequence changeSequence;
+
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionDays;
+
+    public TaskSyncService(PlatformTransactionManager transactionManager,
+                           @Value("${task-sync.tombstone-retention-days:30}") long retentionDays) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retentionDays = retentionDays;
+    }
+
+    // Jedna transakcja tylko do odczytu - oba zapytania widzą ten sam stan bazy (REPEATABLE READ)
+    @Transactional(readOnly = true)
+    public TaskChanges changesSince(User user, String token, int limit) {
+        TaskSyncToken since = TaskSyncToken.decode(token);
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        boolean initial = since == TaskSyncToken.START;
+
+        if (!initial && (since.getChangeSeq() < changeSequence.purgedUpTo()
+                || since.getChangeSeq() < changeSequence.membershipChangedAt(user.getId()))) {
+            // Token za stary lub sprzed zmiany członkostwa (doszły lub zniknęły całe projekty) -
+            // klient przeładowuje listę i kontynuuje od bieżącego numeru
+            TaskSyncToken restart = new TaskSyncToken(changeSequence.latest(), Long.MAX_VALUE);
+            return new TaskChanges(List.of(), List.of(), restart.encode(), false, true);
+        }
+
+        // size + 1 z obu źródeł - nadmiarowy wiersz po scaleniu oznacza kolejną stronę
+        Pageable page = PageRequest.of(0, size + 1);
+        List<TaskView> views = taskViewRepository.findChangedSince(
+                user, since.getChangeSeq(), since.getTaskId(), page);
+        // Pełna synchronizacja nie potrzebuje śladów usunięć - klient nie ma jeszcze żadnych zadań
+        List<TaskTombstone> tombstones = initial ? List.of() : taskTombstoneRepository.findDeletedSince(
+                user, since.getChangeSeq(), since.getTaskId(), page);
+
+        // Scalanie po (changeSeq, taskId) - token wskazuje ostatni zwrócony wiersz z obu list
+        List<TaskView> changed = new ArrayList<>();
+        List<TaskTombstone> deleted = new ArrayList<>();
+        TaskSyncToken last = since;
+        int v = 0;
+        int t = 0;
+        while (changed.size() + deleted.size() < size && (v < views.size() || t < tombstones.size())) {
+            boolean takeView = t >= tombstones.size()
+                    || (v < views.size() && compare(views.get(v), tombstones.get(t)) < 0);
+            if (takeView) {
+                TaskView view = views.get(v++);
+                changed.add(view);
+                last = new TaskSyncToken(view.getChangeSeq(), view.getTaskId());
+            } else {
+                TaskTombstone tombstone = tombstones.get(t++);
+                deleted.add(tombstone);
+                last = new TaskSyncToken(tombstone.getChangeSeq(), tombstone.getTaskId());
+            }
+        }
+        boolean hasMore = v < views.size() || t < tombstones.size();
+
+        return new TaskChanges(changed, deleted, last.encode(), hasMore, false);
+    }
+
+    private static int compare(TaskView view, TaskTombstone tombstone) {
+        int bySeq = Long.compare(view.getChangeSeq(), tombstone.getChangeSeq());
+        return bySeq != 0 ? bySeq : Long.compare(view.getTaskId(), tombstone.getTaskId());
+    }
+
+    // Usuwa ślady starsze niż okres retencji i zapamiętuje najwyższy usunięty numer zmian
+    @Scheduled(fixedDelayString = "${task-sync.tombstone-purge-interval-ms:3600000}",
+            initialDelayString = "${task-sync.tombstone-purge-interval-ms:3600000}")
+    public void purgeTombstones() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Long purgeUpTo = taskTombstoneRepository.findMaxChangeSeqDeletedBefore(
+                        LocalDateTime.now().minusDays(retentionDays));
+                if (purgeUpTo != null) {
+                    taskTombstoneRepository.deleteUpToChangeSeq(purgeUpTo);
+                    changeSequence.markPurged(purgeUpTo);
+                }
+            });
+        } catch (Exception e) {
+            System.err.println("❌ Błąd czyszczenia śladów usuniętych zadań: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+// src/main/java/com/example/demo/service/TaskSyncToken.java
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Pozycja synchronizacji po (changeSeq, taskId) - nieprzezroczysty token base64 dla klienta.
+// taskId rozróżnia wiersze z tym samym numerem zmian (jedna transakcja zmienia wiele zadań).
+public class TaskSyncToken {
+
+    // Przed wszystkimi zmianami - także wierszami sprzed wprowadzenia numeracji (change_seq = 0)
+    public static final TaskSyncToken START = new TaskSyncToken(-1, 0);
+
+    private final long changeSeq;
+    private final long taskId;
+
+    public TaskSyncToken(long changeSeq, long taskId) {
+        this.changeSeq = changeSeq;
+        this.taskId = taskId;
+    }
+
+    public long getChangeSeq() { return changeSeq; }
+    public long getTaskId() { return taskId; }
+
+    public String encode() {
+        String raw = changeSeq + "|" + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Pusty token = pełna synchronizacja od początku
+    public static TaskSyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new TaskSyncToken(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+    }
+}
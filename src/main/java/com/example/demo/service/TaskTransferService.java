@@ -0,0 +1,425 @@
+// src/main/java/com/example/demo/service/TaskTransferService.java
+package com.example.demo.service;
+
+import com.example.demo.model.ActivityType;
+import com.example.demo.model.Project;
+import com.example.demo.model.Task;
+import com.example.demo.model.User;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.TaskViewRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.projection.TaskExportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Eksport i import zadań projektu (CSV / NDJSON) strumieniowo, przy stałym zużyciu pamięci:
+// eksport czyta task_view kursorem tylko-do-przodu i pisze wiersz po wierszu,
+// import parsuje rekord po rekordzie i zapisuje paczkami (task-import.batch-size) w osobnych transakcjach.
+@Service
+public class TaskTransferService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        public static Format fromParam(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Format must be csv or ndjson");
+        }
+    }
+
+    private static final List<String> EXPORT_COLUMNS = List.of("id", "title", "description", "status", "priority",
+            "createdAt", "deadline", "completedAt", "assignedTo", "assignees", "commentCount", "fileCount");
+
+    private static final Set<String> STATUSES = Set.of("TODO", "NEW", "IN_PROGRESS", "COMPLETED", "CANCELLED");
+    private static final Set<String> PRIORITIES = Set.of("LOW", "MEDIUM", "HIGH", "URGENT");
+    private static final DateTimeFormatter API_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskViewService taskViewService;
+
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskTransferService(PlatformTransactionManager transactionManager,
+                               @Value("${task-import.batch-size:200}") int batchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    // ========== EKSPORT ==========
+
+    // Wołane z wątku StreamingResponseBody - transakcja utrzymuje otwarty kursor do końca zapisu
+    @Transactional(readOnly = true)
+    public void exportTasks(Long projectId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(String.join(",", EXPORT_COLUMNS));
+            writer.write("\n");
+        }
+
+        try (Stream<TaskExportRow> rows = taskViewRepository.streamExportRows(projectId)) {
+            Iterator<TaskExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TaskExportRow row = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(toMap(row)));
+                    writer.write("\n");
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, TaskExportRow row) throws IOException {
+        List<String> values = List.of(
+                String.valueOf(row.getTaskId()),
+                Csv.escape(row.getTitle()),
+                Csv.escape(row.getDescription()),
+                Csv.escape(row.getStatus()),
+                Csv.escape(row.getPriority()),
+                formatDate(row.getCreatedAt()),
+                formatDate(row.getDeadline()),
+                formatDate(row.getCompletedAt()),
+                Csv.escape(row.getAssignedTo()),
+                Csv.escape(row.getAssignees()),
+                String.valueOf(row.getCommentCount()),
+                String.valueOf(row.getFileCount()));
+        writer.write(String.join(",", values));
+        writer.write("\n");
+    }
+
+    private Map<String, Object> toMap(TaskExportRow row) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", row.getTaskId());
+        map.put("title", row.getTitle());
+        map.put("description", row.getDescription());
+        map.put("status", row.getStatus());
+        map.put("priority", row.getPriority());
+        map.put("createdAt", formatDate(row.getCreatedAt()));
+        map.put("deadline", row.getDeadline() != null ? formatDate(row.getDeadline()) : null);
+        map.put("completedAt", row.getCompletedAt() != null ? formatDate(row.getCompletedAt()) : null);
+        map.put("assignedTo", row.getAssignedTo());
+        map.put("assignees", row.getAssignees() != null ? List.of(row.getAssignees().split(";")) : List.of());
+        map.put("commentCount", row.getCommentCount());
+        map.put("fileCount", row.getFileCount());
+        return map;
+    }
+
+    private static String formatDate(LocalDateTime value) {
+        return value != null ? value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : "";
+    }
+
+    // ========== IMPORT ==========
+
+    // Błędny wiersz trafia do raportu i nie blokuje pozostałych; błąd zapisu odrzuca tylko swoją paczkę
+    public TaskImportResult importTasks(Project project, User actor, Format format, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        TaskImportResult result = new TaskImportResult();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        Map<String, Integer> columns = null;
+        if (format == Format.CSV) {
+            List<String> header = Csv.readRecord(reader);
+            if (header == null) {
+                return result;
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            if (!columns.containsKey("title")) {
+                throw new IllegalArgumentException("CSV header must contain a 'title' column");
+            }
+        }
+
+        int rowNumber = 0;
+        while (true) {
+            ImportRow row;
+            if (format == Format.CSV) {
+                List<String> record = Csv.readRecord(reader);
+                if (record == null) {
+                    break;
+                }
+                rowNumber++;
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                try {
+                    row = parseCsv(record, columns, rowNumber);
+                } catch (IllegalArgumentException e) {
+                    result.fail(rowNumber, e.getMessage());
+                    continue;
+                }
+            } else {
+                String line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    row = parseJson(objectMapper.readTree(line), rowNumber);
+                } catch (JsonProcessingException e) {
+                    result.fail(rowNumber, "Invalid JSON: " + e.getOriginalMessage());
+                    continue;
+                } catch (IllegalArgumentException e) {
+                    result.fail(rowNumber, e.getMessage());
+                    continue;
+                }
+            }
+
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                saveBatch(batch, project.getId(), actor.getId(), result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            saveBatch(batch, project.getId(), actor.getId(), result);
+        }
+
+        if (result.getImported() > 0) {
+            activityService.recordProjectEvent(ActivityType.TASK_CREATED, project, actor,
+                    "Zaimportowano " + result.getImported() + " zadań do projektu: " + project.getName());
+        }
+        return result;
+    }
+
+    // Paczka w osobnej transakcji; kontekst persystencji czyszczony po zapisie (stała pamięć przy dużych plikach)
+    private void saveBatch(List<ImportRow> batch, Long projectId, Long actorId, TaskImportResult result) {
+        Map<ImportRow, String> rejected = new LinkedHashMap<>();
+        try {
+            Integer saved = transactionTemplate.execute(status -> {
+                Set<String> usernames = new HashSet<>();
+                batch.forEach(row -> {
+                    if (row.assignedTo != null) {
+                        usernames.add(row.assignedTo);
+                    }
+                    usernames.addAll(row.assignees);
+                });
+                Map<String, User> users = usernames.isEmpty()
+                        ? Map.of()
+                        : userRepository.findByUsernameIn(usernames).stream()
+                                .collect(Collectors.toMap(User::getUsername, Function.identity()));
+
+                Project project = entityManager.getReference(Project.class, projectId);
+                User actor = entityManager.getReference(User.class, actorId);
+                List<Task> tasks = new ArrayList<>();
+                Set<Long> affectedUserIds = new HashSet<>();
+                affectedUserIds.add(actorId);
+
+                for (ImportRow row : batch) {
+                    String unknown = Stream.concat(Stream.ofNullable(row.assignedTo), row.assignees.stream())
+                            .filter(username -> !users.containsKey(username))
+                            .findFirst()
+                            .orElse(null);
+                    if (unknown != null) {
+                        rejected.put(row, "User not found: " + unknown);
+                        continue;
+                    }
+
+                    Task task = new Task();
+                    task.setTitle(row.title);
+                    task.setDescription(row.description);
+                    task.setStatus(row.status);
+                    task.setPriority(row.priority);
+                    task.setDeadline(row.deadline);
+                    task.setProject(project);
+                    task.setCreatedBy(actor);
+                    task.setCreatedAt(LocalDateTime.now());
+                    if (row.assignedTo != null) {
+                        task.setAssignedTo(users.get(row.assignedTo));
+                    }
+                    Set<User> assignedUsers = row.assignees.stream()
+                            .map(users::get)
+                            .collect(Collectors.toCollection(HashSet::new));
+                    task.setAssignedUsers(assignedUsers);
+                    assignedUsers.forEach(user -> affectedUserIds.add(user.getId()));
+
+                    tasks.add(taskRepository.save(task));
+                }
+
+                taskViewService.refresh(tasks);
+                entityManager.flush();
+                entityManager.clear();
+                dashboardStatsCache.evict(affectedUserIds);
+                return tasks.size();
+            });
+            result.addImported(saved != null ? saved : 0);
+            rejected.forEach((row, error) -> result.fail(row.number, error));
+        } catch (Exception e) {
+            System.err.println("❌ Błąd zapisu paczki importu: " + e.getMessage());
+            batch.forEach(row -> result.fail(row.number, "Batch failed: " + e.getMessage()));
+        }
+    }
+
+    private ImportRow parseCsv(List<String> record, Map<String, Integer> columns, int number) {
+        Function<String, String> field = name -> {
+            Integer index = columns.get(name);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        };
+        return toRow(number, field.apply("title"), field.apply("description"), field.apply("status"),
+                field.apply("priority"), field.apply("deadline"), field.apply("assignedTo"),
+                splitUsernames(field.apply("assignees")));
+    }
+
+    private ImportRow parseJson(JsonNode node, int number) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Each line must be a JSON object");
+        }
+        JsonNode assigneesNode = node.path("assignees");
+        List<String> assignees = new ArrayList<>();
+        if (assigneesNode.isArray()) {
+            assigneesNode.forEach(item -> {
+                if (!item.asText().isBlank()) {
+                    assignees.add(item.asText().trim());
+                }
+            });
+        } else if (assigneesNode.isTextual()) {
+            assignees.addAll(splitUsernames(assigneesNode.asText()));
+        }
+        return toRow(number, text(node, "title"), text(node, "description"), text(node, "status"),
+                text(node, "priority"), text(node, "deadline"), text(node, "assignedTo"), assignees);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull() || value.asText().isBlank()) {
+            return null;
+        }
+        return value.asText().trim();
+    }
+
+    private static List<String> splitUsernames(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(";"))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private ImportRow toRow(int number, String title, String description, String status, String priority,
+                            String deadline, String assignedTo, List<String> assignees) {
+        if (title == null) {
+            throw new IllegalArgumentException("Task title is required");
+        }
+        if (title.length() > 200) {
+            throw new IllegalArgumentException("Task title cannot exceed 200 characters");
+        }
+        if (description != null && description.length() > 1000) {
+            throw new IllegalArgumentException("Task description cannot exceed 1000 characters");
+        }
+        if (status != null && !STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+        if (priority != null && !PRIORITIES.contains(priority)) {
+            throw new IllegalArgumentException("Invalid priority: " + priority);
+        }
+
+        ImportRow row = new ImportRow();
+        row.number = number;
+        row.title = title;
+        row.description = description;
+        row.status = status != null ? status : "TODO";
+        row.priority = priority != null ? priority : "MEDIUM";
+        row.deadline = parseDate(deadline);
+        row.assignedTo = assignedTo;
+        row.assignees = assignees;
+        return row;
+    }
+
+    // ISO (2024-05-01T12:00:00) albo format API (2024-05-01 12:00:00)
+    private static LocalDateTime parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value, API_DATE_TIME);
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("Invalid deadline: " + value);
+            }
+        }
+    }
+
+    private static class ImportRow {
+        int number;
+        String title;
+        String description;
+        String status;
+        String priority;
+        LocalDateTime deadline;
+        String assignedTo;
+        List<String> assignees;
+    }
+}
@@ -0,0 +1,119 @@
+// src/main/java/com/example/demo/service/TaskViewRebuildJob.java
+package com.example.demo.service;
+
+import com.example.demo.model.BackgroundJob;
+import com.example.demo.model.JobType;
+import com.example.demo.repository.TaskViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Odbudowa task_view z tabel źródłowych: zakresy ID zadań (task-view.rebuild.chunk-size)
+// przetwarzane równolegle na task-view.rebuild.threads wątkach, każdy zakres w osobnej transakcji
+// (DELETE zakresu + INSERT ... SELECT). Zakresy są rozłączne, więc transakcje nie blokują się nawzajem.
+@Component
+public class TaskViewRebuildJob implements JobHandler {
+
+    private static final int STEPS = 2;
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int threads;
+
+    public TaskViewRebuildJob(PlatformTransactionManager transactionManager,
+                              @Value("${task-view.rebuild.chunk-size:1000}") int chunkSize,
+                              @Value("${task-view.rebuild.threads:4}") int threads) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.TASK_VIEW_REBUILD;
+    }
+
+    @Override
+    public int getStepsTotal() {
+        return STEPS;
+    }
+
+    @Override
+    public void run(BackgroundJob job, JobProgress progress) {
+        Long minId = taskViewRepository.findMinTaskId();
+        Long maxId = taskViewRepository.findMaxTaskId();
+
+        progress.step("CHUNKS");
+        if (minId != null) {
+            rebuildRanges(minId, maxId, progress);
+        }
+
+        progress.step("CLEANUP");
+        // Bez zadań zakres [1, 0] jest pusty - usuwane są wszystkie wiersze widoku
+        long from = minId != null ? minId : 1L;
+        long to = maxId != null ? maxId : 0L;
+        Integer removed = transactionTemplate.execute(status -> {
+            taskViewRepository.deleteAssigneesOutsideRange(from, to);
+            return taskViewRepository.deleteOutsideRange(from, to);
+        });
+        progress.add(removed != null ? removed : 0);
+
+        System.out.println("✅ Odbudowano task_view (zadanie #" + job.getId() + ")");
+    }
+
+    private void rebuildRanges(long minId, long maxId, JobProgress progress) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "task-view-rebuild-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletionService<Integer> completion = new ExecutorCompletionService<>(pool);
+            int submitted = 0;
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                long rangeFrom = from;
+                long rangeTo = Math.min(from + chunkSize - 1, maxId);
+                completion.submit(() -> rebuildRange(rangeFrom, rangeTo));
+                submitted++;
+            }
+
+            // Postęp raportowany z wątku zadania - JobProgress nie jest współdzielony między wątkami
+            for (int i = 0; i < submitted; i++) {
+                progress.add(completion.take().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Task view rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Task view rebuild failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int rebuildRange(long fromId, long toId) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            taskViewRepository.deleteAssigneesInRange(fromId, toId);
+            taskViewRepository.deleteInRange(fromId, toId);
+            int rows = taskViewRepository.insertRange(fromId, toId);
+            taskViewRepository.insertAssigneesInRange(fromId, toId);
+            return rows;
+        });
+        return inserted != null ? inserted : 0;
+    }
+}
@@ -0,0 +1,258 @@
+// src/main/java/com/example/demo/service/TaskViewService.java
+package com.example.demo.service;
+
+import com.example.demo.api.dto.response.CursorPage;
+import com.example.demo.model.JobType;
+import com.example.demo.model.Project;
+import com.example.demo.model.Task;
+import com.example.demo.model.TaskView;
+import com.example.demo.model.TaskViewAssignee;
+import com.example.demo.model.User;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.TaskViewQueryRepository;
+import com.example.demo.repository.TaskViewRepository;
+import com.example.demo.repository.TaskViewSpecifications;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Model odczytu list zadań (task_view). Serwisy zapisu wywołują metody aktualizujące
+// w swojej transakcji - wiersz widoku zmienia się razem z danymi źródłowymi albo wcale.
+// Zapisy zbiorowe SQL (BulkDeletionService, UserDeletionJob) korzystają z metod na ID.
+@Service
+public class TaskViewService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Kolumny tablicy zawsze obecne (także puste), w tej kolejności; inne statusy z danych dochodzą na końcu
+    public static final List<String> BOARD_STATUSES = List.of("TODO", "NEW", "IN_PROGRESS", "COMPLETED", "CANCELLED");
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BackgroundJobService backgroundJobService;
+
+    @Autowired
+    private TaskChangeSequence changeSequence;
+
+    @Autowired
+    private TaskFacetIndex taskFacetIndex;
+
+    // ========== ODCZYT ==========
+
+    // Strona zadań: filtry w SQL + keyset po (createdAt, taskId); kursor null = pierwsza strona
+    public CursorPage<TaskView> findTasks(TaskQuery query, String cursor, int limit) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        Specification<TaskView> spec = toSpecification(query);
+        if (position != null) {
+            spec = spec.and(TaskViewSpecifications.createdBefore(position.getCreatedAt(), position.getId()));
+        }
+
+        // size + 1 wierszy - nadmiarowy oznacza, że istnieje kolejna strona
+        List<TaskView> views = taskViewRepository.findLatest(spec, size + 1);
+        boolean hasMore = views.size() > size;
+        List<TaskView> pageViews = hasMore ? views.subList(0, size) : views;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskView last = pageViews.get(pageViews.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getTaskId()).encode();
+        }
+        return new CursorPage<>(pageViews, nextCursor);
+    }
+
+    // Tablica Kanban: karty i liczności wszystkich kolumn jednym zapytaniem (ROW_NUMBER/COUNT OVER PARTITION BY status)
+    public TaskBoard getBoard(Project project, int perColumn) {
+        int size = Math.max(1, Math.min(perColumn, MAX_PAGE_SIZE));
+
+        Map<String, List<TaskView>> cards = new LinkedHashMap<>();
+        Map<String, Long> totals = new HashMap<>();
+        for (String status : BOARD_STATUSES) {
+            cards.put(status, new ArrayList<>());
+        }
+        for (TaskViewQueryRepository.BoardCard card : taskViewRepository.findBoardCards(project.getId(), size)) {
+            String status = card.getView().getStatus();
+            cards.computeIfAbsent(status, key -> new ArrayList<>()).add(card.getView());
+            totals.put(status, card.getColumnTotal());
+        }
+
+        List<TaskBoard.Column> columns = new ArrayList<>();
+        cards.forEach((status, views) -> {
+            long total = totals.getOrDefault(status, 0L);
+            String nextCursor = null;
+            if (total > views.size()) {
+                TaskView last = views.get(views.size() - 1);
+                nextCursor = new KeysetCursor(last.getCreatedAt(), last.getTaskId()).encode();
+            }
+            columns.add(new TaskBoard.Column(status, total, views, nextCursor));
+        });
+        return new TaskBoard(columns);
+    }
+
+    // Numer zmian wiersza widoku (zmienia się także przy zmianie liczników) - 0 gdy wiersza brak
+    public long getChangeSeq(Long taskId) {
+        Long changeSeq = taskViewRepository.findChangeSeq(taskId);
+        return changeSeq != null ? changeSeq : 0L;
+    }
+
+    private Specification<TaskView> toSpecification(TaskQuery query) {
+        Specification<TaskView> spec = Specification.where(null);
+        if (query.getProject() != null) {
+            spec = spec.and(TaskViewSpecifications.inProject(query.getProject().getId()));
+        }
+        if (query.getAssignedTo() != null) {
+            spec = spec.and(TaskViewSpecifications.assignedTo(query.getAssignedTo().getId()));
+        }
+        if (query.getMemberOf() != null) {
+            spec = spec.and(TaskViewSpecifications.inProjectsOf(query.getMemberOf()));
+        }
+        if (query.getStatus() != null) {
+            spec = spec.and(TaskViewSpecifications.hasStatus(query.getStatus()));
+        }
+        if (query.getPriority() != null) {
+            spec = spec.and(TaskViewSpecifications.hasPriority(query.getPriority()));
+        }
+        return spec;
+    }
+
+    // ========== ZAPIS (w transakcji wywołującego) ==========
+
+    // Kopia pól zadania; liczniki utrzymuje refreshCounts
+    @Transactional
+    public void refresh(Task task) {
+        refresh(List.of(task));
+    }
+
+    // Wiele zadań naraz - istniejące wiersze widoku jednym zapytaniem, zapis przy flush (JDBC batching)
+    @Transactional
+    public void refresh(Collection<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<Long, TaskView> existing = taskViewRepository.findAllById(tasks.stream()
+                        .map(Task::getId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(TaskView::getTaskId, view -> view));
+
+        // Numer transakcji - ten sam, który TaskEntityListener nada zadaniom przy flush
+        long changeSeq = changeSequence.current();
+        List<Long> missing = new ArrayList<>();
+        for (Task task : tasks) {
+            TaskView view = existing.get(task.getId());
+            if (view == null) {
+                view = new TaskView(task.getId());
+                missing.add(task.getId());
+            }
+            copy(task, view);
+            view.setUpdatedAt(LocalDateTime.now());
+            view.setChangeSeq(changeSeq);
+            taskViewRepository.save(view);
+        }
+
+        // Brakujące wiersze istniejących zadań (np. przed pierwszą odbudową) - liczniki z tabel źródłowych
+        if (!missing.isEmpty()) {
+            taskViewRepository.refreshCounts(missing, changeSeq);
+        }
+
+        // Fasety zmieniają się z tymi samymi zapisami co wiersze widoku
+        taskFacetIndex.update(tasks);
+    }
+
+    private void copy(Task task, TaskView view) {
+        view.setTitle(task.getTitle());
+        view.setDescription(task.getDescription());
+        view.setStatus(task.getStatus());
+        view.setPriority(task.getPriority());
+        view.setCreatedAt(task.getCreatedAt());
+        view.setDeadline(task.getDeadline());
+        view.setCompletedAt(task.getCompletedAt());
+
+        Project project = task.getProject();
+        view.setProjectId(project != null ? project.getId() : null);
+        view.setProjectName(project != null ? project.getName() : null);
+
+        User assignedTo = task.getAssignedTo();
+        view.setAssignedToId(assignedTo != null ? assignedTo.getId() : null);
+        view.setAssignedToUsername(assignedTo != null ? assignedTo.getUsername() : null);
+        view.setAssignedToFullName(assignedTo != null ? assignedTo.getFullName() : null);
+
+        User createdBy = task.getCreatedBy();
+        view.setCreatedById(createdBy != null ? createdBy.getId() : null);
+        view.setCreatedByUsername(createdBy != null ? createdBy.getUsername() : null);
+        view.setCreatedByFullName(createdBy != null ? createdBy.getFullName() : null);
+
+        Set<TaskViewAssignee> assignees = task.getAssignedUsers().stream()
+                .map(user -> new TaskViewAssignee(user.getId(), user.getUsername(), user.getFullName()))
+                .collect(Collectors.toSet());
+        if (!assignees.equals(view.getAssignees())) {
+            view.getAssignees().clear();
+            view.getAssignees().addAll(assignees);
+        }
+    }
+
+    @Transactional
+    public void refreshCounts(Long taskId) {
+        taskViewRepository.refreshCounts(List.of(taskId), changeSequence.current());
+    }
+
+    @Transactional
+    public void refreshCounts(Collection<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            taskViewRepository.refreshCounts(taskIds, changeSequence.current());
+        }
+    }
+
+    @Transactional
+    public void delete(Collection<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            taskViewRepository.deleteAssigneesByTaskIds(taskIds);
+            taskViewRepository.deleteByTaskIds(taskIds);
+        }
+    }
+
+    @Transactional
+    public void projectRenamed(Project project) {
+        taskViewRepository.updateProjectName(project.getId(), project.getName(), changeSequence.current());
+    }
+
+    @Transactional
+    public void userRenamed(User user) {
+        long changeSeq = changeSequence.current();
+        taskViewRepository.updateAssignedToNames(user.getId(), user.getUsername(), user.getFullName(), changeSeq);
+        taskViewRepository.updateCreatedByNames(user.getId(), user.getUsername(), user.getFullName(), changeSeq);
+        taskViewRepository.updateAssigneeNames(user.getId(), user.getUsername(), user.getFullName());
+        taskViewRepository.touchByAssignee(user.getId(), changeSeq);
+    }
+
+    // Pusty widok przy istniejących zadaniach (pierwsze uruchomienie po wdrożeniu) - odbudowa w tle
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (taskViewRepository.count() == 0 && taskRepository.count() > 0) {
+                System.out.println("🔄 Tabela task_view jest pusta - uruchamiam odbudowę");
+                backgroundJobService.submit(JobType.TASK_VIEW_REBUILD, null, null);
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Błąd sprawdzania task_view: " + e.getMessage());
+        }
+    }
+}
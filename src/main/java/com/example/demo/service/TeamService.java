@@ -23,6 +23,9 @@ public class TeamService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
     // Pobierz wszystkie zespoły
     public List<Team> getAllTeams() {
         return teamRepository.findAll();
@@ -51,7 +54,9 @@ public class TeamService {
             team.getMembers().add(creator);
         }
 
-        return teamRepository.save(team);
+        Team saved = teamRepository.save(team);
+        evictMembers(saved);
+        return saved;
     }
 
     // Utwórz zespół - dla starych kontrolerów MVC (VOID, String params)
@@ -69,6 +74,7 @@ public class TeamService {
         team.getMembers().add(creator);
 
         teamRepository.save(team);
+        dashboardStatsCache.evict(creator);
     }
 
     // Zaktualizuj zespół
@@ -82,6 +88,7 @@ public class TeamService {
     public void deleteTeam(Long id) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Team not found with id: " + id));
+        evictMembers(team);
         teamRepository.delete(team);
     }
 
@@ -109,7 +116,9 @@ public class TeamService {
     public Team addUserToTeam(Team team, User user) {
         if (!team.getMembers().contains(user)) {
             team.getMembers().add(user);
-            return teamRepository.save(team);
+            Team saved = teamRepository.save(team);
+            dashboardStatsCache.evict(user);
+            return saved;
         }
         return team;
     }
@@ -125,6 +134,7 @@ public class TeamService {
         if (!team.getMembers().contains(user)) {
             team.getMembers().add(user);
             teamRepository.save(team);
+            dashboardStatsCache.evict(user);
         }
     }
 
@@ -132,7 +142,9 @@ public class TeamService {
     @Transactional
     public Team removeUserFromTeam(Team team, User user) {
         team.getMembers().remove(user);
-        return teamRepository.save(team);
+        Team saved = teamRepository.save(team);
+        dashboardStatsCache.evict(user);
+        return saved;
     }
 
     // Sprawdź czy użytkownik jest członkiem
@@ -159,4 +171,10 @@ public class TeamService {
     public boolean existsByName(String name) {
         return teamRepository.existsByName(name);
     }
+
+    private void evictMembers(Team team) {
+        if (team.getMembers() != null) {
+            dashboardStatsCache.evict(team.getMembers().toArray(new User[0]));
+        }
+    }
 }
\ No newline at end of file
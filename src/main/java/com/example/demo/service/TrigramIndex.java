@@ -0,0 +1,232 @@
+// src/main/java/com/example/demo/service/TrigramIndex.java
+package com.example.demo.service;
+
+import java.util.*;
+
+// Indeks trigramów słownika SearchIndex - wyszukiwanie z literówkami ("kowalsky" -> "kowalski").
+// Trigramy liczone jak w pg_trgm (token uzupełniony dwiema spacjami z przodu i jedną z tyłu), zakodowane w int.
+// Listy trigramów trzymają ID tokenów (int[]), a nie dokumenty: słownik jest dużo mniejszy niż liczba wierszy,
+// a dokumenty podobnych tokenów SearchIndex bierze ze swoich list.
+// Podobieństwo = |wspólne trigramy| / |suma trigramów| (Jaccard).
+// Bez własnej synchronizacji - zapisy i odczyty pod blokadą SearchIndex.
+final class TrigramIndex {
+
+    private static final int EMPTY = 0;
+
+    // Tokeny słownika: ID -> token i jego trigramy; zwolnione ID są używane ponownie
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private String[] terms = new String[1024];
+    private int[][] termTrigrams = new int[1024][];
+    private int[] freeIds = new int[64];
+    private int freeCount;
+    private int nextId;
+
+    // Trigram -> ID tokenów (adresowanie otwarte, klucze nie są usuwane - pusta lista zostaje)
+    private int[] keys = new int[1024];
+    private int[][] lists = new int[1024][];
+    private int[] sizes = new int[1024];
+    private int used;
+
+    // Liczniki wspólnych trigramów zapytania - osobne dla każdego wątku (odczyty są współbieżne)
+    private final ThreadLocal<int[]> counters = ThreadLocal.withInitial(() -> new int[0]);
+
+    // ========== SŁOWNIK ==========
+
+    void add(String term) {
+        if (termIds.containsKey(term)) {
+            return;
+        }
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        if (id == terms.length) {
+            terms = Arrays.copyOf(terms, id * 2);
+            termTrigrams = Arrays.copyOf(termTrigrams, id * 2);
+        }
+        int[] trigrams = trigrams(term);
+        terms[id] = term;
+        termTrigrams[id] = trigrams;
+        termIds.put(term, id);
+        for (int trigram : trigrams) {
+            append(slotFor(trigram), id);
+        }
+    }
+
+    void remove(String term) {
+        Integer id = termIds.remove(term);
+        if (id == null) {
+            return;
+        }
+        for (int trigram : termTrigrams[id]) {
+            int slot = find(trigram);
+            if (slot >= 0) {
+                int[] list = lists[slot];
+                for (int i = 0; i < sizes[slot]; i++) {
+                    if (list[i] == id) {
+                        list[i] = list[--sizes[slot]];
+                        break;
+                    }
+                }
+            }
+        }
+        terms[id] = null;
+        termTrigrams[id] = null;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    int size() {
+        return termIds.size();
+    }
+
+    // ========== WYSZUKIWANIE ==========
+
+    // Do `limit` tokenów słownika o podobieństwie >= threshold, od najbardziej podobnego
+    Map<String, Double> similar(String token, double threshold, int limit) {
+        int[] query = trigrams(token);
+        int[] counts = counters.get();
+        if (counts.length < nextId) {
+            counts = new int[terms.length];
+            counters.set(counts);
+        }
+
+        // Zliczanie wspólnych trigramów; touched = ID z niezerowym licznikiem (do wyzerowania na końcu)
+        int[] touched = new int[64];
+        int touchedCount = 0;
+        for (int trigram : query) {
+            int slot = find(trigram);
+            if (slot < 0) {
+                continue;
+            }
+            int[] list = lists[slot];
+            for (int i = 0; i < sizes[slot]; i++) {
+                int id = list[i];
+                if (counts[id]++ == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = id;
+                }
+            }
+        }
+
+        // Top-k kopcem: najmniej podobny z zachowanych na szczycie
+        PriorityQueue<double[]> top = new PriorityQueue<>(Comparator.<double[]>comparingDouble(match -> match[1])
+                .thenComparing(match -> terms[(int) match[0]], Comparator.reverseOrder()));
+        for (int i = 0; i < touchedCount; i++) {
+            int id = touched[i];
+            int shared = counts[id];
+            counts[id] = 0;
+            double similarity = (double) shared / (query.length + termTrigrams[id].length - shared);
+            if (similarity >= threshold) {
+                top.add(new double[] {id, similarity});
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        LinkedList<double[]> ordered = new LinkedList<>();
+        while (!top.isEmpty()) {
+            ordered.addFirst(top.poll());
+        }
+        Map<String, Double> matches = new LinkedHashMap<>();
+        for (double[] match : ordered) {
+            matches.put(terms[(int) match[0]], match[1]);
+        }
+        return matches;
+    }
+
+    // ========== TRIGRAMY ==========
+
+    // Posortowane, bez powtórzeń
+    static int[] trigrams(String term) {
+        String padded = "  " + term + " ";
+        int[] trigrams = new int[padded.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = code(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2));
+        }
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    // Po normalizacji SearchTokenizer znaki mieszczą się zwykle w 10 bitach - trzy znaki w jednym int.
+    // Pozostałe (np. CJK) - skrót z ustawionym bitem znaku, więc nie koliduje z kodami spakowanymi.
+    private static int code(char a, char b, char c) {
+        if (a < 0x400 && b < 0x400 && c < 0x400) {
+            return (a << 20) | (b << 10) | c;
+        }
+        return Integer.MIN_VALUE | (((a * 31 + b) * 31 + c) & Integer.MAX_VALUE);
+    }
+
+    // ========== TABLICA TRIGRAMÓW ==========
+
+    private int find(int trigram) {
+        int mask = keys.length - 1;
+        for (int slot = mix(trigram) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == trigram) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slotFor(int trigram) {
+        int slot = find(trigram);
+        if (slot >= 0) {
+            return slot;
+        }
+        if ((used + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        slot = mix(trigram) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = trigram;
+        lists[slot] = new int[4];
+        used++;
+        return slot;
+    }
+
+    private void append(int slot, int id) {
+        if (sizes[slot] == lists[slot].length) {
+            lists[slot] = Arrays.copyOf(lists[slot], sizes[slot] * 2);
+        }
+        lists[slot][sizes[slot]++] = id;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        int[][] oldLists = lists;
+        int[] oldSizes = sizes;
+        keys = new int[oldKeys.length * 2];
+        lists = new int[keys.length][];
+        sizes = new int[keys.length];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            lists[slot] = oldLists[i];
+            sizes[slot] = oldSizes[i];
+        }
+    }
+
+    private static int mix(int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,197 @@
+// src/main/java/com/example/demo/service/UserDeletionJob.java
+package com.example.demo.service;
+
+import com.example.demo.model.*;
+import com.example.demo.repository.ProjectMemberRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.TaskViewRepository;
+import com.example.demo.repository.UserCleanupRepository;
+import com.example.demo.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Usuwanie użytkownika w tle: zbiorowe DELETE/UPDATE po kolumnach użytkownika, paczkami
+// (deletion.chunk-size) w krótkich transakcjach. Koszt zależy od danych użytkownika, nie od rozmiaru tabel.
+@Component
+public class UserDeletionJob implements JobHandler {
+
+    private static final int STEPS = 8;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private UserCleanupRepository cleanupRepository;
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    @Autowired
+    private BulkDeletionService bulkDeletionService;
+
+    @Autowired
+    private TaskChangeSequence changeSequence;
+
+    @Autowired
+    private DashboardStatsCache dashboardStatsCache;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @Autowired
+    private TaskFacetIndex taskFacetIndex;
+
+    @Autowired
+    private ProjectVisibility projectVisibility;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public UserDeletionJob(PlatformTransactionManager transactionManager,
+                           @Value("${deletion.chunk-size:500}") int chunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.USER_DELETION;
+    }
+
+    @Override
+    public int getStepsTotal() {
+        return STEPS;
+    }
+
+    @Override
+    public void run(BackgroundJob job, JobProgress progress) {
+        Long userId = job.getTargetId();
+        if (!userRepository.existsById(userId)) {
+            // Powtórzone zadanie - użytkownik został już usunięty
+            return;
+        }
+
+        progress.step("PROJECTS");
+        handleCreatedProjects(userId, progress);
+
+        progress.step("MEMBERSHIPS");
+        drain(userId, progress, cleanupRepository::deleteProjectMemberships);
+        projectVisibility.userRemoved(userId);
+        drain(userId, progress, cleanupRepository::deleteTeamMemberships);
+        drain(userId, progress, cleanupRepository::clearTeamCreator);
+
+        progress.step("TASKS");
+        List<Long> referencingTaskIds = cleanupRepository.findTaskIdsReferencing(userId);
+        drain(userId, progress, cleanupRepository::deleteTaskAssignments);
+        drain(userId, progress, cleanupRepository::clearTaskAssignee);
+        drain(userId, progress, cleanupRepository::clearTaskCreator);
+        drain(userId, progress, cleanupRepository::deleteTaskViewAssignees);
+        drain(userId, progress, cleanupRepository::clearTaskViewAssignee);
+        drain(userId, progress, cleanupRepository::clearTaskViewCreator);
+        touchTaskViews(referencingTaskIds);
+
+        List<Long> touchedTaskIds = cleanupRepository.findTaskIdsWithContentBy(userId);
+
+        progress.step("COMMENTS");
+        drain(userId, progress, cleanupRepository::deleteComments);
+
+        progress.step("FILES");
+        drain(userId, progress, cleanupRepository::deleteFiles);
+        refreshTaskViewCounts(touchedTaskIds);
+
+        progress.step("REQUESTS");
+        drain(userId, progress, cleanupRepository::deleteStatusChangeRequests);
+        drain(userId, progress, cleanupRepository::clearStatusChangeReviewer);
+        drain(userId, progress, cleanupRepository::deleteTaskProposals);
+        drain(userId, progress, cleanupRepository::clearTaskProposalReviewer);
+        drain(userId, progress, cleanupRepository::clearMessageAuthor);
+
+        progress.step("NOTIFICATIONS");
+        drain(userId, progress, cleanupRepository::deleteNotifications);
+        drain(userId, progress, cleanupRepository::deleteActivityEvents);
+
+        progress.step("USER");
+        Integer deleted = transactionTemplate.execute(status -> cleanupRepository.deleteUser(userId));
+        progress.add(deleted != null ? deleted : 0);
+
+        // Usuwa też dokumenty komentarzy użytkownika (zbiorowy DELETE w kroku COMMENTS)
+        searchIndexer.removeUser(userId);
+        taskFacetIndex.removeAssignee(userId);
+        dashboardStatsCache.evictAll();
+        System.out.println("✅ Usunięto użytkownika ID " + userId + " (zadanie #" + job.getId() + ")");
+    }
+
+    // Projekty użytkownika: przekazanie innemu adminowi projektu albo usunięcie projektu
+    private void handleCreatedProjects(Long userId, JobProgress progress) {
+        List<Long> projectsToDelete = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            List<Long> orphaned = new ArrayList<>();
+            for (Project project : projectRepository.findByCreatedBy(user)) {
+                User newCreator = projectMemberRepository.findByProjectAndRole(project, ProjectRole.ADMIN).stream()
+                        .map(ProjectMember::getUser)
+                        .filter(admin -> !admin.getId().equals(userId))
+                        .findFirst()
+                        .orElse(null);
+                if (newCreator != null) {
+                    project.setCreatedBy(newCreator);
+                    projectRepository.save(project);
+                } else {
+                    orphaned.add(project.getId());
+                }
+            }
+            return orphaned;
+        });
+
+        if (projectsToDelete != null) {
+            for (Long projectId : projectsToDelete) {
+                progress.add(bulkDeletionService.deleteProject(projectId) + 1);
+            }
+        }
+    }
+
+    // Liczniki komentarzy i plików w task_view dla zadań, z których zniknęły dane użytkownika
+    private void refreshTaskViewCounts(List<Long> taskIds) {
+        for (int from = 0; from < taskIds.size(); from += chunkSize) {
+            List<Long> chunk = taskIds.subList(from, Math.min(from + chunkSize, taskIds.size()));
+            transactionTemplate.executeWithoutResult(status ->
+                    taskViewRepository.refreshCounts(chunk, changeSequence.current()));
+        }
+    }
+
+    // Nowy numer zmian dla wierszy task_view zmienionych zbiorowym SQL - klienci synchronizacji je pobiorą
+    private void touchTaskViews(List<Long> taskIds) {
+        for (int from = 0; from < taskIds.size(); from += chunkSize) {
+            List<Long> chunk = taskIds.subList(from, Math.min(from + chunkSize, taskIds.size()));
+            transactionTemplate.executeWithoutResult(status -> taskViewRepository.touch(chunk, changeSequence.current()));
+        }
+    }
+
+    // Powtarza zapytanie (userId, limit) w osobnych transakcjach, aż zmieni mniej niż limit wierszy
+    private void drain(Long userId, JobProgress progress, ChunkQuery query) {
+        int affected;
+        do {
+            Integer result = transactionTemplate.execute(status -> query.apply(userId, chunkSize));
+            affected = result != null ? result : 0;
+            progress.add(affected);
+        } while (affected >= chunkSize);
+    }
+
+    @FunctionalInterface
+    private interface ChunkQuery {
+        int apply(Long userId, int limit);
+    }
+}
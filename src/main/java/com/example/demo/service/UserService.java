@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -24,25 +25,16 @@ public class UserService {
     private TeamRepository teamRepository;
 
     @Autowired
-    private ProjectMemberRepository projectMemberRepository;
-
-    @Autowired
-    private ProjectRepository projectRepository;
-
-    @Autowired
-    private TaskRepository taskRepository;
-
-    @Autowired
-    private CommentRepository commentRepository;
+    private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private UploadedFileRepository uploadedFileRepository;
+    private BackgroundJobService backgroundJobService;
 
     @Autowired
-    private NotificationRepository notificationRepository;
+    private TaskViewService taskViewService;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private SearchIndexer searchIndexer;
 
     // ========== PODSTAWOWE METODY ==========
 
@@ -54,6 +46,11 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    // Partia użytkowników po ID (wyniki wyszukiwania)
+    public List<User> getUsersByIds(Collection<Long> ids) {
+        return userRepository.findAllById(ids);
+    }
+
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
@@ -140,7 +137,9 @@ public class UserService {
         user.setActive(true);
         user.setCreatedAt(LocalDateTime.now());
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        searchIndexer.indexUser(saved);
+        return saved;
     }
 
     @Transactional
@@ -163,13 +162,17 @@ public class UserService {
         user.setCreatedAt(LocalDateTime.now());
         user.setActive(true);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        searchIndexer.indexUser(saved);
+        return saved;
     }
 
     // ========== AKTUALIZACJA UŻYTKOWNIKÓW ==========
 
     public User saveUser(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        searchIndexer.indexUser(saved);
+        return saved;
     }
 
     @Transactional
@@ -182,7 +185,10 @@ public class UserService {
         user.setSystemRole(systemRole);
         user.setActive(isActive);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        taskViewService.userRenamed(saved);
+        searchIndexer.indexUser(saved);
+        return saved;
     }
 
     @Transactional
@@ -191,7 +197,8 @@ public class UserService {
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             user.setLastLogin(LocalDateTime.now());
-            userRepository.save(user);
+            // Ostatnie logowanie wyznacza kolejność podpowiedzi użytkowników
+            searchIndexer.indexUser(userRepository.save(user));
         }
     }
 
@@ -210,7 +217,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("Użytkownik nie istnieje"));
 
         user.setActive(!user.isActive());
-        userRepository.save(user);
+        searchIndexer.indexUser(userRepository.save(user));
     }
 
     // ========== SPRAWDZANIE UPRAWNIEŃ ==========
@@ -233,100 +240,17 @@ public class UserService {
 
     // ========== USUWANIE UŻYTKOWNIKA ==========
 
+    // Usuwanie w tle: konto od razu nieaktywne, dane sprząta UserDeletionJob.
+    // Postęp: GET /api/v1/admin/jobs/{id}
     @Transactional
-    public void deleteUserByAdmin(Long userId) {
-        try {
-            Optional<User> userOpt = userRepository.findById(userId);
-            if (userOpt.isEmpty()) {
-                throw new RuntimeException("Użytkownik nie został znaleziony");
-            }
-
-            User userToDelete = userOpt.get();
-            String username = userToDelete.getUsername();
-
-            System.out.println("Rozpoczęcie usuwania użytkownika: " + username + " (ID: " + userId + ")");
-
-            // 1. Projekty utworzone przez użytkownika
-            List<Project> createdProjects = projectRepository.findByCreatedBy(userToDelete);
-            for (Project project : createdProjects) {
-                List<ProjectMember> projectAdmins = projectMemberRepository.findByProjectAndRole(project, ProjectRole.ADMIN);
-                List<ProjectMember> otherAdmins = projectAdmins.stream()
-                        .filter(admin -> !admin.getUser().equals(userToDelete))
-                        .toList();
-
-                if (!otherAdmins.isEmpty()) {
-                    User newCreator = otherAdmins.get(0).getUser();
-                    project.setCreatedBy(newCreator);
-                    projectRepository.save(project);
-                } else {
-                    // Usuń projekt
-                    List<Task> projectTasks = taskRepository.findByProject(project);
-                    for (Task task : projectTasks) {
-                        commentRepository.deleteByTask(task);
-                        uploadedFileRepository.deleteByTask(task);
-                        task.getAssignedUsers().clear();
-                        taskRepository.save(task);
-                        taskRepository.delete(task);
-                    }
-                    projectMemberRepository.deleteByProject(project);
-                    projectRepository.delete(project);
-                }
-            }
-
-            // 2. Usuń z członkostw projektów
-            List<ProjectMember> projectMemberships = projectMemberRepository.findByUser(userToDelete);
-            projectMemberRepository.deleteAll(projectMemberships);
-
-            // 3. Usuń z zadań (assigned_to)
-            List<Task> assignedTasks = taskRepository.findByAssignedTo(userToDelete);
-            for (Task task : assignedTasks) {
-                task.setAssignedTo(null);
-                taskRepository.save(task);
-            }
-
-            // 4. Usuń z zadań (many-to-many)
-            List<Task> allTasks = taskRepository.findAll();
-            for (Task task : allTasks) {
-                if (task.getAssignedUsers().remove(userToDelete)) {
-                    taskRepository.save(task);
-                }
-            }
-
-            // 5. Usuń komentarze
-            List<Comment> userComments = commentRepository.findByAuthor(userToDelete);
-            commentRepository.deleteAll(userComments);
-
-            // 6. Usuń pliki
-            List<UploadedFile> userFiles = uploadedFileRepository.findByUploadedBy(userToDelete);
-            uploadedFileRepository.deleteAll(userFiles);
-
-            // 7. Usuń powiadomienia
-            List<Notification> userNotifications = notificationRepository.findByUser(userToDelete);
-            notificationRepository.deleteAll(userNotifications);
-
-            // 8. Usuń z zespołów
-            List<Team> userTeams = teamRepository.findByMembersContaining(userToDelete);
-            for (Team team : userTeams) {
-                team.getMembers().remove(userToDelete);
-                teamRepository.save(team);
-            }
-
-            // 9. Wyczyść relacje użytkownika
-            if (userToDelete.getTeams() != null) {
-                userToDelete.getTeams().clear();
-            }
-            userRepository.saveAndFlush(userToDelete);
-
-            // 10. Usuń użytkownika
-            userRepository.delete(userToDelete);
-            userRepository.flush();
-
-            System.out.println("Pomyślnie usunięto użytkownika: " + username);
-
-        } catch (Exception e) {
-            System.err.println("Błąd podczas usuwania użytkownika " + userId + ": " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("Nie udało się usunąć użytkownika: " + e.getMessage(), e);
-        }
+    public BackgroundJob deleteUserByAdmin(Long userId, Long requestedById) {
+        User userToDelete = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("Użytkownik nie został znaleziony"));
+
+        userToDelete.setActive(false);
+        searchIndexer.indexUser(userRepository.save(userToDelete));
+
+        System.out.println("Zlecono usunięcie użytkownika: " + userToDelete.getUsername() + " (ID: " + userId + ")");
+        return backgroundJobService.submit(JobType.USER_DELETION, userId, requestedById);
     }
 }
\ No newline at end of file
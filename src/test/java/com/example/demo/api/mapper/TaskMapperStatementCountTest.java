@@ -0,0 +1,125 @@
+// src/test/java/com/example/demo/api/mapper/TaskMapperStatementCountTest.java
+package com.example.demo.api.mapper;
+
+import com.example.demo.api.dto.response.TaskDto;
+import com.example.demo.model.Comment;
+import com.example.demo.model.Project;
+import com.example.demo.model.Task;
+import com.example.demo.model.UploadedFile;
+import com.example.demo.model.User;
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.UploadedFileRepository;
+import com.example.demo.service.CommentService;
+import com.example.demo.service.FileService;
+import com.example.demo.service.TaskChangeSequence;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Liczniki komentarzy i plików dla listy zadań: liczba zapytań nie zależy od długości listy
+// (dwa GROUP BY zamiast dwóch COUNT na zadanie). Liczone przez statystyki Hibernate na H2.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskMapperStatementCountTest {
+
+    @MockBean
+    private TaskChangeSequence changeSequence;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UploadedFileRepository fileRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private TaskMapper taskMapper;
+    private Project small;
+    private Project large;
+
+    @BeforeEach
+    void setUp() {
+        CommentService commentService = new CommentService();
+        ReflectionTestUtils.setField(commentService, "commentRepository", commentRepository);
+        FileService fileService = new FileService();
+        ReflectionTestUtils.setField(fileService, "fileRepository", fileRepository);
+        UserMapper userMapper = new UserMapper();
+        ProjectMapper projectMapper = new ProjectMapper();
+        ReflectionTestUtils.setField(projectMapper, "userMapper", userMapper);
+        taskMapper = new TaskMapper();
+        ReflectionTestUtils.setField(taskMapper, "userMapper", userMapper);
+        ReflectionTestUtils.setField(taskMapper, "projectMapper", projectMapper);
+        ReflectionTestUtils.setField(taskMapper, "commentService", commentService);
+        ReflectionTestUtils.setField(taskMapper, "fileService", fileService);
+
+        User owner = entityManager.persist(new User("owner", "secret"));
+        small = seed("Small", owner, 3);
+        large = seed("Large", owner, 60);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void statsStatementCountDoesNotGrowWithListSize() {
+        List<Task> smallTasks = load(small);
+        List<Task> largeTasks = load(large);
+
+        long smallStatements = statementsFor(() -> taskMapper.toDtoWithStats(smallTasks));
+        long largeStatements = statementsFor(() -> {
+            List<TaskDto> dtos = taskMapper.toDtoWithStats(largeTasks);
+            assertThat(dtos).hasSize(60).allSatisfy(dto -> {
+                assertThat(dto.getCommentCount()).isEqualTo(2);
+                assertThat(dto.getFileCount()).isEqualTo(1);
+            });
+        });
+
+        // Jeden GROUP BY dla komentarzy i jeden dla plików
+        assertThat(smallStatements).isEqualTo(2);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    private Project seed(String name, User owner, int tasks) {
+        Project project = entityManager.persist(new Project(name, null, owner));
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task(name + " " + i, null, project);
+            task.setCreatedBy(owner);
+            entityManager.persist(task);
+            entityManager.persist(new Comment("first", task, owner));
+            entityManager.persist(new Comment("second", task, owner));
+            entityManager.persist(new UploadedFile("file.txt", "text/plain", 1L, new byte[]{1}, task, owner));
+        }
+        return project;
+    }
+
+    // Zadania jak w kontrolerze (task-list) z zainicjalizowanymi przypisanymi - mierzone jest samo mapowanie
+    private List<Task> load(Project project) {
+        List<Task> tasks = taskRepository.findByProject(project);
+        tasks.forEach(task -> task.getAssignedUsers().size());
+        return tasks;
+    }
+
+    private long statementsFor(Runnable mapping) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mapping.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
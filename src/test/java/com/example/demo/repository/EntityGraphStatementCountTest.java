@@ -0,0 +1,140 @@
+// src/test/java/com/example/demo/repository/EntityGraphStatementCountTest.java
+package com.example.demo.repository;
+
+import com.example.demo.api.dto.response.TaskDto;
+import com.example.demo.api.dto.response.UserDto;
+import com.example.demo.api.mapper.ProjectMapper;
+import com.example.demo.api.mapper.TaskMapper;
+import com.example.demo.api.mapper.UserMapper;
+import com.example.demo.model.Project;
+import com.example.demo.model.Task;
+import com.example.demo.model.Team;
+import com.example.demo.model.User;
+import com.example.demo.service.TaskChangeSequence;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Plany pobierania task-list i user-with-teams: liczba zapytań listy razem z mapowaniem do DTO
+// nie rośnie z liczbą wierszy (relacje LAZY, ManyToOne w grafie, kolekcje paczkami @BatchSize).
+// batch_fetch_style jak w application.properties.example
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.batch_fetch_style=padded"
+})
+class EntityGraphStatementCountTest {
+
+    @MockBean
+    private TaskChangeSequence changeSequence;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private TaskMapper taskMapper;
+    private UserMapper userMapper;
+
+    @BeforeEach
+    void setUp() {
+        userMapper = new UserMapper();
+        ProjectMapper projectMapper = new ProjectMapper();
+        ReflectionTestUtils.setField(projectMapper, "userMapper", userMapper);
+        taskMapper = new TaskMapper();
+        ReflectionTestUtils.setField(taskMapper, "userMapper", userMapper);
+        ReflectionTestUtils.setField(taskMapper, "projectMapper", projectMapper);
+    }
+
+    @Test
+    void taskListLoadsRelationsWithoutPerRowQueries() {
+        Project small = seedProject("Small", 3);
+        Project large = seedProject("Large", 60);
+
+        long smallStatements = statementsFor(() -> taskMapper.toDto(taskRepository.findByProject(small)));
+        long largeStatements = statementsFor(() -> {
+            List<TaskDto> dtos = taskMapper.toDto(taskRepository.findByProject(large));
+            assertThat(dtos).hasSize(60).allSatisfy(dto -> {
+                assertThat(dto.getAssignedUsers()).hasSize(2);
+                assertThat(dto.getAssignedTo()).isNotNull();
+                assertThat(dto.getProject().getCreatedBy()).isNotNull();
+            });
+        });
+
+        // Zadania z projektem, twórcami i przypisanym (graf task-list) + przypisani jedną paczką
+        assertThat(smallStatements).isEqualTo(2);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    void usersWithTeamsLoadInOneQuery() {
+        seedUsers("few", 3);
+        long fewStatements = statementsFor(() -> userMapper.toDto(userRepository.findAll()));
+
+        seedUsers("many", 40);
+        long manyStatements = statementsFor(() -> {
+            List<UserDto> dtos = userMapper.toDto(userRepository.findAll());
+            assertThat(dtos).hasSize(43).allSatisfy(dto -> assertThat(dto.getTeams()).hasSize(2));
+        });
+
+        assertThat(fewStatements).isEqualTo(1);
+        assertThat(manyStatements).isEqualTo(fewStatements);
+    }
+
+    private Project seedProject(String name, int tasks) {
+        User owner = entityManager.persist(new User(name + "-owner", "secret"));
+        Project project = entityManager.persist(new Project(name, null, owner));
+        for (int i = 0; i < tasks; i++) {
+            User creator = entityManager.persist(new User(name + "-creator" + i, "secret"));
+            User first = entityManager.persist(new User(name + "-first" + i, "secret"));
+            User second = entityManager.persist(new User(name + "-second" + i, "secret"));
+            Task task = new Task(name + " " + i, null, project);
+            task.setCreatedBy(creator);
+            task.setAssignedTo(first);
+            task.getAssignedUsers().add(first);
+            task.getAssignedUsers().add(second);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        return project;
+    }
+
+    private void seedUsers(String prefix, int count) {
+        Team alpha = entityManager.persist(new Team(prefix + "-alpha", null));
+        Team beta = entityManager.persist(new Team(prefix + "-beta", null));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(entityManager.persist(new User(prefix + i, "secret")));
+        }
+        alpha.getMembers().addAll(users);
+        beta.getMembers().addAll(users);
+        entityManager.flush();
+    }
+
+    // Każdy pomiar w pustym kontekście persystencji - jak osobne żądanie
+    private long statementsFor(Runnable listing) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        listing.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,243 @@
+// src/test/java/com/example/demo/repository/SystemStatsBenchmark.java
+package com.example.demo.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.jpa.repository.Query;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Statystyki panelu admina: zapytania StatsAggregateRepository (loadSystemCounts + loadTaskStats z liczników)
+// kontra dawne osobne COUNT na tabelę i status, na H2 (tryb MySQL) z 1M zadań.
+// SQL agregatów czytany z adnotacji @Query - mierzony jest dokładnie tekst z repozytorium. Dawną ścieżkę
+// (repozytoria Spring Data) odwzorowują zapytania, które generowały count() / countByStatus(); przeterminowane
+// i ukończone w okresie liczyła ona w pamięci po taskRepository.findAll() - tu dostaje uczciwsze COUNT w SQL.
+// H2 w tym samym procesie nie ma kosztu sieci, więc różnica liczby zapytań (2 vs 15) jest tu zaniżona, a COUNT(*)
+// bez warunku H2 czyta z metadanych tabeli (InnoDB skanuje indeks) - systemCounts* mierzą głównie narzut zapytań.
+// Uruchomienie:
+//   mvn -B test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath org.openjdk.jmh.Main SystemStatsBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SystemStatsBenchmark {
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":(\\w+)");
+    private static final String[] STATUSES = {"TODO", "NEW", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+
+    @Param({"1000000"})
+    public int tasks;
+
+    private Connection connection;
+    private String systemCountsSql;
+    private String taskStatsSql;
+    private List<String> taskStatsParameters;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        systemCountsSql = querySql("loadSystemCounts");
+        taskStatsParameters = new ArrayList<>();
+        Matcher matcher = NAMED_PARAMETER.matcher(querySql("loadTaskStats", String.class, LocalDateTime.class,
+                LocalDateTime.class, String.class, String.class));
+        StringBuilder sql = new StringBuilder();
+        while (matcher.find()) {
+            taskStatsParameters.add(matcher.group(1));
+            matcher.appendReplacement(sql, "?");
+        }
+        matcher.appendTail(sql);
+        taskStatsSql = sql.toString();
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:stats;MODE=MySQL");
+        seed(tasks);
+
+        // Obie ścieżki muszą liczyć to samo
+        long[] aggregate = systemCountsAggregate();
+        long[] perTable = systemCountsPerTable();
+        long[] counters = taskStatsCounters();
+        long[] perStatus = taskStatsPerTable();
+        if (!Arrays.equals(aggregate, perTable) || !Arrays.equals(counters, perStatus)) {
+            throw new IllegalStateException("Aggregate and per-table counts differ");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void systemCountsAggregate(Blackhole blackhole) throws SQLException {
+        blackhole.consume(systemCountsAggregate());
+    }
+
+    @Benchmark
+    public void systemCountsPerTable(Blackhole blackhole) throws SQLException {
+        blackhole.consume(systemCountsPerTable());
+    }
+
+    @Benchmark
+    public void taskStatsCounters(Blackhole blackhole) throws SQLException {
+        blackhole.consume(taskStatsCounters());
+    }
+
+    @Benchmark
+    public void taskStatsPerTable(Blackhole blackhole) throws SQLException {
+        blackhole.consume(taskStatsPerTable());
+    }
+
+    private long[] systemCountsAggregate() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(systemCountsSql);
+             ResultSet row = statement.executeQuery()) {
+            row.next();
+            long[] counts = new long[6];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = row.getLong(i + 1);
+            }
+            return counts;
+        }
+    }
+
+    // userRepository.count(), countByIsActiveTrue(), projectRepository.count(), teamRepository.count(),
+    // commentRepository.count(), fileRepository.count()
+    private long[] systemCountsPerTable() throws SQLException {
+        return new long[]{
+                count("SELECT COUNT(*) FROM users"),
+                count("SELECT COUNT(*) FROM users WHERE is_active = TRUE"),
+                count("SELECT COUNT(*) FROM projects"),
+                count("SELECT COUNT(*) FROM teams"),
+                count("SELECT COUNT(*) FROM comments"),
+                count("SELECT COUNT(*) FROM uploaded_files")
+        };
+    }
+
+    // {total, NEW, IN_PROGRESS, COMPLETED, CANCELLED, przeterminowane, ukończone 7 dni, ukończone 30 dni}
+    private long[] taskStatsCounters() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        try (PreparedStatement statement = connection.prepareStatement(taskStatsSql)) {
+            for (int i = 0; i < taskStatsParameters.size(); i++) {
+                switch (taskStatsParameters.get(i)) {
+                    case "today": statement.setString(i + 1, today.toString()); break;
+                    case "todayStart": statement.setObject(i + 1, today.atStartOfDay()); break;
+                    case "now": statement.setObject(i + 1, now); break;
+                    case "weekStart": statement.setString(i + 1, today.minusDays(7).toString()); break;
+                    case "monthStart": statement.setString(i + 1, today.minusDays(30).toString()); break;
+                    default: throw new IllegalStateException("Unknown parameter " + taskStatsParameters.get(i));
+                }
+            }
+            long[] stats = new long[8];
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    long value = rows.getLong("total");
+                    switch (rows.getString("kind")) {
+                        case "STATUS":
+                            stats[0] += value;
+                            int index = List.of(STATUSES).indexOf(rows.getString("bucket"));
+                            if (index > 0) {
+                                stats[index] = value;
+                            }
+                            break;
+                        case "OVERDUE": stats[5] += value; break;
+                        case "COMPLETED_WEEK": stats[6] = value; break;
+                        case "COMPLETED_MONTH": stats[7] = value; break;
+                        default: break;
+                    }
+                }
+            }
+            return stats;
+        }
+    }
+
+    // taskRepository.count(), countByStatus() x4, przeterminowane i ukończone w okresie (7 i 30 dni)
+    private long[] taskStatsPerTable() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        long[] stats = new long[8];
+        stats[0] = count("SELECT COUNT(*) FROM task");
+        for (int i = 1; i < STATUSES.length; i++) {
+            stats[i] = count("SELECT COUNT(*) FROM task WHERE status = ?", STATUSES[i]);
+        }
+        stats[5] = count("SELECT COUNT(*) FROM task WHERE deadline < ? " +
+                "AND status NOT IN ('COMPLETED', 'DONE', 'CANCELLED')", now);
+        stats[6] = count("SELECT COUNT(*) FROM task WHERE status IN ('COMPLETED', 'DONE') AND completed_at >= ?",
+                today.minusDays(7).atStartOfDay());
+        stats[7] = count("SELECT COUNT(*) FROM task WHERE status IN ('COMPLETED', 'DONE') AND completed_at >= ?",
+                today.minusDays(30).atStartOfDay());
+        return stats;
+    }
+
+    private long count(String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet row = statement.executeQuery()) {
+                row.next();
+                return row.getLong(1);
+            }
+        }
+    }
+
+    private static String querySql(String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return StatsAggregateRepository.class.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+    }
+
+    // Kolumny i indeksy jak w encjach (bez pól, których zapytania nie czytają); liczniki jak po reconcile()
+    private void seed(int tasks) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(255), " +
+                    "is_active BOOLEAN NOT NULL)");
+            statement.execute("INSERT INTO users SELECT x, CONCAT('user', x), MOD(x, 10) <> 0 " +
+                    "FROM SYSTEM_RANGE(1, 10000)");
+            statement.execute("CREATE TABLE projects (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+            statement.execute("INSERT INTO projects SELECT x, CONCAT('project', x) FROM SYSTEM_RANGE(1, 2000)");
+            statement.execute("CREATE TABLE teams (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+            statement.execute("INSERT INTO teams SELECT x, CONCAT('team', x) FROM SYSTEM_RANGE(1, 200)");
+
+            statement.execute("CREATE TABLE task (id BIGINT PRIMARY KEY, title VARCHAR(255), status VARCHAR(255), " +
+                    "created_at TIMESTAMP, deadline TIMESTAMP, completed_at TIMESTAMP, project_id BIGINT)");
+            statement.execute("INSERT INTO task SELECT x, CONCAT('task', x), " +
+                    "CASEWHEN(MOD(x, 5) = 0, 'TODO', CASEWHEN(MOD(x, 5) = 1, 'NEW', CASEWHEN(MOD(x, 5) = 2, " +
+                    "'IN_PROGRESS', CASEWHEN(MOD(x, 5) = 3, 'COMPLETED', 'CANCELLED')))), " +
+                    "DATEADD('MINUTE', -x, CURRENT_TIMESTAMP), " +
+                    "CASEWHEN(MOD(x, 3) = 0, NULL, DATEADD('HOUR', MOD(x, 2000) - 1000, CURRENT_TIMESTAMP)), " +
+                    "CASEWHEN(MOD(x, 5) = 3, DATEADD('HOUR', -MOD(x, 2400), CURRENT_TIMESTAMP), NULL), " +
+                    "1 + MOD(x, 2000) FROM SYSTEM_RANGE(1, " + tasks + ")");
+            statement.execute("CREATE INDEX idx_task_deadline ON task (deadline)");
+            statement.execute("CREATE INDEX idx_task_created ON task (created_at, id)");
+
+            statement.execute("CREATE TABLE comments (id BIGINT PRIMARY KEY, task_id BIGINT, text VARCHAR(255))");
+            statement.execute("INSERT INTO comments SELECT x, 1 + MOD(x, " + tasks + "), 'comment' " +
+                    "FROM SYSTEM_RANGE(1, " + tasks + ")");
+            statement.execute("CREATE TABLE uploaded_files (id BIGINT PRIMARY KEY, task_id BIGINT)");
+            statement.execute("INSERT INTO uploaded_files SELECT x, 1 + MOD(x * 7, " + tasks + ") " +
+                    "FROM SYSTEM_RANGE(1, " + (tasks / 10) + ")");
+
+            statement.execute("CREATE TABLE task_stat_counters (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "metric VARCHAR(32) NOT NULL, bucket VARCHAR(64) NOT NULL, counter_value BIGINT NOT NULL, " +
+                    "CONSTRAINT uk_task_stat_metric_bucket UNIQUE (metric, bucket))");
+            statement.execute("INSERT INTO task_stat_counters (metric, bucket, counter_value) " +
+                    "SELECT 'STATUS', status, COUNT(*) FROM task GROUP BY status");
+            statement.execute("INSERT INTO task_stat_counters (metric, bucket, counter_value) " +
+                    "SELECT 'COMPLETED_DAY', bucket_day, COUNT(*) FROM (" +
+                    "SELECT CAST(CAST(completed_at AS DATE) AS VARCHAR) AS bucket_day FROM task " +
+                    "WHERE status IN ('COMPLETED', 'DONE') AND completed_at IS NOT NULL) d GROUP BY bucket_day");
+            statement.execute("INSERT INTO task_stat_counters (metric, bucket, counter_value) " +
+                    "SELECT 'OPEN_DEADLINE_DAY', bucket_day, COUNT(*) FROM (" +
+                    "SELECT CAST(CAST(deadline AS DATE) AS VARCHAR) AS bucket_day FROM task " +
+                    "WHERE status NOT IN ('COMPLETED', 'DONE', 'CANCELLED') AND deadline IS NOT NULL) d " +
+                    "GROUP BY bucket_day");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+// src/test/java/com/example/demo/service/CsvTest.java
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvTest {
+
+    @Test
+    void quotedFieldsKeepCommasQuotesAndNewlines() throws IOException {
+        List<List<String>> records = readAll("id,title\n"
+                + "1,\"a, b\"\n"
+                + "2,\"say \"\"hi\"\"\"\n"
+                + "3,\"line one\nline two\"\n"
+                + "4,\"\"\n");
+
+        assertThat(records).containsExactly(
+                List.of("id", "title"),
+                List.of("1", "a, b"),
+                List.of("2", "say \"hi\""),
+                List.of("3", "line one\nline two"),
+                List.of("4", ""));
+    }
+
+    @Test
+    void crlfEndsRecordButStaysInsideQuotes() throws IOException {
+        List<List<String>> records = readAll("a,b\r\n\"x\r\ny\",z\r\n");
+
+        assertThat(records).containsExactly(
+                List.of("a", "b"),
+                List.of("x\r\ny", "z"));
+    }
+
+    @Test
+    void closingQuoteAtEndOfStreamEndsLastRecord() throws IOException {
+        List<List<String>> records = readAll("a,\"b\"");
+
+        assertThat(records).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(Csv.readRecord(new BufferedReader(new StringReader("")))).isNull();
+    }
+
+    @Test
+    void escapedValueReadsBackUnchanged() throws IOException {
+        String value = "a, \"b\"\r\nc";
+        List<List<String>> records = readAll(Csv.escape(value) + "," + Csv.escape("plain") + "\n");
+
+        assertThat(records).containsExactly(List.of(value, "plain"));
+        assertThat(Csv.escape("plain")).isEqualTo("plain");
+        assertThat(Csv.escape(null)).isEmpty();
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = Csv.readRecord(reader)) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
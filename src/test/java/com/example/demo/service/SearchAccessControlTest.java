@@ -0,0 +1,319 @@
+// src/test/java/com/example/demo/service/SearchAccessControlTest.java
+package com.example.demo.service;
+
+import com.example.demo.model.User;
+import com.example.demo.repository.ProjectMemberRepository;
+import com.example.demo.repository.projection.MembershipRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+// Filtr dostępu wyszukiwania (SearchIndex + ProjectVisibility) i podpowiedzi (SuggestIndex):
+// trafienie z projektu, którego użytkownik nie jest członkiem, nie może wrócić w żadnym trybie zapytania.
+@ExtendWith(MockitoExtension.class)
+class SearchAccessControlTest {
+
+    private static final long ALICE = 10;
+    private static final long BOB = 20;
+    private static final long ALPHA = 1;
+    private static final long BETA = 2;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @InjectMocks
+    private ProjectVisibility projectVisibility;
+
+    private SearchIndex searchIndex;
+    private SuggestIndex suggestIndex;
+    // ID zadania / komentarza -> projekt (do sprawdzania trafień)
+    private final Map<Long, Long> taskProjects = new HashMap<>();
+    private final Map<Long, Long> commentProjects = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // Alice w projekcie Alfa, Bob w projekcie Beta
+        when(projectMemberRepository.findMembershipRowsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(membership(1, ALPHA, ALICE), membership(2, BETA, BOB)));
+        projectVisibility.loadOnStartup();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!projectVisibility.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(projectVisibility.isReady()).isTrue();
+
+        searchIndex = new SearchIndex(new SimpleMeterRegistry(), 0.3);
+        suggestIndex = new SuggestIndex();
+        ReflectionTestUtils.setField(suggestIndex, "projectVisibility", projectVisibility);
+
+        indexProject(ALPHA, "Wdrożenie Alfa");
+        indexProject(BETA, "Wdrożenie Beta");
+        indexTask(100, ALPHA, "Wdrożenie serwera produkcyjnego");
+        indexTask(101, ALPHA, "Migracja bazy danych");
+        indexTask(200, BETA, "Wdrożenie serwera testowego");
+        indexTask(201, BETA, "Migracja kolejki zadań");
+        indexComment(1000, 100, ALPHA, ALICE, "Serwer gotowy do wdrożenia");
+        indexComment(2000, 200, BETA, BOB, "Serwer testowy gotowy do wdrożenia");
+        searchIndex.finishRebuild();
+        suggestIndex.refreshPartitions();
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ========== ZADANIA, PROJEKTY, KOMENTARZE ==========
+
+    @Test
+    void prefixSearchReturnsOnlyTasksFromMemberProjects() {
+        assertThat(searchTasks(ALICE, "wdro", false)).containsExactly(100L);
+        assertThat(searchTasks(BOB, "wdro", false)).containsExactly(200L);
+        assertThat(searchTasks(ALICE, "serw test", false)).isEmpty();
+    }
+
+    @Test
+    void fuzzySearchReturnsOnlyTasksFromMemberProjects() {
+        // Literówki: "wdrozneie", "serwra"
+        assertThat(searchTasks(ALICE, "wdrozneie serwra", true)).containsExactly(100L);
+        assertThat(searchTasks(BOB, "wdrozneie serwra", true)).containsExactly(200L);
+        assertThat(searchTasks(ALICE, "testowgo", true)).isEmpty();
+    }
+
+    @Test
+    void projectSearchReturnsOnlyMemberProjects() {
+        assertThat(search(ALICE, "wdrozenie", SearchIndex.Type.PROJECT, false)).containsExactly(ALPHA);
+        assertThat(search(BOB, "wdrozenie", SearchIndex.Type.PROJECT, true)).containsExactly(BETA);
+        assertThat(search(ALICE, "beta", SearchIndex.Type.PROJECT, true)).isEmpty();
+    }
+
+    @Test
+    void commentSearchReturnsOnlyCommentsFromMemberProjects() {
+        assertThat(search(ALICE, "gotowy wdroz", SearchIndex.Type.COMMENT, false)).containsExactly(1000L);
+        assertThat(search(BOB, "gotowy wdroz", SearchIndex.Type.COMMENT, false)).containsExactly(2000L);
+        assertThat(search(ALICE, "testowy", SearchIndex.Type.COMMENT, true)).isEmpty();
+    }
+
+    @Test
+    void userWithoutMembershipsFindsNothingProjectScoped() {
+        long outsider = 30;
+        for (SearchIndex.Type type : List.of(SearchIndex.Type.TASK, SearchIndex.Type.PROJECT, SearchIndex.Type.COMMENT)) {
+            assertThat(search(outsider, "wdro", type, false)).isEmpty();
+            assertThat(search(outsider, "wdrozenie", type, true)).isEmpty();
+        }
+        assertThat(suggestIndex.suggest(outsider, "wdro", 10)).isEmpty();
+    }
+
+    // ========== ZMIANY CZŁONKOSTW ==========
+
+    @Test
+    void addedMemberSeesProjectAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        projectVisibility.memberAdded(BETA, ALICE);
+        assertThat(searchTasks(ALICE, "wdro", false)).containsExactly(100L);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(searchTasks(ALICE, "wdro", false)).containsExactlyInAnyOrder(100L, 200L);
+        assertThat(search(ALICE, "wdrozenie", SearchIndex.Type.PROJECT, false)).containsExactlyInAnyOrder(ALPHA, BETA);
+    }
+
+    @Test
+    void rolledBackMembershipIsNeverVisible() {
+        TransactionSynchronizationManager.initSynchronization();
+        projectVisibility.memberAdded(BETA, ALICE);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(searchTasks(ALICE, "wdro", false)).containsExactly(100L);
+        assertThat(suggestionIds(ALICE, "wdro", SearchIndex.Type.TASK)).containsExactly(100L);
+    }
+
+    @Test
+    void removedMemberLosesAccessImmediatelyAfterCommit() {
+        projectVisibility.memberRemoved(ALPHA, ALICE);
+
+        for (boolean fuzzy : new boolean[] {false, true}) {
+            assertThat(searchTasks(ALICE, "wdrozenie", fuzzy)).isEmpty();
+            assertThat(search(ALICE, "wdrozenie", SearchIndex.Type.PROJECT, fuzzy)).isEmpty();
+            assertThat(search(ALICE, "serwer", SearchIndex.Type.COMMENT, fuzzy)).isEmpty();
+        }
+        assertThat(suggestIndex.suggest(ALICE, "wdro", 10)).isEmpty();
+        // Bob bez zmian
+        assertThat(searchTasks(BOB, "wdro", false)).containsExactly(200L);
+    }
+
+    @Test
+    void deletedProjectDisappearsForAllMembers() {
+        projectVisibility.memberAdded(BETA, ALICE);
+        projectVisibility.projectRemoved(BETA);
+        searchIndex.remove(SearchIndex.Type.PROJECT, BETA);
+        suggestIndex.remove(SearchIndex.Type.PROJECT, BETA);
+
+        assertThat(projectVisibility.projectsOf(BOB).isEmpty()).isTrue();
+        assertThat(searchTasks(ALICE, "wdro", false)).containsExactly(100L);
+        assertThat(searchTasks(BOB, "wdro", true)).isEmpty();
+        assertThat(search(BOB, "testowy", SearchIndex.Type.COMMENT, true)).isEmpty();
+        // Dokumenty projektu usunięte z indeksu - nie wrócą nawet bez filtra
+        assertThat(searchIndex.search("testowego", SearchIndex.Type.TASK, null, 10)).isEmpty();
+        assertThat(searchIndex.search("testowy", SearchIndex.Type.COMMENT, null, 10)).isEmpty();
+    }
+
+    @Test
+    void visibilityFallsBackToDatabaseUntilLoaded() {
+        ProjectVisibility loading = new ProjectVisibility();
+        ReflectionTestUtils.setField(loading, "projectMemberRepository", projectMemberRepository);
+        when(projectMemberRepository.findProjectIdsByUserId(ALICE)).thenReturn(List.of(ALPHA));
+
+        User alice = new User("alice", "secret");
+        alice.setId(ALICE);
+        IdSet projectIds = loading.projectsOf(alice);
+
+        assertThat(projectIds.toArray()).containsExactly(ALPHA);
+        assertThat(searchIndex.search("wdro", SearchIndex.Type.TASK, projectIds, 10)).containsExactly(100L);
+    }
+
+    // ========== PODPOWIEDZI ==========
+
+    @Test
+    void suggestionsContainOnlyMemberProjectsAndTheirTasks() {
+        assertThat(suggestionIds(ALICE, "wdro", SearchIndex.Type.TASK)).containsExactly(100L);
+        assertThat(suggestionIds(ALICE, "wdro", SearchIndex.Type.PROJECT)).containsExactly(ALPHA);
+        assertThat(suggestionIds(BOB, "migr", SearchIndex.Type.TASK)).containsExactly(201L);
+        assertThat(suggestionIds(BOB, "serwera test", SearchIndex.Type.TASK)).containsExactly(200L);
+        assertThat(suggestionIds(ALICE, "serwera test", SearchIndex.Type.TASK)).isEmpty();
+    }
+
+    // ========== LOSOWE CZŁONKOSTWA ==========
+
+    @Test
+    void randomMembershipsNeverLeakAcrossProjects() {
+        Random random = new Random(42);
+        String[] words = {"raport", "wdrozenie", "faktura", "spotkanie", "budzet", "klient", "serwer", "migracja"};
+        long projectCount = 40;
+        long userCount = 30;
+        for (long project = 10; project < 10 + projectCount; project++) {
+            indexProject(project, words[random.nextInt(words.length)] + " " + project);
+            for (int t = 0; t < 25; t++) {
+                long taskId = project * 1000 + t;
+                indexTask(taskId, project, words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]);
+                indexComment(taskId * 10, taskId, project, ALICE, words[random.nextInt(words.length)]);
+            }
+        }
+        Map<Long, Set<Long>> memberships = new HashMap<>();
+        for (long user = 100; user < 100 + userCount; user++) {
+            Set<Long> projects = new HashSet<>();
+            for (long project = 10; project < 10 + projectCount; project++) {
+                if (random.nextInt(4) == 0) {
+                    projectVisibility.memberAdded(project, user);
+                    projects.add(project);
+                }
+            }
+            memberships.put(user, projects);
+        }
+        // Część członkostw odebrana
+        for (Map.Entry<Long, Set<Long>> membership : memberships.entrySet()) {
+            for (Long project : new ArrayList<>(membership.getValue())) {
+                if (random.nextInt(3) == 0) {
+                    projectVisibility.memberRemoved(project, membership.getKey());
+                    membership.getValue().remove(project);
+                }
+            }
+        }
+        suggestIndex.refreshPartitions();
+
+        for (Map.Entry<Long, Set<Long>> membership : memberships.entrySet()) {
+            long user = membership.getKey();
+            Set<Long> allowed = membership.getValue();
+            for (String word : words) {
+                for (String query : List.of(word.substring(0, 3), word)) {
+                    for (boolean fuzzy : new boolean[] {false, true}) {
+                        search(user, query, SearchIndex.Type.TASK, fuzzy)
+                                .forEach(id -> assertThat(allowed).contains(taskProjects.get(id)));
+                        search(user, query, SearchIndex.Type.COMMENT, fuzzy)
+                                .forEach(id -> assertThat(allowed).contains(commentProjects.get(id)));
+                        search(user, query, SearchIndex.Type.PROJECT, fuzzy)
+                                .forEach(id -> assertThat(allowed).contains(id));
+                    }
+                    for (SuggestIndex.Suggestion suggestion : suggestIndex.suggest(user, query, 20)) {
+                        if (suggestion.getType() != SearchIndex.Type.USER) {
+                            assertThat(allowed).contains(suggestion.getProjectId());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // ========== POMOCNICZE ==========
+
+    private List<Long> searchTasks(long userId, String query, boolean fuzzy) {
+        return search(userId, query, SearchIndex.Type.TASK, fuzzy);
+    }
+
+    private List<Long> search(long userId, String query, SearchIndex.Type type, boolean fuzzy) {
+        return searchIndex.search(query, type, projectVisibility.projectsOf(userId), 100, fuzzy);
+    }
+
+    private List<Long> suggestionIds(long userId, String query, SearchIndex.Type type) {
+        List<Long> ids = new ArrayList<>();
+        for (SuggestIndex.Suggestion suggestion : suggestIndex.suggest(userId, query, 10)) {
+            if (suggestion.getType() == type) {
+                ids.add(suggestion.getId());
+            }
+        }
+        return ids;
+    }
+
+    private void indexProject(long id, String name) {
+        searchIndex.upsert(SearchDocument.project(id, 0, name, null));
+        suggestIndex.upsert(SuggestIndex.Entry.project(id, 0, name, LocalDateTime.now()), false);
+    }
+
+    private void indexTask(long id, long projectId, String title) {
+        taskProjects.put(id, projectId);
+        searchIndex.upsert(SearchDocument.task(id, 0, projectId, title, null));
+        suggestIndex.upsert(SuggestIndex.Entry.task(id, 0, projectId, title, null, LocalDateTime.now().minusMinutes(id)), false);
+    }
+
+    private void indexComment(long id, long taskId, long projectId, long authorId, String text) {
+        commentProjects.put(id, projectId);
+        searchIndex.upsert(SearchDocument.comment(id, 0, taskId, projectId, authorId, text));
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private static MembershipRow membership(long id, long projectId, long userId) {
+        return new MembershipRow() {
+            @Override public Long getId() { return id; }
+            @Override public Long getProjectId() { return projectId; }
+            @Override public Long getUserId() { return userId; }
+        };
+    }
+}
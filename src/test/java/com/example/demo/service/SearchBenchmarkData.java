@@ -0,0 +1,45 @@
+// src/test/java/com/example/demo/service/SearchBenchmarkData.java
+package com.example.demo.service;
+
+import java.util.Random;
+
+// Deterministyczne dane do benchmarków wyszukiwania: tytuły zadań z polskiego słownictwa
+// (tematy z odmianami + nazwiska), słownik rzędu kilku tysięcy tokenów jak w prawdziwych danych.
+final class SearchBenchmarkData {
+
+    private static final String[] STEMS = {
+            "wdrożeni", "migracj", "faktur", "spotkani", "raport", "budżet", "klient", "serwer", "aplikacj",
+            "testowani", "dokumentacj", "umow", "zamówieni", "dostaw", "reklamacj", "kampani", "analiz",
+            "prezentacj", "szkoleni", "rekrutacj", "integracj", "konfiguracj", "aktualizacj", "kopi",
+            "instalacj", "weryfikacj", "płatnoś", "oferta", "projekt", "harmonogram", "przegląd", "zgłoszeni",
+            "poprawk", "wersj", "baz", "kolejk", "usług", "magazyn", "inwentaryzacj", "rozliczeni"};
+    private static final String[] ENDINGS = {"", "a", "e", "i", "y", "u", "om", "ami", "ach", "ego", "owa", "owy"};
+    private static final String[] SURNAMES = {
+            "kowalsk", "nowak", "wiśniewsk", "wójcik", "kowalczyk", "kamińsk", "lewandowsk", "zielińsk",
+            "szymańsk", "woźniak", "dąbrowsk", "kozłowsk", "jankowsk", "mazur", "kwiatkowsk", "krawczyk",
+            "piotrowsk", "grabowsk", "nowakowsk", "pawłowsk", "michalsk", "nowick", "adamczyk", "dudek",
+            "zając", "wieczorek", "jabłońsk", "król", "majewsk", "olszewsk", "jaworsk", "wróbel", "malinowsk",
+            "pawlak", "witkowsk", "walczak", "stępień", "górsk", "rutkowsk", "michalak"};
+    private static final String[] SURNAME_ENDINGS = {"i", "iego", "a", "iej", "", "owi"};
+
+    private SearchBenchmarkData() {}
+
+    static String[] titles(int count, long seed) {
+        Random random = new Random(seed);
+        String[] titles = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder title = new StringBuilder();
+            int words = 2 + random.nextInt(3);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    title.append(' ');
+                }
+                title.append(STEMS[random.nextInt(STEMS.length)]).append(ENDINGS[random.nextInt(ENDINGS.length)]);
+            }
+            title.append(" - ").append(SURNAMES[random.nextInt(SURNAMES.length)])
+                    .append(SURNAME_ENDINGS[random.nextInt(SURNAME_ENDINGS.length)]);
+            titles[i] = Character.toUpperCase(title.charAt(0)) + title.substring(1);
+        }
+        return titles;
+    }
+}
@@ -0,0 +1,40 @@
+// src/test/java/com/example/demo/service/SuggestBenchmark.java
+package com.example.demo.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Rozkład czasu podpowiedzi (p50/p99/p99.9 w wynikach SampleTime) przy 100k zadań - dane jak w SuggestLatencyTest.
+// Uruchomienie:
+//   mvn -B test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath org.openjdk.jmh.Main SuggestBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestBenchmark {
+
+    private SuggestIndex suggestIndex;
+    private String[] keystrokes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProjectVisibility projectVisibility = new ProjectVisibility();
+        suggestIndex = new SuggestIndex();
+        ReflectionTestUtils.setField(suggestIndex, "projectVisibility", projectVisibility);
+        keystrokes = SuggestLatencyTest.populate(suggestIndex, projectVisibility).toArray(new String[0]);
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Suggestion> suggest() {
+        String query = keystrokes[next];
+        next = next + 1 == keystrokes.length ? 0 : next + 1;
+        return suggestIndex.suggest(SuggestLatencyTest.USER_ID, query, 10);
+    }
+}
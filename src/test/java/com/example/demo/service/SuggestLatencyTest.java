@@ -0,0 +1,99 @@
+// src/test/java/com/example/demo/service/SuggestLatencyTest.java
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cel z wymagań podpowiedzi: p99 poniżej 1 ms przy 100k zadań. Zapytania symulują pisanie - kolejne prefiksy
+// słów z tytułów (od jednej litery), użytkownik jest członkiem 10 z 200 projektów.
+// Pomiar czasu zależy od obciążenia maszyny - poza zwykłym mvn test (tag benchmark);
+// miarodajny rozkład czasów: SuggestBenchmark (JMH, tryb SampleTime).
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SuggestLatencyTest {
+
+    static final int TASKS = 100_000;
+    static final int PROJECTS = 200;
+    static final int USERS = 5_000;
+    static final long USER_ID = 1;
+    private static final long P99_TARGET_NANOS = 1_000_000;
+
+    private SuggestIndex suggestIndex;
+    private List<String> keystrokes;
+
+    @BeforeAll
+    void setUp() {
+        ProjectVisibility projectVisibility = new ProjectVisibility();
+        suggestIndex = new SuggestIndex();
+        ReflectionTestUtils.setField(suggestIndex, "projectVisibility", projectVisibility);
+        keystrokes = populate(suggestIndex, projectVisibility);
+    }
+
+    @Test
+    void suggestP99IsBelowOneMillisecondAt100kTasks() {
+        // Rozgrzewka JIT
+        for (int round = 0; round < 20; round++) {
+            for (String query : keystrokes) {
+                suggestIndex.suggest(USER_ID, query, 10);
+            }
+        }
+
+        long[] samples = new long[keystrokes.size() * 10];
+        int sample = 0;
+        for (int round = 0; round < 10; round++) {
+            for (String query : keystrokes) {
+                long started = System.nanoTime();
+                suggestIndex.suggest(USER_ID, query, 10);
+                samples[sample++] = System.nanoTime() - started;
+            }
+        }
+        Arrays.sort(samples);
+        long p99 = samples[(int) Math.ceil(samples.length * 0.99) - 1];
+
+        assertThat(p99).isLessThan(P99_TARGET_NANOS);
+    }
+
+    // Indeks ze 100k zadań w 200 projektach i 5k użytkowników; zwraca zapytania kolejnych naciśnięć klawiszy
+    static List<String> populate(SuggestIndex suggestIndex, ProjectVisibility projectVisibility) {
+        Random random = new Random(7);
+        LocalDateTime now = LocalDateTime.now();
+        String[] titles = SearchBenchmarkData.titles(TASKS, 42);
+        for (long project = 1; project <= PROJECTS; project++) {
+            suggestIndex.upsert(SuggestIndex.Entry.project(project, 0, "Projekt " + titles[(int) project],
+                    now.minusDays(project)), false);
+        }
+        for (int i = 0; i < TASKS; i++) {
+            suggestIndex.upsert(SuggestIndex.Entry.task(i + 1, 0, 1 + i % PROJECTS, titles[i],
+                    now.minusMinutes(random.nextInt(500_000)), null), false);
+        }
+        for (long user = 1; user <= USERS; user++) {
+            suggestIndex.upsert(SuggestIndex.Entry.user(user, 0, "user" + user + "_" + titles[(int) user].split(" ")[0],
+                    now.minusHours(random.nextInt(10_000)), now, true), false);
+            projectVisibility.memberAdded((long) (1 + random.nextInt(PROJECTS)), user);
+        }
+        for (long project = 1; project <= PROJECTS; project += PROJECTS / 10) {
+            projectVisibility.memberAdded(project, USER_ID);
+        }
+        suggestIndex.refreshPartitions();
+
+        List<String> keystrokes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String word = SearchTokenizer.normalize(titles[random.nextInt(TASKS)].split(" ")[random.nextInt(2)]);
+            for (int length = 1; length <= word.length(); length++) {
+                keystrokes.add(word.substring(0, length));
+            }
+        }
+        return keystrokes;
+    }
+}
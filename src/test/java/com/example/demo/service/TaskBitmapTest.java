@@ -0,0 +1,132 @@
+// src/test/java/com/example/demo/service/TaskBitmapTest.java
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// TaskBitmap porównywany z TreeSet: losowe add/remove oraz and/or/andCardinality, w tym przejścia
+// kontenera tablica <-> bitmapa na granicy 4096 wartości i ID z kilku kontenerów (starsze 16 bitów).
+class TaskBitmapTest {
+
+    private static final int ARRAY_MAX = 4096;
+
+    @Test
+    void containerIsPromotedAboveArrayLimitAndDemotedBackAtIt() {
+        TaskBitmap bitmap = new TaskBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        // Co drugie ID - kontener 0, bez ciągłych zakresów
+        for (long id = 0; expected.size() < ARRAY_MAX; id += 2) {
+            assertThat(bitmap.add(id)).isTrue();
+            expected.add(id);
+        }
+        assertThat(isBitmapContainer(bitmap, 0)).isFalse();
+        assertSame(expected, bitmap);
+
+        assertThat(bitmap.add(1)).isTrue();
+        expected.add(1L);
+        assertThat(isBitmapContainer(bitmap, 0)).isTrue();
+        assertThat(bitmap.add(1)).isFalse();
+        assertSame(expected, bitmap);
+
+        assertThat(bitmap.remove(2)).isTrue();
+        expected.remove(2L);
+        assertThat(isBitmapContainer(bitmap, 0)).isFalse();
+        assertThat(bitmap.remove(2)).isFalse();
+        assertSame(expected, bitmap);
+
+        // Po powrocie do tablicy kontener znowu przechodzi na bitmapę
+        assertThat(bitmap.add(3)).isTrue();
+        expected.add(3L);
+        assertThat(isBitmapContainer(bitmap, 0)).isTrue();
+        assertSame(expected, bitmap);
+    }
+
+    @Test
+    void emptyContainersAreDroppedAcrossKeys() {
+        TaskBitmap bitmap = new TaskBitmap();
+        long[] ids = {5, 65_535, 65_536, 131_072 + 7, 10L << 16, (1L << 32) + 1};
+        for (long id : ids) {
+            bitmap.add(id);
+        }
+        assertThat(bitmap.toArray()).containsExactly(ids);
+        for (long id : ids) {
+            assertThat(bitmap.remove(id)).isTrue();
+        }
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.cardinality()).isZero();
+        assertThat(bitmap.remove(5)).isFalse();
+    }
+
+    @Test
+    void randomOperationsMatchTreeSet() {
+        Random random = new Random(2024);
+        for (int round = 0; round < 30; round++) {
+            // Kilka kontenerów; gęstość losowana tak, by część z nich przekraczała 4096 wartości
+            int containers = 1 + random.nextInt(4);
+            int range = containers << 16;
+            double density = random.nextDouble() * 0.2;
+            TaskBitmap a = new TaskBitmap();
+            TaskBitmap b = new TaskBitmap();
+            TreeSet<Long> expectedA = new TreeSet<>();
+            TreeSet<Long> expectedB = new TreeSet<>();
+            int operations = (int) (range * density) + 100;
+            for (int i = 0; i < operations; i++) {
+                apply(random, range, a, expectedA);
+                apply(random, range, b, expectedB);
+            }
+            // Część usunięć - kontenery wracają do tablic lub znikają
+            for (int i = 0; i < operations / 2; i++) {
+                long id = random.nextInt(range);
+                assertThat(a.remove(id)).isEqualTo(expectedA.remove(id));
+            }
+
+            assertSame(expectedA, a);
+            assertSame(expectedB, b);
+
+            TreeSet<Long> intersection = new TreeSet<>(expectedA);
+            intersection.retainAll(expectedB);
+            TreeSet<Long> union = new TreeSet<>(expectedA);
+            union.addAll(expectedB);
+
+            assertSame(intersection, TaskBitmap.and(a, b));
+            assertSame(intersection, TaskBitmap.and(b, a));
+            assertThat(TaskBitmap.andCardinality(a, b)).isEqualTo(intersection.size());
+            assertSame(union, TaskBitmap.or(a, b));
+            assertSame(union, TaskBitmap.or(b, a));
+            assertSame(expectedA, TaskBitmap.or(a, new TaskBitmap()));
+            assertThat(TaskBitmap.and(a, new TaskBitmap()).isEmpty()).isTrue();
+
+            // Wynik operacji musi dalej poprawnie przyjmować zmiany
+            TaskBitmap merged = TaskBitmap.or(a, b);
+            for (int i = 0; i < 500; i++) {
+                apply(random, range, merged, union);
+            }
+            assertSame(union, merged);
+        }
+    }
+
+    private static void apply(Random random, int range, TaskBitmap bitmap, TreeSet<Long> expected) {
+        long id = random.nextInt(range);
+        if (random.nextInt(4) == 0) {
+            assertThat(bitmap.remove(id)).isEqualTo(expected.remove(id));
+        } else {
+            assertThat(bitmap.add(id)).isEqualTo(expected.add(id));
+        }
+    }
+
+    private static void assertSame(TreeSet<Long> expected, TaskBitmap bitmap) {
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertThat(bitmap.isEmpty()).isEqualTo(expected.isEmpty());
+        assertThat(bitmap.toArray()).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private static boolean isBitmapContainer(TaskBitmap bitmap, int index) {
+        long[][] bits = (long[][]) ReflectionTestUtils.getField(bitmap, "bits");
+        return bits[index] != null;
+    }
+}
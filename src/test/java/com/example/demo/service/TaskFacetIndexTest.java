@@ -0,0 +1,54 @@
+// src/test/java/com/example/demo/service/TaskFacetIndexTest.java
+package com.example.demo.service;
+
+import com.example.demo.model.Project;
+import com.example.demo.model.Task;
+import com.example.demo.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskFacetIndexTest {
+
+    // Faseta nie jest zawężana własnym filtrem, tylko pozostałymi
+    @Test
+    void facetIsNotNarrowedByItsOwnFilter() {
+        TaskFacetIndex index = new TaskFacetIndex();
+        ReflectionTestUtils.setField(index, "ready", true);
+        Project project = new Project();
+        project.setId(1L);
+        index.update(List.of(
+                task(1, project, "TODO", "HIGH"),
+                task(2, project, "TODO", "LOW"),
+                task(3, project, "DONE", "HIGH"),
+                task(4, project, "IN_PROGRESS", "HIGH"),
+                task(5, project, "DONE", "LOW")));
+
+        TaskFacetIndex.Counts counts = index.count(new TaskQuery().project(project).status("TODO").priority("HIGH"));
+
+        assertThat(counts.getTotal()).isEqualTo(1);
+        Map<String, Map<String, Integer>> facets = counts.getFacets();
+        // Statusy zawężone tylko priorytetem HIGH
+        assertThat(facets.get(TaskFacetIndex.STATUS)).isEqualTo(Map.of("TODO", 1, "DONE", 1, "IN_PROGRESS", 1));
+        // Priorytety zawężone tylko statusem TODO
+        assertThat(facets.get(TaskFacetIndex.PRIORITY)).isEqualTo(Map.of("HIGH", 1, "LOW", 1));
+        // Pozostałe fasety - wszystkimi filtrami
+        assertThat(facets.get(TaskFacetIndex.PROJECT)).isEqualTo(Map.of("1", 1));
+    }
+
+    private static Task task(long id, Project project, String status, String priority) {
+        Task task = new Task();
+        task.setId(id);
+        task.setProject(project);
+        task.setStatus(status);
+        task.setPriority(priority);
+        User assignee = new User("user" + id, "secret");
+        assignee.setId(100 + id);
+        task.getAssignedUsers().add(assignee);
+        return task;
+    }
+}
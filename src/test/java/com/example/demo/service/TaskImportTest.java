@@ -0,0 +1,145 @@
+// src/test/java/com/example/demo/service/TaskImportTest.java
+package com.example.demo.service;
+
+import com.example.demo.model.Project;
+import com.example.demo.model.Task;
+import com.example.demo.model.User;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+// Import zadań bez bazy: paczki trafiają do zamockowanego TaskRepository, numer wiersza w raporcie błędów
+// to numer rekordu danych (bez nagłówka), nie linii pliku.
+@ExtendWith(MockitoExtension.class)
+class TaskImportTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TaskViewService taskViewService;
+    @Mock
+    private DashboardStatsCache dashboardStatsCache;
+    @Mock
+    private ActivityService activityService;
+    @Mock
+    private EntityManager entityManager;
+
+    private TaskTransferService service;
+    private final List<Task> saved = new ArrayList<>();
+    private Project project;
+    private User actor;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskTransferService(transactionManager, 200);
+        ReflectionTestUtils.setField(service, "taskRepository", taskRepository);
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "taskViewService", taskViewService);
+        ReflectionTestUtils.setField(service, "dashboardStatsCache", dashboardStatsCache);
+        ReflectionTestUtils.setField(service, "activityService", activityService);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        lenient().when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            saved.add(task);
+            return task;
+        });
+
+        project = new Project();
+        project.setId(1L);
+        project.setName("Alpha");
+        actor = new User("owner", "secret");
+        actor.setId(10L);
+    }
+
+    @Test
+    void deadlineAcceptsIsoAndApiFormats() throws IOException {
+        TaskImportResult result = importCsv("title,deadline\n"
+                + "Iso,2024-05-01T12:30:00\n"
+                + "Api,2024-05-02 08:15:00\n"
+                + "None,\n");
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        assertThat(saved).extracting(Task::getTitle, Task::getDeadline).containsExactly(
+                tuple("Iso", LocalDateTime.of(2024, 5, 1, 12, 30)),
+                tuple("Api", LocalDateTime.of(2024, 5, 2, 8, 15)),
+                tuple("None", null));
+    }
+
+    @Test
+    void csvErrorsAreNumberedByRecord() throws IOException {
+        TaskImportResult result = importCsv("title,status,deadline\n"
+                + "First,TODO,\n"
+                + "\"Second\nspans two lines\",BOGUS,\n"
+                + ",TODO,\n"
+                + "\n"
+                + "Fourth,TODO,01.05.2024\n"
+                + "Fifth,DONE_ISH,\n"
+                + "\"Sixth, quoted\",IN_PROGRESS,2024-05-01 10:00:00\n");
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(4);
+        // Pusty rekord (5.) jest pomijany, ale liczy się do numeracji
+        assertThat(result.getErrors()).extracting(TaskImportResult.RowError::getRow, TaskImportResult.RowError::getError)
+                .containsExactly(
+                        tuple(2, "Invalid status: BOGUS"),
+                        tuple(3, "Task title is required"),
+                        tuple(5, "Invalid deadline: 01.05.2024"),
+                        tuple(6, "Invalid status: DONE_ISH"));
+        assertThat(saved).extracting(Task::getTitle).containsExactly("First", "Sixth, quoted");
+    }
+
+    @Test
+    void invalidNdjsonLineIsReportedAndOthersImported() throws IOException {
+        TaskImportResult result = importNdjson("{\"title\":\"One\",\"deadline\":\"2024-05-01 09:00:00\"}\n"
+                + "{\"title\": \"Two\"\n"
+                + "\n"
+                + "[1, 2]\n"
+                + "{\"title\":\"Five\",\"priority\":\"HIGH\"}\n");
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(TaskImportResult.RowError::getRow).containsExactly(2, 4);
+        assertThat(result.getErrors().get(0).getError()).startsWith("Invalid JSON: ");
+        assertThat(result.getErrors().get(1).getError()).isEqualTo("Each line must be a JSON object");
+        assertThat(saved).extracting(Task::getTitle, Task::getPriority)
+                .containsExactly(tuple("One", "MEDIUM"), tuple("Five", "HIGH"));
+    }
+
+    private TaskImportResult importCsv(String content) throws IOException {
+        return importTasks(TaskTransferService.Format.CSV, content);
+    }
+
+    private TaskImportResult importNdjson(String content) throws IOException {
+        return importTasks(TaskTransferService.Format.NDJSON, content);
+    }
+
+    private TaskImportResult importTasks(TaskTransferService.Format format, String content) throws IOException {
+        return service.importTasks(project, actor, format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
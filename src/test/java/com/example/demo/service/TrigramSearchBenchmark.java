@@ -0,0 +1,77 @@
+// src/test/java/com/example/demo/service/TrigramSearchBenchmark.java
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Wyszukiwanie zadań z literówkami (SearchIndex, fuzzy=true) kontra dotychczasowy przegląd liniowy
+// (task.getTitle().toLowerCase().contains(query) po wszystkich zadaniach) przy 10k, 100k i 1M wierszy.
+// Przegląd liniowy dostaje tytuły już w pamięci - w kontrolerze dochodziło jeszcze ładowanie encji z bazy.
+// Uruchomienie:
+//   mvn -B test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath org.openjdk.jmh.Main TrigramSearchBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TrigramSearchBenchmark {
+
+    private static final int PROJECTS = 200;
+    private static final int LIMIT = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    // Literówka w obu słowach ("migracja kowalski") - przegląd liniowy nic nie znajduje, ale musi przejść wszystko
+    @Param({"migarcja kowalsky", "wdrozenie"})
+    public String query;
+
+    private SearchIndex searchIndex;
+    private String[] titles;
+    private IdSet allProjects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        titles = SearchBenchmarkData.titles(rows, 42);
+        searchIndex = new SearchIndex(new SimpleMeterRegistry(), 0.3);
+        for (int i = 0; i < rows; i++) {
+            searchIndex.upsert(SearchDocument.task(i + 1, 0, 1 + i % PROJECTS, titles[i], null));
+        }
+        searchIndex.finishRebuild();
+        long[] projectIds = new long[PROJECTS];
+        for (int i = 0; i < PROJECTS; i++) {
+            projectIds[i] = i + 1;
+        }
+        allProjects = IdSet.of(projectIds);
+    }
+
+    @Benchmark
+    public List<Long> trigramIndex() {
+        return searchIndex.search(query, SearchIndex.Type.TASK, allProjects, LIMIT, true);
+    }
+
+    @Benchmark
+    public List<Long> prefixIndex() {
+        return searchIndex.search(query, SearchIndex.Type.TASK, allProjects, LIMIT, false);
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        String lowered = query.toLowerCase(Locale.ROOT);
+        List<Long> matches = new ArrayList<>();
+        for (int i = 0; i < titles.length; i++) {
+            if (titles[i].toLowerCase().contains(lowered)) {
+                matches.add((long) (i + 1));
+            }
+        }
+        blackhole.consume(matches.size() > LIMIT ? matches.subList(0, LIMIT) : matches);
+    }
+}